@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.idp.ldap.lookup;
 
+import io.gravitee.rest.api.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
 import java.io.IOException;
 import java.net.ServerSocket;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,6 +61,12 @@ public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSou
         }
 
         ldapContextSource = contextSourceBuilder.build();
+
+        // Connections are already pooled by the lookup context source, do not keep them a second time in the JNDI pool
+        if (LdapIdentityLookupConfiguration.isPoolEnabled(environment)) {
+            ldapContextSource.setPooled(false);
+        }
+
         return ldapContextSource;
     }
 
@@ -21,11 +21,21 @@ import io.gravitee.rest.api.idp.api.identity.User;
 import io.gravitee.rest.api.idp.ldap.LdapIdentityProvider;
 import io.gravitee.rest.api.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
 import io.gravitee.rest.api.idp.ldap.utils.LdapUtils;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.naming.ldap.LdapName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
@@ -49,7 +59,7 @@ import org.springframework.ldap.support.LdapNameBuilder;
  * @author GraviteeSource Team
  */
 @Import(LdapIdentityLookupConfiguration.class)
-public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
+public class LdapIdentityLookup implements IdentityLookup, LdapIdentityLookupMXBean, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(LdapIdentityLookup.class);
 
@@ -58,6 +68,7 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
     private static final String LDAP_ATTRIBUTE_MAIL = "mail";
     private static final String LDAP_ATTRIBUTE_DISPLAYNAME = "displayName";
     private static final String LDAP_DEFAULT_LOOKUP_FILTER = "(&(objectClass=Person)(|(cn=*{0}*)(uid={0})))";
+    private static final String OBJECT_NAME = "io.gravitee.rest.api.idp.ldap:type=LdapIdentityLookup,name=";
 
     @Autowired
     private LdapTemplate ldapTemplate;
@@ -71,6 +82,16 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     private String[] userAttributes;
 
+    private LdapLookupCache<List<LdapUser>> searchCache;
+
+    private LdapLookupCache<LdapUser> retrieveCache;
+
+    private ObjectName objectName;
+
+    private final RoundTripStatistics searchStatistics = new RoundTripStatistics();
+
+    private final RoundTripStatistics retrieveStatistics = new RoundTripStatistics();
+
     @Override
     public void afterPropertiesSet() throws Exception {
         String searchFilter = environment.getProperty("lookup.user.filter");
@@ -102,10 +123,52 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
                 .build();
 
         LOGGER.info("User search is based on DN [{}]", baseDn);
+
+        int cacheMaxSize = environment.getProperty("lookup.cache.maxSize", Integer.class, 1000);
+        long cacheTtl = environment.getProperty("lookup.cache.ttl", Long.class, 10L);
+        searchCache = new LdapLookupCache<>(cacheMaxSize, cacheTtl, TimeUnit.SECONDS);
+        retrieveCache = new LdapLookupCache<>(cacheMaxSize, cacheTtl, TimeUnit.SECONDS);
+
+        registerMBean();
+    }
+
+    @Override
+    public void destroy() {
+        unregisterMBean();
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            objectName = new ObjectName(OBJECT_NAME + ObjectName.quote(baseDn.toString()));
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            } else {
+                objectName = null;
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to expose the metrics of the LDAP lookup", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (objectName != null && mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to remove the metrics of the LDAP lookup", e);
+        }
     }
 
     @Override
     public Collection<User> search(String query) {
+        List<LdapUser> cachedUsers = searchCache.get(query);
+        if (cachedUsers != null) {
+            return cachedUsers.stream().map(LdapUser::new).collect(Collectors.toList());
+        }
+
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
@@ -121,7 +184,18 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
                 .attributes(LDAP_ATTRIBUTE_GIVENNAME, LDAP_ATTRIBUTE_SURNAME, LDAP_ATTRIBUTE_MAIL, LDAP_ATTRIBUTE_DISPLAYNAME)
                 .filter(new HardcodedFilter(hardcodedFilter));
 
-            return ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER);
+            long start = System.nanoTime();
+            List<LdapUser> users = ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER);
+            long elapsed = System.nanoTime() - start;
+            searchStatistics.record(elapsed);
+            LOGGER.debug("LDAP search for [{}] returned {} user(s) in {} ms", query, users.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+            // Cached users are never handed out, callers get their own copies
+            searchCache.put(
+                query,
+                users.stream().map(LdapUser::new).collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))
+            );
+            return new ArrayList<>(users);
         } catch (LimitExceededException lee) {
             LOGGER.info("Too much results while searching for [{}]. Returns an empty list.", query);
             return Collections.emptyList();
@@ -140,10 +214,24 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     @Override
     public User retrieve(IdentityReference identityReference) {
+        LdapUser cachedUser = retrieveCache.get(identityReference.getReference());
+        if (cachedUser != null) {
+            return new LdapUser(cachedUser);
+        }
+
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
-            return ldapTemplate.lookup(identityReference.getReference(), userAttributes, USER_CONTEXT_MAPPER);
+            long start = System.nanoTime();
+            LdapUser user = ldapTemplate.lookup(identityReference.getReference(), userAttributes, USER_CONTEXT_MAPPER);
+            long elapsed = System.nanoTime() - start;
+            retrieveStatistics.record(elapsed);
+            LOGGER.debug("LDAP lookup of [{}] done in {} ms", identityReference.getReference(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+            if (user != null) {
+                retrieveCache.put(identityReference.getReference(), new LdapUser(user));
+            }
+            return user;
         } catch (final NameNotFoundException nnfe) {
             return null;
         } finally {
@@ -151,15 +239,71 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
         }
     }
 
+    public LdapLookupCache<List<LdapUser>> getSearchCache() {
+        return searchCache;
+    }
+
+    public LdapLookupCache<LdapUser> getRetrieveCache() {
+        return retrieveCache;
+    }
+
+    public RoundTripStatistics getSearchStatistics() {
+        return searchStatistics;
+    }
+
+    public RoundTripStatistics getRetrieveStatistics() {
+        return retrieveStatistics;
+    }
+
+    @Override
+    public long getSearchCount() {
+        return searchStatistics.getCount();
+    }
+
+    @Override
+    public long getSearchAverageTime() {
+        return searchStatistics.getAverageTime();
+    }
+
+    @Override
+    public long getSearchMaxTime() {
+        return searchStatistics.getMaxTime();
+    }
+
+    @Override
+    public long getSearchCacheHitCount() {
+        return searchCache.getHitCount();
+    }
+
+    @Override
+    public long getRetrieveCount() {
+        return retrieveStatistics.getCount();
+    }
+
+    @Override
+    public long getRetrieveAverageTime() {
+        return retrieveStatistics.getAverageTime();
+    }
+
+    @Override
+    public long getRetrieveMaxTime() {
+        return retrieveStatistics.getMaxTime();
+    }
+
+    @Override
+    public long getRetrieveCacheHitCount() {
+        return retrieveCache.getHitCount();
+    }
+
     @Override
     public boolean allowEmailInSearchResults() {
         Boolean allow = environment.getProperty("lookup.allow-email-in-search-results", Boolean.class, false);
         return allow != null && allow;
     }
 
-    private final ContextMapper<User> USER_CONTEXT_MAPPER = new AbstractContextMapper<User>() {
+    private final ContextMapper<LdapUser> USER_CONTEXT_MAPPER = new AbstractContextMapper<LdapUser>() {
         @Override
-        protected User doMapFromContext(DirContextOperations ctx) {
+        protected LdapUser doMapFromContext(DirContextOperations ctx) {
             LdapUser user = new LdapUser(ctx.getDn().toString());
             user.setFirstname(ctx.getStringAttribute(LDAP_ATTRIBUTE_GIVENNAME));
             user.setLastname(ctx.getStringAttribute(LDAP_ATTRIBUTE_SURNAME));
@@ -178,4 +322,33 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
     public int getOrder() {
         return 30;
     }
+
+    /**
+     * Number and duration of the round trips made to the LDAP server.
+     */
+    public static class RoundTripStatistics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Long::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalTime.add(nanos);
+            maxTime.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getAverageTime() {
+            long count = getCount();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalTime.sum() / count);
+        }
+
+        public long getMaxTime() {
+            return TimeUnit.NANOSECONDS.toMillis(maxTime.get());
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+/**
+ * Round trips made to the LDAP server by the identity lookup, and use of its caches, exposed through JMX.
+ *
+ * @author GraviteeSource Team
+ */
+public interface LdapIdentityLookupMXBean {
+    /**
+     * @return the number of searches sent to the LDAP server.
+     */
+    long getSearchCount();
+
+    /**
+     * @return the average duration of the searches sent to the LDAP server, in milliseconds.
+     */
+    long getSearchAverageTime();
+
+    /**
+     * @return the longest duration of a search sent to the LDAP server, in milliseconds.
+     */
+    long getSearchMaxTime();
+
+    /**
+     * @return the number of searches answered from the cache.
+     */
+    long getSearchCacheHitCount();
+
+    /**
+     * @return the number of user lookups sent to the LDAP server.
+     */
+    long getRetrieveCount();
+
+    /**
+     * @return the average duration of the user lookups sent to the LDAP server, in milliseconds.
+     */
+    long getRetrieveAverageTime();
+
+    /**
+     * @return the longest duration of a user lookup sent to the LDAP server, in milliseconds.
+     */
+    long getRetrieveMaxTime();
+
+    /**
+     * @return the number of user lookups answered from the cache.
+     */
+    long getRetrieveCacheHitCount();
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of the LDAP lookup results.
+ *
+ * The directory remains the source of truth: entries only live for a few seconds so that repeated searches (for
+ * instance while typing in a member autocomplete) and retrievals of the same users do not each go to the server.
+ * The least recently used entries are evicted first once the maximum size is reached.
+ *
+ * @author GraviteeSource Team
+ */
+public class LdapLookupCache<V> {
+
+    private final int maxSize;
+    private final long ttl;
+    private final LongSupplier ticker;
+    private final Map<String, Entry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public LdapLookupCache(int maxSize, long ttl, TimeUnit unit) {
+        this(maxSize, ttl, unit, System::nanoTime);
+    }
+
+    LdapLookupCache(int maxSize, long ttl, TimeUnit unit, LongSupplier ticker) {
+        this.maxSize = maxSize;
+        this.ttl = unit.toNanos(ttl);
+        this.ticker = ticker;
+        this.entries =
+            new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                    return size() > LdapLookupCache.this.maxSize;
+                }
+            };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0 && ttl > 0;
+    }
+
+    public V get(String key) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expireAt - ticker.getAsLong() > 0) {
+                hitCount.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    public void put(String key, V value) {
+        if (isEnabled() && value != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry<>(value, ticker.getAsLong() + ttl));
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expireAt;
+
+        private Entry(V value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+}
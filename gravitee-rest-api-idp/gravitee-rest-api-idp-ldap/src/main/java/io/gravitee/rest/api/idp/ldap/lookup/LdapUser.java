@@ -31,6 +31,15 @@ public class LdapUser implements User {
         this.reference = reference;
     }
 
+    LdapUser(LdapUser user) {
+        this.reference = user.reference;
+        this.firstname = user.firstname;
+        this.lastname = user.lastname;
+        this.email = user.email;
+        this.displayName = user.displayName;
+        this.picture = user.picture;
+    }
+
     @Override
     public String getReference() {
         return reference;
@@ -16,10 +16,17 @@
 package io.gravitee.rest.api.idp.ldap.lookup.spring;
 
 import io.gravitee.rest.api.idp.ldap.lookup.LdapContextSourceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.ContextSource;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.pool2.factory.PoolConfig;
+import org.springframework.ldap.pool2.factory.PoolingContextSource;
+import org.springframework.ldap.pool2.validation.DefaultDirContextValidator;
 
 /**
  * @author David BRASSELY (david at gravitee.io)
@@ -28,13 +35,48 @@ import org.springframework.ldap.core.support.LdapContextSource;
 @Configuration
 public class LdapIdentityLookupConfiguration {
 
+    @Autowired
+    private Environment environment;
+
     @Bean
     public LdapContextSourceFactory contextSourceFactory() {
         return new LdapContextSourceFactory();
     }
 
+    /**
+     * Context source used by the lookups. Unless disabled, the connections are kept in a pool so that searching or
+     * retrieving a user does not pay for a TCP (and TLS) handshake and a bind on each call.
+     */
+    @Bean
+    public ContextSource lookupContextSource(LdapContextSource contextSource) {
+        if (!isPoolEnabled(environment)) {
+            return contextSource;
+        }
+
+        PoolConfig poolConfig = new PoolConfig();
+        poolConfig.setMaxTotal(environment.getProperty("context.pool.maxTotal", Integer.class, 8));
+        poolConfig.setMaxTotalPerKey(environment.getProperty("context.pool.maxTotal", Integer.class, 8));
+        poolConfig.setMaxIdlePerKey(environment.getProperty("context.pool.maxIdle", Integer.class, 8));
+        poolConfig.setMinIdlePerKey(environment.getProperty("context.pool.minIdle", Integer.class, 0));
+        poolConfig.setMaxWaitMillis(environment.getProperty("context.pool.maxWait", Long.class, 5000L));
+        poolConfig.setTestOnBorrow(environment.getProperty("context.pool.testOnBorrow", Boolean.class, true));
+        poolConfig.setTestWhileIdle(environment.getProperty("context.pool.testWhileIdle", Boolean.class, true));
+        poolConfig.setTimeBetweenEvictionRunsMillis(environment.getProperty("context.pool.evictionInterval", Long.class, 60000L));
+        poolConfig.setMinEvictableIdleTimeMillis(environment.getProperty("context.pool.minEvictableIdleTime", Long.class, 300000L));
+        poolConfig.setJmxNamePrefix("gio-ldap-lookup");
+
+        PoolingContextSource poolingContextSource = new PoolingContextSource(poolConfig);
+        poolingContextSource.setContextSource(contextSource);
+        poolingContextSource.setDirContextValidator(new DefaultDirContextValidator());
+        return poolingContextSource;
+    }
+
     @Bean
-    public LdapTemplate ldapTemplate(LdapContextSource contextSource) {
+    public LdapTemplate ldapTemplate(@Qualifier("lookupContextSource") ContextSource contextSource) {
         return new LdapTemplate(contextSource);
     }
+
+    public static boolean isPoolEnabled(Environment environment) {
+        return environment.getProperty("context.pool.enabled", Boolean.class, true);
+    }
 }
@@ -0,0 +1,199 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+import static org.junit.Assert.*;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import io.gravitee.rest.api.idp.api.identity.IdentityReference;
+import io.gravitee.rest.api.idp.api.identity.User;
+import io.gravitee.rest.api.idp.ldap.LdapIdentityProvider;
+import io.gravitee.rest.api.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ldap.core.ContextSource;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.pool2.factory.PoolingContextSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LdapIdentityLookupTest {
+
+    private static final String BASE_DN = "dc=gravitee,dc=io";
+    private static final String USER_DN = "uid=jdoe,ou=people,dc=gravitee,dc=io";
+
+    private InMemoryDirectoryServer server;
+
+    private ContextSource contextSource;
+
+    private LdapIdentityLookup identityLookup;
+
+    @Before
+    public void setUp() throws Exception {
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+
+        server = new InMemoryDirectoryServer(config);
+        server.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: gravitee");
+        server.add("dn: ou=people," + BASE_DN, "objectClass: top", "objectClass: organizationalUnit", "ou: people");
+        server.add(
+            "dn: " + USER_DN,
+            "objectClass: top",
+            "objectClass: person",
+            "objectClass: inetOrgPerson",
+            "uid: jdoe",
+            "cn: John Doe",
+            "givenName: John",
+            "sn: Doe",
+            "mail: jdoe@gravitee.io"
+        );
+        server.startListening();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (identityLookup != null) {
+            identityLookup.destroy();
+        }
+        if (contextSource instanceof PoolingContextSource) {
+            ((PoolingContextSource) contextSource).destroy();
+        }
+        server.shutDown(true);
+    }
+
+    @Test
+    public void shouldSearchUsersAndCacheResults() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment());
+
+        Collection<User> users = identityLookup.search("jdoe");
+        assertEquals(1, users.size());
+        User user = users.iterator().next();
+        assertEquals(USER_DN, user.getReference());
+        assertEquals("jdoe@gravitee.io", user.getEmail());
+
+        assertEquals(1, identityLookup.search("jdoe").size());
+        assertEquals(1, identityLookup.getSearchStatistics().getCount());
+        assertEquals(1, identityLookup.getSearchCache().getHitCount());
+    }
+
+    @Test
+    public void shouldRetrieveUserAndCacheIt() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment());
+        IdentityReference reference = new IdentityReference(LdapIdentityProvider.PROVIDER_TYPE, USER_DN);
+
+        User user = identityLookup.retrieve(reference);
+        assertNotNull(user);
+        assertEquals("John", user.getFirstname());
+        assertEquals("Doe", user.getLastname());
+
+        User cachedUser = identityLookup.retrieve(reference);
+        assertNotSame(user, cachedUser);
+        assertEquals("John", cachedUser.getFirstname());
+        assertEquals(1, identityLookup.getRetrieveStatistics().getCount());
+    }
+
+    @Test
+    public void shouldNotShareCachedUsers() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment());
+        IdentityReference reference = new IdentityReference(LdapIdentityProvider.PROVIDER_TYPE, USER_DN);
+
+        ((LdapUser) identityLookup.retrieve(reference)).setDisplayName("changed");
+        ((LdapUser) identityLookup.retrieve(reference)).setDisplayName("changed");
+        ((LdapUser) identityLookup.search("jdoe").iterator().next()).setDisplayName("changed");
+        ((LdapUser) identityLookup.search("jdoe").iterator().next()).setDisplayName("changed");
+
+        assertEquals("John Doe", ((LdapUser) identityLookup.retrieve(reference)).getDisplayName());
+        assertEquals("John Doe", ((LdapUser) identityLookup.search("jdoe").iterator().next()).getDisplayName());
+    }
+
+    @Test
+    public void shouldExposeRoundTripsThroughJmx() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment());
+        identityLookup.search("jdoe");
+        identityLookup.search("jdoe");
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName("io.gravitee.rest.api.idp.ldap:type=LdapIdentityLookup,name=" + ObjectName.quote(BASE_DN));
+        assertEquals(1L, mBeanServer.getAttribute(objectName, "SearchCount"));
+        assertEquals(1L, mBeanServer.getAttribute(objectName, "SearchCacheHitCount"));
+
+        identityLookup.destroy();
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    public void shouldNotCacheUnknownUser() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment());
+        IdentityReference reference = new IdentityReference(LdapIdentityProvider.PROVIDER_TYPE, "uid=unknown,ou=people," + BASE_DN);
+
+        assertNull(identityLookup.retrieve(reference));
+        assertNull(identityLookup.retrieve(reference));
+        assertEquals(0, identityLookup.getRetrieveCache().size());
+    }
+
+    @Test
+    public void shouldReusePooledConnections() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment().withProperty("lookup.cache.ttl", "0"));
+        IdentityReference reference = new IdentityReference(LdapIdentityProvider.PROVIDER_TYPE, USER_DN);
+
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(identityLookup.retrieve(reference));
+        }
+
+        PoolingContextSource poolingContextSource = (PoolingContextSource) contextSource;
+        assertEquals(0, poolingContextSource.getNumActive());
+        assertEquals(1, poolingContextSource.getNumIdle());
+        assertEquals(5, identityLookup.getRetrieveStatistics().getCount());
+    }
+
+    @Test
+    public void shouldNotPoolConnectionsWhenDisabled() throws Exception {
+        LdapIdentityLookup identityLookup = identityLookup(new MockEnvironment().withProperty("context.pool.enabled", "false"));
+
+        assertFalse(contextSource instanceof PoolingContextSource);
+        assertEquals(1, identityLookup.search("jdoe").size());
+    }
+
+    private LdapIdentityLookup identityLookup(MockEnvironment environment) throws Exception {
+        environment.setProperty("context.base", BASE_DN);
+        environment.setProperty("lookup.user.filter", "(&(objectClass=Person)(|(cn=*{0}*)(uid={0})))");
+
+        LdapContextSource ldapContextSource = new LdapContextSource();
+        ldapContextSource.setUrl("ldap://localhost:" + server.getListenPort());
+        ldapContextSource.setAnonymousReadOnly(true);
+        ldapContextSource.afterPropertiesSet();
+
+        LdapIdentityLookupConfiguration configuration = new LdapIdentityLookupConfiguration();
+        ReflectionTestUtils.setField(configuration, "environment", environment);
+        contextSource = configuration.lookupContextSource(ldapContextSource);
+
+        identityLookup = new LdapIdentityLookup();
+        ReflectionTestUtils.setField(identityLookup, "ldapTemplate", configuration.ldapTemplate(contextSource));
+        ReflectionTestUtils.setField(identityLookup, "environment", environment);
+        identityLookup.afterPropertiesSet();
+        return identityLookup;
+    }
+}
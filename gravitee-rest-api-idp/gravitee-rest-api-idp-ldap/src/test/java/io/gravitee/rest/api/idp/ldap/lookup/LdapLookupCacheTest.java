@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LdapLookupCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    @Test
+    public void shouldExpireEntries() {
+        LdapLookupCache<String> cache = new LdapLookupCache<>(10, 10, TimeUnit.SECONDS, time::get);
+        cache.put("key", "value");
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertEquals("value", cache.get("key"));
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntries() {
+        LdapLookupCache<String> cache = new LdapLookupCache<>(2, 10, TimeUnit.SECONDS, time::get);
+        cache.put("key-1", "value-1");
+        cache.put("key-2", "value-2");
+        cache.get("key-1");
+        cache.put("key-3", "value-3");
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("key-1"));
+        assertNull(cache.get("key-2"));
+        assertNotNull(cache.get("key-3"));
+    }
+
+    @Test
+    public void shouldBeDisabledWithoutTtl() {
+        LdapLookupCache<String> cache = new LdapLookupCache<>(10, 0, TimeUnit.SECONDS, time::get);
+        cache.put("key", "value");
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -30,6 +30,7 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PermissionService;
 import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.ForbiddenAccessException;
 import java.net.URI;
 import java.util.*;
@@ -38,6 +39,7 @@ import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -168,4 +170,22 @@ public abstract class AbstractResource {
         }
         return requestUriBuilder.build();
     }
+
+    /**
+     * The entity of a response is written after the response filters have cleaned the Gravitee context, so the streamed
+     * output is run in the context of the current request.
+     */
+    protected StreamingOutput streamInCurrentContext(StreamingOutput output) {
+        final String organization = GraviteeContext.getCurrentOrganization();
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        return outputStream -> {
+            GraviteeContext.setCurrentOrganization(organization);
+            GraviteeContext.setCurrentEnvironment(environment);
+            try {
+                output.write(outputStream);
+            } finally {
+                GraviteeContext.cleanContext();
+            }
+        };
+    }
 }
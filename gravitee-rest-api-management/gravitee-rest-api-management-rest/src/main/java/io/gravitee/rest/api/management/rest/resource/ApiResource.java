@@ -484,7 +484,9 @@ public class ApiResource extends AbstractResource {
         @QueryParam("exclude") @DefaultValue("") String exclude
     ) {
         final ApiEntity apiEntity = apiService.findById(api);
-        final String apiDefinition = apiService.exportAsJson(api, version, exclude.split(","));
+        final StreamingOutput apiDefinition = streamInCurrentContext(
+            outputStream -> apiService.exportAsJson(api, version, outputStream, exclude.split(","))
+        );
         return Response
             .ok(apiDefinition)
             .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=%s", getExportFilename(apiEntity)))
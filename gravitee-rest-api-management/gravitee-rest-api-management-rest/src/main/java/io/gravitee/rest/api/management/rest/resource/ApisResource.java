@@ -32,10 +32,12 @@ import io.gravitee.rest.api.management.rest.resource.param.OrderParam;
 import io.gravitee.rest.api.management.rest.resource.param.VerifyApiParam;
 import io.gravitee.rest.api.management.rest.security.Permission;
 import io.gravitee.rest.api.management.rest.security.Permissions;
+import io.gravitee.rest.api.model.ApiQualityMetricsEntity;
 import io.gravitee.rest.api.model.ImportSwaggerDescriptorEntity;
 import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.WorkflowState;
 import io.gravitee.rest.api.model.api.*;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.common.Sortable;
 import io.gravitee.rest.api.model.common.SortableImpl;
 import io.gravitee.rest.api.model.permissions.RolePermission;
@@ -44,19 +46,24 @@ import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.configuration.flow.FlowService;
 import io.gravitee.rest.api.service.exceptions.ApiAlreadyExistsException;
+import io.gravitee.rest.api.service.exceptions.ApiQualityMetricsDisableException;
+import io.gravitee.rest.api.service.exceptions.PaginationInvalidException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.notification.ApiHook;
 import io.gravitee.rest.api.service.notification.Hook;
 import io.swagger.annotations.*;
 import java.net.URI;
 import java.util.*;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import org.springframework.util.StringUtils;
 
@@ -68,6 +75,8 @@ import org.springframework.util.StringUtils;
 @Api(tags = { "APIs" })
 public class ApisResource extends AbstractResource {
 
+    private static final String QUALITY_SCORE_FIELD = "quality_score";
+
     @Context
     private ResourceContext resourceContext;
 
@@ -92,6 +101,9 @@ public class ApisResource extends AbstractResource {
     @Inject
     private FlowService flowService;
 
+    @Inject
+    private QualityMetricsService qualityMetricsService;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "List APIs", notes = "List all the APIs accessible to the current user.")
@@ -150,21 +162,48 @@ public class ApisResource extends AbstractResource {
             commonPageable = pageable.toPageable();
         }
 
-        final Page<ApiEntity> apis;
+        // the quality scores are not known by the repositories, all the APIs are loaded and paginated once scored
+        final boolean orderByQualityScore = sortable != null && QUALITY_SCORE_FIELD.equals(sortable.getField());
+        final boolean byQualityScore = orderByQualityScore || apisParam.getMinQualityScore() != null;
+        if (byQualityScore && !qualityMetricsService.isApiMetricsEnabled()) {
+            // fail before loading all the APIs, they can not be scored
+            throw new ApiQualityMetricsDisableException();
+        }
+        final Sortable searchSortable = orderByQualityScore ? null : sortable;
+        final io.gravitee.rest.api.model.common.Pageable searchPageable = byQualityScore && commonPageable != null
+            ? new PageableImpl(1, Integer.MAX_VALUE)
+            : commonPageable;
+
+        Page<ApiEntity> apis;
         if (isAdmin()) {
-            apis = apiService.search(apiQuery, sortable, commonPageable);
+            apis = apiService.search(apiQuery, searchSortable, searchPageable);
         } else {
             if (apisParam.isPortal() || apisParam.isTop()) {
                 apiQuery.setLifecycleStates(singletonList(PUBLISHED));
             }
             if (isAuthenticated()) {
-                apis = apiService.findByUser(getAuthenticatedUser(), apiQuery, sortable, commonPageable, apisParam.isPortal());
+                apis = apiService.findByUser(getAuthenticatedUser(), apiQuery, searchSortable, searchPageable, apisParam.isPortal());
             } else {
                 apiQuery.setVisibility(PUBLIC);
-                apis = apiService.search(apiQuery, sortable, commonPageable);
+                apis = apiService.search(apiQuery, searchSortable, searchPageable);
             }
         }
 
+        final Map<String, ApiQualityMetricsEntity> qualityMetrics;
+        if (byQualityScore) {
+            qualityMetrics = qualityMetricsService.getMetrics(apis.getContent());
+            apis =
+                filterAndSortByQualityScore(
+                    apis,
+                    qualityMetrics,
+                    apisParam.getMinQualityScore(),
+                    orderByQualityScore ? sortable : null,
+                    commonPageable
+                );
+        } else {
+            qualityMetrics = Collections.emptyMap();
+        }
+
         final boolean isRatingServiceEnabled = ratingService.isEnabled();
 
         if (apisParam.isTop()) {
@@ -184,13 +223,54 @@ public class ApisResource extends AbstractResource {
         }
 
         return new PagedResult<>(
-            apis.getContent().stream().map(apiEntity -> this.convert(apiEntity, isRatingServiceEnabled)).collect(toList()),
+            apis
+                .getContent()
+                .stream()
+                .map(
+                    apiEntity -> {
+                        final ApiListItem apiItem = this.convert(apiEntity, isRatingServiceEnabled);
+                        final ApiQualityMetricsEntity apiQualityMetrics = qualityMetrics.get(apiEntity.getId());
+                        if (apiQualityMetrics != null) {
+                            apiItem.setQualityScore(apiQualityMetrics.getScore());
+                        }
+                        return apiItem;
+                    }
+                )
+                .collect(toList()),
             apis.getPageNumber(),
             (int) apis.getPageElements(),
             (int) apis.getTotalElements()
         );
     }
 
+    private Page<ApiEntity> filterAndSortByQualityScore(
+        Page<ApiEntity> apis,
+        Map<String, ApiQualityMetricsEntity> qualityMetrics,
+        Double minQualityScore,
+        Sortable sortable,
+        io.gravitee.rest.api.model.common.Pageable pageable
+    ) {
+        Stream<ApiEntity> apiStream = apis.getContent().stream();
+        if (minQualityScore != null) {
+            apiStream = apiStream.filter(api -> qualityMetrics.get(api.getId()).getScore() >= minQualityScore);
+        }
+        if (sortable != null) {
+            final Comparator<ApiEntity> comparator = Comparator.comparingDouble(api -> qualityMetrics.get(api.getId()).getScore());
+            apiStream = apiStream.sorted(sortable.isAscOrder() ? comparator : comparator.reversed());
+        }
+        final List<ApiEntity> filteredApis = apiStream.collect(toList());
+
+        if (pageable == null) {
+            return new Page<>(filteredApis, 1, filteredApis.size(), filteredApis.size());
+        }
+        final int startIndex = (pageable.getPageNumber() - 1) * pageable.getPageSize();
+        if (pageable.getPageNumber() < 1 || (!filteredApis.isEmpty() && startIndex >= filteredApis.size())) {
+            throw new PaginationInvalidException();
+        }
+        final List<ApiEntity> pageContent = filteredApis.stream().skip(startIndex).limit(pageable.getPageSize()).collect(toList());
+        return new Page<>(pageContent, pageable.getPageNumber(), pageContent.size(), filteredApis.size());
+    }
+
     /**
      * Create a new API for the authenticated user.
      * @param newApiEntity
@@ -289,6 +369,30 @@ public class ApisResource extends AbstractResource {
         return Response.ok().entity("API context [" + verifyApiParam.getContextPath() + "] is available").build();
     }
 
+    @GET
+    @Path("_export")
+    @Produces("application/zip")
+    @ApiOperation(
+        value = "Export the definitions of all the APIs of the environment as a zip archive",
+        notes = "User must have the ENVIRONMENT_API[UPDATE] permission to use this service"
+    )
+    @ApiResponses(
+        {
+            @ApiResponse(code = 200, message = "Archive of the API definitions in JSON format"),
+            @ApiResponse(code = 500, message = "Internal server error"),
+        }
+    )
+    @Permissions({ @Permission(value = RolePermission.ENVIRONMENT_API, acls = RolePermissionAction.UPDATE) })
+    public Response exportApiDefinitions(
+        @QueryParam("version") @DefaultValue("default") String version,
+        @QueryParam("exclude") @DefaultValue("") String exclude
+    ) {
+        final StreamingOutput archive = streamInCurrentContext(
+            outputStream -> apiService.exportAllAsArchive(version, outputStream, exclude.split(","))
+        );
+        return Response.ok(archive).header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=apis.zip").build();
+    }
+
     @GET
     @Path("/hooks")
     @ApiOperation(value = "Get the list of available hooks")
@@ -15,7 +15,9 @@
  */
 package io.gravitee.rest.api.management.rest.resource.organization;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.MediaType;
+import io.gravitee.rest.api.management.rest.model.Pageable;
 import io.gravitee.rest.api.management.rest.model.PagedResult;
 import io.gravitee.rest.api.management.rest.resource.AbstractResource;
 import io.gravitee.rest.api.model.notification.PortalNotificationEntity;
@@ -24,9 +26,12 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import javax.validation.Valid;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,7 +48,7 @@ public class UserNotificationsResource extends AbstractResource {
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    @ApiOperation(value = "List user's notifications")
+    @ApiOperation(value = "List user's notifications", notes = "The most recent notifications are returned first by pages")
     @ApiResponses(
         {
             @ApiResponse(code = 200, message = "User's notifications"),
@@ -51,14 +56,31 @@ public class UserNotificationsResource extends AbstractResource {
             @ApiResponse(code = 500, message = "Internal server error"),
         }
     )
-    public PagedResult<PortalNotificationEntity> getUserNotifications() {
-        List<PortalNotificationEntity> notifications = portalNotificationService
-            .findByUser(getAuthenticatedUser())
+    public PagedResult<PortalNotificationEntity> getUserNotifications(@Valid @BeanParam Pageable pageable) {
+        final Page<PortalNotificationEntity> page = portalNotificationService.findByUser(getAuthenticatedUser(), pageable.toPageable());
+
+        // Keep the notifications of a page sorted by creation date, as the console displays them
+        final List<PortalNotificationEntity> notifications = page
+            .getContent()
             .stream()
             .sorted(Comparator.comparing(PortalNotificationEntity::getCreatedAt))
             .collect(Collectors.toList());
 
-        return new PagedResult<>(notifications);
+        return new PagedResult<>(notifications, page.getPageNumber(), pageable.getSize(), (int) page.getTotalElements());
+    }
+
+    @GET
+    @Path("_count")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Count user's notifications")
+    @ApiResponses(
+        {
+            @ApiResponse(code = 200, message = "Number of user's notifications"),
+            @ApiResponse(code = 500, message = "Internal server error"),
+        }
+    )
+    public Map<String, Long> getUserNotificationsCount() {
+        return Collections.singletonMap("count", portalNotificationService.countByUser(getAuthenticatedUser()));
     }
 
     @DELETE
@@ -67,6 +67,10 @@ public class ApisParam {
     @QueryParam("portal")
     private boolean portal;
 
+    @ApiParam(value = "filter by minimum quality score, between 0 and 1")
+    @QueryParam("min-quality-score")
+    private Double minQualityScore;
+
     @QueryParam("order")
     @ApiParam(value = "The field used to sort results. Can be asc or desc (prefix with minus '-') ", example = "-name")
     private OrderParam order;
@@ -159,6 +163,14 @@ public class ApisParam {
         this.portal = portal;
     }
 
+    public Double getMinQualityScore() {
+        return minQualityScore;
+    }
+
+    public void setMinQualityScore(Double minQualityScore) {
+        this.minQualityScore = minQualityScore;
+    }
+
     public OrderParam.Order getOrder() {
         return (order == null) ? null : order.getValue();
     }
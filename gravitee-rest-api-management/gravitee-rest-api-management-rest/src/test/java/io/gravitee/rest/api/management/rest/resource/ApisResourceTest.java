@@ -19,12 +19,19 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.definition.model.DefinitionVersion;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.VirtualHost;
+import io.gravitee.rest.api.model.ApiQualityMetricsEntity;
 import io.gravitee.rest.api.model.ImportSwaggerDescriptorEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.api.NewApiEntity;
+import java.util.*;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.junit.Test;
@@ -170,4 +177,55 @@ public class ApisResourceTest extends AbstractResourceTest {
 
         verify(apiService, times(1)).migrate(any());
     }
+
+    @Test
+    public void shouldFilterAndSortApisByQualityScore() {
+        reset(apiService, qualityMetricsService);
+        final Page<ApiEntity> apis = new Page<>(Arrays.asList(api("api-1"), api("api-2"), api("api-3")), 1, 3, 3);
+        doReturn(apis).when(apiService).search(any(ApiQuery.class), any(), any());
+        doReturn(apis).when(apiService).findByUser(any(), any(ApiQuery.class), any(), any(), anyBoolean());
+        final Map<String, ApiQualityMetricsEntity> qualityMetrics = new LinkedHashMap<>();
+        qualityMetrics.put("api-1", qualityMetrics(0.5));
+        qualityMetrics.put("api-2", qualityMetrics(0.2));
+        qualityMetrics.put("api-3", qualityMetrics(0.9));
+        doReturn(qualityMetrics).when(qualityMetricsService).getMetrics(anyCollection());
+        doReturn(true).when(qualityMetricsService).isApiMetricsEnabled();
+
+        final Response response = envTarget().queryParam("order", "-quality_score").queryParam("min-quality-score", 0.4).request().get();
+
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final List<Map<String, Object>> apiItems = response.readEntity(new GenericType<List<Map<String, Object>>>() {});
+        assertEquals(2, apiItems.size());
+        assertEquals("api-3", apiItems.get(0).get("id"));
+        assertEquals(0.9, apiItems.get(0).get("quality_score"));
+        assertEquals("api-1", apiItems.get(1).get("id"));
+    }
+
+    @Test
+    public void shouldNotSortApisByQualityScoreWhenQualityIsDisabled() {
+        reset(apiService, qualityMetricsService);
+        doReturn(false).when(qualityMetricsService).isApiMetricsEnabled();
+
+        final Response response = envTarget().queryParam("order", "-quality_score").request().get();
+
+        assertEquals(HttpStatusCode.BAD_REQUEST_400, response.getStatus());
+        verify(apiService, never()).search(any(ApiQuery.class), any(), any());
+        verify(apiService, never()).findByUser(any(), any(ApiQuery.class), any(), any(), anyBoolean());
+    }
+
+    private ApiEntity api(String id) {
+        ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setUpdatedAt(new Date());
+        Proxy proxy = new Proxy();
+        proxy.setVirtualHosts(Collections.singletonList(new VirtualHost("/" + id)));
+        api.setProxy(proxy);
+        return api;
+    }
+
+    private ApiQualityMetricsEntity qualityMetrics(double score) {
+        ApiQualityMetricsEntity qualityMetrics = new ApiQualityMetricsEntity();
+        qualityMetrics.setScore(score);
+        return qualityMetrics;
+    }
 }
@@ -109,6 +109,10 @@ public class ApiListItem {
     @ApiModelProperty(value = "true if HealthCheck is enabled globally or on one endpoint")
     private boolean hasHealthCheckEnabled;
 
+    @JsonProperty(value = "quality_score")
+    @ApiModelProperty(value = "the quality score of the API (between 0 and 1), when sorted or filtered by quality score", example = "0.75")
+    private Double qualityScore;
+
     public String getId() {
         return id;
     }
@@ -277,6 +281,14 @@ public class ApiListItem {
         this.hasHealthCheckEnabled = hasHealthCheckEnabled;
     }
 
+    public Double getQualityScore() {
+        return qualityScore;
+    }
+
+    public void setQualityScore(Double qualityScore) {
+        this.qualityScore = qualityScore;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.model.command;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -30,6 +31,7 @@ public class CommandEntity {
     private long ttlInSeconds;
     private boolean expired;
     private boolean processedInCurrentNode;
+    private Date createdAt;
 
     public String getId() {
         return id;
@@ -86,4 +88,12 @@ public class CommandEntity {
     public void setProcessedInCurrentNode(boolean processedInCurrentNode) {
         this.processedInCurrentNode = processedInCurrentNode;
     }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
 }
@@ -22,4 +22,10 @@ package io.gravitee.rest.api.model.command;
 
 public enum CommandTags {
     DATA_TO_INDEX,
+    ROLES_UPDATED,
+    REPOSITORY_CACHE_EVICTED,
+    WEBHOOK_DELIVERY,
+    WEBHOOK_DEAD_LETTER,
+    NOTIFICATIONS_RETENTION_LOCK,
+    USER_ACCESS_EVICTED,
 }
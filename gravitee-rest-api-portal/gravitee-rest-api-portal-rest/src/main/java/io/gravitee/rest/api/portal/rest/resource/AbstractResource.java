@@ -360,6 +360,47 @@ public abstract class AbstractResource {
         return Response.ok(createDataResponse(dataList, paginationParam, metadata, withPagination)).build();
     }
 
+    /**
+     * Create a list response from a page computed by the service, <code>totalItems</code> being the number of items of all
+     * the pages. The response has the same metadata and links as a response paginated from the whole list.
+     */
+    protected Response createPagedListResponse(List pageContent, long totalItems, PaginationParam paginationParam) {
+        final Integer page = paginationParam.getPage();
+        final Integer size = paginationParam.getSize();
+
+        Map<String, Object> dataMetadata = new HashMap<>();
+        Map<String, Object> paginationMetadata = new HashMap<>();
+
+        if (totalItems > 0 && size > 0) {
+            final long startIndex = (long) (page - 1) * size;
+            if (startIndex >= totalItems || page < 1) {
+                throw new PaginationInvalidException();
+            }
+
+            paginationMetadata.put(METADATA_PAGINATION_CURRENT_PAGE_KEY, page);
+            paginationMetadata.put(METADATA_PAGINATION_SIZE_KEY, size);
+
+            paginationMetadata.put(METADATA_PAGINATION_FIRST_ITEM_INDEX_KEY, (int) startIndex + 1);
+            paginationMetadata.put(METADATA_PAGINATION_LAST_ITEM_INDEX_KEY, (int) startIndex + pageContent.size());
+
+            paginationMetadata.put(METADATA_PAGINATION_TOTAL_KEY, (int) totalItems);
+            paginationMetadata.put(METADATA_PAGINATION_TOTAL_PAGE_KEY, (int) Math.ceil((double) totalItems / size));
+
+            dataMetadata.put(METADATA_DATA_TOTAL_KEY, pageContent.size());
+        } else {
+            if (size < -1) {
+                throw new BadRequestException("Pagination size is not valid");
+            }
+            dataMetadata.put(METADATA_DATA_TOTAL_KEY, (int) totalItems);
+        }
+
+        final DataResponse dataResponse = new DataResponse()
+            .data(pageContent)
+            .metadata(this.computeMetadata(null, dataMetadata, paginationMetadata))
+            .links(this.computePaginatedLinks(page, size, (int) totalItems));
+        return Response.ok(dataResponse).build();
+    }
+
     protected Response createPictureResponse(Request request, InlinePictureEntity image) {
         CacheControl cc = new CacheControl();
         cc.setNoTransform(true);
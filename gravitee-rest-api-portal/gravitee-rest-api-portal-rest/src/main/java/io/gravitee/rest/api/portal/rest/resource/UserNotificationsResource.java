@@ -15,13 +15,16 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.MediaType;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.notification.PortalNotificationEntity;
 import io.gravitee.rest.api.portal.rest.mapper.PortalNotificationMapper;
 import io.gravitee.rest.api.portal.rest.model.PortalNotification;
+import io.gravitee.rest.api.portal.rest.model.PortalNotificationsCountResponse;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.service.PortalNotificationService;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.ws.rs.*;
@@ -43,14 +46,35 @@ public class UserNotificationsResource extends AbstractResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response getCurrentUserNotifications(@BeanParam PaginationParam paginationParam) {
-        List<PortalNotification> notifications = portalNotificationService
-            .findByUser(getAuthenticatedUser())
+        final String user = getAuthenticatedUser();
+
+        // A page size of 0 is used to only get the number of notifications
+        if (paginationParam.getSize() == 0) {
+            return createPagedListResponse(Collections.emptyList(), portalNotificationService.countByUser(user), paginationParam);
+        }
+
+        // A page size of -1 means all the notifications
+        final int size = paginationParam.getSize() == -1 ? Integer.MAX_VALUE : paginationParam.getSize();
+        final Page<PortalNotificationEntity> notifications = portalNotificationService.findByUser(
+            user,
+            new PageableImpl(paginationParam.getPage(), size)
+        );
+
+        final List<PortalNotification> notificationList = notifications
+            .getContent()
             .stream()
-            .sorted(Comparator.comparing(PortalNotificationEntity::getCreatedAt, Comparator.reverseOrder()))
             .map(portalNotificationMapper::convert)
             .collect(Collectors.toList());
 
-        return createListResponse(notifications, paginationParam);
+        return createPagedListResponse(notificationList, notifications.getTotalElements(), paginationParam);
+    }
+
+    @GET
+    @Path("_count")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getCurrentUserNotificationsCount() {
+        final long count = portalNotificationService.countByUser(getAuthenticatedUser());
+        return Response.ok(new PortalNotificationsCountResponse().count(count)).build();
     }
 
     @DELETE
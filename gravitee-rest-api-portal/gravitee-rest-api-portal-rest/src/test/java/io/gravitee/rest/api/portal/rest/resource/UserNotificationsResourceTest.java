@@ -18,11 +18,15 @@ package io.gravitee.rest.api.portal.rest.resource;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.notification.PortalNotificationEntity;
 import io.gravitee.rest.api.portal.rest.model.PortalNotification;
+import io.gravitee.rest.api.portal.rest.model.PortalNotificationsCountResponse;
 import io.gravitee.rest.api.portal.rest.model.PortalNotificationsResponse;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -30,6 +34,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.junit.Before;
 import org.junit.Test;
@@ -62,9 +67,10 @@ public class UserNotificationsResourceTest extends AbstractResourceTest {
         portalNotificationEntity3.setCreatedAt(Date.from(Instant.parse("1970-01-01T00:00:00.00Z")));
         portalNotificationEntity3.setId("3");
 
-        doReturn(Arrays.asList(portalNotificationEntity1, portalNotificationEntity2, portalNotificationEntity3))
+        doReturn(new Page<>(Arrays.asList(portalNotificationEntity1, portalNotificationEntity2, portalNotificationEntity3), 1, 3, 3))
             .when(portalNotificationService)
-            .findByUser(any());
+            .findByUser(any(), any());
+        doReturn(3L).when(portalNotificationService).countByUser(any());
         Mockito.doCallRealMethod().when(portalNotificationMapper).convert(any());
     }
 
@@ -80,6 +86,34 @@ public class UserNotificationsResourceTest extends AbstractResourceTest {
         assertEquals("1", data.get(0).getId());
         assertEquals("2", data.get(1).getId());
         assertEquals("3", data.get(2).getId());
+        Map<String, Object> paginationMetadata = notificationsResponse.getMetadata().get(AbstractResource.METADATA_PAGINATION_KEY);
+        assertEquals(3, paginationMetadata.get(AbstractResource.METADATA_PAGINATION_TOTAL_KEY));
+
+        Mockito
+            .verify(portalNotificationService)
+            .findByUser(eq(USER_NAME), argThat(pageable -> pageable.getPageNumber() == 1 && pageable.getPageSize() == 10));
+    }
+
+    @Test
+    public void shouldCountCurrentUserNotifications() {
+        final Response response = target().path("notifications").path("_count").request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        PortalNotificationsCountResponse countResponse = response.readEntity(PortalNotificationsCountResponse.class);
+        assertEquals(Long.valueOf(3), countResponse.getCount());
+        Mockito.verify(portalNotificationService, Mockito.never()).findByUser(any(), any());
+    }
+
+    @Test
+    public void shouldOnlyCountCurrentUserNotificationsWithEmptyPage() {
+        final Response response = target().path("notifications").queryParam("size", 0).request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        PortalNotificationsResponse notificationsResponse = response.readEntity(PortalNotificationsResponse.class);
+        assertEquals(0, notificationsResponse.getData().size());
+        Map<String, Object> dataMetadata = notificationsResponse.getMetadata().get(AbstractResource.METADATA_DATA_KEY);
+        assertEquals(3, dataMetadata.get(AbstractResource.METADATA_DATA_TOTAL_KEY));
+        Mockito.verify(portalNotificationService, Mockito.never()).findByUser(any(), any());
     }
 
     @Test
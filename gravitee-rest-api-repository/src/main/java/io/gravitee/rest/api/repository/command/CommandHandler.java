@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.command;
+
+import io.gravitee.repository.management.model.Command;
+import java.util.List;
+
+/**
+ * Handles the commands of a tag, as polled by the {@link CommandPoller}.
+ *
+ * @author GraviteeSource Team
+ */
+@FunctionalInterface
+public interface CommandHandler {
+    /**
+     * Called on each poll with the commands which have not been handled by this node yet, sorted by creation date.
+     * The list is empty when there is no new command, so that handlers can also send their own commands at this pace.
+     */
+    void handle(List<Command> commands) throws Exception;
+}
@@ -0,0 +1,183 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.command;
+
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.MessageRecipient;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the commands sent to the management nodes, and dispatches them by tag to the registered handlers.
+ *
+ * The commands handled by this node are remembered for a while instead of being acknowledged in the repository, and the
+ * expired ones are deleted. Polls are triggered by the commands service, every <code>services.commands.interval</code>.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class CommandPoller implements CommandPollerMXBean, InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommandPoller.class);
+
+    static final String OBJECT_NAME = "io.gravitee.rest.api.repository:type=CommandPoller";
+    private static final long COMMAND_RETENTION = 5 * 60 * 1000;
+
+    @Autowired
+    private CommandRepository commandRepository;
+
+    @Autowired
+    private Node node;
+
+    private final Map<String, CommandHandler> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * Cursor of the commands already handled by this node, with the time at which they can be forgotten.
+     */
+    private final Map<String, Long> handledCommands = new HashMap<>();
+
+    private final AtomicLong lastPollTime = new AtomicLong();
+
+    private final AtomicLong handledCount = new AtomicLong();
+
+    private final AtomicLong lastReplicationLag = new AtomicLong();
+
+    private final AtomicLong maxReplicationLag = new AtomicLong();
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to expose the metrics of the command poller", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to unregister the metrics of the command poller", e);
+        }
+    }
+
+    public void register(String tag, CommandHandler handler) {
+        handlers.put(tag, handler);
+    }
+
+    public void unregister(String tag) {
+        handlers.remove(tag);
+    }
+
+    public synchronized void poll() {
+        final long now = System.currentTimeMillis();
+        lastPollTime.set(now);
+        handledCommands.values().removeIf(forgetAt -> forgetAt < now);
+
+        handlers.forEach(
+            (tag, handler) -> {
+                try {
+                    handler.handle(search(tag, now));
+                } catch (Exception e) {
+                    LOGGER.error("Unexpected error while handling the commands [{}]", tag, e);
+                }
+            }
+        );
+    }
+
+    private List<Command> search(String tag, long now) throws Exception {
+        final CommandCriteria criteria = new CommandCriteria.Builder().to(MessageRecipient.MANAGEMENT_APIS.name()).tags(tag).build();
+
+        final List<Command> commands = new ArrayList<>();
+        for (Command command : commandRepository.search(criteria)) {
+            if (command.getExpiredAt() != null && command.getExpiredAt().getTime() < now) {
+                commandRepository.delete(command.getId());
+                handledCommands.remove(command.getId());
+            } else if (!isHandled(command) && handledCommands.put(command.getId(), now + COMMAND_RETENTION) == null) {
+                recordReplicationLag(command, now);
+                commands.add(command);
+            }
+        }
+        commands.sort(Comparator.comparing(Command::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return commands;
+    }
+
+    /**
+     * Commands sent by this node have already been applied locally, and acknowledged ones have already been processed.
+     */
+    private boolean isHandled(Command command) {
+        return (
+            node.id().equals(command.getFrom()) ||
+            (command.getAcknowledgments() != null && command.getAcknowledgments().contains(node.id()))
+        );
+    }
+
+    private void recordReplicationLag(Command command, long now) {
+        handledCount.incrementAndGet();
+        if (command.getCreatedAt() != null) {
+            final long lag = Math.max(0, now - command.getCreatedAt().getTime());
+            lastReplicationLag.set(lag);
+            maxReplicationLag.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    @Override
+    public List<String> getTags() {
+        return new ArrayList<>(handlers.keySet());
+    }
+
+    @Override
+    public long getLastPollTime() {
+        return lastPollTime.get();
+    }
+
+    @Override
+    public long getHandledCount() {
+        return handledCount.get();
+    }
+
+    @Override
+    public long getLastReplicationLag() {
+        return lastReplicationLag.get();
+    }
+
+    @Override
+    public long getMaxReplicationLag() {
+        return maxReplicationLag.get();
+    }
+}
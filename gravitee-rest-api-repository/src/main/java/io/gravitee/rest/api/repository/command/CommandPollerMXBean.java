@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.command;
+
+import java.util.List;
+
+/**
+ * Metrics of the command poller, exposed through JMX.
+ *
+ * @author GraviteeSource Team
+ */
+public interface CommandPollerMXBean {
+    List<String> getTags();
+
+    /**
+     * @return the time of the last poll, in milliseconds since the epoch, or 0 if the commands have never been polled.
+     */
+    long getLastPollTime();
+
+    long getHandledCount();
+
+    /**
+     * @return the delay, in milliseconds, between the creation of the last handled command and its handling by this node.
+     */
+    long getLastReplicationLag();
+
+    long getMaxReplicationLag();
+}
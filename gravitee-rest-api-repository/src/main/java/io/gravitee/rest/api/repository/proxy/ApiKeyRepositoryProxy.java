@@ -19,9 +19,12 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiKeyRepository;
 import io.gravitee.repository.management.api.search.ApiKeyCriteria;
 import io.gravitee.repository.management.model.ApiKey;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCache;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCacheManager;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -31,20 +34,31 @@ import org.springframework.stereotype.Component;
 @Component
 public class ApiKeyRepositoryProxy extends AbstractProxy<ApiKeyRepository> implements ApiKeyRepository {
 
+    private RepositoryCache<ApiKey> cache;
+
+    @Autowired
+    public void setCacheManager(RepositoryCacheManager cacheManager) {
+        this.cache = cacheManager.create("apikey", ApiKey::new);
+    }
+
     public Optional<ApiKey> findById(String apiKey) throws TechnicalException {
-        return target.findById(apiKey);
+        return cache.findById(apiKey, () -> target.findById(apiKey));
     }
 
     public ApiKey create(ApiKey apiKey) throws TechnicalException {
-        return target.create(apiKey);
+        final ApiKey created = target.create(apiKey);
+        cache.evict(apiKey.getKey());
+        return created;
     }
 
     public ApiKey update(ApiKey key) throws TechnicalException {
-        return target.update(key);
+        final ApiKey updated = target.update(key);
+        cache.evict(key.getKey());
+        return updated;
     }
 
     public Set<ApiKey> findBySubscription(String subscription) throws TechnicalException {
-        return target.findBySubscription(subscription);
+        return cache.findAll("subscription:" + subscription, () -> target.findBySubscription(subscription));
     }
 
     @Override
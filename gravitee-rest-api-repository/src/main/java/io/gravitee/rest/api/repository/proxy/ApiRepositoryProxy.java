@@ -22,8 +22,12 @@ import io.gravitee.repository.management.api.search.ApiCriteria;
 import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCache;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCacheManager;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCopiers;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -34,24 +38,36 @@ import org.springframework.stereotype.Component;
 @Component
 public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements ApiRepository {
 
+    private RepositoryCache<Api> cache;
+
+    @Autowired
+    public void setCacheManager(RepositoryCacheManager cacheManager) {
+        this.cache = cacheManager.create("api", RepositoryCopiers::copy);
+    }
+
     @Override
     public Api create(Api api) throws TechnicalException {
-        return target.create(api);
+        final Api created = target.create(api);
+        cache.evict(api.getId());
+        return created;
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
     public Optional<Api> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.findById(s, () -> target.findById(s));
     }
 
     @Override
     public Api update(Api api) throws TechnicalException {
-        return target.update(api);
+        final Api updated = target.update(api);
+        cache.evict(api.getId());
+        return updated;
     }
 
     @Override
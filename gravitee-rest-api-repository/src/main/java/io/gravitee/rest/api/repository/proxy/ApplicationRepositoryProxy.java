@@ -22,9 +22,13 @@ import io.gravitee.repository.management.api.search.ApplicationCriteria;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Application;
 import io.gravitee.repository.management.model.ApplicationStatus;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCache;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCacheManager;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCopiers;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -35,6 +39,13 @@ import org.springframework.stereotype.Component;
 @Component
 public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationRepository> implements ApplicationRepository {
 
+    private RepositoryCache<Application> cache;
+
+    @Autowired
+    public void setCacheManager(RepositoryCacheManager cacheManager) {
+        this.cache = cacheManager.create("application", RepositoryCopiers::copy);
+    }
+
     @Override
     public Set<Application> findAll(ApplicationStatus... statuses) throws TechnicalException {
         return target.findAll(statuses);
@@ -42,22 +53,27 @@ public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationReposit
 
     @Override
     public Application create(Application application) throws TechnicalException {
-        return target.create(application);
+        final Application created = target.create(application);
+        cache.evict(application.getId());
+        return created;
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
     public Optional<Application> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.findById(s, () -> target.findById(s));
     }
 
     @Override
     public Application update(Application application) throws TechnicalException {
-        return target.update(application);
+        final Application updated = target.update(application);
+        cache.evict(application.getId());
+        return updated;
     }
 
     @Override
@@ -18,8 +18,12 @@ package io.gravitee.rest.api.repository.proxy;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.CategoryRepository;
 import io.gravitee.repository.management.model.Category;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCache;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCacheManager;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCopiers;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,9 +33,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class CategoryRepositoryProxy extends AbstractProxy<CategoryRepository> implements CategoryRepository {
 
+    private RepositoryCache<Category> cache;
+
+    @Autowired
+    public void setCacheManager(RepositoryCacheManager cacheManager) {
+        this.cache = cacheManager.create("category", RepositoryCopiers::copy);
+    }
+
     @Override
     public Optional<Category> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.findById(s, () -> target.findById(s));
     }
 
     @Override
@@ -46,12 +57,16 @@ public class CategoryRepositoryProxy extends AbstractProxy<CategoryRepository> i
 
     @Override
     public Category create(Category item) throws TechnicalException {
-        return target.create(item);
+        final Category created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     @Override
     public Category update(Category item) throws TechnicalException {
-        return target.update(item);
+        final Category updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     @Override
@@ -62,10 +77,11 @@ public class CategoryRepositoryProxy extends AbstractProxy<CategoryRepository> i
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
     public Set<Category> findAllByEnvironment(String environment) throws TechnicalException {
-        return target.findAllByEnvironment(environment);
+        return cache.findAll("environment:" + environment, () -> target.findAllByEnvironment(environment));
     }
 }
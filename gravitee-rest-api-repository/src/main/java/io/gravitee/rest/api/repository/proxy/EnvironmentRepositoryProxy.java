@@ -18,8 +18,12 @@ package io.gravitee.rest.api.repository.proxy;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.EnvironmentRepository;
 import io.gravitee.repository.management.model.Environment;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCache;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCacheManager;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCopiers;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,24 +33,36 @@ import org.springframework.stereotype.Component;
 @Component
 public class EnvironmentRepositoryProxy extends AbstractProxy<EnvironmentRepository> implements EnvironmentRepository {
 
+    private RepositoryCache<Environment> cache;
+
+    @Autowired
+    public void setCacheManager(RepositoryCacheManager cacheManager) {
+        this.cache = cacheManager.create("environment", RepositoryCopiers::copy);
+    }
+
     @Override
     public Optional<Environment> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.findById(s, () -> target.findById(s));
     }
 
     @Override
     public Environment create(Environment item) throws TechnicalException {
-        return target.create(item);
+        final Environment created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     @Override
     public Environment update(Environment item) throws TechnicalException {
-        return target.update(item);
+        final Environment updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
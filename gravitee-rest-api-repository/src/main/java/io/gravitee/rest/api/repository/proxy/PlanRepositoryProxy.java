@@ -18,8 +18,12 @@ package io.gravitee.rest.api.repository.proxy;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PlanRepository;
 import io.gravitee.repository.management.model.Plan;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCache;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCacheManager;
+import io.gravitee.rest.api.repository.proxy.cache.RepositoryCopiers;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,23 +33,35 @@ import org.springframework.stereotype.Component;
 @Component
 public class PlanRepositoryProxy extends AbstractProxy<PlanRepository> implements PlanRepository {
 
+    private RepositoryCache<Plan> cache;
+
+    @Autowired
+    public void setCacheManager(RepositoryCacheManager cacheManager) {
+        this.cache = cacheManager.create("plan", RepositoryCopiers::copy);
+    }
+
     public Set<Plan> findByApi(String apiId) throws TechnicalException {
         return target.findByApi(apiId);
     }
 
     public Optional<Plan> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.findById(s, () -> target.findById(s));
     }
 
     public Plan create(Plan item) throws TechnicalException {
-        return target.create(item);
+        final Plan created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     public Plan update(Plan item) throws TechnicalException {
-        return target.update(item);
+        final Plan updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 }
@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.gravitee.repository.exceptions.TechnicalException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of the entities of a repository, by id, and of the queries returning all of them.
+ *
+ * Entities are copied before being returned, so that callers can modify them without altering the cache. Any write
+ * evicts the entity and all the cached queries.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryCache<T> implements RepositoryCacheMXBean {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String QUERY_PREFIX = "query:";
+
+    private final String name;
+    private final boolean enabled;
+    private final UnaryOperator<T> copier;
+    private final BiConsumer<String, String> evictionListener;
+    private final Cache<String, Object> entries;
+
+    /**
+     * Incremented on each eviction so that a value loaded concurrently with a write is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    RepositoryCache(
+        String name,
+        boolean enabled,
+        long ttl,
+        long maxSize,
+        UnaryOperator<T> copier,
+        BiConsumer<String, String> evictionListener
+    ) {
+        this.name = name;
+        this.enabled = enabled;
+        this.copier = copier;
+        this.evictionListener = evictionListener;
+        this.entries = CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl, TimeUnit.SECONDS).recordStats().build();
+    }
+
+    public Optional<T> findById(String id, Loader<Optional<T>> loader) throws TechnicalException {
+        if (!enabled || id == null) {
+            return loader.load();
+        }
+        final T cached = (T) entries.getIfPresent(ID_PREFIX + id);
+        if (cached != null) {
+            return Optional.of(copier.apply(cached));
+        }
+
+        final long loadGeneration = generation.get();
+        final Optional<T> loaded = load(loader);
+        // Missing entities are not cached, they may be created by another node
+        if (loaded.isPresent() && loadGeneration == generation.get()) {
+            entries.put(ID_PREFIX + id, loaded.get());
+        }
+        return loaded.map(copier);
+    }
+
+    public Set<T> findAll(String query, Loader<Set<T>> loader) throws TechnicalException {
+        if (!enabled) {
+            return loader.load();
+        }
+        Set<T> cached = (Set<T>) entries.getIfPresent(QUERY_PREFIX + query);
+        if (cached == null) {
+            final long loadGeneration = generation.get();
+            cached = load(loader);
+            if (loadGeneration == generation.get()) {
+                entries.put(QUERY_PREFIX + query, cached);
+            }
+        }
+        final Set<T> copies = new HashSet<>(cached.size());
+        cached.forEach(entity -> copies.add(copier.apply(entity)));
+        return copies;
+    }
+
+    /**
+     * Evict an entity which has been created, updated or deleted on this node, and notify the other nodes.
+     */
+    public void evict(String id) {
+        if (enabled) {
+            evictLocally(id);
+            evictionListener.accept(name, id);
+        }
+    }
+
+    void evictLocally(String id) {
+        generation.incrementAndGet();
+        if (id != null) {
+            entries.invalidate(ID_PREFIX + id);
+        }
+        entries.asMap().keySet().removeIf(key -> key.startsWith(QUERY_PREFIX));
+    }
+
+    private <V> V load(Loader<V> loader) throws TechnicalException {
+        final long start = System.nanoTime();
+        try {
+            return loader.load();
+        } finally {
+            loadCount.increment();
+            totalLoadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return stats().evictionCount();
+    }
+
+    @Override
+    public double getAverageLoadTime() {
+        final long count = loadCount.sum();
+        return count == 0 ? 0 : totalLoadTime.sum() / (count * 1_000_000d);
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return entries.stats();
+    }
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws TechnicalException;
+    }
+}
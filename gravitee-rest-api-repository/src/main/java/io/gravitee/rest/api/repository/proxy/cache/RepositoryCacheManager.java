@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the caches used by the repository proxies, from the <code>management.cache</code> configuration:
+ *
+ * <pre>
+ * management:
+ *   cache:
+ *     enabled: false   # default for all the caches
+ *     api:
+ *       enabled: true
+ *       ttl: 60        # in seconds
+ *       maxSize: 1000
+ * </pre>
+ *
+ * Evictions made on this node are published to the registered listeners, so that they can be replicated to the other
+ * nodes.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RepositoryCacheManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryCacheManager.class);
+
+    private static final String PROPERTY_PREFIX = "management.cache.";
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<String, RepositoryCache<?>> caches = new ConcurrentHashMap<>();
+
+    private final List<BiConsumer<String, String>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    public <T> RepositoryCache<T> create(String name, UnaryOperator<T> copier) {
+        final boolean enabled = environment.getProperty(
+            PROPERTY_PREFIX + name + ".enabled",
+            Boolean.class,
+            environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, false)
+        );
+        final long ttl = environment.getProperty(PROPERTY_PREFIX + name + ".ttl", Long.class, 60L);
+        final long maxSize = environment.getProperty(PROPERTY_PREFIX + name + ".maxSize", Long.class, 1000L);
+
+        final RepositoryCache<T> cache = new RepositoryCache<>(name, enabled, ttl, maxSize, copier, this::onEviction);
+        caches.put(name, cache);
+        if (enabled) {
+            LOGGER.info("Repository cache [{}] enabled with a ttl of {}s and a max size of {}", name, ttl, maxSize);
+            registerMBean(cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Evict an entity changed by another node.
+     */
+    public void evict(String name, String id) {
+        final RepositoryCache<?> cache = caches.get(name);
+        if (cache != null && cache.isEnabled()) {
+            cache.evictLocally(id);
+        }
+    }
+
+    public boolean isEnabled() {
+        return caches.values().stream().anyMatch(RepositoryCache::isEnabled);
+    }
+
+    public Collection<RepositoryCache<?>> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    public void addEvictionListener(BiConsumer<String, String> listener) {
+        evictionListeners.add(listener);
+    }
+
+    private void onEviction(String name, String id) {
+        for (BiConsumer<String, String> listener : evictionListeners) {
+            try {
+                listener.accept(name, id);
+            } catch (Exception e) {
+                LOGGER.error("Unexpected error while notifying the eviction of {} from repository cache [{}]", id, name, e);
+            }
+        }
+    }
+
+    private void registerMBean(RepositoryCache<?> cache) {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName("io.gravitee.rest.api.repository:type=RepositoryCache,name=" + cache.getName());
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(cache, objectName);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to expose the metrics of repository cache [{}]", cache.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.repository.command.CommandPoller;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replicates the evictions of the repository caches between the management nodes, through commands.
+ *
+ * The evictions made on this node are sent in a single command per poll of the {@link CommandPoller}, which also
+ * delivers the commands sent by the other nodes.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RepositoryCacheSynchronizer implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryCacheSynchronizer.class);
+
+    static final String COMMAND_TAG = "REPOSITORY_CACHE_EVICTED";
+    private static final String DEFAULT_ENVIRONMENT = "DEFAULT";
+    private static final char SEPARATOR = ':';
+    private static final long COMMAND_TTL = 60 * 1000;
+
+    @Autowired
+    private RepositoryCacheManager cacheManager;
+
+    @Autowired
+    private CommandRepository commandRepository;
+
+    @Autowired
+    private CommandPoller commandPoller;
+
+    @Autowired
+    private Node node;
+
+    private final Set<String> pendingEvictions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void afterPropertiesSet() {
+        cacheManager.addEvictionListener((name, id) -> pendingEvictions.add(name + SEPARATOR + id));
+        commandPoller.register(COMMAND_TAG, this::synchronize);
+    }
+
+    @Override
+    public void destroy() {
+        commandPoller.unregister(COMMAND_TAG);
+        sendEvictions();
+    }
+
+    void synchronize(List<Command> commands) {
+        if (!cacheManager.isEnabled()) {
+            return;
+        }
+        sendEvictions();
+        receiveEvictions(commands);
+    }
+
+    private void sendEvictions() {
+        if (pendingEvictions.isEmpty()) {
+            return;
+        }
+        final List<String> evictions = new ArrayList<>(pendingEvictions);
+        pendingEvictions.removeAll(evictions);
+
+        final long now = System.currentTimeMillis();
+        final Command command = new Command();
+        command.setId(UUID.randomUUID().toString());
+        command.setEnvironmentId(DEFAULT_ENVIRONMENT);
+        command.setFrom(node.id());
+        command.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+        command.setTags(Collections.singletonList(COMMAND_TAG));
+        command.setContent(String.join("\n", evictions));
+        command.setCreatedAt(new Date(now));
+        command.setUpdatedAt(command.getCreatedAt());
+        command.setExpiredAt(new Date(now + COMMAND_TTL));
+        try {
+            commandRepository.create(command);
+        } catch (Exception e) {
+            LOGGER.error("Unable to send {} repository cache evictions to the other nodes", evictions.size(), e);
+        }
+    }
+
+    private void receiveEvictions(List<Command> commands) {
+        for (Command command : commands) {
+            if (command.getContent() != null) {
+                for (String eviction : command.getContent().split("\n")) {
+                    final int separator = eviction.indexOf(SEPARATOR);
+                    if (separator > 0) {
+                        cacheManager.evict(eviction.substring(0, separator), eviction.substring(separator + 1));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Application;
+import io.gravitee.repository.management.model.Category;
+import io.gravitee.repository.management.model.Environment;
+import io.gravitee.repository.management.model.Plan;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copiers of the cached entities. The collections are copied as well, since the services modify them in place before
+ * updating the entities.
+ *
+ * @author GraviteeSource Team
+ */
+public final class RepositoryCopiers {
+
+    private RepositoryCopiers() {}
+
+    public static Api copy(Api api) {
+        final Api copy = new Api(api);
+        copy.setGroups(copySet(api.getGroups()));
+        copy.setCategories(copySet(api.getCategories()));
+        copy.setLabels(copyList(api.getLabels()));
+        return copy;
+    }
+
+    public static Application copy(Application application) {
+        final Application copy = new Application(application);
+        copy.setGroups(copySet(application.getGroups()));
+        copy.setMetadata(copyMap(application.getMetadata()));
+        return copy;
+    }
+
+    public static Plan copy(Plan plan) {
+        final Plan copy = new Plan(plan);
+        copy.setCharacteristics(copyList(plan.getCharacteristics()));
+        copy.setExcludedGroups(copyList(plan.getExcludedGroups()));
+        copy.setTags(copySet(plan.getTags()));
+        return copy;
+    }
+
+    public static Category copy(Category category) {
+        final Category copy = new Category();
+        copy.setId(category.getId());
+        copy.setEnvironmentId(category.getEnvironmentId());
+        copy.setKey(category.getKey());
+        copy.setName(category.getName());
+        copy.setDescription(category.getDescription());
+        copy.setHidden(category.isHidden());
+        copy.setOrder(category.getOrder());
+        copy.setHighlightApi(category.getHighlightApi());
+        copy.setPicture(category.getPicture());
+        copy.setBackground(category.getBackground());
+        copy.setPage(category.getPage());
+        copy.setCreatedAt(category.getCreatedAt());
+        copy.setUpdatedAt(category.getUpdatedAt());
+        return copy;
+    }
+
+    public static Environment copy(Environment environment) {
+        final Environment copy = new Environment();
+        copy.setId(environment.getId());
+        copy.setHrids(copyList(environment.getHrids()));
+        copy.setName(environment.getName());
+        copy.setDescription(environment.getDescription());
+        copy.setOrganizationId(environment.getOrganizationId());
+        copy.setDomainRestrictions(copyList(environment.getDomainRestrictions()));
+        return copy;
+    }
+
+    private static <E> Set<E> copySet(Set<E> set) {
+        return set == null ? null : new HashSet<>(set);
+    }
+
+    private static <E> List<E> copyList(List<E> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+        return map == null ? null : new HashMap<>(map);
+    }
+}
@@ -23,5 +23,5 @@ import org.springframework.context.annotation.Configuration;
  * @author GraviteeSource Team
  */
 @Configuration
-@ComponentScan(basePackages = "io.gravitee.rest.api.repository.proxy")
+@ComponentScan(basePackages = { "io.gravitee.rest.api.repository.proxy", "io.gravitee.rest.api.repository.command" })
 public class RepositoryConfiguration {}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.command;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.model.Command;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class CommandPollerTest {
+
+    private final Map<String, Command> commands = new ConcurrentHashMap<>();
+
+    private final CommandRepository commandRepository = mock(CommandRepository.class);
+
+    private final Map<String, List<List<String>>> handled = new HashMap<>();
+
+    private CommandPoller poller;
+
+    @Before
+    public void setUp() throws Exception {
+        // In-memory command repository, filtered by tag
+        when(commandRepository.search(any(CommandCriteria.class)))
+            .thenAnswer(
+                invocation -> {
+                    CommandCriteria criteria = invocation.getArgument(0);
+                    return commands
+                        .values()
+                        .stream()
+                        .filter(command -> command.getTags().contains(criteria.getTags()[0]))
+                        .collect(Collectors.toList());
+                }
+            );
+        doAnswer(invocation -> commands.remove(invocation.<String>getArgument(0))).when(commandRepository).delete(any());
+
+        Node node = mock(Node.class);
+        when(node.id()).thenReturn("node-1");
+
+        poller = new CommandPoller();
+        ReflectionTestUtils.setField(poller, "commandRepository", commandRepository);
+        ReflectionTestUtils.setField(poller, "node", node);
+        poller.register("TAG_A", handler("TAG_A"));
+        poller.register("TAG_B", handler("TAG_B"));
+    }
+
+    @Test
+    public void shouldDispatchCommandsByTagSortedByCreationDate() {
+        final long now = System.currentTimeMillis();
+        command("a-2", "TAG_A", "node-2", now - 1000);
+        command("a-1", "TAG_A", "node-2", now - 2000);
+        command("b-1", "TAG_B", "node-3", now - 500);
+
+        poller.poll();
+
+        assertEquals(Collections.singletonList(Arrays.asList("a-1", "a-2")), handled.get("TAG_A"));
+        assertEquals(Collections.singletonList(Collections.singletonList("b-1")), handled.get("TAG_B"));
+    }
+
+    @Test
+    public void shouldHandleCommandsOnlyOnce() {
+        command("a-1", "TAG_A", "node-2", System.currentTimeMillis());
+
+        poller.poll();
+        poller.poll();
+
+        // Handlers are called on each poll, even without new command
+        assertEquals(Arrays.asList(Collections.singletonList("a-1"), Collections.emptyList()), handled.get("TAG_A"));
+        assertEquals(1, poller.getHandledCount());
+    }
+
+    @Test
+    public void shouldIgnoreCommandsSentOrAcknowledgedByThisNode() {
+        final long now = System.currentTimeMillis();
+        command("a-1", "TAG_A", "node-1", now);
+        command("a-2", "TAG_A", "node-2", now).setAcknowledgments(Collections.singletonList("node-1"));
+
+        poller.poll();
+
+        assertEquals(Collections.singletonList(Collections.emptyList()), handled.get("TAG_A"));
+    }
+
+    @Test
+    public void shouldDeleteExpiredCommands() {
+        final long now = System.currentTimeMillis();
+        command("a-1", "TAG_A", "node-2", now - 120_000).setExpiredAt(new Date(now - 60_000));
+
+        poller.poll();
+
+        assertTrue(commands.isEmpty());
+        assertEquals(Collections.singletonList(Collections.emptyList()), handled.get("TAG_A"));
+    }
+
+    @Test
+    public void shouldRecordReplicationLag() {
+        final long now = System.currentTimeMillis();
+        command("a-1", "TAG_A", "node-2", now - 3000);
+        command("a-2", "TAG_A", "node-2", now - 1000);
+
+        poller.poll();
+
+        assertTrue(poller.getMaxReplicationLag() >= 3000);
+        assertTrue(poller.getLastReplicationLag() >= 1000 && poller.getLastReplicationLag() < 3000);
+        assertTrue(poller.getLastPollTime() >= now);
+    }
+
+    @Test
+    public void shouldKeepPollingWhenAHandlerFails() {
+        poller.register(
+            "TAG_A",
+            commands -> {
+                throw new IllegalStateException("failure");
+            }
+        );
+        command("b-1", "TAG_B", "node-2", System.currentTimeMillis());
+
+        poller.poll();
+
+        assertEquals(Collections.singletonList(Collections.singletonList("b-1")), handled.get("TAG_B"));
+    }
+
+    @Test
+    public void shouldStopDispatchingToUnregisteredHandlers() {
+        poller.unregister("TAG_A");
+        command("a-1", "TAG_A", "node-2", System.currentTimeMillis());
+
+        poller.poll();
+
+        assertNull(handled.get("TAG_A"));
+        assertEquals(Collections.singletonList("TAG_B"), poller.getTags());
+    }
+
+    private CommandHandler handler(String tag) {
+        return commands ->
+            handled.computeIfAbsent(tag, k -> new ArrayList<>()).add(commands.stream().map(Command::getId).collect(Collectors.toList()));
+    }
+
+    private Command command(String id, String tag, String from, long createdAt) {
+        Command command = new Command();
+        command.setId(id);
+        command.setFrom(from);
+        command.setTags(Collections.singletonList(tag));
+        command.setCreatedAt(new Date(createdAt));
+        command.setExpiredAt(new Date(createdAt + 60_000));
+        commands.put(id, command);
+        return command;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import static org.junit.Assert.*;
+
+import io.gravitee.repository.management.model.Plan;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryCacheManagerTest {
+
+    private final RepositoryCacheManager cacheManager = new RepositoryCacheManager();
+
+    private final List<String> notifiedEvictions = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("management.cache.enabled", "false")
+            .withProperty("management.cache.plan.enabled", "true")
+            .withProperty("management.cache.plan.ttl", "30");
+        ReflectionTestUtils.setField(cacheManager, "environment", environment);
+        cacheManager.addEvictionListener((name, id) -> notifiedEvictions.add(name + ":" + id));
+    }
+
+    @Test
+    public void shouldCreateCachesFromConfiguration() {
+        assertTrue(cacheManager.create("plan", RepositoryCopiers::copy).isEnabled());
+        assertFalse(cacheManager.create("api", RepositoryCopiers::copy).isEnabled());
+
+        assertTrue(cacheManager.isEnabled());
+        assertEquals(2, cacheManager.getCaches().size());
+    }
+
+    @Test
+    public void shouldNotifyEvictionsMadeOnThisNode() {
+        final RepositoryCache<Plan> cache = cacheManager.create("plan", RepositoryCopiers::copy);
+
+        cache.evict("plan-1");
+
+        assertEquals(1, notifiedEvictions.size());
+        assertEquals("plan:plan-1", notifiedEvictions.get(0));
+    }
+
+    @Test
+    public void shouldEvictEntitiesChangedByOtherNodes() throws Exception {
+        final RepositoryCache<Plan> cache = cacheManager.create("plan", RepositoryCopiers::copy);
+        final AtomicInteger loadCount = new AtomicInteger();
+        final RepositoryCache.Loader<Optional<Plan>> loader = () -> {
+            loadCount.incrementAndGet();
+            final Plan plan = new Plan();
+            plan.setId("plan-1");
+            return Optional.of(plan);
+        };
+        cache.findById("plan-1", loader);
+
+        cacheManager.evict("plan", "plan-1");
+        cacheManager.evict("unknown", "plan-1");
+
+        cache.findById("plan-1", loader);
+        assertEquals(2, loadCount.get());
+        assertTrue(notifiedEvictions.isEmpty());
+    }
+}
@@ -0,0 +1,183 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.Plan;
+import io.gravitee.rest.api.repository.command.CommandPoller;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryCacheSynchronizerTest {
+
+    private final Map<String, Command> commands = new ConcurrentHashMap<>();
+
+    private final CommandRepository commandRepository = mock(CommandRepository.class);
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private RepositoryCacheSynchronizer synchronizer1;
+    private CommandPoller poller1;
+    private RepositoryCache<Plan> cache1;
+
+    private RepositoryCacheSynchronizer synchronizer2;
+    private CommandPoller poller2;
+    private RepositoryCache<Plan> cache2;
+
+    @Before
+    public void setUp() throws Exception {
+        // In-memory command repository shared by the nodes
+        when(commandRepository.create(any(Command.class)))
+            .thenAnswer(
+                invocation -> {
+                    Command command = invocation.getArgument(0);
+                    commands.put(command.getId(), command);
+                    return command;
+                }
+            );
+        when(commandRepository.search(any(CommandCriteria.class))).thenAnswer(invocation -> new ArrayList<>(commands.values()));
+        doAnswer(invocation -> commands.remove(invocation.<String>getArgument(0))).when(commandRepository).delete(any());
+
+        RepositoryCacheManager cacheManager1 = cacheManager();
+        cache1 = cacheManager1.create("plan", RepositoryCopiers::copy);
+        poller1 = poller("node-1");
+        synchronizer1 = synchronizer(poller1, cacheManager1);
+
+        RepositoryCacheManager cacheManager2 = cacheManager();
+        cache2 = cacheManager2.create("plan", RepositoryCopiers::copy);
+        poller2 = poller("node-2");
+        synchronizer2 = synchronizer(poller2, cacheManager2);
+    }
+
+    @After
+    public void tearDown() {
+        synchronizer1.destroy();
+        synchronizer2.destroy();
+    }
+
+    @Test
+    public void shouldEvictOnOtherNodes() throws Exception {
+        cache1.findById("plan-1", this::load);
+        cache2.findById("plan-1", this::load);
+        cache2.findById("plan-2", this::load);
+
+        cache1.evict("plan-1");
+        poller1.poll();
+        poller2.poll();
+        loadCount.set(0);
+
+        cache1.findById("plan-1", this::load);
+        cache2.findById("plan-1", this::load);
+        cache2.findById("plan-2", this::load);
+        // Evicted on node-1 by the write, then on node-2 by the command
+        assertEquals(2, loadCount.get());
+        assertEquals(1, commands.size());
+        assertEquals("plan:plan-1", commands.values().iterator().next().getContent());
+    }
+
+    @Test
+    public void shouldProcessCommandsOnlyOnce() throws Exception {
+        cache1.evict("plan-1");
+        poller1.poll();
+        poller2.poll();
+
+        cache2.findById("plan-1", this::load);
+        poller2.poll();
+        poller1.poll();
+        loadCount.set(0);
+
+        cache2.findById("plan-1", this::load);
+        assertEquals(0, loadCount.get());
+    }
+
+    @Test
+    public void shouldGroupEvictionsAndDeleteExpiredCommands() throws Exception {
+        cache1.evict("plan-1");
+        cache1.evict("plan-2");
+        poller1.poll();
+
+        assertEquals(1, commands.size());
+        Command command = commands.values().iterator().next();
+        assertEquals(2, command.getContent().split("\n").length);
+
+        command.setExpiredAt(new Date(System.currentTimeMillis() - 1000));
+        poller2.poll();
+
+        assertTrue(commands.isEmpty());
+    }
+
+    @Test
+    public void shouldNotSendCommandWithoutEviction() {
+        poller1.poll();
+
+        assertTrue(commands.isEmpty());
+    }
+
+    private RepositoryCacheManager cacheManager() {
+        RepositoryCacheManager cacheManager = new RepositoryCacheManager();
+        ReflectionTestUtils.setField(cacheManager, "environment", new MockEnvironment().withProperty("management.cache.enabled", "true"));
+        return cacheManager;
+    }
+
+    private CommandPoller poller(String nodeId) {
+        CommandPoller poller = new CommandPoller();
+        ReflectionTestUtils.setField(poller, "commandRepository", commandRepository);
+        ReflectionTestUtils.setField(poller, "node", node(nodeId));
+        return poller;
+    }
+
+    private RepositoryCacheSynchronizer synchronizer(CommandPoller poller, RepositoryCacheManager cacheManager) {
+        RepositoryCacheSynchronizer synchronizer = new RepositoryCacheSynchronizer();
+        ReflectionTestUtils.setField(synchronizer, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(synchronizer, "commandRepository", commandRepository);
+        ReflectionTestUtils.setField(synchronizer, "commandPoller", poller);
+        ReflectionTestUtils.setField(synchronizer, "node", ReflectionTestUtils.getField(poller, "node"));
+        synchronizer.afterPropertiesSet();
+        return synchronizer;
+    }
+
+    private Node node(String nodeId) {
+        Node node = mock(Node.class);
+        when(node.id()).thenReturn(nodeId);
+        return node;
+    }
+
+    private Optional<Plan> load() {
+        loadCount.incrementAndGet();
+        Plan plan = new Plan();
+        plan.setId("plan");
+        return Optional.of(plan);
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.proxy.cache;
+
+import static org.junit.Assert.*;
+
+import io.gravitee.repository.management.model.Api;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryCacheTest {
+
+    private final List<String> notifiedEvictions = new ArrayList<>();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private RepositoryCache<Api> cache;
+
+    @Before
+    public void setUp() {
+        cache = new RepositoryCache<>("api", true, 60, 100, RepositoryCopiers::copy, (name, id) -> notifiedEvictions.add(name + ":" + id));
+    }
+
+    @Test
+    public void shouldLoadOnMissAndServeHits() throws Exception {
+        assertEquals("api-1", cache.findById("api-1", () -> load("api-1")).get().getId());
+        assertEquals("api-1", cache.findById("api-1", () -> load("api-1")).get().getId());
+
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheMissingEntities() throws Exception {
+        assertFalse(cache.findById("api-1", this::loadNothing).isPresent());
+        assertFalse(cache.findById("api-1", this::loadNothing).isPresent());
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void shouldReturnDeepCopies() throws Exception {
+        cache.findById("api-1", () -> load("api-1")).get().getGroups().remove("group-1");
+        cache.findAll("all", () -> Collections.singleton(load("api-1").get())).iterator().next().getCategories().clear();
+
+        final Api api = cache.findById("api-1", () -> load("api-1")).get();
+        assertEquals(Collections.singleton("group-1"), api.getGroups());
+        assertEquals(Collections.singleton("group-1"), cache.findById("api-1", this::loadNothing).get().getGroups());
+        assertEquals(Collections.singleton("category-1"), cache.findAll("all", Collections::emptySet).iterator().next().getCategories());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void shouldNotCacheValueLoadedDuringEviction() throws Exception {
+        cache.findById(
+            "api-1",
+            () -> {
+                // Written by another thread while loading
+                cache.evict("api-1");
+                return load("api-1");
+            }
+        );
+        cache.findById("api-1", () -> load("api-1"));
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void shouldEvictEntityAndQueries() throws Exception {
+        cache.findById("api-1", () -> load("api-1"));
+        cache.findById("api-2", () -> load("api-2"));
+        cache.findAll("all", () -> new HashSet<>(Arrays.asList(load("api-1").get(), load("api-2").get())));
+        loadCount.set(0);
+
+        cache.evict("api-1");
+
+        cache.findById("api-1", () -> load("api-1"));
+        cache.findById("api-2", () -> load("api-2"));
+        assertEquals(1, loadCount.get());
+        assertEquals(0, cache.findAll("all", Collections::emptySet).size());
+        assertEquals(Collections.singletonList("api:api-1"), notifiedEvictions);
+    }
+
+    @Test
+    public void shouldNotNotifyLocalEvictionsOfOtherNodes() throws Exception {
+        cache.findById("api-1", () -> load("api-1"));
+
+        cache.evictLocally("api-1");
+
+        cache.findById("api-1", () -> load("api-1"));
+        assertEquals(2, loadCount.get());
+        assertTrue(notifiedEvictions.isEmpty());
+    }
+
+    @Test
+    public void shouldAlwaysLoadWhenDisabled() throws Exception {
+        cache = new RepositoryCache<>("api", false, 60, 100, RepositoryCopiers::copy, (name, id) -> notifiedEvictions.add(id));
+
+        cache.findById("api-1", () -> load("api-1"));
+        cache.findById("api-1", () -> load("api-1"));
+        cache.evict("api-1");
+
+        assertEquals(2, loadCount.get());
+        assertTrue(notifiedEvictions.isEmpty());
+    }
+
+    private Optional<Api> load(String id) {
+        loadCount.incrementAndGet();
+        final Api api = new Api();
+        api.setId(id);
+        api.setGroups(new HashSet<>(Collections.singleton("group-1")));
+        api.setCategories(new HashSet<>(Collections.singleton("category-1")));
+        return Optional.of(api);
+    }
+
+    private Optional<Api> loadNothing() {
+        loadCount.incrementAndGet();
+        return Optional.empty();
+    }
+}
@@ -16,7 +16,10 @@
 package io.gravitee.rest.api.service;
 
 import io.gravitee.rest.api.model.ApiKeyEntity;
+import io.gravitee.rest.api.model.SubscriptionEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -37,6 +40,13 @@ public interface ApiKeyService {
 
     List<ApiKeyEntity> findBySubscription(String subscription);
 
+    /**
+     * Find the API keys of several subscriptions, the most recent first. The keys are read subscription by subscription.
+     *
+     * @return the API keys by subscription id, with an entry for each of the given subscriptions
+     */
+    Map<String, List<ApiKeyEntity>> findByEachSubscription(Collection<SubscriptionEntity> subscriptions);
+
     ApiKeyEntity findByKey(String apiKey);
 
     void delete(String apiKey);
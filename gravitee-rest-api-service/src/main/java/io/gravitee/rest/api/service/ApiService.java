@@ -23,6 +23,7 @@ import io.gravitee.rest.api.model.api.header.ApiHeaderEntity;
 import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.common.Sortable;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +84,18 @@ public interface ApiService {
 
     String exportAsJson(String apiId, String exportVersion, String... filteredFields);
 
+    /**
+     * Write the JSON export of the API to the given stream, without holding the whole definition in memory.
+     * The stream is not closed.
+     */
+    void exportAsJson(String apiId, String exportVersion, OutputStream outputStream, String... filteredFields);
+
+    /**
+     * Write a zip archive containing the JSON export of every API of the current environment to the given stream.
+     * The APIs are exported one after the other, the stream is not closed.
+     */
+    void exportAllAsArchive(String exportVersion, OutputStream outputStream, String... filteredFields);
+
     ApiEntity createWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId);
 
     ApiEntity updateWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId);
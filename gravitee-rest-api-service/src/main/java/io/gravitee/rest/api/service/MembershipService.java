@@ -88,6 +88,12 @@ public interface MembershipService {
         List<String> membersId,
         MembershipReferenceType referenceType
     );
+    Set<MembershipEntity> getMembershipsByMembersAndReferenceAndRole(
+        MembershipMemberType memberType,
+        List<String> membersId,
+        MembershipReferenceType referenceType,
+        String role
+    );
     Set<MembershipEntity> getMembershipsByReference(MembershipReferenceType referenceType, String referenceId);
     Set<MembershipEntity> getMembershipsByReferenceAndRole(MembershipReferenceType referenceType, String referenceId, String role);
     Set<MembershipEntity> getMembershipsByReferencesAndRole(MembershipReferenceType referenceType, List<String> referenceIds, String role);
@@ -15,9 +15,11 @@
  */
 package io.gravitee.rest.api.service;
 
-import io.gravitee.rest.api.model.notification.NewPortalNotificationEntity;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.notification.PortalNotificationEntity;
 import io.gravitee.rest.api.service.notification.Hook;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -27,6 +29,13 @@ import java.util.List;
 public interface PortalNotificationService {
     List<PortalNotificationEntity> findByUser(String user);
 
+    /**
+     * Find a page of the notifications of the user, the most recent first.
+     */
+    Page<PortalNotificationEntity> findByUser(String user, Pageable pageable);
+
+    long countByUser(String user);
+
     PortalNotificationEntity findById(String notificationId);
 
     void create(Hook hook, List<String> users, Object param);
@@ -34,4 +43,12 @@ public interface PortalNotificationService {
     void delete(String notificationId);
 
     void deleteAll(String user);
+
+    /**
+     * Delete the notifications of the user created before the given date, and the oldest ones above the given cap.
+     * A <code>null</code> date or a cap lower than 1 disables the corresponding rule.
+     *
+     * @return the number of deleted notifications
+     */
+    int purge(String user, Date olderThan, int maxPerUser);
 }
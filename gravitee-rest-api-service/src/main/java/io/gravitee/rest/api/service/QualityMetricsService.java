@@ -17,6 +17,8 @@ package io.gravitee.rest.api.service;
 
 import io.gravitee.rest.api.model.ApiQualityMetricsEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -24,5 +26,11 @@ import io.gravitee.rest.api.model.api.ApiEntity;
  */
 public interface QualityMetricsService {
     ApiQualityMetricsEntity getMetrics(ApiEntity apiEntity);
+
+    /**
+     * Compute the quality metrics of several APIs, indexed by API id, loading the quality configuration only once.
+     */
+    Map<String, ApiQualityMetricsEntity> getMetrics(Collection<ApiEntity> apis);
+
     boolean isApiMetricsEnabled();
 }
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.MembershipEntity;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Access of a user to APIs, applications, groups, ... loaded at once from all of its memberships.
+ *
+ * @author GraviteeSource Team
+ */
+public interface UserAccessSnapshotService {
+    UserAccessSnapshot get(String userId);
+    void evict(String userId);
+    void evictAll();
+
+    class UserAccessSnapshot {
+
+        private final Map<MembershipReferenceType, Map<String, Set<RoleEntity>>> roles = new EnumMap<>(MembershipReferenceType.class);
+
+        public UserAccessSnapshot(Collection<MembershipEntity> memberships, Function<String, RoleEntity> roleResolver) {
+            for (MembershipEntity membership : memberships) {
+                final Set<RoleEntity> referenceRoles = roles
+                    .computeIfAbsent(membership.getReferenceType(), k -> new HashMap<>())
+                    .computeIfAbsent(membership.getReferenceId(), k -> new HashSet<>());
+                if (membership.getRoleId() != null) {
+                    referenceRoles.add(roleResolver.apply(membership.getRoleId()));
+                }
+            }
+        }
+
+        /**
+         * @return the ids of the references the user is a member of, whatever its roles.
+         */
+        public Set<String> getReferenceIds(MembershipReferenceType referenceType) {
+            return Collections.unmodifiableSet(roles.getOrDefault(referenceType, Collections.emptyMap()).keySet());
+        }
+
+        /**
+         * @return the ids of the references in which the user has at least one role of the given scope.
+         */
+        public Set<String> getReferenceIds(MembershipReferenceType referenceType, RoleScope roleScope) {
+            return roles
+                .getOrDefault(referenceType, Collections.emptyMap())
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(role -> role.getScope() == roleScope))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        }
+
+        public Set<RoleEntity> getRoles(MembershipReferenceType referenceType, String referenceId) {
+            return Collections.unmodifiableSet(
+                roles.getOrDefault(referenceType, Collections.emptyMap()).getOrDefault(referenceId, Collections.emptySet())
+            );
+        }
+    }
+}
@@ -19,7 +19,9 @@ import io.gravitee.repository.management.model.CustomUserFieldReferenceType;
 import io.gravitee.rest.api.model.NewUserMetadataEntity;
 import io.gravitee.rest.api.model.UpdateUserMetadataEntity;
 import io.gravitee.rest.api.model.UserMetadataEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
@@ -29,5 +31,6 @@ public interface UserMetadataService {
     UserMetadataEntity create(NewUserMetadataEntity metadata);
     UserMetadataEntity update(UpdateUserMetadataEntity metadata);
     List<UserMetadataEntity> findAllByUserId(String userId);
+    Map<String, List<UserMetadataEntity>> findAllByEachUserId(Collection<String> userIds);
     void deleteAllByCustomFieldId(String key, String refId, CustomUserFieldReferenceType refType);
 }
@@ -15,7 +15,6 @@
  */
 package io.gravitee.rest.api.service.common;
 
-import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.UserMetadataEntity;
 import io.gravitee.rest.api.model.parameters.Key;
@@ -38,7 +37,6 @@ public class GraviteeContext {
 
     private static final String CURRENT_ENVIRONMENT_CONTEXT_KEY = "currentEnvironment";
     private static final String CURRENT_ORGANIZATION_CONTEXT_KEY = "currentOrganization";
-    private static final String ROLES_CONTEXT_CACHE_KEY = "currentRoles";
     private static final String USERS_CONTEXT_CACHE_KEY = "currentUsers";
     private static final String USERS_METADATA_CONTEXT_CACHE_KEY = "currentUsersMetadata";
     private static final String PARAMETERS_CONTEXT_CACHE_KEY = "currentParameters";
@@ -48,7 +46,6 @@ public class GraviteeContext {
             Map<String, Object> propertiesMap = new HashMap<>();
             propertiesMap.put(CURRENT_ENVIRONMENT_CONTEXT_KEY, DEFAULT_ENVIRONMENT);
             propertiesMap.put(CURRENT_ORGANIZATION_CONTEXT_KEY, DEFAULT_ORGANIZATION);
-            propertiesMap.put(ROLES_CONTEXT_CACHE_KEY, new ConcurrentHashMap<>());
             propertiesMap.put(USERS_CONTEXT_CACHE_KEY, new ConcurrentHashMap<>());
             propertiesMap.put(USERS_METADATA_CONTEXT_CACHE_KEY, new ConcurrentHashMap<>());
             propertiesMap.put(PARAMETERS_CONTEXT_CACHE_KEY, new ConcurrentHashMap<>());
@@ -93,10 +90,6 @@ public class GraviteeContext {
         return (ConcurrentMap) contextThread.get().get(PARAMETERS_CONTEXT_CACHE_KEY);
     }
 
-    public static ConcurrentMap<String, RoleEntity> getCurrentRoles() {
-        return (ConcurrentMap) contextThread.get().get(ROLES_CONTEXT_CACHE_KEY);
-    }
-
     public static ConcurrentMap<String, UserEntity> getCurrentUsers() {
         return (ConcurrentMap) contextThread.get().get(USERS_CONTEXT_CACHE_KEY);
     }
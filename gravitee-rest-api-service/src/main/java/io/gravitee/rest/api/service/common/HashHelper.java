@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.common;
+
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Content hashing used to key caches of compiled or parsed content (templates, specifications, ...).
+ *
+ * @author GraviteeSource Team
+ */
+public interface HashHelper {
+    String HASH_ALGO = "sha-256";
+
+    static String sha256(String content) {
+        try {
+            MessageDigest md = MessageDigest.getInstance(HASH_ALGO);
+            if (content != null) {
+                md.update(content.getBytes(StandardCharsets.UTF_8));
+            }
+            return Hex.encodeHexString(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new TechnicalManagementException("Unable to instantiate MessageDigest", e);
+        }
+    }
+}
@@ -49,6 +49,8 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
      */
     private final Logger LOGGER = LoggerFactory.getLogger(ApiKeyServiceImpl.class);
 
+    private static final Comparator<ApiKeyEntity> MOST_RECENT_FIRST = (o1, o2) -> o2.getCreatedAt().compareTo(o1.getCreatedAt());
+
     @Autowired
     private ApiKeyRepository apiKeyRepository;
 
@@ -311,11 +313,7 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
 
             SubscriptionEntity subscriptionEntity = subscriptionService.findById(subscription);
             Set<ApiKey> keys = apiKeyRepository.findBySubscription(subscriptionEntity.getId());
-            return keys
-                .stream()
-                .map(ApiKeyServiceImpl::convert)
-                .sorted((o1, o2) -> o2.getCreatedAt().compareTo(o1.getCreatedAt()))
-                .collect(Collectors.toList());
+            return keys.stream().map(ApiKeyServiceImpl::convert).sorted(MOST_RECENT_FIRST).collect(Collectors.toList());
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while finding API keys for subscription {}", subscription, ex);
             throw new TechnicalManagementException(
@@ -325,6 +323,35 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
         }
     }
 
+    @Override
+    public Map<String, List<ApiKeyEntity>> findByEachSubscription(Collection<SubscriptionEntity> subscriptions) {
+        final Map<String, List<ApiKeyEntity>> keysBySubscription = new HashMap<>(subscriptions.size());
+        subscriptions.forEach(subscription -> keysBySubscription.put(subscription.getId(), new ArrayList<>()));
+        if (subscriptions.isEmpty()) {
+            return keysBySubscription;
+        }
+
+        try {
+            LOGGER.debug("Find API Keys for {} subscriptions", subscriptions.size());
+
+            // The keys are looked up by subscription, which is cached by the repository proxy, rather than by plan which would
+            // also load the keys of all the other applications subscribed to these plans
+            for (Map.Entry<String, List<ApiKeyEntity>> subscriptionKeys : keysBySubscription.entrySet()) {
+                apiKeyRepository
+                    .findBySubscription(subscriptionKeys.getKey())
+                    .forEach(key -> subscriptionKeys.getValue().add(convert(key)));
+            }
+            keysBySubscription.values().forEach(subscriptionKeys -> subscriptionKeys.sort(MOST_RECENT_FIRST));
+            return keysBySubscription;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while finding API keys for {} subscriptions", subscriptions.size(), ex);
+            throw new TechnicalManagementException(
+                String.format("An error occurs while finding API keys for %d subscriptions", subscriptions.size()),
+                ex
+            );
+        }
+    }
+
     @Override
     public ApiKeyEntity findByKey(String apiKey) {
         try {
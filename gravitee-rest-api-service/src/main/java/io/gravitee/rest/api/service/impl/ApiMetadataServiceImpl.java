@@ -41,6 +41,9 @@ public class ApiMetadataServiceImpl extends AbstractReferenceMetadataService imp
     @Autowired
     private SearchEngineService searchEngineService;
 
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     @Override
     public List<ApiMetadataEntity> findAllByApi(final String apiId) {
         final List<ReferenceMetadataEntity> allMetadata = findAllByReference(API, apiId, true);
@@ -55,17 +58,24 @@ public class ApiMetadataServiceImpl extends AbstractReferenceMetadataService imp
     @Override
     public void delete(final String metadataId, final String apiId) {
         delete(metadataId, API, apiId);
+        renderedPageCache.evict(apiId);
     }
 
     @Override
     public void deleteAllByApi(String apiId) {
         final List<ReferenceMetadataEntity> allMetadata = findAllByReference(API, apiId, false);
         allMetadata.stream().forEach(referenceMetadataEntity -> delete(referenceMetadataEntity.getKey(), API, apiId));
+        renderedPageCache.evict(apiId);
     }
 
     @Override
     public ApiMetadataEntity create(final NewApiMetadataEntity metadataEntity) {
-        return convert(create(metadataEntity, API, metadataEntity.getApiId(), true), metadataEntity.getApiId());
+        ApiMetadataEntity apiMetadataEntity = convert(
+            create(metadataEntity, API, metadataEntity.getApiId(), true),
+            metadataEntity.getApiId()
+        );
+        renderedPageCache.evict(metadataEntity.getApiId());
+        return apiMetadataEntity;
     }
 
     @Override
@@ -76,6 +86,7 @@ public class ApiMetadataServiceImpl extends AbstractReferenceMetadataService imp
         );
         ApiEntity apiEntity = apiService.fetchMetadataForApi(apiService.findById(apiMetadataEntity.getApiId()));
         searchEngineService.index(apiEntity, false);
+        renderedPageCache.evict(apiMetadataEntity.getApiId());
         return apiMetadataEntity;
     }
 
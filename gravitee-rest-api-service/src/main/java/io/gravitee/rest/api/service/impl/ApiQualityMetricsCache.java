@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.repository.management.model.Parameter;
+import io.gravitee.repository.management.model.ParameterReferenceType;
+import io.gravitee.rest.api.model.ApiQualityMetricsEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.parameters.Key;
+import io.gravitee.rest.api.model.quality.QualityRuleEntity;
+import io.gravitee.rest.api.service.common.HashHelper;
+import io.gravitee.rest.api.service.quality.ApiQualityMetric;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the quality configuration of the environments (weights of the metrics and manual quality rules) and of the
+ * quality metrics of the APIs.
+ *
+ * The metrics of an API are keyed by the API, its last update date and the version of the quality configuration, so that
+ * updating an API or the configuration never serves a stale score. Changes which are not reflected by those (documentation
+ * pages, rules checked for an API) must explicitly evict the entries. The configuration of an environment is evicted as
+ * soon as one of its quality parameters is updated.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ApiQualityMetricsCache implements InitializingBean, EventListener<Key, Parameter> {
+
+    private final Logger logger = LoggerFactory.getLogger(ApiQualityMetricsCache.class);
+
+    private static final char SEPARATOR = '|';
+    private static final String QUALITY_PARAMETERS_PREFIX = "api.quality.metrics.";
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Value("${quality.cache.maxSize:10000}")
+    private long maxSize;
+
+    @Value("${quality.cache.ttl:600}")
+    private long ttl;
+
+    @Value("${quality.cache.configuration.ttl:30}")
+    private long configurationTtl;
+
+    private Cache<String, QualityConfiguration> configurations;
+
+    private Cache<String, ApiQualityMetricsEntity> metrics;
+
+    @Override
+    public void afterPropertiesSet() {
+        configurations = CacheBuilder.newBuilder().expireAfterWrite(configurationTtl, TimeUnit.SECONDS).build();
+        metrics = CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl, TimeUnit.SECONDS).build();
+        eventManager.subscribeForEvents(this, Key.class);
+    }
+
+    @Override
+    public void onEvent(Event<Key, Parameter> event) {
+        if (!event.type().key().startsWith(QUALITY_PARAMETERS_PREFIX)) {
+            return;
+        }
+        final Parameter parameter = event.content();
+        if (parameter != null && parameter.getReferenceType() == ParameterReferenceType.ENVIRONMENT) {
+            logger.debug("Evict quality configuration of environment {}", parameter.getReferenceId());
+            configurations.invalidate(parameter.getReferenceId());
+        } else {
+            // organization or system wide parameter, inherited by all the environments
+            logger.debug("Evict all quality configurations");
+            configurations.invalidateAll();
+        }
+    }
+
+    public QualityConfiguration getConfiguration(String environment) {
+        return configurations.getIfPresent(environment);
+    }
+
+    public void putConfiguration(String environment, QualityConfiguration configuration) {
+        configurations.put(environment, configuration);
+    }
+
+    /**
+     * Build the key of the metrics of the API, or <code>null</code> if the API can not be versioned.
+     */
+    public String key(ApiEntity api, QualityConfiguration configuration) {
+        if (api.getId() == null || api.getUpdatedAt() == null) {
+            return null;
+        }
+        return api.getId() + SEPARATOR + api.getUpdatedAt().getTime() + SEPARATOR + configuration.getVersion();
+    }
+
+    public ApiQualityMetricsEntity get(String key) {
+        final ApiQualityMetricsEntity apiQualityMetrics = metrics.getIfPresent(key);
+        return apiQualityMetrics == null ? null : copy(apiQualityMetrics);
+    }
+
+    public void put(String key, ApiQualityMetricsEntity apiQualityMetrics) {
+        metrics.put(key, copy(apiQualityMetrics));
+    }
+
+    public void evict(String apiId) {
+        final String prefix = apiId + SEPARATOR;
+        logger.debug("Evict quality metrics starting with {}", prefix);
+        metrics.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void evictAll() {
+        logger.debug("Evict all quality configurations and metrics");
+        configurations.invalidateAll();
+        metrics.invalidateAll();
+    }
+
+    public long size() {
+        return metrics.size();
+    }
+
+    private static ApiQualityMetricsEntity copy(ApiQualityMetricsEntity apiQualityMetrics) {
+        final ApiQualityMetricsEntity copy = new ApiQualityMetricsEntity();
+        copy.setScore(apiQualityMetrics.getScore());
+        copy.setMetricsPassed(apiQualityMetrics.getMetricsPassed() == null ? null : new HashMap<>(apiQualityMetrics.getMetricsPassed()));
+        return copy;
+    }
+
+    public static class QualityConfiguration {
+
+        private final boolean enabled;
+        private final Map<String, Integer> weights;
+        private final Map<String, ApiQualityMetric> apiMetrics;
+        private final List<QualityRuleEntity> qualityRules;
+        private final String version;
+
+        public QualityConfiguration(
+            boolean enabled,
+            Map<String, Integer> weights,
+            Map<String, ApiQualityMetric> apiMetrics,
+            List<QualityRuleEntity> qualityRules
+        ) {
+            this.enabled = enabled;
+            this.weights = Collections.unmodifiableMap(new TreeMap<>(weights));
+            this.apiMetrics = Collections.unmodifiableMap(new HashMap<>(apiMetrics));
+            this.qualityRules = Collections.unmodifiableList(new ArrayList<>(qualityRules));
+            this.version = version(this.weights, this.qualityRules);
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public Map<String, Integer> getWeights() {
+            return weights;
+        }
+
+        public Map<String, ApiQualityMetric> getApiMetrics() {
+            return apiMetrics;
+        }
+
+        public List<QualityRuleEntity> getQualityRules() {
+            return qualityRules;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        private static String version(Map<String, Integer> weights, List<QualityRuleEntity> qualityRules) {
+            final StringBuilder version = new StringBuilder(weights.toString());
+            for (QualityRuleEntity qualityRule : qualityRules) {
+                version
+                    .append(SEPARATOR)
+                    .append(qualityRule.getId())
+                    .append(':')
+                    .append(qualityRule.getWeight())
+                    .append(':')
+                    .append(qualityRule.getUpdatedAt() == null ? 0 : qualityRule.getUpdatedAt().getTime());
+            }
+            return HashHelper.sha256(version.toString());
+        }
+    }
+}
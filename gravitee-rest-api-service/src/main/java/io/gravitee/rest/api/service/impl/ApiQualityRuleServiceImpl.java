@@ -50,6 +50,9 @@ public class ApiQualityRuleServiceImpl extends AbstractService implements ApiQua
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Override
     public List<ApiQualityRuleEntity> findByApi(final String api) {
         try {
@@ -80,7 +83,9 @@ public class ApiQualityRuleServiceImpl extends AbstractService implements ApiQua
                 null,
                 apiQualityRule
             );
-            return convert(apiQualityRuleRepository.create(apiQualityRule));
+            final ApiQualityRule createdApiQualityRule = apiQualityRuleRepository.create(apiQualityRule);
+            apiQualityMetricsCache.evict(createdApiQualityRule.getApi());
+            return convert(createdApiQualityRule);
         } catch (TechnicalException e) {
             final String error = "An error occurs while trying to create an API quality rule " + newEntity;
             LOGGER.error(error, e);
@@ -106,6 +111,7 @@ public class ApiQualityRuleServiceImpl extends AbstractService implements ApiQua
                 optionalApiQualityRule.get(),
                 apiQualityRule
             );
+            apiQualityMetricsCache.evict(apiQualityRule.getApi());
             return convert(apiQualityRule);
         } catch (TechnicalException e) {
             final String error = "An error occurs while trying to update API quality rule " + updateEntity;
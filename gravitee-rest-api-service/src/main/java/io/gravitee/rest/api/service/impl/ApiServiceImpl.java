@@ -31,6 +31,7 @@ import static java.util.Optional.of;
 import static java.util.stream.Collectors.*;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -104,6 +105,7 @@ import io.gravitee.rest.api.service.spring.ImportConfiguration;
 import io.vertx.core.buffer.Buffer;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -113,6 +115,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import javax.xml.bind.DatatypeConverter;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -228,6 +232,9 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Autowired
     private CategoryService categoryService;
 
@@ -1108,11 +1115,12 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
         // for others API, user must be authenticated
         if (userId != null) {
+            final UserAccessSnapshotService.UserAccessSnapshot userAccess = userAccessSnapshotService.get(userId);
+
             // get user apis
-            final String[] userApiIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.API)
+            final String[] userApiIds = userAccess
+                .getReferenceIds(MembershipReferenceType.API)
                 .stream()
-                .map(MembershipEntity::getReferenceId)
                 .filter(
                     apiId -> {
                         if (apiQuery != null && !CollectionUtils.isEmpty(apiQuery.getIds())) {
@@ -1130,23 +1138,19 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             }
 
             // get user groups apis
-            final String[] groupIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.GROUP)
+            final String[] groupIds = userAccess
+                .getReferenceIds(MembershipReferenceType.GROUP)
                 .stream()
                 .filter(
-                    m -> {
-                        final RoleEntity roleInGroup = roleService.findById(m.getRoleId());
-                        if (!portal) {
-                            return (
-                                m.getRoleId() != null &&
-                                roleInGroup.getScope().equals(RoleScope.API) &&
-                                canManageApi(roleInGroup.getPermissions())
-                            );
-                        }
-                        return m.getRoleId() != null && roleInGroup.getScope().equals(RoleScope.API);
-                    }
+                    groupId ->
+                        userAccess
+                            .getRoles(MembershipReferenceType.GROUP, groupId)
+                            .stream()
+                            .anyMatch(
+                                roleInGroup ->
+                                    roleInGroup.getScope().equals(RoleScope.API) && (portal || canManageApi(roleInGroup.getPermissions()))
+                            )
                 )
-                .map(MembershipEntity::getReferenceId)
                 .toArray(String[]::new);
             if (groupIds.length > 0 && groupIds[0] != null) {
                 groupApis = apiRepository.search(queryToCriteria(apiQuery).groups(groupIds).build());
@@ -2009,11 +2013,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Override
     public String exportAsJson(final String apiId, String exportVersion, String... filteredFields) {
         ApiEntity apiEntity = findById(apiId);
-        // set metadata for serialize process
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
-        metadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Arrays.asList(filteredFields));
-        apiEntity.setMetadata(metadata);
+        apiEntity.setMetadata(exportMetadata(exportVersion, filteredFields));
 
         try {
             return objectMapper.writeValueAsString(apiEntity);
@@ -2023,6 +2023,74 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         return "";
     }
 
+    @Override
+    public void exportAsJson(String apiId, String exportVersion, OutputStream outputStream, String... filteredFields) {
+        ApiEntity apiEntity = findById(apiId);
+        apiEntity.setMetadata(exportMetadata(exportVersion, filteredFields));
+
+        try {
+            objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, apiEntity);
+        } catch (final IOException e) {
+            LOGGER.error("An error occurs while trying to JSON serialize the API {}", apiId, e);
+            throw new TechnicalManagementException("An error occurs while trying to JSON serialize the API " + apiId, e);
+        }
+    }
+
+    @Override
+    public void exportAllAsArchive(String exportVersion, OutputStream outputStream, String... filteredFields) {
+        final Collection<Api> apis;
+        try {
+            LOGGER.debug("Export all APIs as archive");
+            apis =
+                apiRepository.search(
+                    new ApiCriteria.Builder().environmentId(GraviteeContext.getCurrentEnvironment()).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build()
+                );
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find all APIs to export", ex);
+            throw new TechnicalManagementException("An error occurs while trying to find all APIs to export", ex);
+        }
+
+        final ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        final Set<String> entryNames = new HashSet<>();
+        try {
+            for (Api api : apis) {
+                String entryName = exportFilename(api.getName(), api.getVersion(), null);
+                if (!entryNames.add(entryName)) {
+                    entryName = exportFilename(api.getName(), api.getVersion(), api.getId());
+                    entryNames.add(entryName);
+                }
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                exportAsJson(api.getId(), exportVersion, zipOutputStream, filteredFields);
+                zipOutputStream.closeEntry();
+            }
+            // Do not close the archive, it would close the given stream
+            zipOutputStream.finish();
+        } catch (final IOException e) {
+            LOGGER.error("An error occurs while trying to export all APIs as archive", e);
+            throw new TechnicalManagementException("An error occurs while trying to export all APIs as archive", e);
+        }
+    }
+
+    private Map<String, Object> exportMetadata(String exportVersion, String... filteredFields) {
+        // set metadata for serialize process
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
+        metadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Arrays.asList(filteredFields));
+        return metadata;
+    }
+
+    private String exportFilename(String name, String version, String apiId) {
+        return String
+            .format(apiId == null ? "%s-%s.json" : "%s-%s-%s.json", name, version, apiId)
+            .trim()
+            .toLowerCase()
+            .replaceAll(" +", " ")
+            .replaceAll(" ", "-")
+            .replaceAll("[^\\w\\s\\.]", "-")
+            .replaceAll("-+", "-");
+    }
+
     @Override
     public ApiEntity createWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId) {
         String apiDefinition = fetchApiDefinitionContentFromURL(apiDefinitionOrURL);
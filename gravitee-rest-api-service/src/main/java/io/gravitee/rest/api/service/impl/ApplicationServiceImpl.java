@@ -23,6 +23,7 @@ import static java.util.stream.Collectors.toSet;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Suppliers;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApplicationRepository;
@@ -56,6 +57,7 @@ import io.gravitee.rest.api.service.notification.HookScope;
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javax.xml.bind.DatatypeConverter;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -88,6 +90,9 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Autowired
     private GroupService groupService;
 
@@ -186,24 +191,28 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         try {
             LOGGER.debug("Find applications for user {}", username);
 
+            final UserAccessSnapshotService.UserAccessSnapshot userAccess = userAccessSnapshotService.get(username);
             //find applications where the user is a member
-            Set<String> appIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.APPLICATION)
-                .stream()
-                .map(MembershipEntity::getReferenceId)
-                .collect(toSet());
+            Set<String> appIds = new HashSet<>(userAccess.getReferenceIds(MembershipReferenceType.APPLICATION));
             //find user groups
-            List<String> groupIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.GROUP)
-                .stream()
-                .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.APPLICATION))
-                .map(MembershipEntity::getReferenceId)
-                .collect(toList());
-
-            appIds.addAll(this.findByGroups(groupIds).stream().map(ApplicationListItem::getId).collect(toSet()));
+            List<String> groupIds = new ArrayList<>(userAccess.getReferenceIds(MembershipReferenceType.GROUP, RoleScope.APPLICATION));
+
+            // applications of the groups are loaded once, without converting them
+            final Map<String, Application> applicationsById = new HashMap<>();
+            if (!groupIds.isEmpty()) {
+                applicationRepository
+                    .findByGroups(groupIds, ApplicationStatus.ACTIVE)
+                    .forEach(application -> applicationsById.put(application.getId(), application));
+            }
+            appIds.removeAll(applicationsById.keySet());
+            if (!appIds.isEmpty()) {
+                applicationRepository
+                    .findByIds(new ArrayList<>(appIds))
+                    .forEach(application -> applicationsById.put(application.getId(), application));
+            }
 
-            final Set<Application> applications = applicationRepository
-                .findByIds(new ArrayList<>(appIds))
+            final Set<Application> applications = applicationsById
+                .values()
                 .stream()
                 .filter(app -> ApplicationStatus.ACTIVE.equals(app.getStatus()))
                 .filter(app -> app.getEnvironmentId().equals(GraviteeContext.getCurrentEnvironment()))
@@ -228,21 +237,17 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                 return emptySet();
             }
 
+            final UserAccessSnapshotService.UserAccessSnapshot userAccess = userAccessSnapshotService.get(userName);
             //find applications where the user is a member
-            Set<String> appIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, userName, MembershipReferenceType.APPLICATION)
-                .stream()
-                .map(MembershipEntity::getReferenceId)
-                .collect(toSet());
+            Set<String> appIds = new HashSet<>(userAccess.getReferenceIds(MembershipReferenceType.APPLICATION));
             //find user groups
-            List<String> groupIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, userName, MembershipReferenceType.GROUP)
-                .stream()
-                .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.APPLICATION))
-                .map(MembershipEntity::getReferenceId)
-                .collect(toList());
+            List<String> groupIds = new ArrayList<>(userAccess.getReferenceIds(MembershipReferenceType.GROUP, RoleScope.APPLICATION));
 
-            appIds.addAll(this.findByGroups(groupIds).stream().map(ApplicationListItem::getId).collect(toSet()));
+            if (!groupIds.isEmpty()) {
+                applicationRepository
+                    .findByGroups(groupIds, ApplicationStatus.ACTIVE)
+                    .forEach(application -> appIds.add(application.getId()));
+            }
 
             ApplicationCriteria criteria = new ApplicationCriteria.Builder()
                 .status(ApplicationStatus.valueOf(status))
@@ -822,10 +827,11 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             Application application = optApplication.get();
             Application previousApplication = new Application(application);
             Collection<SubscriptionEntity> subscriptions = subscriptionService.findByApplicationAndPlan(applicationId, null);
+            Map<String, List<ApiKeyEntity>> apiKeysBySubscription = apiKeyService.findByEachSubscription(subscriptions);
 
             subscriptions.forEach(
                 subscription -> {
-                    List<ApiKeyEntity> apiKeys = apiKeyService.findBySubscription(subscription.getId());
+                    List<ApiKeyEntity> apiKeys = apiKeysBySubscription.get(subscription.getId());
                     apiKeys.forEach(
                         apiKey -> {
                             try {
@@ -916,9 +922,18 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             .findByIds(memberships.stream().map(MembershipEntity::getMemberId).collect(toList()))
             .forEach(userEntity -> userIdToUserEntity.put(userEntity.getId(), userEntity));
 
+        // client registration providers are only loaded once for all the applications
+        final Supplier<Boolean> renewClientSecretSupported = Suppliers.memoize(this::isRenewClientSecretSupported);
         return applications
             .stream()
-            .map(publicApplication -> convert(publicApplication, userIdToUserEntity.get(applicationToUser.get(publicApplication.getId()))))
+            .map(
+                publicApplication ->
+                    convert(
+                        publicApplication,
+                        userIdToUserEntity.get(applicationToUser.get(publicApplication.getId())),
+                        renewClientSecretSupported
+                    )
+            )
             .collect(toSet());
     }
 
@@ -944,9 +959,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
     }
 
     private Set<ApplicationListItem> convertToList(Set<Application> applications) throws TechnicalException {
-        Set<ApplicationEntity> entities = convert(applications);
-
-        return entities
+        return convert(applications)
             .stream()
             .map(
                 applicationEntity -> {
@@ -962,13 +975,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                     item.setStatus(applicationEntity.getStatus());
                     item.setPicture(applicationEntity.getPicture());
                     item.setBackground(applicationEntity.getBackground());
-
-                    final Application app = applications
-                        .stream()
-                        .filter(application -> application.getId().equals(applicationEntity.getId()))
-                        .findFirst()
-                        .get();
-                    item.setSettings(getSettings(app));
+                    item.setSettings(applicationEntity.getSettings());
                     return item;
                 }
             )
@@ -976,6 +983,10 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
     }
 
     private ApplicationEntity convert(Application application, UserEntity primaryOwner) {
+        return convert(application, primaryOwner, this::isRenewClientSecretSupported);
+    }
+
+    private ApplicationEntity convert(Application application, UserEntity primaryOwner, Supplier<Boolean> renewClientSecretSupported) {
         if (primaryOwner == null) {
             // add a default unknown user
             primaryOwner = new UserEntity();
@@ -1000,12 +1011,12 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         applicationEntity.setUpdatedAt(application.getUpdatedAt());
         applicationEntity.setPrimaryOwner(new PrimaryOwnerEntity(primaryOwner));
 
-        applicationEntity.setSettings(getSettings(application));
+        applicationEntity.setSettings(getSettings(application, renewClientSecretSupported));
         applicationEntity.setDisableMembershipNotifications(application.isDisableMembershipNotifications());
         return applicationEntity;
     }
 
-    private ApplicationSettings getSettings(Application application) {
+    private ApplicationSettings getSettings(Application application, Supplier<Boolean> renewClientSecretSupported) {
         final ApplicationSettings settings = new ApplicationSettings();
         if (application.getType() == ApplicationType.SIMPLE) {
             SimpleApplicationSettings simpleSettings = new SimpleApplicationSettings();
@@ -1038,12 +1049,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                         clientSettings.setGrantTypes(registrationResponse.getGrantTypes());
                     }
 
-                    Iterator<ClientRegistrationProviderEntity> clientRegistrationProviderIte = clientRegistrationService
-                        .findAll()
-                        .iterator();
-                    if (clientRegistrationProviderIte.hasNext()) {
-                        clientSettings.setRenewClientSecretSupported(clientRegistrationProviderIte.next().isRenewClientSecretSupport());
-                    }
+                    clientSettings.setRenewClientSecretSupported(renewClientSecretSupported.get());
                 } catch (IOException e) {
                     e.printStackTrace();
                 }
@@ -1053,6 +1059,11 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         return settings;
     }
 
+    private boolean isRenewClientSecretSupported() {
+        Iterator<ClientRegistrationProviderEntity> clientRegistrationProviderIte = clientRegistrationService.findAll().iterator();
+        return clientRegistrationProviderIte.hasNext() && clientRegistrationProviderIte.next().isRenewClientSecretSupport();
+    }
+
     private static Application convert(NewApplicationEntity newApplicationEntity) {
         Application application = new Application();
 
@@ -151,6 +151,7 @@ public class CommandServiceImpl extends AbstractService implements CommandServic
             commandEntity.setTags(command.getTags().stream().map(CommandTags::valueOf).collect(Collectors.toList()));
         }
         commandEntity.setExpired(command.getExpiredAt().before(new Date()));
+        commandEntity.setCreatedAt(command.getCreatedAt());
         final List<String> acknowledgments = command.getAcknowledgments();
         if (acknowledgments != null) {
             commandEntity.setProcessedInCurrentNode(acknowledgments.contains(node.id()));
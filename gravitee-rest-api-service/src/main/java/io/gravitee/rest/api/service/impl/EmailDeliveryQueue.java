@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queue of the emails waiting to be delivered.
+ *
+ * Emails are grouped by mail sender, and each group is sent in batches over a single SMTP connection instead of
+ * opening, authenticating and closing a session per email. Emails which could not be delivered are retried with an
+ * exponential backoff. The queue is bounded: when it is full, the caller has to send the email itself.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class EmailDeliveryQueue implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailDeliveryQueue.class);
+
+    @Value("${email.queue.capacity:10000}")
+    private int capacity;
+
+    @Value("${email.queue.batchSize:50}")
+    private int batchSize;
+
+    @Value("${email.queue.window:500}")
+    private long window;
+
+    @Value("${email.queue.maxAttempts:3}")
+    private int maxAttempts;
+
+    @Value("${email.queue.backoff:1000}")
+    private long backoff;
+
+    /**
+     * Emails waiting to be sent, by mail sender. Mail senders are compared by identity as they are mutable.
+     */
+    private final Map<JavaMailSender, Deque<PendingEmail>> pendingEmails = new IdentityHashMap<>();
+
+    private int size;
+
+    private ScheduledExecutorService emailSender;
+
+    @Override
+    public void afterPropertiesSet() {
+        emailSender = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("gio-email-sender-"));
+        emailSender.scheduleWithFixedDelay(() -> flush(false), window, window, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (emailSender != null) {
+            emailSender.shutdown();
+        }
+        // Last delivery attempt for the emails still in the queue
+        flush(true);
+    }
+
+    /**
+     * Add an email to the queue.
+     *
+     * @return <code>false</code> if the queue is full and the email has not been queued.
+     */
+    public boolean enqueue(JavaMailSender mailSender, MimeMessage message) {
+        synchronized (pendingEmails) {
+            if (size >= capacity) {
+                LOGGER.warn("Email delivery queue is full ({} emails), sending the email directly", size);
+                return false;
+            }
+            pendingEmails.computeIfAbsent(mailSender, sender -> new ArrayDeque<>()).addLast(new PendingEmail(message));
+            size++;
+            return true;
+        }
+    }
+
+    public int size() {
+        synchronized (pendingEmails) {
+            return size;
+        }
+    }
+
+    void flush(boolean force) {
+        final long now = System.currentTimeMillis();
+        final Map<JavaMailSender, List<PendingEmail>> emailsToSend = new IdentityHashMap<>();
+
+        synchronized (pendingEmails) {
+            final Iterator<Map.Entry<JavaMailSender, Deque<PendingEmail>>> senders = pendingEmails.entrySet().iterator();
+            while (senders.hasNext()) {
+                final Map.Entry<JavaMailSender, Deque<PendingEmail>> sender = senders.next();
+                final Iterator<PendingEmail> emails = sender.getValue().iterator();
+                while (emails.hasNext()) {
+                    final PendingEmail email = emails.next();
+                    if (force || email.notBefore <= now) {
+                        emailsToSend.computeIfAbsent(sender.getKey(), key -> new ArrayList<>()).add(email);
+                        emails.remove();
+                        size--;
+                    }
+                }
+                if (sender.getValue().isEmpty()) {
+                    senders.remove();
+                }
+            }
+        }
+
+        emailsToSend.forEach(
+            (mailSender, emails) -> {
+                for (int i = 0; i < emails.size(); i += batchSize) {
+                    send(mailSender, emails.subList(i, Math.min(i + batchSize, emails.size())), !force);
+                }
+            }
+        );
+    }
+
+    private void send(JavaMailSender mailSender, List<PendingEmail> emails, boolean retry) {
+        try {
+            LOGGER.debug("Sending {} emails", emails.size());
+            mailSender.send(emails.stream().map(email -> email.message).toArray(MimeMessage[]::new));
+        } catch (MailSendException ex) {
+            // Only the failed emails have to be sent again, the other ones have been delivered
+            final Set<Object> failedMessages = ex.getFailedMessages().keySet();
+            final List<PendingEmail> failedEmails = new ArrayList<>();
+            for (PendingEmail email : emails) {
+                if (failedMessages.contains(email.message)) {
+                    failedEmails.add(email);
+                }
+            }
+            onFailure(mailSender, failedEmails, ex, retry);
+        } catch (MailException ex) {
+            onFailure(mailSender, emails, ex, retry);
+        }
+    }
+
+    private void onFailure(JavaMailSender mailSender, Collection<PendingEmail> emails, Exception cause, boolean retry) {
+        final long now = System.currentTimeMillis();
+        for (PendingEmail email : emails) {
+            email.attempts++;
+            if (!retry || email.attempts >= maxAttempts) {
+                LOGGER.error("Unable to send email after {} attempt(s)", email.attempts, cause);
+            } else {
+                LOGGER.warn(
+                    "Unable to send email (attempt {}/{}), it will be retried: {}",
+                    email.attempts,
+                    maxAttempts,
+                    cause.getMessage()
+                );
+                email.notBefore = now + (backoff << (email.attempts - 1));
+                synchronized (pendingEmails) {
+                    pendingEmails.computeIfAbsent(mailSender, sender -> new ArrayDeque<>()).addLast(email);
+                    size++;
+                }
+            }
+        }
+    }
+
+    private static class PendingEmail {
+
+        private final MimeMessage message;
+        private int attempts;
+        private long notBefore;
+
+        private PendingEmail(MimeMessage message) {
+            this.message = message;
+        }
+    }
+}
@@ -30,8 +30,12 @@ import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.notification.NotificationTemplateService;
 import io.gravitee.rest.api.service.spring.GraviteeJavaMailManager;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -45,7 +49,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -70,23 +73,33 @@ public class EmailServiceImpl extends TransactionalService implements EmailServi
     @Autowired
     private ParameterService parameterService;
 
+    @Autowired
+    private EmailDeliveryQueue emailDeliveryQueue;
+
     @Value("${templates.path:${gravitee.home}/templates}")
     private String templatesPath;
 
+    /**
+     * Content of the images of the templates folder embedded in the emails.
+     */
+    private final Map<String, byte[]> inlineResources = new ConcurrentHashMap<>();
+
     @Override
     public void sendEmailNotification(final EmailNotification emailNotification) {
         final GraviteeContext.ReferenceContext context = GraviteeContext.getCurrentContext();
         this.sendEmailNotification(
                 emailNotification,
                 context.getReferenceId(),
-                ParameterReferenceType.valueOf(context.getReferenceType().name())
+                ParameterReferenceType.valueOf(context.getReferenceType().name()),
+                false
             );
     }
 
     private void sendEmailNotification(
         final EmailNotification emailNotification,
         String referenceId,
-        ParameterReferenceType referenceType
+        ParameterReferenceType referenceType,
+        boolean queued
     ) {
         Map<Key, String> mailParameters = getMailSenderConfiguration(referenceId, referenceType);
 
@@ -154,7 +167,9 @@ public class EmailServiceImpl extends TransactionalService implements EmailServi
 
                 LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}", emailNotification.getTo(), emailSubject, html);
 
-                mailSender.send(mailMessage.getMimeMessage());
+                if (!queued || !emailDeliveryQueue.enqueue(mailSender, mailMessage.getMimeMessage())) {
+                    mailSender.send(mailMessage.getMimeMessage());
+                }
             } catch (final Exception ex) {
                 LOGGER.error("Error while sending email notification", ex);
                 throw new TechnicalManagementException("Error while sending email notification", ex);
@@ -168,7 +183,8 @@ public class EmailServiceImpl extends TransactionalService implements EmailServi
         sendEmailNotification(
             emailNotification,
             context.getReferenceId(),
-            ParameterReferenceType.valueOf(context.getReferenceType().name())
+            ParameterReferenceType.valueOf(context.getReferenceType().name()),
+            true
         );
     }
 
@@ -202,14 +218,30 @@ public class EmailServiceImpl extends TransactionalService implements EmailServi
                 byte[] bytes = Base64.getDecoder().decode(value.getBytes("UTF-8"));
                 mailMessage.addInline(res, new ByteArrayResource(bytes), extractMimeType(res));
             } else {
-                final FileSystemResource templateResource = new FileSystemResource(new File(templatesPath, res));
-                mailMessage.addInline(res, templateResource, getContentTypeByFileName(res));
+                mailMessage.addInline(res, new ByteArrayResource(getInlineResource(res)), getContentTypeByFileName(res));
             }
         }
 
         return html;
     }
 
+    private byte[] getInlineResource(final String fileName) throws IOException {
+        try {
+            return inlineResources.computeIfAbsent(
+                fileName,
+                name -> {
+                    try {
+                        return Files.readAllBytes(new File(templatesPath, name).toPath());
+                    } catch (IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                }
+            );
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
     private String getContentTypeByFileName(final String fileName) {
         if (fileName == null) {
             return "";
@@ -54,6 +54,9 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
     @Autowired
     private EntrypointRepository entrypointRepository;
 
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     @Override
     public EntrypointEntity findByIdAndReference(final String entrypointId, String referenceId, EntrypointReferenceType referenceType) {
         try {
@@ -100,6 +103,8 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
                 null,
                 entrypoint
             );
+            // Entrypoints are rendered in swagger documentation pages
+            renderedPageCache.evictAll();
             return savedEntryPoint;
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to create entrypoint {}", entrypointEntity.getValue(), ex);
@@ -132,6 +137,7 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
                     entrypointOptional.get(),
                     entrypoint
                 );
+                renderedPageCache.evictAll();
                 return savedEntryPoint;
             } else {
                 throw new EntrypointNotFoundException(entrypointEntity.getId());
@@ -159,6 +165,7 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
                     null,
                     entrypointOptional.get()
                 );
+                renderedPageCache.evictAll();
             } else {
                 throw new EntrypointNotFoundException(entrypointId);
             }
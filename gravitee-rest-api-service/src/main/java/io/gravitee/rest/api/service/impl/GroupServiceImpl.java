@@ -74,6 +74,9 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Autowired
     private UserService userService;
 
@@ -654,8 +657,10 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
             return true;
         }
 
+        final UserAccessSnapshotService.UserAccessSnapshot userAccess = userAccessSnapshotService.get(username);
+
         // if user is a direct member of the API
-        if (!membershipService.getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, username).isEmpty()) {
+        if (userAccess.getReferenceIds(MembershipReferenceType.API).contains(api.getId())) {
             return true;
         }
 
@@ -663,14 +668,8 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
         // user must not be a member of any exclusion group.
         // That is user must not have no API role on each of the exclusion groups
         if (Visibility.PUBLIC.equals(api.getVisibility())) {
-            return excludedGroups
-                .stream()
-                .allMatch(
-                    group ->
-                        this.membershipService.getRoles(MembershipReferenceType.GROUP, group, MembershipMemberType.USER, username)
-                            .stream()
-                            .noneMatch(role -> role.getScope() == RoleScope.API)
-                );
+            final Set<String> apiGroups = userAccess.getReferenceIds(MembershipReferenceType.GROUP, RoleScope.API);
+            return excludedGroups.stream().noneMatch(apiGroups::contains);
         }
 
         // for private apis
@@ -679,14 +678,8 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
             Set<String> authorizedGroups = new HashSet<>(api.getGroups());
             authorizedGroups.removeAll(excludedGroups);
 
-            return authorizedGroups
-                .stream()
-                .anyMatch(
-                    group ->
-                        this.membershipService.getRoles(MembershipReferenceType.GROUP, group, MembershipMemberType.USER, username)
-                            .stream()
-                            .anyMatch(role -> role.getScope() == RoleScope.API)
-                );
+            final Set<String> apiGroups = userAccess.getReferenceIds(MembershipReferenceType.GROUP, RoleScope.API);
+            return authorizedGroups.stream().anyMatch(apiGroups::contains);
         }
 
         return false;
@@ -694,11 +687,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
 
     @Override
     public Set<GroupEntity> findByUser(String user) {
-        Set<String> userGroups = membershipService
-            .getMembershipsByMemberAndReference(MembershipMemberType.USER, user, MembershipReferenceType.GROUP)
-            .stream()
-            .map(MembershipEntity::getReferenceId)
-            .collect(Collectors.toSet());
+        Set<String> userGroups = userAccessSnapshotService.get(user).getReferenceIds(MembershipReferenceType.GROUP);
         try {
             return groupRepository.findByIds(userGroups).stream().map(this::map).collect(Collectors.toSet());
         } catch (TechnicalException ex) {
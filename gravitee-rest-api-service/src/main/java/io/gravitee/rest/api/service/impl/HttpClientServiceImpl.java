@@ -21,11 +21,10 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.service.HttpClientService;
 import io.gravitee.rest.api.service.common.RandomString;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
 import io.gravitee.rest.api.service.vertx.VertxCompletableFuture;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
@@ -86,18 +85,10 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
     @Autowired
     private Vertx vertx;
 
-    private HttpClient getHttpClient(String uriScheme, Boolean useSystemProxy) {
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uriScheme);
-
-        final HttpClientOptions options = new HttpClientOptions()
-            .setSsl(ssl)
-            .setTrustAll(true)
-            .setVerifyHost(false)
-            .setMaxPoolSize(1)
-            .setKeepAlive(false)
-            .setTcpKeepAlive(false)
-            .setConnectTimeout(httpClientTimeout);
+    @Autowired
+    private HttpClientRegistry httpClientRegistry;
 
+    private ProxyOptions getProxyOptions(String uriScheme, Boolean useSystemProxy) {
         if ((useSystemProxy != null && useSystemProxy == Boolean.TRUE) || (useSystemProxy == null && this.isProxyConfigured)) {
             ProxyOptions proxyOptions = new ProxyOptions();
             proxyOptions.setType(ProxyType.valueOf(httpClientProxyType));
@@ -112,10 +103,10 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
                 proxyOptions.setUsername(httpClientProxyHttpUsername);
                 proxyOptions.setPassword(httpClientProxyHttpPassword);
             }
-            options.setProxyOptions(proxyOptions);
+            return proxyOptions;
         }
 
-        return vertx.createHttpClient(options);
+        return null;
     }
 
     @Override
@@ -125,83 +116,86 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
             return null;
         }
 
-        CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
         URI requestUri = URI.create(uri);
 
-        final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useSystemProxy);
-
         final int port = requestUri.getPort() != -1 ? requestUri.getPort() : (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+        final ProxyOptions proxyOptions = this.getProxyOptions(requestUri.getScheme(), useSystemProxy);
 
-        HttpClientRequest request = httpClient.request(
-            io.vertx.core.http.HttpMethod.valueOf(method.name()),
-            port,
+        // This client never verified the host names of its targets, unlike the providers sharing the registry
+        final CompletableFuture<Buffer> future = httpClientRegistry.execute(
+            requestUri.getScheme(),
             requestUri.getHost(),
-            requestUri.getPath(),
-            response -> LOGGER.debug("Web response status code : {}", response.statusCode())
-        );
-        request.setTimeout(httpClientTimeout);
-
-        //headers
-        if (headers != null) {
-            headers.forEach(request::putHeader);
-        }
-        if (body != null) {
-            if (!request.headers().contains(HttpHeaders.CONTENT_TYPE)) {
-                request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
-            }
-            request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
-            request.write(body);
-        }
-        request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
-
-        request.handler(
-            response -> {
-                if (response.statusCode() >= 200 && response.statusCode() <= 299) {
-                    response.bodyHandler(
-                        buffer -> {
-                            future.complete(buffer);
-
-                            // Close client
-                            httpClient.close();
-                        }
-                    );
-                } else {
-                    response.bodyHandler(
-                        buffer -> {
-                            future.completeExceptionally(
-                                new TechnicalManagementException(
-                                    " Error on url '" +
-                                    uri +
-                                    "'. Status code: " +
-                                    response.statusCode() +
-                                    ". Message: " +
-                                    buffer.toString(),
-                                    null
-                                )
-                            );
-
-                            // Close client
-                            httpClient.close();
-                        }
-                    );
+            port,
+            httpClientTimeout,
+            proxyOptions,
+            false,
+            (httpClient, metrics) -> {
+                final CompletableFuture<Buffer> result = new VertxCompletableFuture<>(vertx);
+                final long start = System.currentTimeMillis();
+
+                HttpClientRequest request = httpClient.request(
+                    io.vertx.core.http.HttpMethod.valueOf(method.name()),
+                    port,
+                    requestUri.getHost(),
+                    requestUri.getPath(),
+                    response -> LOGGER.debug("Web response status code : {}", response.statusCode())
+                );
+                request.setTimeout(httpClientTimeout);
+
+                //headers
+                if (headers != null) {
+                    headers.forEach(request::putHeader);
                 }
-            }
-        );
-        request.exceptionHandler(
-            event -> {
-                try {
-                    future.completeExceptionally(event);
-
-                    // Close client
-                    httpClient.close();
-                } catch (IllegalStateException ise) {
-                    // Do not take care about exception when closing client
+                if (body != null) {
+                    if (!request.headers().contains(HttpHeaders.CONTENT_TYPE)) {
+                        request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+                    }
+                    request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
+                    request.write(body);
                 }
+                request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
+
+                request.handler(
+                    response -> {
+                        if (response.statusCode() >= 200 && response.statusCode() <= 299) {
+                            response.bodyHandler(
+                                buffer -> {
+                                    metrics.recordSuccess(System.currentTimeMillis() - start);
+                                    result.complete(buffer);
+                                }
+                            );
+                        } else {
+                            response.bodyHandler(
+                                buffer -> {
+                                    metrics.recordError(System.currentTimeMillis() - start);
+                                    result.completeExceptionally(
+                                        new TechnicalManagementException(
+                                            " Error on url '" +
+                                            uri +
+                                            "'. Status code: " +
+                                            response.statusCode() +
+                                            ". Message: " +
+                                            buffer.toString(),
+                                            null
+                                        )
+                                    );
+                                }
+                            );
+                        }
+                    }
+                );
+                request.exceptionHandler(
+                    event -> {
+                        metrics.recordError(System.currentTimeMillis() - start);
+                        result.completeExceptionally(event);
+                    }
+                );
+
+                request.end();
+                return result;
             }
         );
 
-        request.end();
-
         try {
             return future.get();
         } catch (InterruptedException | ExecutionException e) {
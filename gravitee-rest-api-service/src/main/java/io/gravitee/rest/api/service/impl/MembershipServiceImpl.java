@@ -52,6 +52,7 @@ import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,6 +112,9 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     @Autowired
     private EventManager eventManager;
 
+    @Autowired
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     private final Cache<String, Set<RoleEntity>> roles = CacheBuilder.newBuilder().expireAfterWrite(10, TimeUnit.SECONDS).build();
 
     @Override
@@ -198,6 +202,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membership.setCreatedAt(updateDate);
                     membership.setUpdatedAt(updateDate);
                     membershipRepository.create(membership);
+                    evictUserAccess(membership);
                     createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
 
                     if (MembershipReferenceType.APPLICATION.equals(reference.getType())) {
@@ -268,6 +273,12 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    private void evictUserAccess(io.gravitee.repository.management.model.Membership membership) {
+        if (membership.getMemberType() == io.gravitee.repository.management.model.MembershipMemberType.USER) {
+            userAccessSnapshotService.evict(membership.getMemberId());
+        }
+    }
+
     private void createAuditLog(
         Audit.AuditEvent event,
         Date date,
@@ -335,6 +346,13 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     }
 
     private MemberEntity convertToMemberEntity(io.gravitee.repository.management.model.Membership membership) {
+        return convertToMemberEntity(membership, roleService::findById);
+    }
+
+    private MemberEntity convertToMemberEntity(
+        io.gravitee.repository.management.model.Membership membership,
+        Function<String, RoleEntity> roleResolver
+    ) {
         final MemberEntity member = new MemberEntity();
         member.setId(membership.getMemberId());
         member.setCreatedAt(membership.getCreatedAt());
@@ -342,7 +360,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         member.setReferenceId(membership.getReferenceId());
         member.setReferenceType(convert(membership.getReferenceType()));
         if (membership.getRoleId() != null) {
-            RoleEntity role = roleService.findById(membership.getRoleId());
+            RoleEntity role = roleResolver.apply(membership.getRoleId());
             member.setPermissions(role.getPermissions());
             List<RoleEntity> roles = new ArrayList<>();
             roles.add(role);
@@ -358,54 +376,44 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         List<MemberEntity> members
     ) {
         if (memberships != null && !memberships.isEmpty()) {
-            final Set<UserEntity> userEntities = new HashSet<>();
-            final List<String> userIds = members
+            final Map<String, UserEntity> userEntities = new HashMap<>();
+            final Set<String> userIds = members
                 .stream()
                 .filter(m -> m.getType() == MembershipMemberType.USER)
                 .map(MemberEntity::getId)
-                .collect(toList());
-            if (userIds != null && userIds.size() > 0) {
-                userEntities.addAll(userService.findByIds(userIds, false));
+                .collect(toSet());
+            if (!userIds.isEmpty()) {
+                userService.findByIds(new ArrayList<>(userIds), false).forEach(user -> userEntities.put(user.getId(), user));
             }
 
-            final Set<GroupEntity> groupEntities = new HashSet<>();
+            final Map<String, GroupEntity> groupEntities = new HashMap<>();
             final Set<String> groupsIds = members
                 .stream()
                 .filter(m -> m.getType() == MembershipMemberType.GROUP)
                 .map(MemberEntity::getId)
                 .collect(toSet());
-            if (groupsIds != null && groupsIds.size() > 0) {
-                groupEntities.addAll(groupService.findByIds(groupsIds));
+            if (!groupsIds.isEmpty()) {
+                groupService.findByIds(groupsIds).forEach(group -> groupEntities.put(group.getId(), group));
             }
 
+            final Map<String, io.gravitee.repository.management.model.MembershipMemberType> memberTypes = new HashMap<>();
+            memberships.forEach(ms -> memberTypes.putIfAbsent(ms.getMemberId(), ms.getMemberType()));
+
             members.forEach(
                 m -> {
-                    Optional<io.gravitee.repository.management.model.Membership> membership = memberships
-                        .stream()
-                        .filter(ms -> ms.getMemberId().equals(m.getId()))
-                        .findFirst();
-                    membership.ifPresent(
-                        ms -> {
-                            if (ms.getMemberType() == io.gravitee.repository.management.model.MembershipMemberType.USER) {
-                                Optional<UserEntity> user = userEntities
-                                    .stream()
-                                    .filter(u -> u.getId().equals(ms.getMemberId()))
-                                    .findFirst();
-                                user.ifPresent(
-                                    u -> {
-                                        m.setDisplayName(u.getDisplayName());
-                                        m.setEmail(u.getEmail());
-                                    }
-                                );
-                            } else {
-                                Optional<GroupEntity> group = groupEntities
-                                    .stream()
-                                    .filter(u -> u.getId().equals(ms.getMemberId()))
-                                    .findFirst();
-                                group.ifPresent(g -> m.setDisplayName(g.getName()));
-                            }
+                    final io.gravitee.repository.management.model.MembershipMemberType memberType = memberTypes.get(m.getId());
+                    if (memberType == io.gravitee.repository.management.model.MembershipMemberType.USER) {
+                        final UserEntity user = userEntities.get(m.getId());
+                        if (user != null) {
+                            m.setDisplayName(user.getDisplayName());
+                            m.setEmail(user.getEmail());
                         }
-                    );
+                    } else if (memberType != null) {
+                        final GroupEntity group = groupEntities.get(m.getId());
+                        if (group != null) {
+                            m.setDisplayName(group.getName());
+                        }
+                    }
                 }
             );
         }
@@ -518,6 +526,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             if (membership.isPresent()) {
                 LOGGER.debug("Delete membership {}", membership.get());
                 membershipRepository.delete(membershipId);
+                evictUserAccess(membership.get());
                 createAuditLog(MEMBERSHIP_DELETED, new Date(), membership.get(), null);
             }
         } catch (TechnicalException ex) {
@@ -538,6 +547,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 for (io.gravitee.repository.management.model.Membership membership : memberships) {
                     LOGGER.debug("Delete membership {}", membership.getId());
                     membershipRepository.delete(membership.getId());
+                    evictUserAccess(membership);
                     createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
                 }
             }
@@ -569,6 +579,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 for (io.gravitee.repository.management.model.Membership membership : memberships) {
                     LOGGER.debug("Delete membership {}", membership.getId());
                     membershipRepository.delete(membership.getId());
+                    evictUserAccess(membership);
                     createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
 
                     if (MembershipReferenceType.APPLICATION.equals(referenceType) && MembershipMemberType.USER.equals(memberType)) {
@@ -834,10 +845,14 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 referenceIds,
                 role
             );
+            // Memberships of a reference usually share a handful of roles
+            final Map<String, RoleEntity> rolesById = new HashMap<>();
+            final Function<String, RoleEntity> roleResolver = roleId -> rolesById.computeIfAbsent(roleId, roleService::findById);
+
             Map<String, MemberEntity> results = new HashMap<>();
             memberships
                 .stream()
-                .map(this::convertToMemberEntity)
+                .map(membership -> convertToMemberEntity(membership, roleResolver))
                 .forEach(
                     member -> {
                         String key = member.getId() + member.getReferenceId();
@@ -853,9 +868,10 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     }
                 );
 
+            // Display names are needed to sort the members across the pages
             List<MemberEntity> members = new ArrayList<>(results.values());
             fillMemberUserInformation(memberships, members);
-            return paginate(results.values(), pageable);
+            return paginate(members, pageable);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to get members for {} {}", referenceType, referenceIds, ex);
             throw new TechnicalManagementException(
@@ -866,11 +882,14 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     }
 
     private Page<MemberEntity> paginate(Collection<MemberEntity> members, Pageable pageable) {
-        // Pagination requires sorting members to be able to navigate through pages.
-        Comparator<MemberEntity> comparator = Comparator.comparing(memberEntity -> memberEntity.getDisplayName().toLowerCase(Locale.ROOT));
+        // Pagination requires sorting members to be able to navigate through pages. Ids break the ties between display names.
+        Comparator<MemberEntity> comparator = Comparator
+            .comparing((MemberEntity memberEntity) -> String.valueOf(memberEntity.getDisplayName()).toLowerCase(Locale.ROOT))
+            .thenComparing(MemberEntity::getId);
 
         if (pageable == null) {
-            pageable = new PageableImpl(1, Integer.MAX_VALUE);
+            // Not paginated, no need to sort
+            return new Page<>(new ArrayList<>(members), 1, Integer.MAX_VALUE, members.size());
         }
 
         int totalCount = members.size();
@@ -988,6 +1007,26 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    @Override
+    public Set<MembershipEntity> getMembershipsByMembersAndReferenceAndRole(
+        MembershipMemberType memberType,
+        List<String> memberIds,
+        MembershipReferenceType referenceType,
+        String role
+    ) {
+        try {
+            return membershipRepository
+                .findByMemberIdsAndMemberTypeAndReferenceType(memberIds, convert(memberType), convert(referenceType))
+                .stream()
+                .filter(membership -> role.equals(membership.getRoleId()))
+                .map(this::convert)
+                .collect(Collectors.toSet());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to get memberships for {} ", memberIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to get memberships for " + memberIds, ex);
+        }
+    }
+
     @Override
     public Set<MembershipEntity> getMembershipsByReference(MembershipReferenceType referenceType, String referenceId) {
         try {
@@ -1274,6 +1313,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             );
             for (io.gravitee.repository.management.model.Membership m : membershipsToDelete) {
                 membershipRepository.delete(m.getId());
+                evictUserAccess(m);
             }
         } catch (TechnicalException ex) {
             LOGGER.error(
@@ -1321,6 +1361,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membershipRepository.create(membership);
                 }
                 membershipRepository.delete(oldMembershipId);
+                evictUserAccess(membership);
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove role {} {}", oldRoleId, ex);
@@ -1344,6 +1385,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     groupIds.add(membership.getReferenceId());
                 }
                 membershipRepository.delete(membership.getId());
+                evictUserAccess(membership);
             }
 
             eventManager.publishEvent(
@@ -66,6 +66,9 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
     @Autowired
     private NotificationTemplateService notificationTemplateService;
 
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     public static String getDefaultReferenceId() {
         return DEFAULT_REFERENCE_ID;
     }
@@ -119,6 +122,8 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
                 null,
                 metadata
             );
+            // Default metadata are available to the templates of every page
+            renderedPageCache.evictAll();
             return convert(metadata);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurred while trying to create metadata {}", metadataEntity.getName(), ex);
@@ -158,6 +163,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
                 null,
                 metadata
             );
+            renderedPageCache.evictAll();
             return convert(metadata);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurred while trying to update metadata {}", metadataEntity.getName(), ex);
@@ -195,6 +201,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
                         null
                     );
                 }
+                renderedPageCache.evictAll();
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete metadata {}", key, ex);
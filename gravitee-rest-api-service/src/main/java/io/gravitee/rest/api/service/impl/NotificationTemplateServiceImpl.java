@@ -17,6 +17,9 @@ package io.gravitee.rest.api.service.impl;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.NOTIFICATION_TEMPLATE;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import freemarker.cache.MultiTemplateLoader;
 import freemarker.cache.StringTemplateLoader;
 import freemarker.cache.TemplateLoader;
@@ -37,6 +40,7 @@ import io.gravitee.rest.api.model.notification.NotificationTemplateEvent;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.builder.EmailNotificationBuilder.EmailTemplate;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.common.HashHelper;
 import io.gravitee.rest.api.service.common.RandomString;
 import io.gravitee.rest.api.service.exceptions.NotificationTemplateNotFoundException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
@@ -46,6 +50,9 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
@@ -56,6 +63,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
+import org.springframework.util.FileCopyUtils;
 import org.yaml.snakeyaml.Yaml;
 
 /**
@@ -73,6 +81,9 @@ public class NotificationTemplateServiceImpl extends AbstractService implements
     @Value("${templates.path:${gravitee.home}/templates}")
     private String templatesPath;
 
+    @Value("${templates.cache.maxSize:1000}")
+    private long templatesCacheMaxSize;
+
     @Autowired
     private NotificationTemplateRepository notificationTemplateRepository;
 
@@ -82,12 +93,24 @@ public class NotificationTemplateServiceImpl extends AbstractService implements
     @Autowired
     private EventManager eventManager;
 
-    private Map<String, Configuration> freemarkerConfigurationByOrg = new HashMap<>();
-    private Map<String, StringTemplateLoader> stringTemplateLoaderMapByOrg = new HashMap<>();
+    private Map<String, Configuration> freemarkerConfigurationByOrg = new ConcurrentHashMap<>();
+    private Map<String, StringTemplateLoader> stringTemplateLoaderMapByOrg = new ConcurrentHashMap<>();
     private Map<String, NotificationTemplateEntity> fromFilesNotificationTemplateEntities = new HashMap<>();
 
+    /**
+     * Compiled inline templates, by organization, name and content hash.
+     */
+    private Cache<String, Template> inlineTemplates;
+
+    private final LongAdder compileCount = new LongAdder();
+    private final LongAdder compileTime = new LongAdder();
+    private final LongAdder renderCount = new LongAdder();
+    private final LongAdder renderTime = new LongAdder();
+
     @Override
     public void afterPropertiesSet() throws Exception {
+        this.inlineTemplates = CacheBuilder.newBuilder().maximumSize(templatesCacheMaxSize).recordStats().build();
+
         List<Hook> allHooks = new ArrayList<>();
         Collections.addAll(allHooks, PortalHook.values());
         Collections.addAll(allHooks, ApiHook.values());
@@ -129,10 +152,9 @@ public class NotificationTemplateServiceImpl extends AbstractService implements
 
     @Override
     public String resolveInlineTemplateWithParam(String name, Reader inlineTemplateReader, Object params, boolean ignoreTplException) {
-        Configuration orgFreemarkerConfiguration = getCurrentOrgConfiguration();
         try {
-            Template template = new Template(name, inlineTemplateReader, orgFreemarkerConfiguration);
-            return FreeMarkerTemplateUtils.processTemplateIntoString(template, params);
+            Template template = getInlineTemplate(name, FileCopyUtils.copyToString(inlineTemplateReader));
+            return render(template, params);
         } catch (IOException e) {
             LOGGER.warn("Error while creating template from reader:\n{}", e.getMessage());
             return "";
@@ -151,7 +173,7 @@ public class NotificationTemplateServiceImpl extends AbstractService implements
         Configuration orgFreemarkerConfiguration = getCurrentOrgConfiguration();
         try {
             Template template = orgFreemarkerConfiguration.getTemplate(templateName);
-            return FreeMarkerTemplateUtils.processTemplateIntoString(template, params);
+            return render(template, params);
         } catch (IOException e) {
             LOGGER.warn("Error while getting template {}:\n{}", templateName, e.getMessage());
             return "";
@@ -161,15 +183,70 @@ public class NotificationTemplateServiceImpl extends AbstractService implements
         }
     }
 
+    private Template getInlineTemplate(String name, String inlineTemplate) throws IOException {
+        final String currentOrganization = GraviteeContext.getCurrentOrganization();
+        final String key = currentOrganization + ':' + name + ':' + HashHelper.sha256(inlineTemplate);
+        try {
+            return inlineTemplates.get(
+                key,
+                () -> {
+                    long start = System.nanoTime();
+                    Template template = new Template(name, inlineTemplate, getCurrentOrgConfiguration());
+                    compileTime.add(System.nanoTime() - start);
+                    compileCount.increment();
+                    return template;
+                }
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new TechnicalManagementException("An error occurs while trying to compile template " + name, e.getCause());
+        }
+    }
+
+    private String render(Template template, Object params) throws IOException, TemplateException {
+        long start = System.nanoTime();
+        try {
+            return FreeMarkerTemplateUtils.processTemplateIntoString(template, params);
+        } finally {
+            renderTime.add(System.nanoTime() - start);
+            renderCount.increment();
+        }
+    }
+
+    public long getCompileCount() {
+        return compileCount.sum();
+    }
+
+    /**
+     * @return the cumulated time spent to compile inline templates, in nanoseconds.
+     */
+    public long getCompileTime() {
+        return compileTime.sum();
+    }
+
+    public long getRenderCount() {
+        return renderCount.sum();
+    }
+
+    /**
+     * @return the cumulated time spent to render templates, in nanoseconds.
+     */
+    public long getRenderTime() {
+        return renderTime.sum();
+    }
+
+    public CacheStats getInlineTemplatesCacheStats() {
+        return inlineTemplates.stats();
+    }
+
     @NotNull
     private Configuration getCurrentOrgConfiguration() {
-        String currentOrganization = GraviteeContext.getCurrentOrganization();
-        Configuration orgFreemarkerConfiguration = freemarkerConfigurationByOrg.get(currentOrganization);
-        if (orgFreemarkerConfiguration == null) {
-            orgFreemarkerConfiguration = this.initCurrentOrgFreemarkerConfiguration(currentOrganization);
-            freemarkerConfigurationByOrg.put(currentOrganization, orgFreemarkerConfiguration);
-        }
-        return orgFreemarkerConfiguration;
+        return freemarkerConfigurationByOrg.computeIfAbsent(
+            GraviteeContext.getCurrentOrganization(),
+            this::initCurrentOrgFreemarkerConfiguration
+        );
     }
 
     private Configuration initCurrentOrgFreemarkerConfiguration(String currentOrganization) {
@@ -481,6 +558,10 @@ public class NotificationTemplateServiceImpl extends AbstractService implements
             LOGGER.error("An error occurs while trying to update freemarker cache with this template {}", notificationTemplate, ex);
         }
 
+        // Compiled inline templates may include the updated template or be bound to a replaced configuration
+        final String orgPrefix = GraviteeContext.getCurrentOrganization() + ':';
+        inlineTemplates.asMap().keySet().removeIf(key -> key.startsWith(orgPrefix));
+
         // Send an event to notify listener to reload template
         if (HookScope.TEMPLATES_FOR_ALERT.name().equals(notificationTemplate.getScope())) {
             eventManager.publishEvent(
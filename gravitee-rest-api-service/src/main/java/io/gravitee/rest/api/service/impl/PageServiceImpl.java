@@ -19,6 +19,8 @@ import static io.gravitee.repository.management.model.Audit.AuditProperties.PAGE
 import static io.gravitee.repository.management.model.Page.AuditEvent.*;
 import static java.util.Arrays.asList;
 import static java.util.Collections.*;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
 import static java.util.stream.Collectors.toList;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -48,7 +50,6 @@ import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.common.RandomString;
 import io.gravitee.rest.api.service.exceptions.*;
-import io.gravitee.rest.api.service.impl.swagger.parser.OAIParser;
 import io.gravitee.rest.api.service.impl.swagger.transformer.SwaggerTransformer;
 import io.gravitee.rest.api.service.impl.swagger.transformer.entrypoints.EntrypointsOAITransformer;
 import io.gravitee.rest.api.service.impl.swagger.transformer.page.PageConfigurationOAITransformer;
@@ -155,6 +156,12 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     @Autowired
     private AccessControlService accessControlService;
 
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
+    @Autowired
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     private static Page convert(NewPageEntity newPageEntity) {
         Page page = new Page();
 
@@ -493,6 +500,23 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     @Override
     public void transformSwagger(PageEntity pageEntity, String apiId) {
+        final ApiEntity api = apiId == null ? null : apiService.findById(apiId);
+
+        final String cacheKey = renderedPageCache.key(apiId, api == null ? null : api.getUpdatedAt(), pageEntity);
+        final RenderedPageCache.RenderedPage renderedPage = renderedPageCache.get(cacheKey);
+        if (renderedPage != null) {
+            pageEntity.setContent(renderedPage.getContent());
+            pageEntity.setMessages(renderedPage.getMessages());
+            return;
+        }
+
+        renderPage(pageEntity, api);
+        renderedPageCache.put(cacheKey, pageEntity);
+    }
+
+    private void renderPage(PageEntity pageEntity, ApiEntity api) {
+        final String apiId = api == null ? null : api.getId();
+
         // First apply templating if required
         if (apiId != null) {
             transformWithTemplate(pageEntity, apiId);
@@ -518,8 +542,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
             Collection<SwaggerTransformer<OAIDescriptor>> transformers = new ArrayList<>();
             transformers.add(new PageConfigurationOAITransformer(pageEntity));
 
-            if (apiId != null) {
-                ApiEntity api = apiService.findById(apiId);
+            if (api != null) {
                 transformers.add(new EntrypointsOAITransformer(pageEntity, api));
             }
 
@@ -558,7 +581,13 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     private List<PageEntity> search(final PageQuery query, String acceptedLocale, boolean withTranslations, boolean withLinks) {
         try {
-            Stream<Page> pagesStream = pageRepository.search(queryToCriteria(query)).stream();
+            final List<Page> searchResult = pageRepository.search(queryToCriteria(query));
+            // Load all the pages of the reference at once to resolve translations and parents in memory
+            final ReferencePages referencePages = new ReferencePages(
+                query == null ? searchResult : pageRepository.search(referenceCriteria(query))
+            );
+
+            Stream<Page> pagesStream = searchResult.stream();
             if (!withTranslations) {
                 pagesStream = pagesStream.filter(page -> !PageType.TRANSLATION.name().equals(page.getType()));
             }
@@ -566,13 +595,17 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pagesStream = pagesStream.filter(page -> !PageType.LINK.name().equals(page.getType()));
             }
 
-            List<PageEntity> pages = pagesStream.map(this::convert).collect(Collectors.toList());
+            List<PageEntity> pages = pagesStream.map(page -> convert(page, referencePages)).collect(Collectors.toList());
 
             if (acceptedLocale == null || acceptedLocale.isEmpty()) {
                 pages.forEach(
                     p -> {
                         if (!PageType.TRANSLATION.name().equals(p.getType())) {
-                            List<PageEntity> translations = convert(getTranslations(p.getId()));
+                            List<PageEntity> translations = referencePages
+                                .getTranslations(p.getId())
+                                .stream()
+                                .map(translation -> convert(translation, referencePages))
+                                .collect(toList());
                             if (translations != null && !translations.isEmpty()) {
                                 p.setTranslations(translations);
                             }
@@ -583,7 +616,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pages.forEach(
                     p -> {
                         if (!PageType.TRANSLATION.name().equals(p.getType())) {
-                            Page translation = getTranslation(p, acceptedLocale);
+                            Page translation = getTranslation(p, acceptedLocale, referencePages);
                             if (translation != null) {
                                 String translationName = translation.getName();
                                 if (translationName != null && !translationName.isEmpty()) {
@@ -608,9 +641,9 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                     .filter(
                         page -> {
                             if (page.getParentId() != null) {
-                                PageEntity parent = this.findById(page.getParentId());
+                                Page parent = findParent(referencePages, page.getParentId());
                                 if (!isAuthenticated()) {
-                                    return parent.isPublished() && Visibility.PUBLIC.equals(parent.getVisibility());
+                                    return parent.isPublished() && Visibility.PUBLIC.name().equals(parent.getVisibility());
                                 } else {
                                     return parent.isPublished();
                                 }
@@ -628,21 +661,58 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         }
     }
 
+    private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale, ReferencePages referencePages) {
+        final String translatedPageId = isInheritedLink(pageToTranslate) ? pageToTranslate.getContent() : pageToTranslate.getId();
+        if (referencePages.getPage(translatedPageId) == null) {
+            // Linked page belongs to another reference
+            return getTranslation(pageToTranslate, acceptedLocale);
+        }
+
+        final Page translation = referencePages
+            .getTranslations(translatedPageId)
+            .stream()
+            .filter(t -> acceptedLocale.equalsIgnoreCase(t.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG)))
+            .findFirst()
+            .orElse(null);
+        if (translation != null && isInheritedLink(pageToTranslate)) {
+            return linkTranslation(translation);
+        }
+        return translation;
+    }
+
+    private Page findParent(ReferencePages referencePages, String parentId) {
+        Page parent = referencePages.getPage(parentId);
+        if (parent != null) {
+            return parent;
+        }
+        try {
+            return pageRepository.findById(parentId).orElseThrow(() -> new PageNotFoundException(parentId));
+        } catch (TechnicalException ex) {
+            logger.error("An error occurs while trying to find a page using its ID {}", parentId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find a page using its ID " + parentId, ex);
+        }
+    }
+
+    private boolean isInheritedLink(PageEntity page) {
+        return (
+            PageType.LINK.name().equals(page.getType()) &&
+            page.getConfiguration() != null &&
+            "true".equals(page.getConfiguration().get(PageConfigurationKeys.LINK_INHERIT))
+        );
+    }
+
+    private Page linkTranslation(Page relatedTranslation) {
+        Page linkTranslation = new Page();
+        linkTranslation.setName(relatedTranslation.getName());
+        linkTranslation.setContent(relatedTranslation.getContent());
+        linkTranslation.setConfiguration(Collections.emptyMap());
+        return linkTranslation;
+    }
+
     private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale) {
-        if (
-            PageType.LINK.name().equals(pageToTranslate.getType()) &&
-            pageToTranslate.getConfiguration() != null &&
-            "true".equals(pageToTranslate.getConfiguration().get(PageConfigurationKeys.LINK_INHERIT))
-        ) {
+        if (isInheritedLink(pageToTranslate)) {
             Page relatedTranslation = getTranslation(pageToTranslate.getContent(), acceptedLocale);
-            Page linkTranslation = null;
-            if (relatedTranslation != null) {
-                linkTranslation = new Page();
-                linkTranslation.setName(relatedTranslation.getName());
-                linkTranslation.setContent(relatedTranslation.getContent());
-                linkTranslation.setConfiguration(Collections.emptyMap());
-            }
-            return linkTranslation;
+            return relatedTranslation == null ? null : linkTranslation(relatedTranslation);
         }
         return getTranslation(pageToTranslate.getId(), acceptedLocale);
     }
@@ -2164,6 +2234,10 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     }
 
     private PageEntity convert(Page page) {
+        return convert(page, null);
+    }
+
+    private PageEntity convert(Page page, ReferencePages referencePages) {
         PageEntity pageEntity;
 
         if (page.getReferenceId() != null && PageReferenceType.API.equals(page.getReferenceType())) {
@@ -2219,19 +2293,23 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         pageEntity.setParentId("".equals(page.getParentId()) ? null : page.getParentId());
         pageEntity.setMetadata(page.getMetadata());
 
-        pageEntity.setParentPath(this.computeParentPath(page, ""));
+        pageEntity.setParentPath(this.computeParentPath(page, "", referencePages));
 
         return pageEntity;
     }
 
-    private String computeParentPath(Page page, String suffix) {
+    private String computeParentPath(Page page, String suffix, ReferencePages referencePages) {
         final String path = suffix;
         final String parentId = page.getParentId();
         if (!StringUtils.isEmpty(parentId)) {
+            final Page parent = referencePages == null ? null : referencePages.getPage(parentId);
+            if (parent != null) {
+                return this.computeParentPath(parent, "/" + parent.getName() + path, referencePages);
+            }
             try {
                 final Optional<Page> optParent = pageRepository.findById(parentId);
                 if (optParent.isPresent()) {
-                    return this.computeParentPath(optParent.get(), "/" + optParent.get().getName() + path);
+                    return this.computeParentPath(optParent.get(), "/" + optParent.get().getName() + path, referencePages);
                 }
             } catch (TechnicalException ex) {
                 logger.error("An error occurs while trying to find a page using its ID {}", parentId, ex);
@@ -2396,7 +2474,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                     throw new PageContentUnsafeException(sanitizeInfos.getRejectedMessage());
                 }
             } else if (PageType.SWAGGER.name().equals(pageEntity.getType()) && pageEntity.getContent() != null) {
-                OAIDescriptor openApiDescriptor = new OAIParser().parse(pageEntity.getContent());
+                OAIDescriptor openApiDescriptor = (OAIDescriptor) swaggerService.parse(pageEntity.getContent());
                 if (openApiDescriptor != null && openApiDescriptor.getMessages() != null) {
                     return openApiDescriptor.getMessages();
                 }
@@ -2441,6 +2519,8 @@ public class PageServiceImpl extends AbstractService implements PageService, App
             auditService.createEnvironmentAuditLog(Collections.singletonMap(PAGE, pageId), event, createdAt, oldValue, newValue);
         } else {
             auditService.createApiAuditLog(apiId, Collections.singletonMap(PAGE, pageId), event, createdAt, oldValue, newValue);
+            // the documentation of the API is part of its quality metrics
+            apiQualityMetricsCache.evict(apiId);
         }
     }
 
@@ -2470,6 +2550,52 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         return builder.build();
     }
 
+    private PageCriteria referenceCriteria(PageQuery query) {
+        final PageCriteria.Builder builder = new PageCriteria.Builder();
+        if (query.getApi() != null) {
+            builder.referenceId(query.getApi());
+            builder.referenceType(PageReferenceType.API.name());
+        } else {
+            builder.referenceId(GraviteeContext.getCurrentEnvironment());
+            builder.referenceType(PageReferenceType.ENVIRONMENT.name());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Pages of a documentation reference (an API or an environment), indexed by id and by translated page.
+     */
+    private static class ReferencePages {
+
+        private final Map<String, Page> pagesById = new HashMap<>();
+        private final Map<String, List<Page>> translationsByPageId = new HashMap<>();
+
+        private ReferencePages(List<Page> pages) {
+            for (Page page : pages) {
+                pagesById.put(page.getId(), page);
+                if (PageType.TRANSLATION.name().equals(page.getType()) && page.getParentId() != null) {
+                    translationsByPageId.computeIfAbsent(page.getParentId(), parentId -> new ArrayList<>()).add(page);
+                }
+            }
+            translationsByPageId
+                .values()
+                .forEach(translations -> translations.sort(Comparator.comparing(ReferencePages::lang, nullsLast(naturalOrder()))));
+        }
+
+        private static String lang(Page translation) {
+            final Map<String, String> configuration = translation.getConfiguration();
+            return configuration == null ? null : configuration.get(PageConfigurationKeys.TRANSLATION_LANG);
+        }
+
+        private Page getPage(String pageId) {
+            return pagesById.get(pageId);
+        }
+
+        private List<Page> getTranslations(String pageId) {
+            return new ArrayList<>(translationsByPageId.getOrDefault(pageId, emptyList()));
+        }
+    }
+
     @Override
     public Map<SystemFolderType, String> initialize(String environmentId) {
         Map<SystemFolderType, String> result = new HashMap<>();
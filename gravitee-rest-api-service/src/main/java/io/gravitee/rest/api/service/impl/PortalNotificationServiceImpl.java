@@ -15,9 +15,13 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PortalNotificationRepository;
 import io.gravitee.repository.management.model.PortalNotification;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.notification.NewPortalNotificationEntity;
 import io.gravitee.rest.api.model.notification.PortalNotificationEntity;
 import io.gravitee.rest.api.service.PortalNotificationService;
@@ -27,13 +31,17 @@ import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.notification.Hook;
 import io.gravitee.rest.api.service.notification.NotificationTemplateService;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -41,16 +49,35 @@ import org.springframework.stereotype.Component;
  * @author GraviteeSource Team
  */
 @Component
-public class PortalNotificationServiceImpl extends AbstractService implements PortalNotificationService {
+public class PortalNotificationServiceImpl extends AbstractService implements PortalNotificationService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(PortalNotificationServiceImpl.class);
 
+    private static final Comparator<PortalNotification> MOST_RECENT_FIRST = Comparator.comparing(
+        PortalNotification::getCreatedAt,
+        Comparator.nullsLast(Comparator.reverseOrder())
+    );
+
     @Autowired
     private PortalNotificationRepository portalNotificationRepository;
 
     @Autowired
     private NotificationTemplateService notificationTemplateService;
 
+    @Value("${notifications.portal.count.cache.maxSize:10000}")
+    private long countCacheMaxSize;
+
+    @Value("${notifications.portal.count.cache.ttl:30}")
+    private long countCacheTtl;
+
+    // Number of notifications by user, polled by the UIs to display the notification badge
+    private Cache<String, Long> counts;
+
+    @Override
+    public void afterPropertiesSet() {
+        counts = CacheBuilder.newBuilder().maximumSize(countCacheMaxSize).expireAfterWrite(countCacheTtl, TimeUnit.SECONDS).build();
+    }
+
     @Override
     public List<PortalNotificationEntity> findByUser(String user) {
         try {
@@ -61,6 +88,45 @@ public class PortalNotificationServiceImpl extends AbstractService implements Po
         }
     }
 
+    @Override
+    public Page<PortalNotificationEntity> findByUser(String user, Pageable pageable) {
+        try {
+            final List<PortalNotification> notifications = new ArrayList<>(portalNotificationRepository.findByUser(user));
+            counts.put(user, (long) notifications.size());
+            notifications.sort(MOST_RECENT_FIRST);
+
+            // Only convert the requested page
+            final long offset = (long) Math.max(pageable.getPageNumber() - 1, 0) * Math.max(pageable.getPageSize(), 0);
+            final int from = (int) Math.min(offset, notifications.size());
+            final int to = (int) Math.min((long) from + Math.max(pageable.getPageSize(), 0), notifications.size());
+            final List<PortalNotificationEntity> content = notifications
+                .subList(from, to)
+                .stream()
+                .map(this::convert)
+                .collect(Collectors.toList());
+
+            return new Page<>(content, pageable.getPageNumber(), content.size(), notifications.size());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find notifications by user {}", user, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find notifications by username " + user, ex);
+        }
+    }
+
+    @Override
+    public long countByUser(String user) {
+        Long count = counts.getIfPresent(user);
+        if (count == null) {
+            try {
+                count = (long) portalNotificationRepository.findByUser(user).size();
+                counts.put(user, count);
+            } catch (TechnicalException ex) {
+                LOGGER.error("An error occurs while trying to count notifications of user {}", user, ex);
+                throw new TechnicalManagementException("An error occurs while trying to count notifications of user " + user, ex);
+            }
+        }
+        return count;
+    }
+
     @Override
     public PortalNotificationEntity findById(String notificationId) {
         try {
@@ -103,6 +169,7 @@ public class PortalNotificationServiceImpl extends AbstractService implements Po
     public void deleteAll(String user) {
         try {
             portalNotificationRepository.deleteAll(user);
+            counts.invalidate(user);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete all notifications for user  {}", user, ex);
             throw new TechnicalManagementException("An error occurs while trying delete all notifications for user " + user, ex);
@@ -112,13 +179,42 @@ public class PortalNotificationServiceImpl extends AbstractService implements Po
     @Override
     public void delete(String notificationId) {
         try {
+            final Optional<PortalNotification> notification = portalNotificationRepository.findById(notificationId);
             portalNotificationRepository.delete(notificationId);
+            notification.ifPresent(n -> counts.invalidate(n.getUser()));
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete {}", notificationId, ex);
             throw new TechnicalManagementException("An error occurs while trying delete " + notificationId, ex);
         }
     }
 
+    @Override
+    public int purge(String user, Date olderThan, int maxPerUser) {
+        try {
+            final List<PortalNotification> notifications = new ArrayList<>(portalNotificationRepository.findByUser(user));
+            notifications.sort(MOST_RECENT_FIRST);
+
+            int deleted = 0;
+            for (int i = 0; i < notifications.size(); i++) {
+                final PortalNotification notification = notifications.get(i);
+                final Date createdAt = notification.getCreatedAt();
+                if ((maxPerUser > 0 && i >= maxPerUser) || (olderThan != null && (createdAt == null || createdAt.before(olderThan)))) {
+                    portalNotificationRepository.delete(notification.getId());
+                    deleted++;
+                }
+            }
+
+            if (deleted > 0) {
+                counts.invalidate(user);
+                LOGGER.debug("{} notifications of user {} have been purged", deleted, user);
+            }
+            return deleted;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to purge notifications of user {}", user, ex);
+            throw new TechnicalManagementException("An error occurs while trying to purge notifications of user " + user, ex);
+        }
+    }
+
     private void create(List<NewPortalNotificationEntity> notificationEntities) {
         final Date now = new Date();
         List<PortalNotification> notifications = notificationEntities.stream().map(this::convert).collect(Collectors.toList());
@@ -130,6 +226,7 @@ public class PortalNotificationServiceImpl extends AbstractService implements Po
         );
         try {
             portalNotificationRepository.create(notifications);
+            notifications.forEach(n -> counts.invalidate(n.getUser()));
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to create {}", notifications, ex);
             throw new TechnicalManagementException("An error occurs while trying create " + notifications, ex);
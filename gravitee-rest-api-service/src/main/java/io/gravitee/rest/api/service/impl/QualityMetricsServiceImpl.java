@@ -15,6 +15,9 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
 import io.gravitee.rest.api.model.ApiQualityMetricsEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.parameters.Key;
@@ -25,13 +28,12 @@ import io.gravitee.rest.api.service.ApiQualityRuleService;
 import io.gravitee.rest.api.service.ParameterService;
 import io.gravitee.rest.api.service.QualityMetricsService;
 import io.gravitee.rest.api.service.QualityRuleService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.ApiQualityMetricsDisableException;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache.QualityConfiguration;
 import io.gravitee.rest.api.service.quality.ApiQualityMetric;
 import io.gravitee.rest.api.service.quality.ApiQualityMetricLoader;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -56,6 +58,9 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
     @Autowired
     private QualityRuleService qualityRuleService;
 
+    @Autowired
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     private Map<String, ApiQualityMetric> getApiMetricsMap() {
         HashMap<String, ApiQualityMetric> map = new HashMap<>();
         for (ApiQualityMetric apiQualityMetric : apiQualityMetricLoader.getApiQualityMetrics()) {
@@ -82,14 +87,46 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
 
     @Override
     public boolean isApiMetricsEnabled() {
-        return parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT);
+        return getConfiguration().isEnabled();
     }
 
     @Override
     public ApiQualityMetricsEntity getMetrics(ApiEntity apiEntity) {
-        if (!isApiMetricsEnabled()) {
+        return getMetrics(getEnabledConfiguration(), apiEntity);
+    }
+
+    @Override
+    public Map<String, ApiQualityMetricsEntity> getMetrics(Collection<ApiEntity> apis) {
+        final QualityConfiguration configuration = getEnabledConfiguration();
+        final Map<String, ApiQualityMetricsEntity> metrics = new LinkedHashMap<>(apis.size());
+        for (ApiEntity api : apis) {
+            metrics.put(api.getId(), getMetrics(configuration, api));
+        }
+        return metrics;
+    }
+
+    private QualityConfiguration getEnabledConfiguration() {
+        final QualityConfiguration configuration = getConfiguration();
+        if (!configuration.isEnabled()) {
             throw new ApiQualityMetricsDisableException();
         }
+        return configuration;
+    }
+
+    private QualityConfiguration getConfiguration() {
+        final String environment = GraviteeContext.getCurrentEnvironmentOrDefault();
+        QualityConfiguration configuration = apiQualityMetricsCache.getConfiguration(environment);
+        if (configuration == null) {
+            configuration = loadConfiguration();
+            apiQualityMetricsCache.putConfiguration(environment, configuration);
+        }
+        return configuration;
+    }
+
+    private QualityConfiguration loadConfiguration() {
+        if (!parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT)) {
+            return new QualityConfiguration(false, emptyMap(), emptyMap(), emptyList());
+        }
 
         Map<String, Integer> weights = getWeights()
             .entrySet()
@@ -97,6 +134,34 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
             .filter(e -> e.getValue() > 0)
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
+        final List<QualityRuleEntity> qualityRules = qualityRuleService.findAll();
+        return new QualityConfiguration(
+            true,
+            weights,
+            weights.isEmpty() ? emptyMap() : getApiMetricsMap(),
+            qualityRules == null ? emptyList() : qualityRules.stream().filter(qr -> qr.getWeight() > 0).collect(Collectors.toList())
+        );
+    }
+
+    private ApiQualityMetricsEntity getMetrics(QualityConfiguration configuration, ApiEntity apiEntity) {
+        final String key = apiQualityMetricsCache.key(apiEntity, configuration);
+        if (key != null) {
+            final ApiQualityMetricsEntity cachedMetrics = apiQualityMetricsCache.get(key);
+            if (cachedMetrics != null) {
+                return cachedMetrics;
+            }
+        }
+
+        final ApiQualityMetricsEntity metrics = computeMetrics(configuration, apiEntity);
+        if (key != null) {
+            apiQualityMetricsCache.put(key, metrics);
+        }
+        return metrics;
+    }
+
+    private ApiQualityMetricsEntity computeMetrics(QualityConfiguration configuration, ApiEntity apiEntity) {
+        final Map<String, Integer> weights = configuration.getWeights();
+
         ApiQualityMetricsEntity result = new ApiQualityMetricsEntity();
         result.setMetricsPassed(new HashMap<>(weights.size()));
 
@@ -105,7 +170,7 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
         if (weights.isEmpty()) {
             result.setScore(1);
         } else {
-            Map<String, ApiQualityMetric> apiMetrics = getApiMetricsMap();
+            Map<String, ApiQualityMetric> apiMetrics = configuration.getApiMetrics();
             for (Map.Entry<String, Integer> weight : weights.entrySet()) {
                 boolean passed = apiMetrics.get(weight.getKey()).isValid(apiEntity);
                 result.getMetricsPassed().put(weight.getKey(), passed);
@@ -116,22 +181,19 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
         }
 
         // manual quality rules
-        final List<QualityRuleEntity> qualityRules = qualityRuleService.findAll();
-        if (qualityRules != null && !qualityRules.isEmpty()) {
-            final List<ApiQualityRuleEntity> apiQualityRules = apiQualityRuleService.findByApi(apiEntity.getId());
+        final List<QualityRuleEntity> qualityRules = configuration.getQualityRules();
+        if (!qualityRules.isEmpty()) {
+            final Map<String, Boolean> apiQualityRules = apiQualityRuleService
+                .findByApi(apiEntity.getId())
+                .stream()
+                .filter(aqr -> apiEntity.getId().equals(aqr.getApi()))
+                .collect(Collectors.toMap(ApiQualityRuleEntity::getQualityRule, ApiQualityRuleEntity::isChecked, (a, b) -> a));
             for (final QualityRuleEntity qualityRule : qualityRules) {
-                if (qualityRule.getWeight() > 0) {
-                    final ApiQualityRuleEntity apiQualityRule = apiQualityRules
-                        .stream()
-                        .filter(aqr -> apiEntity.getId().equals(aqr.getApi()) && qualityRule.getId().equals(aqr.getQualityRule()))
-                        .findFirst()
-                        .orElse(null);
-                    final boolean checked = apiQualityRule != null && apiQualityRule.isChecked();
-                    result.getMetricsPassed().put(qualityRule.getId(), checked);
-                    score += qualityRule.getWeight() * (checked ? 1 : 0);
-                    maxScore += qualityRule.getWeight();
-                    result.setScore((int) ((score / maxScore) * 100) / 100d);
-                }
+                final boolean checked = apiQualityRules.getOrDefault(qualityRule.getId(), false);
+                result.getMetricsPassed().put(qualityRule.getId(), checked);
+                score += qualityRule.getWeight() * (checked ? 1 : 0);
+                maxScore += qualityRule.getWeight();
+                result.setScore((int) ((score / maxScore) * 100) / 100d);
             }
         }
 
@@ -59,6 +59,9 @@ public class QualityRuleServiceImpl extends AbstractService implements QualityRu
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Override
     public QualityRuleEntity findById(String id) {
         try {
@@ -98,6 +101,7 @@ public class QualityRuleServiceImpl extends AbstractService implements QualityRu
                 null,
                 qualityRule
             );
+            apiQualityMetricsCache.evictAll();
             return convert(createdQualityRule);
         } catch (TechnicalException e) {
             LOGGER.error("An error occurs while trying to create a quality rule {}", newEntity, e);
@@ -120,6 +124,7 @@ public class QualityRuleServiceImpl extends AbstractService implements QualityRu
                 optionalQualityRule.get(),
                 qualityRule
             );
+            apiQualityMetricsCache.evictAll();
             return convert(qualityRule);
         } catch (TechnicalException e) {
             LOGGER.error("An error occurs while trying to update quality rule {}", updateEntity, e);
@@ -142,6 +147,7 @@ public class QualityRuleServiceImpl extends AbstractService implements QualityRu
                     null,
                     qualityRuleOptional.get()
                 );
+                apiQualityMetricsCache.evictAll();
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete quality rule {}", qualityRule, ex);
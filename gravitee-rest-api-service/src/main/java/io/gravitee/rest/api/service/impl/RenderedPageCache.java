@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.service.common.HashHelper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the rendered content of documentation pages (templating, sanitization and swagger transformations).
+ *
+ * An entry is keyed by the page, its last modification date, content and configuration, and by the last update date
+ * of the API the page belongs to, so that editing a page or an API never serves a stale rendering. Changes which are not
+ * reflected by those dates (metadata, entrypoints) must explicitly evict the entries.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RenderedPageCache implements InitializingBean {
+
+    private final Logger logger = LoggerFactory.getLogger(RenderedPageCache.class);
+
+    private static final String PORTAL_PAGES = "";
+    private static final char SEPARATOR = '|';
+
+    @Value("${documentation.cache.maxSize:52428800}")
+    private long maxSize;
+
+    @Value("${documentation.cache.ttl:600}")
+    private long ttl;
+
+    private Cache<String, RenderedPage> renderedPages;
+
+    @Override
+    public void afterPropertiesSet() {
+        renderedPages =
+            CacheBuilder
+                .newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((String key, RenderedPage renderedPage) -> renderedPage.weight())
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    public String key(String apiId, Date apiUpdatedAt, PageEntity page) {
+        return (
+            (apiId == null ? PORTAL_PAGES : apiId) +
+            SEPARATOR +
+            page.getId() +
+            SEPARATOR +
+            time(apiUpdatedAt) +
+            SEPARATOR +
+            time(page.getLastModificationDate()) +
+            SEPARATOR +
+            page.getContentType() +
+            SEPARATOR +
+            Objects.hashCode(page.getConfiguration()) +
+            SEPARATOR +
+            HashHelper.sha256(page.getContent())
+        );
+    }
+
+    public RenderedPage get(String key) {
+        return renderedPages.getIfPresent(key);
+    }
+
+    public void put(String key, PageEntity renderedPage) {
+        renderedPages.put(key, new RenderedPage(renderedPage.getContent(), renderedPage.getMessages()));
+    }
+
+    /**
+     * Evict the rendered pages of the given API, or the portal pages if no API is given.
+     */
+    public void evict(String apiId) {
+        final String prefix = (apiId == null ? PORTAL_PAGES : apiId) + SEPARATOR;
+        logger.debug("Evict rendered pages starting with {}", prefix);
+        renderedPages.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void evictAll() {
+        logger.debug("Evict all rendered pages");
+        renderedPages.invalidateAll();
+    }
+
+    public long size() {
+        return renderedPages.size();
+    }
+
+    public CacheStats stats() {
+        return renderedPages.stats();
+    }
+
+    private static long time(Date date) {
+        return date == null ? 0 : date.getTime();
+    }
+
+    public static class RenderedPage {
+
+        private final String content;
+        private final List<String> messages;
+
+        private RenderedPage(String content, List<String> messages) {
+            this.content = content;
+            this.messages = messages == null ? null : Collections.unmodifiableList(new ArrayList<>(messages));
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public List<String> getMessages() {
+            return messages == null ? null : new ArrayList<>(messages);
+        }
+
+        private int weight() {
+            // Java strings are UTF-16 encoded
+            int weight = content == null ? 0 : content.length() * 2;
+            if (messages != null) {
+                for (String message : messages) {
+                    weight += message.length() * 2;
+                }
+            }
+            return weight;
+        }
+    }
+}
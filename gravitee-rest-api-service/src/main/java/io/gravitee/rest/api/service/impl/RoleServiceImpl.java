@@ -26,14 +26,20 @@ import static java.util.stream.Collectors.toList;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.MessageRecipient;
 import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleReferenceType;
 import io.gravitee.rest.api.model.MembershipReferenceType;
 import io.gravitee.rest.api.model.NewRoleEntity;
 import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.UpdateRoleEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
 import io.gravitee.rest.api.model.permissions.*;
+import io.gravitee.rest.api.repository.command.CommandPoller;
 import io.gravitee.rest.api.service.AuditService;
+import io.gravitee.rest.api.service.CommandService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
@@ -45,6 +51,8 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -53,7 +61,7 @@ import org.springframework.stereotype.Component;
  * @author GraviteeSource Team
  */
 @Component
-public class RoleServiceImpl extends AbstractService implements RoleService {
+public class RoleServiceImpl extends AbstractService implements RoleService, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(RoleServiceImpl.class);
 
@@ -66,30 +74,56 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     @Autowired
     private AuditService auditService;
 
-    private Map<String, RoleEntity> apiPrimaryOwnersByOrganization = new ConcurrentHashMap<>();
-    private Map<String, RoleEntity> applicationPrimaryOwnersByOrganization = new ConcurrentHashMap<>();
+    @Autowired
+    private CommandService commandService;
+
+    @Autowired
+    private CommandPoller commandPoller;
+
+    /**
+     * Roles of each organization, loaded at startup or the first time the organization is accessed, and dropped
+     * whenever one of its roles is changed, locally or by another node. Callers are given copies of these roles.
+     */
+    private final Map<String, OrganizationRoles> rolesByOrganization = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        commandPoller.register(CommandTags.ROLES_UPDATED.name(), this::synchronize);
+    }
+
+    @Override
+    public void destroy() {
+        commandPoller.unregister(CommandTags.ROLES_UPDATED.name());
+    }
 
     @Override
     public RoleEntity findById(final String roleId) {
-        return GraviteeContext
-            .getCurrentRoles()
-            .computeIfAbsent(
-                roleId,
-                k -> {
-                    try {
-                        LOGGER.debug("Find Role by id");
-
-                        Optional<Role> role = roleRepository.findById(k);
-                        if (!role.isPresent()) {
-                            throw new RoleNotFoundException(k);
-                        }
-                        return convert(role.get());
-                    } catch (TechnicalException ex) {
-                        LOGGER.error("An error occurs while trying to find a role : {}", k, ex);
-                        throw new TechnicalManagementException("An error occurs while trying to find a role : " + k, ex);
-                    }
-                }
-            );
+        RoleEntity roleEntity = getOrganizationRoles(GraviteeContext.getCurrentOrganization()).byId.get(roleId);
+        if (roleEntity != null) {
+            return copy(roleEntity);
+        }
+        // Roles are referenced across organizations, for instance by the memberships of a platform administrator
+        for (OrganizationRoles organizationRoles : rolesByOrganization.values()) {
+            roleEntity = organizationRoles.byId.get(roleId);
+            if (roleEntity != null) {
+                return copy(roleEntity);
+            }
+        }
+
+        try {
+            LOGGER.debug("Find Role by id");
+
+            Optional<Role> role = roleRepository.findById(roleId);
+            if (!role.isPresent()) {
+                throw new RoleNotFoundException(roleId);
+            }
+            // The role is missing from the registry, so the one of its organization is stale
+            evictRoles(role.get().getReferenceId());
+            return convert(role.get());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find a role : {}", roleId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find a role : " + roleId, ex);
+        }
     }
 
     @Override
@@ -138,6 +172,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             role.setReferenceType(RoleReferenceType.ORGANIZATION);
 
             RoleEntity entity = convert(roleRepository.create(role));
+            invalidateRoles(organizationId);
             auditService.createOrganizationAuditLog(
                 Collections.singletonMap(ROLE, role.getScope() + ":" + role.getName()),
                 ROLE_CREATED,
@@ -172,6 +207,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             updatedRole.setReferenceId(role.getReferenceId());
             updatedRole.setReferenceType(role.getReferenceType());
             RoleEntity entity = convert(roleRepository.update(updatedRole));
+            invalidateRoles(role.getReferenceId());
             auditService.createOrganizationAuditLog(
                 Collections.singletonMap(ROLE, role.getScope() + ":" + role.getName()),
                 ROLE_UPDATED,
@@ -209,6 +245,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             membershipService.removeRoleUsage(roleId, defaultRoleByScopes.get(0).getId());
 
             roleRepository.delete(roleId);
+            invalidateRoles(role.getReferenceId());
 
             auditService.createOrganizationAuditLog(
                 Collections.singletonMap(ROLE, scope + ":" + role.getName()),
@@ -249,6 +286,11 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     }
 
     private Optional<RoleEntity> findByScopeAndName(RoleScope scope, String name, String organizationId) {
+        RoleEntity roleEntity = getOrganizationRoles(organizationId).byScopeAndName.getOrDefault(scope, Collections.emptyMap()).get(name);
+        if (roleEntity != null) {
+            return Optional.of(copy(roleEntity));
+        }
+
         try {
             LOGGER.debug("Find Roles by scope and name");
 
@@ -259,6 +301,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
                 RoleReferenceType.ORGANIZATION
             );
             if (optRole.isPresent()) {
+                evictRoles(organizationId);
                 return Optional.of(this.convert(optRole.get()));
             } else {
                 return Optional.empty();
@@ -331,6 +374,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
                 role.setDefaultRole(false);
                 role.setUpdatedAt(new Date());
                 roleRepository.update(role);
+                evictRoles(role.getReferenceId());
                 auditService.createOrganizationAuditLog(
                     Collections.singletonMap(ROLE, role.getScope() + ":" + role.getName()),
                     ROLE_UPDATED,
@@ -528,21 +572,79 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
 
     @Override
     public RoleEntity findPrimaryOwnerRoleByOrganization(String organizationId, RoleScope roleScope) {
-        if (roleScope == RoleScope.API) {
-            return apiPrimaryOwnersByOrganization.computeIfAbsent(
-                organizationId,
-                s -> this.findByScopeAndName(RoleScope.API, SystemRole.PRIMARY_OWNER.name(), s).get()
-            );
-        }
-        if (roleScope == RoleScope.APPLICATION) {
-            return applicationPrimaryOwnersByOrganization.computeIfAbsent(
-                organizationId,
-                s -> this.findByScopeAndName(RoleScope.APPLICATION, SystemRole.PRIMARY_OWNER.name(), s).get()
-            );
+        if (roleScope == RoleScope.API || roleScope == RoleScope.APPLICATION) {
+            return this.findByScopeAndName(roleScope, SystemRole.PRIMARY_OWNER.name(), organizationId).get();
         }
         throw new RoleNotFoundException(roleScope + "_PRIMARY_OWNER");
     }
 
+    @Override
+    public void load(String organizationId) {
+        getOrganizationRoles(organizationId);
+    }
+
+    private OrganizationRoles getOrganizationRoles(String organizationId) {
+        return rolesByOrganization.computeIfAbsent(
+            organizationId,
+            k -> {
+                LOGGER.debug("Load roles of organization {}", k);
+                return new OrganizationRoles(findAllByOrganization(k));
+            }
+        );
+    }
+
+    /**
+     * Drop the roles of the given organization, and ask the other nodes to do the same.
+     */
+    private void invalidateRoles(String organizationId) {
+        evictRoles(organizationId);
+
+        final String currentEnvironment = GraviteeContext.getCurrentEnvironment();
+        try {
+            // Roles are not bound to an environment, make sure that all the nodes read the command
+            GraviteeContext.setCurrentEnvironment(GraviteeContext.getDefaultEnvironment());
+            NewCommandEntity msg = new NewCommandEntity();
+            msg.setTags(Collections.singletonList(CommandTags.ROLES_UPDATED));
+            msg.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+            msg.setTtlInSeconds(60);
+            msg.setContent(organizationId);
+            commandService.send(msg);
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while sending roles update of organization {}", organizationId, e);
+        } finally {
+            GraviteeContext.setCurrentEnvironment(currentEnvironment);
+        }
+    }
+
+    private void evictRoles(String organizationId) {
+        if (organizationId != null) {
+            rolesByOrganization.remove(organizationId);
+        }
+    }
+
+    private void synchronize(List<Command> commands) {
+        for (Command command : commands) {
+            LOGGER.debug("Roles of organization {} have been updated", command.getContent());
+            evictRoles(command.getContent());
+        }
+    }
+
+    private RoleEntity copy(RoleEntity role) {
+        final RoleEntity copy = new RoleEntity();
+        copy.setId(role.getId());
+        copy.setName(role.getName());
+        copy.setDescription(role.getDescription());
+        copy.setScope(role.getScope());
+        copy.setDefaultRole(role.isDefaultRole());
+        copy.setSystem(role.isSystem());
+        if (role.getPermissions() != null) {
+            final Map<String, char[]> permissions = new HashMap<>(role.getPermissions().size());
+            role.getPermissions().forEach((permission, actions) -> permissions.put(permission, actions == null ? null : actions.clone()));
+            copy.setPermissions(permissions);
+        }
+        return copy;
+    }
+
     private void createOrUpdateSystemRole(SystemRole roleName, RoleScope roleScope, Permission[] permissions, String organizationId)
         throws TechnicalException {
         Role systemRole = createSystemRoleWithoutPermissions(roleName.name(), roleScope, new Date());
@@ -565,6 +667,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             systemRole.setId(existingRole.get().getId());
             systemRole.setUpdatedAt(new Date());
             roleRepository.update(systemRole);
+            invalidateRoles(organizationId);
             auditService.createOrganizationAuditLog(
                 Collections.singletonMap(ROLE, systemRole.getScope() + ":" + systemRole.getName()),
                 ROLE_UPDATED,
@@ -574,6 +677,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             );
         } else if (!existingRole.isPresent()) {
             roleRepository.create(systemRole);
+            invalidateRoles(organizationId);
             auditService.createOrganizationAuditLog(
                 Collections.singletonMap(ROLE, systemRole.getScope() + ":" + systemRole.getName()),
                 ROLE_CREATED,
@@ -604,4 +708,17 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             stream(role2.getPermissions()).reduce(Math::addExact).orElse(0)
         );
     }
+
+    private static class OrganizationRoles {
+
+        private final Map<String, RoleEntity> byId = new HashMap<>();
+        private final Map<RoleScope, Map<String, RoleEntity>> byScopeAndName = new EnumMap<>(RoleScope.class);
+
+        private OrganizationRoles(Collection<RoleEntity> roles) {
+            for (RoleEntity role : roles) {
+                byId.put(role.getId(), role);
+                byScopeAndName.computeIfAbsent(role.getScope(), k -> new HashMap<>()).put(role.getName(), role);
+            }
+        }
+    }
 }
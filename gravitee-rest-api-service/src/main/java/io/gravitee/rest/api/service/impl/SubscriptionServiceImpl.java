@@ -881,17 +881,23 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
                 );
             }
 
-            Stream<SubscriptionEntity> subscriptionsStream = subscriptionRepository.search(builder.build()).stream().map(this::convert);
-            if (query.getApiKey() != null && !query.getApiKey().isEmpty()) {
-                subscriptionsStream =
-                    subscriptionsStream.filter(
-                        subscriptionEntity -> {
-                            final List<ApiKeyEntity> apiKeys = apiKeyService.findBySubscription(subscriptionEntity.getId());
-                            return apiKeys.stream().anyMatch(apiKeyEntity -> apiKeyEntity.getKey().equals(query.getApiKey()));
-                        }
-                    );
+            List<SubscriptionEntity> subscriptions = subscriptionRepository
+                .search(builder.build())
+                .stream()
+                .map(this::convert)
+                .collect(toList());
+            if (query.getApiKey() != null && !query.getApiKey().isEmpty() && !subscriptions.isEmpty()) {
+                String apiKeySubscription;
+                try {
+                    apiKeySubscription = apiKeyService.findByKey(query.getApiKey()).getSubscription();
+                } catch (ApiKeyNotFoundException aknfe) {
+                    apiKeySubscription = null;
+                }
+                final String subscription = apiKeySubscription;
+                subscriptions =
+                    subscriptions.stream().filter(subscriptionEntity -> subscriptionEntity.getId().equals(subscription)).collect(toList());
             }
-            return subscriptionsStream.collect(toList());
+            return subscriptions;
         } catch (TechnicalException ex) {
             logger.error("An error occurs while trying to search for subscriptions: {}", query, ex);
             throw new TechnicalManagementException(
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.gravitee.rest.api.service.common.HashHelper;
+import io.gravitee.rest.api.service.swagger.OAIDescriptor;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.servers.Server;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the parsed OpenAPI descriptors, keyed by a hash of their content.
+ *
+ * The cached descriptors are never returned as is: callers get a copy of the descriptor root and of its servers, which are
+ * the only parts modified by the swagger transformers. Paths, components and the other parts of the specification are
+ * shared between the copies and must be considered as read-only.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class SwaggerDescriptorCache implements InitializingBean {
+
+    private final Logger logger = LoggerFactory.getLogger(SwaggerDescriptorCache.class);
+
+    private static final String OAI_PREFIX = "oai|";
+    private static final String WSDL_PREFIX = "wsdl|";
+
+    @Value("${swagger.cache.maxSize:10485760}")
+    private long maxSize;
+
+    @Value("${swagger.cache.ttl:600}")
+    private long ttl;
+
+    private Cache<String, CachedDescriptor> descriptors;
+
+    private final LongAdder parseCount = new LongAdder();
+    private final LongAdder parseTime = new LongAdder();
+
+    @Override
+    public void afterPropertiesSet() {
+        descriptors =
+            CacheBuilder
+                .newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((String key, CachedDescriptor descriptor) -> descriptor.weight)
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get a copy of the descriptor parsed from the given content, parsing it with the given parser if it is not cached yet.
+     * Descriptors which can not be parsed are not cached.
+     */
+    public OAIDescriptor get(String content, boolean wsdl, Supplier<OAIDescriptor> parser) {
+        final String key = (wsdl ? WSDL_PREFIX : OAI_PREFIX) + HashHelper.sha256(content);
+        final CachedDescriptor cached = descriptors.getIfPresent(key);
+        if (cached != null) {
+            return copy(cached.descriptor);
+        }
+
+        final long start = System.nanoTime();
+        final OAIDescriptor descriptor = parser.get();
+        final long elapsed = System.nanoTime() - start;
+        parseCount.increment();
+        parseTime.add(elapsed);
+        logger.debug("Descriptor of {} characters parsed in {} ms", content.length(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        if (descriptor == null || descriptor.getSpecification() == null) {
+            return descriptor;
+        }
+        // Java strings are UTF-16 encoded
+        descriptors.put(key, new CachedDescriptor(descriptor, content.length() * 2));
+        return copy(descriptor);
+    }
+
+    public void evictAll() {
+        descriptors.invalidateAll();
+    }
+
+    public long size() {
+        return descriptors.size();
+    }
+
+    public CacheStats stats() {
+        return descriptors.stats();
+    }
+
+    public long getParseCount() {
+        return parseCount.sum();
+    }
+
+    /**
+     * @return the average time spent parsing the descriptors missing from the cache, in milliseconds.
+     */
+    public double getAverageParseTime() {
+        final long count = parseCount.sum();
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMillis(parseTime.sum()) / count;
+    }
+
+    private static OAIDescriptor copy(OAIDescriptor descriptor) {
+        final OpenAPI specification = descriptor.getSpecification();
+        final OpenAPI openAPI = new OpenAPI();
+        openAPI.setOpenapi(specification.getOpenapi());
+        openAPI.setInfo(specification.getInfo());
+        openAPI.setExternalDocs(specification.getExternalDocs());
+        openAPI.setSecurity(specification.getSecurity());
+        openAPI.setTags(specification.getTags());
+        openAPI.setPaths(specification.getPaths());
+        openAPI.setComponents(specification.getComponents());
+        openAPI.setExtensions(specification.getExtensions());
+        if (specification.getServers() != null) {
+            openAPI.setServers(specification.getServers().stream().map(SwaggerDescriptorCache::copy).collect(Collectors.toList()));
+        }
+
+        final OAIDescriptor copy = new OAIDescriptor(openAPI);
+        copy.setMessages(descriptor.getMessages() == null ? null : new ArrayList<>(descriptor.getMessages()));
+        return copy;
+    }
+
+    private static Server copy(Server server) {
+        final Server copy = new Server();
+        copy.setUrl(server.getUrl());
+        copy.setDescription(server.getDescription());
+        copy.setVariables(server.getVariables());
+        copy.setExtensions(server.getExtensions());
+        return copy;
+    }
+
+    private static class CachedDescriptor {
+
+        private final OAIDescriptor descriptor;
+        private final int weight;
+
+        private CachedDescriptor(OAIDescriptor descriptor, int weight) {
+            this.descriptor = descriptor;
+            this.weight = weight;
+        }
+    }
+}
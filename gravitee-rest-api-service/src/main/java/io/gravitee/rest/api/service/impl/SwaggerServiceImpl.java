@@ -27,6 +27,7 @@ import io.gravitee.rest.api.service.TagService;
 import io.gravitee.rest.api.service.exceptions.SwaggerDescriptorException;
 import io.gravitee.rest.api.service.impl.swagger.converter.api.OAIToAPIConverter;
 import io.gravitee.rest.api.service.impl.swagger.converter.api.OAIToAPIV2Converter;
+import io.gravitee.rest.api.service.impl.swagger.parser.DescriptorParser;
 import io.gravitee.rest.api.service.impl.swagger.parser.OAIParser;
 import io.gravitee.rest.api.service.impl.swagger.parser.WsdlParser;
 import io.gravitee.rest.api.service.impl.swagger.policy.PolicyOperationVisitorManager;
@@ -43,11 +44,17 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -56,13 +63,19 @@ import org.springframework.stereotype.Component;
  * @author GraviteeSource Team
  */
 @Component
-public class SwaggerServiceImpl implements SwaggerService {
+public class SwaggerServiceImpl implements SwaggerService, InitializingBean, DisposableBean {
 
     private final Logger logger = LoggerFactory.getLogger(SwaggerServiceImpl.class);
 
     @Value("${swagger.scheme:https}")
     private String defaultScheme;
 
+    @Value("${swagger.import.threads:4}")
+    private int importThreads;
+
+    @Value("${swagger.import.queueSize:10000}")
+    private int importQueueSize;
+
     @Autowired
     private PolicyOperationVisitorManager policyOperationVisitorManager;
 
@@ -75,6 +88,37 @@ public class SwaggerServiceImpl implements SwaggerService {
     @Autowired
     private TagService tagService;
 
+    @Autowired
+    private SwaggerDescriptorCache descriptorCache;
+
+    /**
+     * Bounded executor used to visit the operations of the imported descriptors concurrently. When the queue is full, the
+     * importing thread visits the operations by itself.
+     */
+    private ThreadPoolExecutor importExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        importExecutor =
+            new ThreadPoolExecutor(
+                importThreads,
+                importThreads,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(importQueueSize),
+                new CustomizableThreadFactory("gio-swagger-import-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+        importExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy() {
+        if (importExecutor != null) {
+            importExecutor.shutdownNow();
+        }
+    }
+
     @Override
     public SwaggerApiEntity createAPI(ImportSwaggerDescriptorEntity swaggerDescriptor) {
         return this.createAPI(swaggerDescriptor, DefinitionVersion.V1);
@@ -110,10 +154,10 @@ public class SwaggerServiceImpl implements SwaggerService {
             }
 
             if (definitionVersion.equals(DefinitionVersion.V2)) {
-                return new OAIToAPIV2Converter(visitors, groupService, tagService).convert((OAIDescriptor) descriptor);
+                return new OAIToAPIV2Converter(visitors, groupService, tagService, importExecutor).convert((OAIDescriptor) descriptor);
             }
 
-            return new OAIToAPIConverter(visitors, groupService, tagService).convert((OAIDescriptor) descriptor);
+            return new OAIToAPIConverter(visitors, groupService, tagService, importExecutor).convert((OAIDescriptor) descriptor);
         }
 
         throw new SwaggerDescriptorException();
@@ -162,8 +206,6 @@ public class SwaggerServiceImpl implements SwaggerService {
     }
 
     public SwaggerDescriptor parse(String content, boolean wsdl, ParseOptions options) {
-        OpenAPI descriptor;
-
         if (isUrl(content)) {
             UrlSanitizerUtils.checkAllowed(
                 content,
@@ -172,6 +214,16 @@ public class SwaggerServiceImpl implements SwaggerService {
             );
         }
 
+        // Only inline contents parsed with the default options are cached, a remote descriptor may change at any time
+        if (options == null && !DescriptorParser.isLocationUrl(content)) {
+            return descriptorCache.get(content, wsdl, () -> doParse(content, wsdl, null));
+        }
+        return doParse(content, wsdl, options);
+    }
+
+    private OAIDescriptor doParse(String content, boolean wsdl, ParseOptions options) {
+        OpenAPI descriptor;
+
         if (wsdl) {
             // try to read wsdl
             logger.debug("Trying to load a Wsdl descriptor");
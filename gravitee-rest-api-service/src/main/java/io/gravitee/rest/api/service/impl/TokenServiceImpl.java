@@ -66,6 +66,23 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
         }
     }
 
+    @Override
+    public Map<String, Long> countByEachUser(final Collection<String> userIds) {
+        try {
+            LOGGER.debug("Count tokens for users {}", userIds);
+            // The repository has no query by several references: one indexed query per user rather than a scan of all the tokens
+            final Map<String, Long> nbTokens = new HashMap<>();
+            for (String userId : new HashSet<>(userIds)) {
+                nbTokens.put(userId, (long) tokenRepository.findByReference(TokenReferenceType.USER.name(), userId).size());
+            }
+            return nbTokens;
+        } catch (TechnicalException ex) {
+            final String error = "An error occurs while trying to count tokens";
+            LOGGER.error(error, ex);
+            throw new TechnicalManagementException(error, ex);
+        }
+    }
+
     @Override
     public TokenEntity create(NewTokenEntity newToken) {
         try {
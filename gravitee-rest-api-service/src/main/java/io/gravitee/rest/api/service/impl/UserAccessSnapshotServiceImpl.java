@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.model.MembershipMemberType;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.repository.command.CommandPoller;
+import io.gravitee.rest.api.service.CommandService;
+import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.UserAccessSnapshotService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snapshots are kept for a short time so that all the services involved in a same request share a single membership query.
+ * Membership changes made through the {@link MembershipService} evict the snapshot of the member, on this node right
+ * away and on the other nodes on the next poll of the {@link CommandPoller}. Snapshots are never older than
+ * {@link #SNAPSHOT_TTL_SECONDS}, even when an eviction is lost.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class UserAccessSnapshotServiceImpl implements UserAccessSnapshotService, InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(UserAccessSnapshotServiceImpl.class);
+
+    static final long SNAPSHOT_TTL_SECONDS = 10;
+    private static final String ALL_USERS = "*";
+    private static final int COMMAND_TTL_IN_SECONDS = 60;
+
+    private final Cache<String, UserAccessSnapshot> snapshots = CacheBuilder
+        .newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(SNAPSHOT_TTL_SECONDS, TimeUnit.SECONDS)
+        .build();
+
+    /**
+     * Evictions made on this node and not sent to the other nodes yet.
+     */
+    private final Set<String> pendingEvictions = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private MembershipService membershipService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private CommandService commandService;
+
+    @Autowired
+    private CommandPoller commandPoller;
+
+    @Override
+    public void afterPropertiesSet() {
+        commandPoller.register(CommandTags.USER_ACCESS_EVICTED.name(), this::synchronize);
+    }
+
+    @Override
+    public void destroy() {
+        commandPoller.unregister(CommandTags.USER_ACCESS_EVICTED.name());
+        sendEvictions();
+    }
+
+    @Override
+    public UserAccessSnapshot get(String userId) {
+        try {
+            return snapshots.get(
+                userId,
+                () -> {
+                    LOGGER.debug("Load access snapshot of user {}", userId);
+                    return new UserAccessSnapshot(
+                        membershipService.getMembershipsByMember(MembershipMemberType.USER, userId),
+                        roleService::findById
+                    );
+                }
+            );
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            LOGGER.error("An error occurs while trying to load access snapshot of user {}", userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to load access snapshot of user " + userId, ex);
+        }
+    }
+
+    @Override
+    public void evict(String userId) {
+        snapshots.invalidate(userId);
+        pendingEvictions.add(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        snapshots.invalidateAll();
+        pendingEvictions.add(ALL_USERS);
+    }
+
+    private void synchronize(List<Command> commands) {
+        sendEvictions();
+        for (Command command : commands) {
+            if (command.getContent() != null) {
+                for (String userId : command.getContent().split("\n")) {
+                    if (ALL_USERS.equals(userId)) {
+                        snapshots.invalidateAll();
+                    } else {
+                        snapshots.invalidate(userId);
+                    }
+                }
+            }
+        }
+    }
+
+    private void sendEvictions() {
+        if (pendingEvictions.isEmpty()) {
+            return;
+        }
+        final List<String> evictions = new ArrayList<>(pendingEvictions);
+        pendingEvictions.removeAll(evictions);
+
+        final String currentEnvironment = GraviteeContext.getCurrentEnvironment();
+        try {
+            // Memberships are not bound to an environment, make sure that all the nodes read the command
+            GraviteeContext.setCurrentEnvironment(GraviteeContext.getDefaultEnvironment());
+            NewCommandEntity msg = new NewCommandEntity();
+            msg.setTags(Collections.singletonList(CommandTags.USER_ACCESS_EVICTED));
+            msg.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+            msg.setTtlInSeconds(COMMAND_TTL_IN_SECONDS);
+            msg.setContent(String.join("\n", evictions));
+            commandService.send(msg);
+        } catch (Exception e) {
+            LOGGER.error("Unable to send {} user access evictions to the other nodes", evictions.size(), e);
+        } finally {
+            GraviteeContext.setCurrentEnvironment(currentEnvironment);
+        }
+    }
+}
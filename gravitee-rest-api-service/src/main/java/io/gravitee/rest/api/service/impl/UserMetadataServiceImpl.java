@@ -33,7 +33,10 @@ import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.MetadataNotFoundException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.sanitizer.CustomFieldSanitizer;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -87,6 +90,18 @@ public class UserMetadataServiceImpl extends AbstractReferenceMetadataService im
             );
     }
 
+    @Override
+    public Map<String, List<UserMetadataEntity>> findAllByEachUserId(Collection<String> userIds) {
+        final Map<String, List<UserMetadataEntity>> usersMetadata = GraviteeContext.getCurrentUsersMetadata();
+        // The repository has no query by several references: one indexed query per user missing from the request context,
+        // rather than a scan of the metadata of all the users
+        userIds.stream().filter(userId -> !usersMetadata.containsKey(userId)).distinct().forEach(this::findAllByUserId);
+
+        final Map<String, List<UserMetadataEntity>> metadataByUser = new HashMap<>();
+        userIds.forEach(userId -> metadataByUser.put(userId, usersMetadata.get(userId)));
+        return metadataByUser;
+    }
+
     @Override
     public void deleteAllByCustomFieldId(String key, String refId, CustomUserFieldReferenceType refType) {
         try {
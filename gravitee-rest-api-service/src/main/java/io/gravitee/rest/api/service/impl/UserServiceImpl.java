@@ -22,6 +22,7 @@ import static io.gravitee.rest.api.service.common.JWTHelper.DefaultValues.DEFAUL
 import static io.gravitee.rest.api.service.common.JWTHelper.DefaultValues.DEFAULT_JWT_ISSUER;
 import static io.gravitee.rest.api.service.notification.NotificationParamsBuilder.*;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -78,6 +79,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.xml.bind.DatatypeConverter;
 import org.apache.commons.lang3.StringUtils;
@@ -376,16 +378,12 @@ public class UserServiceImpl extends AbstractService implements UserService, Ini
             Set<User> users = userRepository.findByIds(ids);
 
             if (!users.isEmpty()) {
+                final Map<String, List<UserMetadataEntity>> metadata = withUserMetadata
+                    ? userMetadataService.findAllByEachUserId(users.stream().map(User::getId).collect(toList()))
+                    : Collections.emptyMap();
                 return users
                     .stream()
-                    .map(
-                        u ->
-                            this.convert(
-                                    u,
-                                    false,
-                                    withUserMetadata ? userMetadataService.findAllByUserId(u.getId()) : Collections.emptyList()
-                                )
-                    )
+                    .map(u -> this.convert(u, false, metadata.getOrDefault(u.getId(), Collections.emptyList())))
                     .collect(toSet());
             }
 
@@ -1110,7 +1108,11 @@ public class UserServiceImpl extends AbstractService implements UserService, Ini
         SearchResult results = searchEngineService.search(userQuery);
 
         if (results.hasResults()) {
-            List<UserEntity> users = new ArrayList<>((findByIds(results.getDocuments())));
+            // Keep the ranking of the search engine
+            final Map<String, UserEntity> usersById = findByIds(results.getDocuments())
+                .stream()
+                .collect(toMap(UserEntity::getId, Function.identity()));
+            List<UserEntity> users = results.getDocuments().stream().map(usersById::get).filter(Objects::nonNull).collect(toList());
 
             populateUserFlags(users);
 
@@ -1120,33 +1122,35 @@ public class UserServiceImpl extends AbstractService implements UserService, Ini
     }
 
     private void populateUserFlags(final List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
         RoleEntity apiPORole = roleService.findPrimaryOwnerRoleByOrganization(GraviteeContext.getCurrentOrganization(), RoleScope.API);
         RoleEntity applicationPORole = roleService.findPrimaryOwnerRoleByOrganization(
             GraviteeContext.getCurrentOrganization(),
             RoleScope.APPLICATION
         );
 
+        final List<String> userIds = users.stream().map(UserEntity::getId).collect(toList());
+        final Set<String> primaryOwners = new HashSet<>();
+        membershipService
+            .getMembershipsByMembersAndReferenceAndRole(MembershipMemberType.USER, userIds, MembershipReferenceType.API, apiPORole.getId())
+            .forEach(membership -> primaryOwners.add(membership.getMemberId()));
+        membershipService
+            .getMembershipsByMembersAndReferenceAndRole(
+                MembershipMemberType.USER,
+                userIds,
+                MembershipReferenceType.APPLICATION,
+                applicationPORole.getId()
+            )
+            .forEach(membership -> primaryOwners.add(membership.getMemberId()));
+        final Map<String, Long> nbTokens = tokenService.countByEachUser(userIds);
+
         users.forEach(
             user -> {
-                final boolean apiPO = !membershipService
-                    .getMembershipsByMemberAndReferenceAndRole(
-                        MembershipMemberType.USER,
-                        user.getId(),
-                        MembershipReferenceType.API,
-                        apiPORole.getId()
-                    )
-                    .isEmpty();
-                final boolean appPO = !membershipService
-                    .getMembershipsByMemberAndReferenceAndRole(
-                        MembershipMemberType.USER,
-                        user.getId(),
-                        MembershipReferenceType.APPLICATION,
-                        applicationPORole.getId()
-                    )
-                    .isEmpty();
-
-                user.setPrimaryOwner(apiPO || appPO);
-                user.setNbActiveTokens(tokenService.findByUser(user.getId()).size());
+                user.setPrimaryOwner(primaryOwners.contains(user.getId()));
+                user.setNbActiveTokens(nbTokens.getOrDefault(user.getId(), 0L).intValue());
             }
         );
     }
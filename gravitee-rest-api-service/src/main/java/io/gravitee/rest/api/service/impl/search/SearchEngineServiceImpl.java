@@ -23,6 +23,7 @@ import io.gravitee.rest.api.model.ApiPageEntity;
 import io.gravitee.rest.api.model.PageEntity;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
 import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.model.command.NewCommandEntity;
@@ -31,6 +32,7 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.CommandService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.AbstractNotFoundException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.impl.search.lucene.DocumentSearcher;
@@ -38,11 +40,19 @@ import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
 import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
@@ -52,7 +62,7 @@ import org.springframework.util.Assert;
  * @author GraviteeSource Team
  */
 @Component
-public class SearchEngineServiceImpl implements SearchEngineService {
+public class SearchEngineServiceImpl implements SearchEngineService, InitializingBean, DisposableBean {
 
     /**
      * Logger.
@@ -84,11 +94,40 @@ public class SearchEngineServiceImpl implements SearchEngineService {
     @Lazy
     private UserService userService;
 
+    @Value("${services.search_indexer.batch.window:1000}")
+    private long batchWindow;
+
+    @Value("${services.search_indexer.batch.size:500}")
+    private int batchSize;
+
     private ObjectMapper mapper = new ObjectMapper();
 
     private static final String ACTION_INDEX = "I";
     private static final String ACTION_DELETE = "D";
 
+    /**
+     * Commands waiting to be sent to the other nodes, by environment then by document. Only the latest action is kept
+     * for a given document.
+     */
+    private final Map<String, Map<String, CommandSearchIndexerEntity>> pendingCommands = new HashMap<>();
+
+    private ScheduledExecutorService commandSender;
+
+    @Override
+    public void afterPropertiesSet() {
+        commandSender = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("gio-search-commands-"));
+        commandSender.scheduleWithFixedDelay(this::flushCommands, batchWindow, batchWindow, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (commandSender != null) {
+            commandSender.shutdown();
+        }
+        // Do not lose the commands of the current window
+        flushCommands();
+    }
+
     @Async
     @Override
     public void index(Indexable source, boolean locally) {
@@ -138,19 +177,104 @@ public class SearchEngineServiceImpl implements SearchEngineService {
         }
     }
 
+    @Override
+    public void process(Collection<CommandSearchIndexerEntity> contents) {
+        // Only the latest action matters for a given document
+        final Map<String, CommandSearchIndexerEntity> latestContents = new LinkedHashMap<>();
+        contents.forEach(
+            content -> {
+                final String key = key(content);
+                latestContents.remove(key);
+                latestContents.put(key, content);
+            }
+        );
+
+        final Map<String, List<String>> idsToIndexByClass = new LinkedHashMap<>();
+        for (CommandSearchIndexerEntity content : latestContents.values()) {
+            if (ACTION_INDEX.equals(content.getAction())) {
+                idsToIndexByClass.computeIfAbsent(content.getClazz(), clazz -> new ArrayList<>()).add(content.getId());
+            } else {
+                try {
+                    process(content);
+                } catch (TechnicalManagementException tme) {
+                    logger.error(tme.getMessage(), tme);
+                }
+            }
+        }
+
+        idsToIndexByClass.forEach((clazz, ids) -> getSources(clazz, ids).forEach(this::indexLocally));
+    }
+
     private void sendCommands(CommandSearchIndexerEntity content) {
+        synchronized (pendingCommands) {
+            pendingCommands
+                .computeIfAbsent(GraviteeContext.getCurrentEnvironment(), environment -> new LinkedHashMap<>())
+                .put(key(content), content);
+        }
+    }
+
+    private void flushCommands() {
+        final Map<String, Map<String, CommandSearchIndexerEntity>> commandsToSend;
+        synchronized (pendingCommands) {
+            if (pendingCommands.isEmpty()) {
+                return;
+            }
+            commandsToSend = new HashMap<>(pendingCommands);
+            pendingCommands.clear();
+        }
+
+        final String currentEnvironment = GraviteeContext.getCurrentEnvironment();
+        try {
+            commandsToSend.forEach(
+                (environment, contents) -> {
+                    GraviteeContext.setCurrentEnvironment(environment);
+                    final List<CommandSearchIndexerEntity> batch = new ArrayList<>(contents.values());
+                    for (int i = 0; i < batch.size(); i += batchSize) {
+                        sendCommand(batch.subList(i, Math.min(i + batchSize, batch.size())));
+                    }
+                }
+            );
+        } finally {
+            GraviteeContext.setCurrentEnvironment(currentEnvironment);
+        }
+    }
+
+    private void sendCommand(List<CommandSearchIndexerEntity> contents) {
         try {
             NewCommandEntity msg = new NewCommandEntity();
             msg.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
             msg.setTo(MessageRecipient.MANAGEMENT_APIS.name());
             msg.setTtlInSeconds(60);
-            msg.setContent(mapper.writeValueAsString(content));
+            msg.setContent(mapper.writeValueAsString(contents));
             commandService.send(msg);
         } catch (JsonProcessingException e) {
             logger.error("Unexpected error while sending a message", e);
+        } catch (Exception e) {
+            logger.error("Unexpected error while sending {} search index commands", contents.size(), e);
         }
     }
 
+    private String key(CommandSearchIndexerEntity content) {
+        return content.getClazz() + '#' + content.getId();
+    }
+
+    private Collection<? extends Indexable> getSources(String clazz, List<String> ids) {
+        try {
+            if (ApiEntity.class.getName().equals(clazz)) {
+                ApiQuery query = new ApiQuery();
+                query.setIds(ids);
+                return apiService.search(query).stream().map(apiService::fetchMetadataForApi).collect(Collectors.toList());
+            } else if (UserEntity.class.getName().equals(clazz)) {
+                return userService.findByIds(ids, true);
+            }
+        } catch (final AbstractNotFoundException nfe) {
+            // ignore not found exception because may be due to synchronization not yet processed by DBs
+            return Collections.emptyList();
+        }
+
+        return ids.stream().map(id -> getSource(clazz, id)).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     private Indexable getSource(String clazz, String id) {
         try {
             if (ApiEntity.class.getName().equals(clazz)) {
@@ -44,8 +44,9 @@ import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 import java.net.URI;
 import java.util.*;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -68,10 +69,26 @@ public class OAIToAPIConverter implements SwaggerToApiConverter<OAIDescriptor>,
 
     private TagService tagService;
 
+    private final Executor executor;
+
     public OAIToAPIConverter(Collection<? extends OAIOperationVisitor> visitors, GroupService groupService, TagService tagService) {
+        this(visitors, groupService, tagService, null);
+    }
+
+    /**
+     * @param executor executor used to visit the operations concurrently, operations are visited by the calling thread if
+     *                 <code>null</code>.
+     */
+    public OAIToAPIConverter(
+        Collection<? extends OAIOperationVisitor> visitors,
+        GroupService groupService,
+        TagService tagService,
+        Executor executor
+    ) {
         this.visitors = visitors;
         this.groupService = groupService;
         this.tagService = tagService;
+        this.executor = executor;
     }
 
     @Override
@@ -261,53 +278,27 @@ public class OAIToAPIConverter implements SwaggerToApiConverter<OAIDescriptor>,
         // Paths
         Map<String, List<Rule>> paths = new HashMap<>();
 
-        oai
-            .getPaths()
-            .entrySet()
+        visitOperations(oai)
             .forEach(
-                entry -> {
-                    String path = entry.getKey().replaceAll("\\{(.[^/\\}]*)\\}", ":$1");
+                (key, operations) -> {
+                    String path = key.replaceAll("\\{(.[^/\\}]*)\\}", ":$1");
 
-                    Map<PathItem.HttpMethod, Operation> operations = entry.getValue().readOperationsMap();
                     List<Rule> rules = new ArrayList<>();
-
-                    operations.forEach(
-                        new BiConsumer<PathItem.HttpMethod, Operation>() {
-                            @Override
-                            public void accept(PathItem.HttpMethod httpMethod, Operation operation) {
-                                visitors.forEach(
-                                    new Consumer<OAIOperationVisitor>() {
-                                        @Override
-                                        public void accept(OAIOperationVisitor oaiOperationVisitor) {
-                                            // Consider only policy visitor for now
-                                            Optional<Policy> policy = (Optional<Policy>) oaiOperationVisitor.visit(oai, operation);
-
-                                            if (policy.isPresent()) {
-                                                final Rule rule = new Rule();
-                                                rule.setEnabled(true);
-                                                rule.setDescription(
-                                                    operation.getSummary() == null
-                                                        ? (
-                                                            operation.getOperationId() == null
-                                                                ? operation.getDescription()
-                                                                : operation.getOperationId()
-                                                        )
-                                                        : operation.getSummary()
-                                                );
-                                                rule.setMethods(singleton(HttpMethod.valueOf(httpMethod.name())));
-
-                                                io.gravitee.definition.model.Policy defPolicy = new io.gravitee.definition.model.Policy();
-                                                defPolicy.setName(policy.get().getName());
-                                                defPolicy.setConfiguration(clearNullValues(policy.get().getConfiguration()));
-                                                rule.setPolicy(defPolicy);
-                                                rules.add(rule);
-                                            }
-                                        }
-                                    }
-                                );
-                            }
+                    for (VisitedOperation visitedOperation : operations) {
+                        final Operation operation = visitedOperation.getOperation();
+                        for (Policy policy : visitedOperation.getPolicies()) {
+                            final Rule rule = new Rule();
+                            rule.setEnabled(true);
+                            rule.setDescription(getDescription(operation));
+                            rule.setMethods(singleton(HttpMethod.valueOf(visitedOperation.getMethod().name())));
+
+                            io.gravitee.definition.model.Policy defPolicy = new io.gravitee.definition.model.Policy();
+                            defPolicy.setName(policy.getName());
+                            defPolicy.setConfiguration(clearNullValues(policy.getConfiguration()));
+                            rule.setPolicy(defPolicy);
+                            rules.add(rule);
                         }
-                    );
+                    }
                     paths.put(path, rules);
                 }
             );
@@ -322,6 +313,88 @@ public class OAIToAPIConverter implements SwaggerToApiConverter<OAIDescriptor>,
         return apiEntity;
     }
 
+    /**
+     * Visit each operation of the specification with the visitors, concurrently if an executor is configured.
+     *
+     * Whatever the order in which the operations are visited, the result follows the order of the specification: the
+     * operations grouped by path, and the policies of each operation in the order of the visitors.
+     */
+    protected Map<String, List<VisitedOperation>> visitOperations(OpenAPI oai) {
+        final boolean concurrent = executor != null && visitors != null && !visitors.isEmpty();
+        // Policy visitors are loaded by their plugin class loader, keep the caller's one on the worker threads
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        final Map<String, List<CompletableFuture<VisitedOperation>>> futures = new LinkedHashMap<>();
+        oai
+            .getPaths()
+            .forEach(
+                (path, pathItem) -> {
+                    final List<CompletableFuture<VisitedOperation>> operations = new ArrayList<>();
+                    pathItem
+                        .readOperationsMap()
+                        .forEach(
+                            (method, operation) -> {
+                                if (concurrent) {
+                                    operations.add(
+                                        CompletableFuture.supplyAsync(() -> visitOperation(oai, method, operation, classLoader), executor)
+                                    );
+                                } else {
+                                    operations.add(CompletableFuture.completedFuture(visitOperation(oai, method, operation)));
+                                }
+                            }
+                        );
+                    futures.put(path, operations);
+                }
+            );
+
+        final Map<String, List<VisitedOperation>> visitedOperations = new LinkedHashMap<>();
+        futures.forEach(
+            (path, operations) -> visitedOperations.put(path, operations.stream().map(this::join).collect(Collectors.toList()))
+        );
+        return visitedOperations;
+    }
+
+    private VisitedOperation visitOperation(OpenAPI oai, PathItem.HttpMethod method, Operation operation, ClassLoader classLoader) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return visitOperation(oai, method, operation);
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    private VisitedOperation visitOperation(OpenAPI oai, PathItem.HttpMethod method, Operation operation) {
+        final List<Policy> policies = new ArrayList<>();
+        if (visitors != null) {
+            for (OAIOperationVisitor oaiOperationVisitor : visitors) {
+                // Consider only policy visitor for now
+                Optional<Policy> policy = (Optional<Policy>) oaiOperationVisitor.visit(oai, operation);
+                policy.ifPresent(policies::add);
+            }
+        }
+        return new VisitedOperation(method, operation, policies);
+    }
+
+    private VisitedOperation join(CompletableFuture<VisitedOperation> visitedOperation) {
+        try {
+            return visitedOperation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    protected String getDescription(Operation operation) {
+        if (operation.getSummary() != null) {
+            return operation.getSummary();
+        }
+        return operation.getOperationId() == null ? operation.getDescription() : operation.getOperationId();
+    }
+
     private String findTagIdByName(Map<String, String> tagMap, String tag) {
         for (Map.Entry<String, String> entry : tagMap.entrySet()) {
             if (entry.getValue().equals(tag)) {
@@ -365,4 +438,29 @@ public class OAIToAPIConverter implements SwaggerToApiConverter<OAIDescriptor>,
         }
         return evaluatedUrls;
     }
+
+    protected static class VisitedOperation {
+
+        private final PathItem.HttpMethod method;
+        private final Operation operation;
+        private final List<Policy> policies;
+
+        private VisitedOperation(PathItem.HttpMethod method, Operation operation, List<Policy> policies) {
+            this.method = method;
+            this.operation = operation;
+            this.policies = policies;
+        }
+
+        public PathItem.HttpMethod getMethod() {
+            return method;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public List<Policy> getPolicies() {
+            return policies;
+        }
+    }
 }
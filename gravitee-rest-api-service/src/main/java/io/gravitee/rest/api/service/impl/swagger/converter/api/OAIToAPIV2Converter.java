@@ -30,11 +30,8 @@ import io.gravitee.rest.api.service.GroupService;
 import io.gravitee.rest.api.service.TagService;
 import io.gravitee.rest.api.service.impl.swagger.visitor.v3.OAIOperationVisitor;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import java.util.*;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -47,64 +44,47 @@ public class OAIToAPIV2Converter extends OAIToAPIConverter {
         super(visitors, groupService, tagService);
     }
 
+    public OAIToAPIV2Converter(
+        Collection<? extends OAIOperationVisitor> visitors,
+        GroupService groupService,
+        TagService tagService,
+        Executor executor
+    ) {
+        super(visitors, groupService, tagService, executor);
+    }
+
     @Override
     protected SwaggerApiEntity fill(SwaggerApiEntity apiEntity, OpenAPI oai) {
         // flows
         apiEntity.setGraviteeDefinitionVersion(DefinitionVersion.V2.getLabel());
 
         List<Flow> allFlows = new ArrayList();
-        oai
-            .getPaths()
+        visitOperations(oai)
             .forEach(
-                new BiConsumer<String, PathItem>() {
-                    @Override
-                    public void accept(String key, PathItem pathItem) {
-                        String path = key.replaceAll("\\{(.[^/\\}]*)\\}", ":$1");
+                (key, operations) -> {
+                    String path = key.replaceAll("\\{(.[^/\\}]*)\\}", ":$1");
 
-                        Map<PathItem.HttpMethod, Operation> operations = pathItem.readOperationsMap();
-                        operations.forEach(
-                            new BiConsumer<PathItem.HttpMethod, Operation>() {
-                                @Override
-                                public void accept(PathItem.HttpMethod httpMethod, Operation operation) {
-                                    final Flow flow = createFlow(path, Collections.singleton(HttpMethod.valueOf(httpMethod.name())));
+                    for (VisitedOperation visitedOperation : operations) {
+                        final Flow flow = createFlow(path, Collections.singleton(HttpMethod.valueOf(visitedOperation.getMethod().name())));
 
-                                    visitors.forEach(
-                                        new Consumer<OAIOperationVisitor>() {
-                                            @Override
-                                            public void accept(OAIOperationVisitor oaiOperationVisitor) {
-                                                Optional<Policy> policy = (Optional<Policy>) oaiOperationVisitor.visit(oai, operation);
-                                                if (policy.isPresent()) {
-                                                    final Step step = new Step();
-                                                    step.setName(policy.get().getName());
-                                                    step.setEnabled(true);
-                                                    step.setDescription(
-                                                        operation.getSummary() == null
-                                                            ? (
-                                                                operation.getOperationId() == null
-                                                                    ? operation.getDescription()
-                                                                    : operation.getOperationId()
-                                                            )
-                                                            : operation.getSummary()
-                                                    );
+                        for (Policy policy : visitedOperation.getPolicies()) {
+                            final Step step = new Step();
+                            step.setName(policy.getName());
+                            step.setEnabled(true);
+                            step.setDescription(getDescription(visitedOperation.getOperation()));
 
-                                                    step.setPolicy(policy.get().getName());
-                                                    String configuration = clearNullValues(policy.get().getConfiguration());
-                                                    step.setConfiguration(configuration);
+                            step.setPolicy(policy.getName());
+                            String configuration = clearNullValues(policy.getConfiguration());
+                            step.setConfiguration(configuration);
 
-                                                    String scope = getScope(configuration);
-                                                    if (scope != null && scope.toLowerCase().equals("response")) {
-                                                        flow.getPost().add(step);
-                                                    } else {
-                                                        flow.getPre().add(step);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    );
-                                    allFlows.add(flow);
-                                }
+                            String scope = getScope(configuration);
+                            if (scope != null && scope.toLowerCase().equals("response")) {
+                                flow.getPost().add(step);
+                            } else {
+                                flow.getPre().add(step);
                             }
-                        );
+                        }
+                        allFlows.add(flow);
                     }
                 }
             );
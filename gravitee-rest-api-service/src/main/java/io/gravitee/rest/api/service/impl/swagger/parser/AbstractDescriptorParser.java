@@ -15,8 +15,6 @@
  */
 package io.gravitee.rest.api.service.impl.swagger.parser;
 
-import java.io.File;
-
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -24,7 +22,6 @@ import java.io.File;
 abstract class AbstractDescriptorParser<T> implements DescriptorParser<T> {
 
     static boolean isLocationUrl(String content) {
-        content = content.toLowerCase().replaceAll("\\\\", "/");
-        return content.startsWith("http") || content.startsWith("file") || content.startsWith(File.separator);
+        return DescriptorParser.isLocationUrl(content);
     }
 }
@@ -15,10 +15,20 @@
  */
 package io.gravitee.rest.api.service.impl.swagger.parser;
 
+import java.io.File;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
 public interface DescriptorParser<T> {
     T parse(String content);
+
+    /**
+     * Whether the content is the location of the descriptor (URL or file) rather than the descriptor itself.
+     */
+    static boolean isLocationUrl(String content) {
+        content = content.toLowerCase().replaceAll("\\\\", "/");
+        return content.startsWith("http") || content.startsWith("file") || content.startsWith(File.separator);
+    }
 }
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.upgrade;
+
+import io.gravitee.rest.api.service.OrganizationService;
+import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.Upgrader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the roles of all the organizations at startup, once the default roles have been created, so that the first
+ * permission checks are served from memory.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RolesLoaderUpgrader implements Upgrader, Ordered {
+
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(RolesLoaderUpgrader.class);
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Override
+    public boolean upgrade() {
+        organizationService
+            .findAll()
+            .forEach(
+                organization -> {
+                    logger.debug("Loading roles of organization {}", organization.getId());
+                    roleService.load(organization.getId());
+                }
+            );
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return 160;
+    }
+}
@@ -24,7 +24,6 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PlanService;
-import io.gravitee.rest.api.service.UserService;
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
@@ -139,9 +138,10 @@ public class Api1_20VersionSerializer extends ApiSerializer {
                 .getMembersByReference(MembershipReferenceType.API, apiEntity.getId());
             List<Member> members = (memberEntities == null ? Collections.emptyList() : new ArrayList<>(memberEntities.size()));
             if (memberEntities != null && !memberEntities.isEmpty()) {
+                final Map<String, UserEntity> users = findUsers(memberEntities);
                 memberEntities.forEach(
                     m -> {
-                        UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                        UserEntity userEntity = users.get(m.getId());
                         if (userEntity != null) {
                             Member member = new Member();
                             member.setUsername(getUsernameFromSourceId(userEntity.getSourceId()));
@@ -25,7 +25,6 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PlanService;
-import io.gravitee.rest.api.service.UserService;
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
@@ -140,9 +139,10 @@ public class Api1_25VersionSerializer extends ApiSerializer {
                 .getMembersByReference(MembershipReferenceType.API, apiEntity.getId());
             List<Member> members = new ArrayList<>(memberEntities == null ? 0 : memberEntities.size());
             if (memberEntities != null) {
+                final Map<String, UserEntity> users = findUsers(memberEntities);
                 memberEntities.forEach(
                     m -> {
-                        UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                        UserEntity userEntity = users.get(m.getId());
                         if (userEntity != null) {
                             Member member = new Member();
                             member.setRole(m.getRoles().get(0).getName());
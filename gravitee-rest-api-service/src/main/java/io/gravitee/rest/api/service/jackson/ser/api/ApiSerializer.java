@@ -26,8 +26,10 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.service.*;
+import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -152,22 +154,23 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
                     .getMembersByReference(MembershipReferenceType.API, apiEntity.getId());
                 List<Member> members = new ArrayList<>(memberEntities == null ? 0 : memberEntities.size());
                 if (memberEntities != null) {
-                    final UserService userService = applicationContext.getBean(UserService.class);
-                    memberEntities
+                    final List<MemberEntity> userMembers = memberEntities
                         .stream()
                         .filter(m -> m.getType() == MembershipMemberType.USER)
-                        .forEach(
-                            m -> {
-                                UserEntity userEntity = userService.findById(m.getId());
-                                if (userEntity != null) {
-                                    Member member = new Member();
-                                    member.setRoles(m.getRoles().stream().map(RoleEntity::getId).collect(Collectors.toList()));
-                                    member.setSource(userEntity.getSource());
-                                    member.setSourceId(userEntity.getSourceId());
-                                    members.add(member);
-                                }
+                        .collect(Collectors.toList());
+                    final Map<String, UserEntity> users = findUsers(userMembers);
+                    userMembers.forEach(
+                        m -> {
+                            UserEntity userEntity = users.get(m.getId());
+                            if (userEntity != null) {
+                                Member member = new Member();
+                                member.setRoles(m.getRoles().stream().map(RoleEntity::getId).collect(Collectors.toList()));
+                                member.setSource(userEntity.getSource());
+                                member.setSourceId(userEntity.getSourceId());
+                                members.add(member);
                             }
-                        );
+                        }
+                    );
                 }
                 jsonGenerator.writeObjectField("members", members);
             }
@@ -192,7 +195,14 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
                 jsonGenerator.writeObjectField("pages", pages == null ? Collections.emptyList() : pages);
                 List<MediaEntity> apiMedia = applicationContext.getBean(MediaService.class).findAllByApiId(apiEntity.getId());
                 if (apiMedia != null && !apiMedia.isEmpty()) {
-                    jsonGenerator.writeObjectField("apiMedia", apiMedia);
+                    jsonGenerator.writeArrayFieldStart("apiMedia");
+                    for (MediaEntity media : apiMedia) {
+                        jsonGenerator.writeObject(media);
+                        // The content has been base64 encoded to the output, it can be released before writing the next media
+                        media.setData(null);
+                        jsonGenerator.flush();
+                    }
+                    jsonGenerator.writeEndArray();
                 }
             }
 
@@ -215,6 +225,25 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
         }
     }
 
+    /**
+     * Resolve the users of the given members with a single lookup, indexed by their id.
+     */
+    protected Map<String, UserEntity> findUsers(Collection<MemberEntity> memberEntities) {
+        if (memberEntities == null || memberEntities.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final List<String> userIds = memberEntities.stream().map(MemberEntity::getId).distinct().collect(Collectors.toList());
+        try {
+            return applicationContext
+                .getBean(UserService.class)
+                .findByIds(userIds, false)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        } catch (UserNotFoundException unfe) {
+            return Collections.emptyMap();
+        }
+    }
+
     public enum Version {
         DEFAULT("default"),
         V_1_15("1.15"),
@@ -151,7 +151,8 @@ public class WebNotifierServiceImpl implements WebNotifierService {
 
         request.handler(
             response -> {
-                if (response.statusCode() == HttpStatusCode.OK_200) {
+                // Any 2xx status means that the receiver accepted the notification
+                if (response.statusCode() >= HttpStatusCode.OK_200 && response.statusCode() < HttpStatusCode.MULTIPLE_CHOICES_300) {
                     response.bodyHandler(
                         buffer -> {
                             future.complete(buffer);
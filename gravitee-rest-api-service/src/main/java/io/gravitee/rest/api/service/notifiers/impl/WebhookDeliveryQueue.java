@@ -0,0 +1,595 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.notifiers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.notifiers.WebNotifierService;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Durable queue of the outbound webhook deliveries.
+ *
+ * Deliveries are persisted as commands, so that they survive a restart, and are sent by a bounded pool of workers.
+ * The number of concurrent requests and the request rate are limited per target (scheme, host and port). Failed
+ * deliveries are retried with an exponential backoff, then kept as dead letters until their retention expires. Dead
+ * letters are tagged apart from the pending deliveries, so that they are only read by the hourly purge.
+ *
+ * A delivery is handled by the node which queued it, which holds a lease on it by refreshing the update date of the
+ * command. Each node polls its own deliveries only. Deliveries left behind by a node which has been stopped are taken
+ * over by the other nodes once their lease has expired, which is checked every half lease timeout. Hence a webhook may
+ * exceptionally be delivered twice: the <code>X-Gravitee-Delivery-Id</code> header allows the receivers to detect it.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class WebhookDeliveryQueue implements WebhookDeliveryQueueMXBean, InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookDeliveryQueue.class);
+
+    static final String COMMAND_TAG = CommandTags.WEBHOOK_DELIVERY.name();
+    static final String DEAD_LETTER_TAG = CommandTags.WEBHOOK_DEAD_LETTER.name();
+    static final String DELIVERY_ID_HEADER = "X-Gravitee-Delivery-Id";
+
+    @Autowired
+    private CommandRepository commandRepository;
+
+    @Autowired
+    private Node node;
+
+    @Autowired
+    private WebNotifierService webNotifierService;
+
+    @Value("${notifiers.webhook.queue.workers:4}")
+    private int workers;
+
+    @Value("${notifiers.webhook.queue.pollInterval:1000}")
+    private long pollInterval;
+
+    @Value("${notifiers.webhook.queue.maxAttempts:5}")
+    private int maxAttempts;
+
+    @Value("${notifiers.webhook.queue.backoff:2000}")
+    private long backoff;
+
+    @Value("${notifiers.webhook.queue.target.maxConcurrentRequests:2}")
+    private int maxConcurrentRequestsPerTarget;
+
+    @Value("${notifiers.webhook.queue.target.rate:10}")
+    private int ratePerTarget;
+
+    @Value("${notifiers.webhook.queue.leaseTimeout:300000}")
+    private long leaseTimeout;
+
+    @Value("${notifiers.webhook.queue.retention:604800}")
+    private long retention;
+
+    @Value("${notifiers.webhook.queue.purgeInterval:3600}")
+    private long purgeInterval;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Set<String> inFlightDeliveries = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, TargetLimiter> targetLimiters = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder deliveryLatency = new LongAdder();
+    private final LongAdder failedAttemptCount = new LongAdder();
+    private final LongAdder deadLetterCount = new LongAdder();
+
+    private volatile long pendingCount;
+    private volatile long lag;
+
+    private ScheduledExecutorService poller;
+
+    private ExecutorService deliveryWorkers;
+
+    private Clock clock = Clock.systemUTC();
+
+    @Override
+    public void afterPropertiesSet() {
+        deliveryWorkers =
+            new ThreadPoolExecutor(
+                workers,
+                workers,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 100),
+                new CustomizableThreadFactory("gio-webhook-delivery-")
+            );
+        poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("gio-webhook-poller-"));
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::takeOverDeliveries, leaseTimeout / 2, leaseTimeout / 2, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::purgeDeadLetters, purgeInterval, purgeInterval, TimeUnit.SECONDS);
+        registerMBean();
+    }
+
+    @Override
+    public void destroy() {
+        // Pending deliveries remain in the queue and will be sent again by this node or taken over by another one
+        if (poller != null) {
+            poller.shutdown();
+        }
+        if (deliveryWorkers != null) {
+            deliveryWorkers.shutdown();
+        }
+    }
+
+    /**
+     * Queue a JSON payload to be posted to the given url.
+     */
+    public void enqueue(final String url, final Map<String, String> headers, final String body, final boolean useSystemProxy) {
+        if (url == null || url.isEmpty()) {
+            LOGGER.error("Webhook Notifier configuration is empty");
+            return;
+        }
+
+        final String id = UUID.randomUUID().toString();
+        final Map<String, String> deliveryHeaders = new HashMap<>(headers);
+        deliveryHeaders.put(DELIVERY_ID_HEADER, id);
+
+        final WebhookDelivery delivery = new WebhookDelivery();
+        delivery.setUrl(url);
+        delivery.setHeaders(deliveryHeaders);
+        delivery.setBody(body);
+        delivery.setUseSystemProxy(useSystemProxy);
+
+        try {
+            final long now = clock.millis();
+            final Command command = new Command();
+            command.setId(id);
+            command.setEnvironmentId(GraviteeContext.getCurrentEnvironment());
+            command.setFrom(node.id());
+            command.setTo(node.id());
+            command.setTags(Collections.singletonList(COMMAND_TAG));
+            command.setContent(mapper.writeValueAsString(delivery));
+            command.setCreatedAt(new Date(now));
+            command.setUpdatedAt(command.getCreatedAt());
+            command.setExpiredAt(new Date(now + TimeUnit.SECONDS.toMillis(retention)));
+            commandRepository.create(command);
+        } catch (Exception e) {
+            LOGGER.error("Unable to queue the webhook delivery to {}, sending it directly", url, e);
+            webNotifierService.request(HttpMethod.POST, url, deliveryHeaders, body, useSystemProxy);
+            return;
+        }
+
+        requestPoll();
+    }
+
+    /**
+     * Dispatch the due deliveries of this node. Only the commands addressed to this node are read.
+     */
+    void poll() {
+        pollRequested.set(false);
+
+        final long now = clock.millis();
+        long pending = 0;
+        long oldest = now;
+        try {
+            final CommandCriteria criteria = new CommandCriteria.Builder().to(node.id()).tags(COMMAND_TAG).build();
+            for (Command command : commandRepository.search(criteria)) {
+                try {
+                    if (command.getExpiredAt() != null && command.getExpiredAt().getTime() < now) {
+                        commandRepository.delete(command.getId());
+                        continue;
+                    }
+
+                    pending++;
+                    oldest = Math.min(oldest, command.getCreatedAt().getTime());
+
+                    if (!inFlightDeliveries.contains(command.getId())) {
+                        handle(command, now);
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Unable to handle the webhook delivery {}", command.getId(), e);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while polling the webhook deliveries", e);
+        }
+
+        pendingCount = pending;
+        lag = now - oldest;
+    }
+
+    /**
+     * Dispatch the delivery if it is due, otherwise renew its lease before it expires.
+     */
+    private void handle(Command command, long now) throws Exception {
+        final WebhookDelivery delivery = mapper.readValue(command.getContent(), WebhookDelivery.class);
+        if (delivery.getNextAttemptAt() > now && !leaseExpiresSoon(command, now)) {
+            return;
+        }
+
+        // The searched command may be stale: a worker may have recorded a failed attempt since then. It is read again,
+        // after the in-flight check, so that neither the attempts nor the dead letter tag are written back.
+        final Optional<Command> current = commandRepository.findById(command.getId());
+        if (!current.isPresent() || !node.id().equals(current.get().getTo()) || !current.get().getTags().contains(COMMAND_TAG)) {
+            return;
+        }
+        final WebhookDelivery currentDelivery = mapper.readValue(current.get().getContent(), WebhookDelivery.class);
+        if (currentDelivery.getNextAttemptAt() <= now) {
+            dispatch(current.get(), currentDelivery, now);
+        } else if (leaseExpiresSoon(current.get(), now)) {
+            renewLease(current.get(), now);
+        }
+    }
+
+    private boolean leaseExpiresSoon(Command command, long now) {
+        return updatedAt(command) + leaseTimeout / 2 <= now;
+    }
+
+    private static long updatedAt(Command command) {
+        return command.getUpdatedAt() == null ? 0 : command.getUpdatedAt().getTime();
+    }
+
+    /**
+     * Take over the deliveries of the other nodes whose lease has expired, the owner has probably been stopped. This
+     * reads all the pending deliveries, so it only runs every half lease timeout. A delivery is only claimed if it has
+     * not changed since it has been read, and is dispatched by the next poll, once it is addressed to this node.
+     */
+    void takeOverDeliveries() {
+        final long now = clock.millis();
+        try {
+            final CommandCriteria criteria = new CommandCriteria.Builder().tags(COMMAND_TAG).build();
+            for (Command command : commandRepository.search(criteria)) {
+                if (node.id().equals(command.getTo()) || updatedAt(command) + leaseTimeout > now) {
+                    continue;
+                }
+                try {
+                    final Optional<Command> current = commandRepository.findById(command.getId());
+                    if (
+                        current.isPresent() &&
+                        Objects.equals(current.get().getTo(), command.getTo()) &&
+                        Objects.equals(current.get().getUpdatedAt(), command.getUpdatedAt())
+                    ) {
+                        LOGGER.info("Taking over the webhook delivery {} queued by node {}", command.getId(), command.getTo());
+                        renewLease(current.get(), now);
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Unable to take over the webhook delivery {}", command.getId(), e);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while taking over the webhook deliveries", e);
+        }
+    }
+
+    private void renewLease(Command command, long now) throws TechnicalException {
+        command.setTo(node.id());
+        command.setUpdatedAt(new Date(now));
+        commandRepository.update(command);
+    }
+
+    private void dispatch(Command command, WebhookDelivery delivery, long now) throws TechnicalException {
+        final TargetLimiter limiter = targetLimiters.computeIfAbsent(
+            target(delivery.getUrl()),
+            target -> new TargetLimiter(maxConcurrentRequestsPerTarget, ratePerTarget)
+        );
+        if (!limiter.tryAcquire()) {
+            // Limit reached for this target, the delivery will be dispatched by a next poll
+            return;
+        }
+
+        try {
+            // Keep the other nodes away while the delivery is in progress
+            renewLease(command, now);
+        } catch (TechnicalException te) {
+            limiter.release();
+            throw te;
+        }
+
+        inFlightDeliveries.add(command.getId());
+        try {
+            deliveryWorkers.execute(
+                () -> {
+                    try {
+                        deliver(command, delivery);
+                    } finally {
+                        inFlightDeliveries.remove(command.getId());
+                        limiter.release();
+                    }
+                }
+            );
+        } catch (RejectedExecutionException ree) {
+            inFlightDeliveries.remove(command.getId());
+            limiter.release();
+        }
+    }
+
+    private void deliver(Command command, WebhookDelivery delivery) {
+        try {
+            webNotifierService.request(
+                HttpMethod.POST,
+                delivery.getUrl(),
+                delivery.getHeaders(),
+                delivery.getBody(),
+                delivery.isUseSystemProxy()
+            );
+        } catch (Exception e) {
+            onFailure(command, delivery, e);
+            return;
+        }
+
+        deliveredCount.increment();
+        deliveryLatency.add(clock.millis() - command.getCreatedAt().getTime());
+        try {
+            commandRepository.delete(command.getId());
+        } catch (Exception e) {
+            LOGGER.error("Webhook {} has been delivered but cannot be removed from the queue", command.getId(), e);
+        }
+    }
+
+    private void onFailure(Command command, WebhookDelivery delivery, Exception cause) {
+        final long now = clock.millis();
+        failedAttemptCount.increment();
+        delivery.setAttempts(delivery.getAttempts() + 1);
+        delivery.setLastError(cause.getMessage());
+
+        if (delivery.getAttempts() >= maxAttempts) {
+            LOGGER.error(
+                "Webhook delivery to {} failed {} times, moving it to the dead letters",
+                delivery.getUrl(),
+                delivery.getAttempts(),
+                cause
+            );
+            delivery.setDeadLetter(true);
+            command.setTags(Collections.singletonList(DEAD_LETTER_TAG));
+            deadLetterCount.increment();
+        } else {
+            LOGGER.warn(
+                "Webhook delivery to {} failed (attempt {}/{}), it will be retried: {}",
+                delivery.getUrl(),
+                delivery.getAttempts(),
+                maxAttempts,
+                cause.getMessage()
+            );
+            delivery.setNextAttemptAt(now + (backoff << (delivery.getAttempts() - 1)));
+        }
+
+        try {
+            command.setTo(node.id());
+            command.setContent(mapper.writeValueAsString(delivery));
+            command.setUpdatedAt(new Date(now));
+            commandRepository.update(command);
+        } catch (Exception e) {
+            LOGGER.error("Unable to update the webhook delivery {}", command.getId(), e);
+        }
+    }
+
+    void purgeDeadLetters() {
+        final long now = clock.millis();
+        try {
+            final CommandCriteria criteria = new CommandCriteria.Builder().tags(DEAD_LETTER_TAG).build();
+            for (Command command : commandRepository.search(criteria)) {
+                if (command.getExpiredAt() != null && command.getExpiredAt().getTime() < now) {
+                    commandRepository.delete(command.getId());
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while purging the webhook dead letters", e);
+        }
+    }
+
+    private void requestPoll() {
+        if (poller != null && pollRequested.compareAndSet(false, true)) {
+            try {
+                poller.execute(this::poll);
+            } catch (RejectedExecutionException ree) {
+                pollRequested.set(false);
+            }
+        }
+    }
+
+    private static String target(String url) {
+        try {
+            final URI uri = URI.create(url);
+            return uri.getScheme() + "://" + uri.getAuthority();
+        } catch (IllegalArgumentException iae) {
+            return url;
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName("io.gravitee.rest.api.service:type=WebhookDeliveryQueue");
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to expose the metrics of the webhook delivery queue", e);
+        }
+    }
+
+    @Override
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    @Override
+    public long getLag() {
+        return lag;
+    }
+
+    @Override
+    public long getInFlightCount() {
+        return inFlightDeliveries.size();
+    }
+
+    @Override
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    @Override
+    public long getFailedAttemptCount() {
+        return failedAttemptCount.sum();
+    }
+
+    @Override
+    public long getDeadLetterCount() {
+        return deadLetterCount.sum();
+    }
+
+    @Override
+    public double getAverageDeliveryLatency() {
+        final long count = deliveredCount.sum();
+        return count == 0 ? 0 : (double) deliveryLatency.sum() / count;
+    }
+
+    /**
+     * Limits the number of concurrent requests and the request rate (token bucket) of a target.
+     */
+    private static class TargetLimiter {
+
+        private final Semaphore permits;
+        private final int rate;
+        private double tokens;
+        private long refilledAt;
+
+        private TargetLimiter(int maxConcurrentRequests, int rate) {
+            this.permits = new Semaphore(maxConcurrentRequests);
+            this.rate = rate;
+            this.tokens = rate;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (rate > 0) {
+                final long now = System.nanoTime();
+                tokens = Math.min(rate, tokens + (now - refilledAt) * rate / 1_000_000_000d);
+                refilledAt = now;
+                if (tokens < 1) {
+                    return false;
+                }
+            }
+            if (!permits.tryAcquire()) {
+                return false;
+            }
+            if (rate > 0) {
+                tokens--;
+            }
+            return true;
+        }
+
+        private void release() {
+            permits.release();
+        }
+    }
+
+    public static class WebhookDelivery {
+
+        private String url;
+        private Map<String, String> headers;
+        private String body;
+        private boolean useSystemProxy;
+        private int attempts;
+        private long nextAttemptAt;
+        private String lastError;
+        private boolean deadLetter;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public void setHeaders(Map<String, String> headers) {
+            this.headers = headers;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+
+        public boolean isUseSystemProxy() {
+            return useSystemProxy;
+        }
+
+        public void setUseSystemProxy(boolean useSystemProxy) {
+            this.useSystemProxy = useSystemProxy;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public void setAttempts(int attempts) {
+            this.attempts = attempts;
+        }
+
+        public long getNextAttemptAt() {
+            return nextAttemptAt;
+        }
+
+        public void setNextAttemptAt(long nextAttemptAt) {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        public void setLastError(String lastError) {
+            this.lastError = lastError;
+        }
+
+        public boolean isDeadLetter() {
+            return deadLetter;
+        }
+
+        public void setDeadLetter(boolean deadLetter) {
+            this.deadLetter = deadLetter;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.notifiers.impl;
+
+/**
+ * Metrics of the webhook delivery queue, exposed through JMX.
+ *
+ * @author GraviteeSource Team
+ */
+public interface WebhookDeliveryQueueMXBean {
+    /**
+     * @return the number of deliveries handled by this node which were waiting in the queue at the last poll.
+     */
+    long getPendingCount();
+
+    /**
+     * @return the age of the oldest delivery waiting in the queue at the last poll, in milliseconds.
+     */
+    long getLag();
+
+    long getInFlightCount();
+
+    long getDeliveredCount();
+
+    long getFailedAttemptCount();
+
+    long getDeadLetterCount();
+
+    /**
+     * @return the mean time between the queuing of a webhook and its successful delivery, in milliseconds.
+     */
+    double getAverageDeliveryLatency();
+}
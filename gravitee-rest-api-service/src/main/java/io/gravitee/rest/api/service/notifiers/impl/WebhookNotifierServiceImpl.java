@@ -17,12 +17,10 @@ package io.gravitee.rest.api.service.notifiers.impl;
 
 import static io.gravitee.rest.api.service.notification.NotificationParamsBuilder.*;
 
-import io.gravitee.common.http.HttpMethod;
 import io.gravitee.repository.management.model.GenericNotificationConfig;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.notification.Hook;
-import io.gravitee.rest.api.service.notifiers.WebNotifierService;
 import io.gravitee.rest.api.service.notifiers.WebhookNotifierService;
 import io.vertx.core.json.JsonObject;
 import java.util.HashMap;
@@ -42,7 +40,7 @@ public class WebhookNotifierServiceImpl implements WebhookNotifierService {
     private final Logger LOGGER = LoggerFactory.getLogger(WebhookNotifierServiceImpl.class);
 
     @Autowired
-    WebNotifierService webNotifierService;
+    WebhookDeliveryQueue webhookDeliveryQueue;
 
     @Override
     public void trigger(final Hook hook, GenericNotificationConfig genericNotificationConfig, final Map<String, Object> params) {
@@ -54,13 +52,7 @@ public class WebhookNotifierServiceImpl implements WebhookNotifierService {
         headers.put("X-Gravitee-Event", hook.name());
         headers.put("X-Gravitee-Event-Scope", hook.getScope().name());
 
-        webNotifierService.request(
-            HttpMethod.POST,
-            genericNotificationConfig.getConfig(),
-            headers,
-            body,
-            genericNotificationConfig.isUseSystemProxy()
-        );
+        webhookDeliveryQueue.enqueue(genericNotificationConfig.getConfig(), headers, body, genericNotificationConfig.isUseSystemProxy());
     }
 
     private String toJson(final Hook hook, final Map<String, Object> params) {
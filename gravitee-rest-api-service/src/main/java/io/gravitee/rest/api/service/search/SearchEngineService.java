@@ -33,4 +33,9 @@ public interface SearchEngineService {
     SearchResult search(Query<? extends Indexable> query);
 
     void process(CommandSearchIndexerEntity content);
+
+    /**
+     * Process a batch of commands, keeping only the latest action per document and loading documents to index in bulk.
+     */
+    void process(Collection<CommandSearchIndexerEntity> contents);
 }
@@ -0,0 +1,413 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.vertx;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.ProxyOptions;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of shared, pooled and keep-alive Vert.x {@link HttpClient}s.
+ *
+ * Clients are keyed by target (scheme, host, port), proxy and TLS settings so that periodic callers (dynamic properties,
+ * dictionaries, notifiers, ...) reuse their connections instead of paying a TCP and TLS handshake on each call.
+ * Idle connections are evicted by the client pool after <code>httpClient.pool.idleTimeout</code> seconds, and clients
+ * which have not been used for <code>httpClient.clients.idleTimeout</code> seconds are closed. At most
+ * <code>httpClient.clients.maxSize</code> clients are kept, the least recently used ones being closed first. Clients are
+ * only lent for the duration of a call, and are never closed while a call is in progress.
+ *
+ * All clients trust all certificates, as the outbound callers always did. The host name is verified unless the caller
+ * explicitly opts out.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class HttpClientRegistry {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(HttpClientRegistry.class);
+
+    private static final String HTTPS_SCHEME = "https";
+
+    @Autowired
+    private Vertx vertx;
+
+    @Value("${httpClient.pool.maxSize:10}")
+    private int maxPoolSize = 10;
+
+    @Value("${httpClient.pool.idleTimeout:60}")
+    private int idleTimeout = 60;
+
+    @Value("${httpClient.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${httpClient.clients.maxSize:100}")
+    private int maxClients = 100;
+
+    @Value("${httpClient.clients.idleTimeout:600}")
+    private long clientIdleTimeout = 600;
+
+    private final Map<Target, PooledClient> clients = new ConcurrentHashMap<>();
+
+    public HttpClientRegistry() {}
+
+    public HttpClientRegistry(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    @PostConstruct
+    public void init() {
+        vertx.setPeriodic(Math.max(1, TimeUnit.SECONDS.toMillis(clientIdleTimeout)), timerId -> evictClients());
+    }
+
+    /**
+     * Call the given target with its shared client, verifying its host name.
+     *
+     * @see #execute(String, String, int, int, ProxyOptions, boolean, BiFunction)
+     */
+    public <T> CompletableFuture<T> execute(
+        String scheme,
+        String host,
+        int port,
+        int connectTimeout,
+        ProxyOptions proxyOptions,
+        BiFunction<HttpClient, TargetMetrics, CompletableFuture<T>> call
+    ) {
+        return execute(scheme, host, port, connectTimeout, proxyOptions, true, call);
+    }
+
+    /**
+     * Call the given target with its shared client, creating it on first use. The client is kept open until the future
+     * returned by the call completes, and must not be used afterwards.
+     *
+     * @param scheme the target scheme (<code>http</code> or <code>https</code>)
+     * @param host the target host
+     * @param port the target port
+     * @param connectTimeout the connect timeout, in milliseconds
+     * @param proxyOptions the proxy to go through, <code>null</code> for a direct connection
+     * @param verifyHost whether the host name of the target must match its certificate
+     * @param call the call, given the shared client and the metrics of the target
+     * @return the future returned by the call
+     */
+    public <T> CompletableFuture<T> execute(
+        String scheme,
+        String host,
+        int port,
+        int connectTimeout,
+        ProxyOptions proxyOptions,
+        boolean verifyHost,
+        BiFunction<HttpClient, TargetMetrics, CompletableFuture<T>> call
+    ) {
+        final PooledClient client = acquire(new Target(scheme, host, port, connectTimeout, proxyOptions, verifyHost));
+        final CompletableFuture<T> future;
+        try {
+            future = call.apply(client.client, client.metrics);
+        } catch (RuntimeException e) {
+            release(client);
+            throw e;
+        }
+        return future.whenComplete((result, throwable) -> release(client));
+    }
+
+    private PooledClient acquire(Target target) {
+        // The client is marked as in use atomically with its lookup, so that it cannot be closed in between
+        final PooledClient client = clients.compute(
+            target,
+            (t, existing) -> {
+                final PooledClient pooledClient = existing == null ? createClient(t) : existing;
+                pooledClient.inUse.incrementAndGet();
+                pooledClient.lastUsedAt = System.currentTimeMillis();
+                return pooledClient;
+            }
+        );
+        if (clients.size() > maxClients) {
+            evictClients();
+        }
+        return client;
+    }
+
+    private void release(PooledClient client) {
+        client.lastUsedAt = System.currentTimeMillis();
+        client.inUse.decrementAndGet();
+        // Clients in use may have been kept above the maximum number of clients
+        if (clients.size() > maxClients) {
+            evictClients();
+        }
+    }
+
+    /**
+     * @return the number of shared clients.
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Close the clients which have not been used for a while, then the least recently used ones above the maximum number
+     * of clients. Clients in use are left open, so the maximum number of clients can be exceeded while they are.
+     */
+    void evictClients() {
+        final long idleSince = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(clientIdleTimeout);
+        clients.forEach(
+            (target, client) -> {
+                if (client.lastUsedAt < idleSince) {
+                    closeClient(target, client);
+                }
+            }
+        );
+
+        final int excess = clients.size() - maxClients;
+        if (excess > 0) {
+            clients
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().inUse.get() == 0)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsedAt))
+                .limit(excess)
+                .collect(Collectors.toList())
+                .forEach(entry -> closeClient(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void closeClient(Target target, PooledClient client) {
+        final AtomicBoolean removed = new AtomicBoolean();
+        clients.computeIfPresent(
+            target,
+            (t, existing) -> {
+                if (existing == client && client.inUse.get() == 0) {
+                    removed.set(true);
+                    return null;
+                }
+                return existing;
+            }
+        );
+        // The metrics of the target go away with its client
+        if (removed.get()) {
+            LOGGER.debug("Close the shared HTTP client for {}", target);
+            client.client.close();
+        }
+    }
+
+    /**
+     * @return the metrics of every known target, keyed by target description.
+     */
+    public Map<String, TargetMetrics> getMetrics() {
+        Map<String, TargetMetrics> all = new ConcurrentHashMap<>();
+        clients.forEach((target, client) -> all.put(target.toString(), client.metrics));
+        return Collections.unmodifiableMap(all);
+    }
+
+    private PooledClient createClient(Target target) {
+        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(target.scheme);
+
+        final HttpClientOptions options = new HttpClientOptions()
+            .setSsl(ssl)
+            .setTrustAll(true)
+            .setVerifyHost(target.verifyHost)
+            .setMaxPoolSize(maxPoolSize)
+            .setKeepAlive(true)
+            .setTcpKeepAlive(true)
+            .setIdleTimeout(idleTimeout)
+            .setConnectTimeout(target.connectTimeout);
+
+        // HTTP/2 is only negotiated through ALPN, plain HTTP targets stay on HTTP/1.1
+        if (http2Enabled && ssl) {
+            options.setProtocolVersion(HttpVersion.HTTP_2).setUseAlpn(true);
+        }
+
+        if (target.proxyOptions != null) {
+            options.setProxyOptions(target.proxyOptions);
+        }
+
+        LOGGER.debug("Create a shared HTTP client for {}", target);
+
+        final TargetMetrics targetMetrics = new TargetMetrics();
+        final HttpClient client = vertx.createHttpClient(options);
+        client.connectionHandler(
+            connection -> {
+                targetMetrics.openConnections.incrementAndGet();
+                targetMetrics.totalConnections.incrementAndGet();
+                connection.closeHandler(v -> targetMetrics.openConnections.decrementAndGet());
+            }
+        );
+        return new PooledClient(client, targetMetrics);
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.values().forEach(client -> client.client.close());
+        clients.clear();
+    }
+
+    private static class PooledClient {
+
+        private final HttpClient client;
+        private final TargetMetrics metrics;
+        private final AtomicInteger inUse = new AtomicInteger();
+        private volatile long lastUsedAt;
+
+        private PooledClient(HttpClient client, TargetMetrics metrics) {
+            this.client = client;
+            this.metrics = metrics;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+    }
+
+    public static class TargetMetrics {
+
+        private final AtomicLong openConnections = new AtomicLong();
+        private final AtomicLong totalConnections = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        public void recordSuccess(long latency) {
+            requests.incrementAndGet();
+            totalLatency.addAndGet(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+
+        public void recordError(long latency) {
+            errors.incrementAndGet();
+            recordSuccess(latency);
+        }
+
+        public long getOpenConnections() {
+            return openConnections.get();
+        }
+
+        public long getTotalConnections() {
+            return totalConnections.get();
+        }
+
+        public long getRequests() {
+            return requests.get();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public long getMaxLatency() {
+            return maxLatency.get();
+        }
+
+        public double getMeanLatency() {
+            long count = requests.get();
+            return count == 0 ? 0 : (double) totalLatency.get() / count;
+        }
+    }
+
+    private static class Target {
+
+        private final String scheme;
+        private final String host;
+        private final int port;
+        private final int connectTimeout;
+        private final ProxyOptions proxyOptions;
+        private final boolean verifyHost;
+
+        private Target(String scheme, String host, int port, int connectTimeout, ProxyOptions proxyOptions, boolean verifyHost) {
+            this.scheme = scheme == null ? null : scheme.toLowerCase();
+            this.host = host;
+            this.port = port;
+            this.connectTimeout = connectTimeout;
+            this.proxyOptions = proxyOptions;
+            this.verifyHost = verifyHost;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Target target = (Target) o;
+            return (
+                port == target.port &&
+                connectTimeout == target.connectTimeout &&
+                verifyHost == target.verifyHost &&
+                Objects.equals(scheme, target.scheme) &&
+                Objects.equals(host, target.host) &&
+                sameProxy(proxyOptions, target.proxyOptions)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                scheme,
+                host,
+                port,
+                connectTimeout,
+                verifyHost,
+                proxyOptions == null ? null : proxyOptions.getType(),
+                proxyOptions == null ? null : proxyOptions.getHost(),
+                proxyOptions == null ? null : proxyOptions.getPort(),
+                proxyOptions == null ? null : proxyOptions.getUsername()
+            );
+        }
+
+        private static boolean sameProxy(ProxyOptions p1, ProxyOptions p2) {
+            if (p1 == null || p2 == null) {
+                return p1 == p2;
+            }
+            return (
+                p1.getType() == p2.getType() &&
+                p1.getPort() == p2.getPort() &&
+                Objects.equals(p1.getHost(), p2.getHost()) &&
+                Objects.equals(p1.getUsername(), p2.getUsername()) &&
+                Objects.equals(p1.getPassword(), p2.getPassword())
+            );
+        }
+
+        @Override
+        public String toString() {
+            return (
+                scheme +
+                "://" +
+                host +
+                ':' +
+                port +
+                (
+                    proxyOptions == null
+                        ? ""
+                        : " via " + proxyOptions.getType() + " proxy " + proxyOptions.getHost() + ':' + proxyOptions.getPort()
+                ) +
+                (verifyHost ? "" : " without host verification")
+            );
+        }
+    }
+}
@@ -528,4 +528,41 @@ public class ApiKeyServiceTest {
         assertEquals("second", bySubscription.get(1).getKey());
         assertEquals("last", bySubscription.get(2).getKey());
     }
+
+    @Test
+    public void shouldFindBySubscriptionsWithoutLoadingKeysOfOtherSubscriptions() throws TechnicalException {
+        SubscriptionEntity firstSubscription = new SubscriptionEntity();
+        firstSubscription.setId("subscription-1");
+        firstSubscription.setPlan("plan-1");
+        SubscriptionEntity secondSubscription = new SubscriptionEntity();
+        secondSubscription.setId("subscription-2");
+        secondSubscription.setPlan("plan-2");
+        SubscriptionEntity thirdSubscription = new SubscriptionEntity();
+        thirdSubscription.setId("subscription-3");
+        thirdSubscription.setPlan("plan-1");
+
+        when(apiKeyRepository.findBySubscription("subscription-1"))
+            .thenReturn(new HashSet<>(Arrays.asList(key("old", "subscription-1", 10), key("new", "subscription-1", 1))));
+        when(apiKeyRepository.findBySubscription("subscription-2")).thenReturn(Collections.singleton(key("second", "subscription-2", 1)));
+        when(apiKeyRepository.findBySubscription("subscription-3")).thenReturn(Collections.emptySet());
+
+        Map<String, List<ApiKeyEntity>> keys = apiKeyService.findByEachSubscription(
+            Arrays.asList(firstSubscription, secondSubscription, thirdSubscription)
+        );
+
+        assertEquals(3, keys.size());
+        List<String> firstSubscriptionKeys = keys.get("subscription-1").stream().map(ApiKeyEntity::getKey).collect(Collectors.toList());
+        assertEquals(Arrays.asList("new", "old"), firstSubscriptionKeys);
+        assertEquals("second", keys.get("subscription-2").get(0).getKey());
+        assertTrue(keys.get("subscription-3").isEmpty());
+        verify(apiKeyRepository, never()).findByCriteria(any());
+    }
+
+    private ApiKey key(String key, String subscription, int daysAgo) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKey(key);
+        apiKey.setSubscription(subscription);
+        apiKey.setCreatedAt(Date.from(Instant.now().minus(daysAgo, ChronoUnit.DAYS)));
+        return apiKey;
+    }
 }
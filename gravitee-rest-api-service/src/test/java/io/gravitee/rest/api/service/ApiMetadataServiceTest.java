@@ -35,6 +35,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.exceptions.DuplicateMetadataNameException;
 import io.gravitee.rest.api.service.impl.ApiMetadataServiceImpl;
+import io.gravitee.rest.api.service.impl.RenderedPageCache;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import java.util.Arrays;
 import java.util.Date;
@@ -96,6 +97,9 @@ public class ApiMetadataServiceTest {
     @Mock
     private SearchEngineService searchEngineService;
 
+    @Mock
+    private RenderedPageCache renderedPageCache;
+
     @Before
     public void init() throws TechnicalException {
         mockMetadata(defaultMetadata, METADATA_KEY, DEFAULT, getDefaultReferenceId(), METADATA_VALUE);
@@ -250,6 +254,7 @@ public class ApiMetadataServiceTest {
         verify(metadataRepository).update(newApiMetadata);
         verify(auditService).createApiAuditLog(eq(API_ID), any(), eq(METADATA_UPDATED), any(), eq(apiMetadata), eq(newApiMetadata));
         verify(searchEngineService, times(1)).index(any(), eq(false));
+        verify(renderedPageCache).evict(API_ID);
     }
 
     @Test
@@ -28,6 +28,7 @@ import io.gravitee.repository.management.api.ApiQualityRuleRepository;
 import io.gravitee.repository.management.model.ApiQualityRule;
 import io.gravitee.rest.api.model.quality.*;
 import io.gravitee.rest.api.service.exceptions.ApiQualityRuleNotFoundException;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.ApiQualityRuleServiceImpl;
 import java.util.Date;
 import java.util.List;
@@ -56,6 +57,9 @@ public class ApiQualityRuleServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Test
     public void shouldFindByApi() throws TechnicalException {
         final ApiQualityRule aqr = mock(ApiQualityRule.class);
@@ -16,22 +16,30 @@
 package io.gravitee.rest.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
 import io.gravitee.definition.model.*;
 import io.gravitee.definition.model.endpoint.HttpEndpoint;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
 import io.gravitee.repository.management.model.Api;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.jackson.ser.api.ApiSerializer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -229,4 +237,36 @@ public class ApiService_ExportAsJsonTest extends ApiService_ExportAsJsonTestSetu
     public void shouldConvertAsJsonWithoutMetadata_1_25() throws IOException {
         shouldConvertAsJsonWithoutMetadata(ApiSerializer.Version.V_1_25, "1_25");
     }
+
+    @Test
+    public void shouldExportAsJsonToStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        apiService.exportAsJson(API_ID, ApiSerializer.Version.DEFAULT.getVersion(), outputStream, SystemRole.PRIMARY_OWNER.name());
+
+        URL url = Resources.getResource("io/gravitee/rest/api/management/service/export-convertAsJsonForExport.json");
+        String expectedJson = Resources.toString(url, Charsets.UTF_8);
+        assertThat(objectMapper.readTree(outputStream.toByteArray())).isEqualTo(objectMapper.readTree(expectedJson));
+    }
+
+    @Test
+    public void shouldExportAllAsArchive() throws TechnicalException, IOException {
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setName("My API");
+        api.setVersion("1.0");
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        apiService.exportAllAsArchive(ApiSerializer.Version.DEFAULT.getVersion(), outputStream, SystemRole.PRIMARY_OWNER.name());
+
+        URL url = Resources.getResource("io/gravitee/rest/api/management/service/export-convertAsJsonForExport.json");
+        String expectedJson = Resources.toString(url, Charsets.UTF_8);
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry = zipInputStream.getNextEntry();
+            assertThat(entry.getName()).isEqualTo("my-api-1.0.json");
+            assertThat(objectMapper.readTree(ByteStreams.toByteArray(zipInputStream))).isEqualTo(objectMapper.readTree(expectedJson));
+            assertThat(zipInputStream.getNextEntry()).isNull();
+        }
+    }
 }
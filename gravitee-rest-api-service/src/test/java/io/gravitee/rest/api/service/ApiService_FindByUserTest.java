@@ -68,6 +68,9 @@ public class ApiService_FindByUserTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Mock
     private SubscriptionService subscriptionService;
 
@@ -116,8 +119,7 @@ public class ApiService_FindByUserTest {
         membership.setReferenceType(MembershipReferenceType.API);
         membership.setRoleId("API_USER");
 
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
-            .thenReturn(Collections.singleton(membership));
+        mockUserAccess(membership);
 
         RoleEntity poRole = new RoleEntity();
         poRole.setId("API_PRIMARY_OWNER");
@@ -169,8 +171,7 @@ public class ApiService_FindByUserTest {
         membership2.setReferenceType(MembershipReferenceType.API);
         membership2.setRoleId("API_USER");
 
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
-            .thenReturn(new HashSet<>(Arrays.asList(membership1, membership2)));
+        mockUserAccess(membership1, membership2);
         when(apiRepository.search(new ApiCriteria.Builder().environmentId("DEFAULT").ids(api1.getId(), api2.getId()).build()))
             .thenReturn(Arrays.asList(api1, api2));
 
@@ -208,8 +209,7 @@ public class ApiService_FindByUserTest {
 
     @Test
     public void shouldNotFindByUserBecauseNotExists() throws TechnicalException {
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
-            .thenReturn(Collections.emptySet());
+        mockUserAccess();
 
         final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME, null, false);
 
@@ -224,10 +224,12 @@ public class ApiService_FindByUserTest {
         assertNotNull(apiEntities);
         assertEquals(0, apiEntities.size());
 
-        verify(membershipService, times(0))
-            .getMembershipsByMemberAndReference(MembershipMemberType.USER, null, MembershipReferenceType.API);
-        verify(membershipService, times(0))
-            .getMembershipsByMemberAndReference(MembershipMemberType.USER, null, MembershipReferenceType.GROUP);
+        verify(userAccessSnapshotService, times(0)).get(any());
         verify(applicationService, times(0)).findByUser(null);
     }
+
+    private void mockUserAccess(MembershipEntity... memberships) {
+        when(userAccessSnapshotService.get(USER_NAME))
+            .thenReturn(new UserAccessSnapshotService.UserAccessSnapshot(Arrays.asList(memberships), roleService::findById));
+    }
 }
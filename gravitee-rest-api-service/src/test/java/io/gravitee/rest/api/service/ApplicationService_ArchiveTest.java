@@ -90,7 +90,8 @@ public class ApplicationService_ArchiveTest {
         when(applicationRepository.findById(APPLICATION_ID)).thenReturn(Optional.of(application));
         when(subscriptionService.findByApplicationAndPlan(APPLICATION_ID, null)).thenReturn(Collections.singleton(subscription));
         when(subscription.getId()).thenReturn("sub");
-        when(apiKeyService.findBySubscription("sub")).thenReturn(Collections.singletonList(apiKeyEntity));
+        when(apiKeyService.findByEachSubscription(Collections.singleton(subscription)))
+            .thenReturn(Collections.singletonMap("sub", Collections.singletonList(apiKeyEntity)));
         when(apiKeyEntity.getKey()).thenReturn("key");
 
         applicationService.archive(APPLICATION_ID);
@@ -54,6 +54,9 @@ public class ApplicationService_FindByNameTest {
     @Mock
     private MembershipService membershipService;
 
+    @Mock
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Test
     public void shouldNotFindByNameWhenNull() throws Exception {
         Set<ApplicationListItem> set = applicationService.findByNameAndStatus(null, null, "ACTIVE");
@@ -72,7 +75,8 @@ public class ApplicationService_FindByNameTest {
 
     @Test
     public void shouldNotFindByName() throws Exception {
-        when(membershipService.getMembershipsByMemberAndReference(any(), any(), any())).thenReturn(Collections.emptySet());
+        when(userAccessSnapshotService.get(any()))
+            .thenReturn(new UserAccessSnapshotService.UserAccessSnapshot(Collections.emptySet(), roleId -> null));
         when(applicationRepository.search(any(), any())).thenReturn(new Page<>(Collections.emptyList(), 0, 0, 0));
         Set<ApplicationListItem> set = applicationService.findByNameAndStatus(null, "a", "ACTIVE");
         assertNotNull(set);
@@ -16,8 +16,7 @@
 package io.gravitee.rest.api.service;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.model.Application;
@@ -82,6 +81,9 @@ public class ApplicationService_FindByUserTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @After
     public void tearDown() {
         GraviteeContext.cleanContext();
@@ -94,8 +96,8 @@ public class ApplicationService_FindByUserTest {
         when(application.getId()).thenReturn(APPLICATION_ID);
         when(application.getStatus()).thenReturn(ApplicationStatus.ACTIVE);
         when(application.getType()).thenReturn(ApplicationType.SIMPLE);
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.APPLICATION))
-            .thenReturn(Collections.singleton(appMembership));
+        when(appMembership.getReferenceType()).thenReturn(MembershipReferenceType.APPLICATION);
+        mockUserAccess(appMembership);
         when(applicationRepository.findByIds(Collections.singletonList(APPLICATION_ID))).thenReturn(Collections.singleton(application));
         when(application.getEnvironmentId()).thenReturn("envId");
         when(roleService.findPrimaryOwnerRoleByOrganization(any(), any())).thenReturn(mock(RoleEntity.class));
@@ -119,8 +121,8 @@ public class ApplicationService_FindByUserTest {
     public void shouldNotFindByUserBecauseOfArchived() throws Exception {
         when(appMembership.getReferenceId()).thenReturn(APPLICATION_ID);
         when(application.getStatus()).thenReturn(ApplicationStatus.ARCHIVED);
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.APPLICATION))
-            .thenReturn(Collections.singleton(appMembership));
+        when(appMembership.getReferenceType()).thenReturn(MembershipReferenceType.APPLICATION);
+        mockUserAccess(appMembership);
         when(applicationRepository.findByIds(Collections.singletonList(APPLICATION_ID))).thenReturn(Collections.singleton(application));
 
         Set<ApplicationListItem> apps = applicationService.findByUser(USERNAME);
@@ -145,16 +147,14 @@ public class ApplicationService_FindByUserTest {
         when(groupApplication.getType()).thenReturn(ApplicationType.SIMPLE);
         when(groupApplication.getEnvironmentId()).thenReturn("envId");
 
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.APPLICATION))
-            .thenReturn(Collections.singleton(appMembership));
-
-        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.GROUP))
-            .thenReturn(Collections.singleton(groupAppMembership));
+        when(appMembership.getReferenceType()).thenReturn(MembershipReferenceType.APPLICATION);
+        when(groupAppMembership.getReferenceType()).thenReturn(MembershipReferenceType.GROUP);
 
         RoleEntity role = mock(RoleEntity.class);
         when(role.getScope()).thenReturn(RoleScope.APPLICATION);
         when(roleService.findPrimaryOwnerRoleByOrganization(any(), any())).thenReturn(role);
         when(roleService.findById(any())).thenReturn(role);
+        mockUserAccess(appMembership, groupAppMembership);
 
         when(applicationRepository.findByIds(any())).thenReturn(new HashSet(Arrays.asList(application, groupApplication)));
 
@@ -183,4 +183,55 @@ public class ApplicationService_FindByUserTest {
         Assert.assertFalse("should find apps", apps.isEmpty());
         Assert.assertEquals(2, apps.size());
     }
+
+    @Test
+    public void shouldFindByUserWithGroupApplicationsLoadedOnce() throws Exception {
+        GraviteeContext.setCurrentEnvironment("envId");
+        when(appMembership.getReferenceId()).thenReturn(APPLICATION_ID);
+        when(groupAppMembership.getReferenceId()).thenReturn(GROUP_ID);
+        when(groupAppMembership.getRoleId()).thenReturn("APPLICATION_USER");
+
+        when(application.getId()).thenReturn(APPLICATION_ID);
+        when(application.getStatus()).thenReturn(ApplicationStatus.ACTIVE);
+        when(application.getType()).thenReturn(ApplicationType.SIMPLE);
+        when(application.getEnvironmentId()).thenReturn("envId");
+        when(groupApplication.getId()).thenReturn(GROUP_APPLICATION_ID);
+        when(groupApplication.getStatus()).thenReturn(ApplicationStatus.ACTIVE);
+        when(groupApplication.getType()).thenReturn(ApplicationType.SIMPLE);
+        when(groupApplication.getEnvironmentId()).thenReturn("envId");
+
+        when(appMembership.getReferenceType()).thenReturn(MembershipReferenceType.APPLICATION);
+        when(groupAppMembership.getReferenceType()).thenReturn(MembershipReferenceType.GROUP);
+
+        RoleEntity role = mock(RoleEntity.class);
+        when(role.getScope()).thenReturn(RoleScope.APPLICATION);
+        when(roleService.findPrimaryOwnerRoleByOrganization(any(), any())).thenReturn(role);
+        when(roleService.findById("APPLICATION_USER")).thenReturn(role);
+        mockUserAccess(appMembership, groupAppMembership);
+
+        when(applicationRepository.findByGroups(Collections.singletonList(GROUP_ID), ApplicationStatus.ACTIVE))
+            .thenReturn(Collections.singleton(groupApplication));
+        when(applicationRepository.findByIds(Collections.singletonList(APPLICATION_ID))).thenReturn(Collections.singleton(application));
+
+        MembershipEntity poApp = new MembershipEntity();
+        poApp.setMemberId(USERNAME);
+        poApp.setReferenceId(APPLICATION_ID);
+        MembershipEntity poGroupApp = new MembershipEntity();
+        poGroupApp.setMemberId(USERNAME);
+        poGroupApp.setReferenceId(GROUP_APPLICATION_ID);
+        when(membershipService.getMembershipsByReferencesAndRole(any(), any(), any()))
+            .thenReturn(new HashSet<>(Arrays.asList(poApp, poGroupApp)));
+
+        Set<ApplicationListItem> apps = applicationService.findByUser(USERNAME);
+
+        Assert.assertEquals(2, apps.size());
+        verify(applicationRepository, times(1)).findByGroups(any(), any());
+        verify(applicationRepository, times(1)).findByIds(any());
+        verify(membershipService, times(1)).getMembershipsByReferencesAndRole(any(), any(), any());
+    }
+
+    private void mockUserAccess(MembershipEntity... memberships) {
+        when(userAccessSnapshotService.get(USERNAME))
+            .thenReturn(new UserAccessSnapshotService.UserAccessSnapshot(Arrays.asList(memberships), roleService::findById));
+    }
 }
@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.gravitee.rest.api.model.parameters.Key;
+import io.gravitee.rest.api.model.parameters.ParameterReferenceType;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.EmailDeliveryQueue;
+import io.gravitee.rest.api.service.impl.EmailServiceImpl;
+import io.gravitee.rest.api.service.notification.NotificationTemplateService;
+import io.gravitee.rest.api.service.spring.GraviteeJavaMailManager;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.mail.internet.MimeMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmailServiceTest {
+
+    private static final String ENVIRONMENT = "DEFAULT";
+    private static final GraviteeContext.ReferenceContext CONTEXT = new GraviteeContext.ReferenceContext(
+        ENVIRONMENT,
+        GraviteeContext.ReferenceContextType.ENVIRONMENT
+    );
+
+    @InjectMocks
+    private EmailServiceImpl emailService = new EmailServiceImpl();
+
+    @Mock
+    private GraviteeJavaMailManager mailManager;
+
+    @Mock
+    private NotificationTemplateService notificationTemplateService;
+
+    @Mock
+    private ParameterService parameterService;
+
+    @Rule
+    public TemporaryFolder templatesFolder = new TemporaryFolder();
+
+    private GreenMail greenMail;
+
+    private CountingMailSender mailSender;
+
+    private EmailDeliveryQueue emailDeliveryQueue;
+
+    @Before
+    public void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+
+        mailSender = new CountingMailSender();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        emailDeliveryQueue = new EmailDeliveryQueue();
+        ReflectionTestUtils.setField(emailDeliveryQueue, "capacity", 100);
+        ReflectionTestUtils.setField(emailDeliveryQueue, "batchSize", 50);
+        ReflectionTestUtils.setField(emailDeliveryQueue, "window", 60_000L);
+        ReflectionTestUtils.setField(emailDeliveryQueue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailDeliveryQueue, "backoff", 0L);
+
+        ReflectionTestUtils.setField(emailService, "emailDeliveryQueue", emailDeliveryQueue);
+        ReflectionTestUtils.setField(emailService, "templatesPath", templatesFolder.getRoot().getAbsolutePath());
+
+        Map<String, List<String>> parameters = new HashMap<>();
+        parameters.put(Key.EMAIL_ENABLED.key(), Collections.singletonList("true"));
+        parameters.put(Key.EMAIL_SUBJECT.key(), Collections.singletonList("[Gravitee.io] %s"));
+        parameters.put(Key.EMAIL_FROM.key(), Collections.singletonList("noreply@gravitee.io"));
+        when(parameterService.findAll(anyList(), eq(ENVIRONMENT), eq(ParameterReferenceType.ENVIRONMENT))).thenReturn(parameters);
+        when(mailManager.getOrCreateMailSender(ENVIRONMENT, ParameterReferenceType.ENVIRONMENT)).thenReturn(mailSender);
+    }
+
+    @After
+    public void tearDown() {
+        emailDeliveryQueue.destroy();
+        greenMail.stop();
+        GraviteeContext.cleanContext();
+    }
+
+    @Test
+    public void shouldSendQueuedEmailsOverOneConnection() {
+        when(notificationTemplateService.resolveTemplateWithParam(anyString(), any())).thenReturn("Hello");
+        emailDeliveryQueue.afterPropertiesSet();
+
+        for (int i = 0; i < 5; i++) {
+            emailService.sendAsyncEmailNotification(notification("user-" + i + "@gravitee.io"), CONTEXT);
+        }
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(5, emailDeliveryQueue.size());
+
+        // Flush pending emails
+        emailDeliveryQueue.destroy();
+
+        assertEquals(5, greenMail.getReceivedMessages().length);
+        assertEquals(1, mailSender.connections.get());
+    }
+
+    @Test
+    public void shouldSendEmailDirectlyWhenQueueIsFull() {
+        when(notificationTemplateService.resolveTemplateWithParam(anyString(), any())).thenReturn("Hello");
+        ReflectionTestUtils.setField(emailDeliveryQueue, "capacity", 1);
+        emailDeliveryQueue.afterPropertiesSet();
+
+        emailService.sendAsyncEmailNotification(notification("user-1@gravitee.io"), CONTEXT);
+        emailService.sendAsyncEmailNotification(notification("user-2@gravitee.io"), CONTEXT);
+
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals(1, emailDeliveryQueue.size());
+    }
+
+    @Test
+    public void shouldRetryFailedEmails() {
+        when(notificationTemplateService.resolveTemplateWithParam(anyString(), any())).thenReturn("Hello");
+        ReflectionTestUtils.setField(emailDeliveryQueue, "window", 50L);
+        emailDeliveryQueue.afterPropertiesSet();
+        mailSender.failures.set(1);
+
+        emailService.sendAsyncEmailNotification(notification("user-1@gravitee.io"), CONTEXT);
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        assertEquals(2, mailSender.connections.get());
+    }
+
+    @Test
+    public void shouldSendEmailWithCachedInlineImage() throws Exception {
+        File logo = templatesFolder.newFile("logo.png");
+        Files.write(logo.toPath(), new byte[] { 1, 2, 3 });
+        when(notificationTemplateService.resolveTemplateWithParam(anyString(), any())).thenReturn("<img src=\"logo.png\">Hello");
+
+        GraviteeContext.setCurrentEnvironment(ENVIRONMENT);
+
+        emailService.sendEmailNotification(notification("user-1@gravitee.io"));
+        assertTrue(logo.delete());
+        emailService.sendEmailNotification(notification("user-2@gravitee.io"));
+
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertEquals(0, emailDeliveryQueue.size());
+    }
+
+    private EmailNotification notification(String to) {
+        EmailNotification notification = new EmailNotification();
+        notification.setTo(to);
+        notification.setTemplate("TEMPLATES_FOR_ACTION_GENERIC_MESSAGE");
+        notification.setParams(Collections.emptyMap());
+        return notification;
+    }
+
+    private static class CountingMailSender extends JavaMailSenderImpl {
+
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            connections.incrementAndGet();
+            if (failures.getAndDecrement() > 0) {
+                Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+                for (MimeMessage mimeMessage : mimeMessages) {
+                    failedMessages.put(mimeMessage, new IllegalStateException("Connection refused"));
+                }
+                throw new MailSendException(failedMessages);
+            }
+            super.doSend(mimeMessages, originalMessages);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import io.gravitee.rest.api.model.NewEntryPointEntity;
 import io.gravitee.rest.api.model.UpdateEntryPointEntity;
 import io.gravitee.rest.api.service.exceptions.EntrypointNotFoundException;
 import io.gravitee.rest.api.service.impl.EntrypointServiceImpl;
+import io.gravitee.rest.api.service.impl.RenderedPageCache;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -71,6 +72,9 @@ public class EntrypointServiceTest {
     @Mock
     private EntrypointRepository entrypointRepository;
 
+    @Mock
+    private RenderedPageCache renderedPageCache;
+
     private final Entrypoint entrypointCreated = new Entrypoint();
     private final Entrypoint entrypointUpdated = new Entrypoint();
 
@@ -137,6 +141,7 @@ public class EntrypointServiceTest {
     public void shouldDelete() throws Exception {
         entrypointService.delete(ID, REFERENCE_ID, REFERENCE_TYPE);
         verify(entrypointRepository).delete(ID);
+        verify(renderedPageCache).evictAll();
     }
 
     @Test
@@ -54,6 +54,9 @@ public class GroupService_IsUserAuthorizedToAccessTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Mock
     private ApiEntity api;
 
@@ -64,7 +67,7 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.emptyList(), null);
 
         assertTrue(userAuthorizedToAccess);
-        verify(membershipService, never()).getRoles(any(), any(), any(), any());
+        verify(userAccessSnapshotService, never()).get(any());
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
 
@@ -75,7 +78,7 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.emptyList(), null);
 
         assertFalse(userAuthorizedToAccess);
-        verify(membershipService, never()).getRoles(any(), any(), any(), any());
+        verify(userAccessSnapshotService, never()).get(any());
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
 
@@ -84,7 +87,7 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.emptyList(), "user");
 
         assertTrue(userAuthorizedToAccess);
-        verify(membershipService, never()).getRoles(any(), any(), any(), any());
+        verify(userAccessSnapshotService, never()).get(any());
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
 
@@ -92,11 +95,12 @@ public class GroupService_IsUserAuthorizedToAccessTest {
     public void shouldBeAuthorizedForPrivateApiWithoutGroups() throws TechnicalException {
         when(api.getVisibility()).thenReturn(Visibility.PRIVATE);
         when(api.getGroups()).thenReturn(null);
-        when(membershipService.getRoles(any(), any(), any(), any())).thenReturn(Collections.emptySet());
+        mockUserAccess();
+
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertFalse(userAuthorizedToAccess);
-        verify(membershipService, times(1)).getRoles(any(), any(), any(), any());
+        verify(userAccessSnapshotService, times(1)).get("user");
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
 
@@ -105,20 +109,19 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, null, "user");
 
         assertTrue(userAuthorizedToAccess);
-        verify(membershipService, never()).getRoles(any(), any(), any(), any());
+        verify(userAccessSnapshotService, never()).get(any());
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
 
     @Test
     public void shouldBeAuthorizedForPrivateApiWithDirectMember() throws TechnicalException {
         when(api.getId()).thenReturn("apiId");
-        when(membershipService.getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user"))
-            .thenReturn(new HashSet<>(Arrays.asList(new RoleEntity())));
+        mockUserAccess(membership(MembershipReferenceType.API, "apiId", null));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertTrue(userAuthorizedToAccess);
-        verify(membershipService, times(1)).getRoles(any(), any(), any(), any());
+        verify(userAccessSnapshotService, times(1)).get("user");
         verify(api, never()).getGroups();
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
@@ -128,19 +131,12 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         when(api.getVisibility()).thenReturn(Visibility.PRIVATE);
         when(api.getId()).thenReturn("apiId");
         when(api.getGroups()).thenReturn(new HashSet<>(Arrays.asList("grp1", "grp2")));
-        when(membershipService.getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user"))
-            .thenReturn(Collections.emptySet());
-        RoleEntity apiRoleEntity = new RoleEntity();
-        apiRoleEntity.setScope(RoleScope.API);
-        when(membershipService.getRoles(MembershipReferenceType.GROUP, "grp2", MembershipMemberType.USER, "user"))
-            .thenReturn(new HashSet<>(Arrays.asList(apiRoleEntity)));
+        mockUserAccess(membership(MembershipReferenceType.GROUP, "grp2", RoleScope.API));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertTrue(userAuthorizedToAccess);
-        verify(membershipService, times(2)).getRoles(any(), any(), any(), any());
-        verify(membershipService, times(1)).getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user");
-        verify(membershipService, times(1)).getRoles(MembershipReferenceType.GROUP, "grp2", MembershipMemberType.USER, "user");
+        verify(userAccessSnapshotService, times(1)).get("user");
         verify(api, atLeast(2)).getGroups();
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
@@ -150,17 +146,12 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         when(api.getVisibility()).thenReturn(Visibility.PRIVATE);
         when(api.getId()).thenReturn("apiId");
         when(api.getGroups()).thenReturn(new HashSet<>(Arrays.asList("grp1", "grp2")));
-        when(membershipService.getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user"))
-            .thenReturn(Collections.emptySet());
-        when(membershipService.getRoles(MembershipReferenceType.GROUP, "grp2", MembershipMemberType.USER, "user"))
-            .thenReturn(Collections.emptySet());
+        mockUserAccess(membership(MembershipReferenceType.GROUP, "grp1", RoleScope.API));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertFalse(userAuthorizedToAccess);
-        verify(membershipService, times(2)).getRoles(any(), any(), any(), any());
-        verify(membershipService, times(1)).getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user");
-        verify(membershipService, times(1)).getRoles(MembershipReferenceType.GROUP, "grp2", MembershipMemberType.USER, "user");
+        verify(userAccessSnapshotService, times(1)).get("user");
         verify(api, atLeast(2)).getGroups();
         verify(groupRepository, never()).findAllByEnvironment("DEFAULT");
     }
@@ -171,12 +162,7 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         when(api.getId()).thenReturn("apiId");
         Group excludedGroup = new Group();
         excludedGroup.setId("excludedGroup");
-        RoleEntity apiRole = new RoleEntity();
-        apiRole.setScope(RoleScope.API);
-        when(membershipService.getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user"))
-            .thenReturn(Collections.emptySet());
-        when(membershipService.getRoles(MembershipReferenceType.GROUP, "excludedGroup", MembershipMemberType.USER, "user"))
-            .thenReturn(Collections.singleton(apiRole));
+        mockUserAccess(membership(MembershipReferenceType.GROUP, "excludedGroup", RoleScope.API));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(
             api,
@@ -185,9 +171,42 @@ public class GroupService_IsUserAuthorizedToAccessTest {
         );
 
         assertFalse(userAuthorizedToAccess);
-        verify(membershipService, times(2)).getRoles(any(), any(), any(), any());
-        verify(membershipService, times(1)).getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, "user");
-        verify(membershipService, times(1)).getRoles(MembershipReferenceType.GROUP, "excludedGroup", MembershipMemberType.USER, "user");
+        verify(userAccessSnapshotService, times(1)).get("user");
         verify(api, never()).getGroups();
     }
+
+    @Test
+    public void shouldBeAuthorizedForPublicApiIfGroupRoleIsNotOnApis() {
+        when(api.getVisibility()).thenReturn(Visibility.PUBLIC);
+        when(api.getId()).thenReturn("apiId");
+        mockUserAccess(membership(MembershipReferenceType.GROUP, "grp1", RoleScope.APPLICATION));
+
+        assertTrue(groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user"));
+        assertTrue(groupService.isUserAuthorizedToAccessApiData(api, Arrays.asList("grp1", "grp2"), "user"));
+
+        verify(membershipService, never()).getRoles(any(), any(), any(), any());
+        verify(membershipService, never()).getMembershipsByMemberAndReference(any(), any(), any());
+    }
+
+    private MembershipEntity membership(MembershipReferenceType referenceType, String referenceId, RoleScope scope) {
+        MembershipEntity membership = new MembershipEntity();
+        membership.setReferenceType(referenceType);
+        membership.setReferenceId(referenceId);
+        membership.setRoleId(scope == null ? null : scope.name());
+        return membership;
+    }
+
+    private void mockUserAccess(MembershipEntity... memberships) {
+        when(userAccessSnapshotService.get("user"))
+            .thenReturn(
+                new UserAccessSnapshotService.UserAccessSnapshot(
+                    Arrays.asList(memberships),
+                    roleId -> {
+                        RoleEntity role = new RoleEntity();
+                        role.setScope(RoleScope.valueOf(roleId));
+                        return role;
+                    }
+                )
+            );
+    }
 }
@@ -72,6 +72,9 @@ public class MembershipService_AddRoleToMemberOnReferenceTest {
     @Mock
     private NotifierService notifierService;
 
+    @Mock
+    private UserAccessSnapshotService userAccessSnapshotService;
+
     @Test
     public void shouldAddApiGroupMembership() throws Exception {
         RoleEntity role = mock(RoleEntity.class);
@@ -120,6 +123,7 @@ public class MembershipService_AddRoleToMemberOnReferenceTest {
         verify(membershipRepository, times(1)).create(any());
         verify(membershipRepository, never()).update(any());
         verify(emailService, times(1)).sendAsyncEmailNotification(any(), any());
+        verify(userAccessSnapshotService, times(1)).evict("my name");
     }
 
     @Test
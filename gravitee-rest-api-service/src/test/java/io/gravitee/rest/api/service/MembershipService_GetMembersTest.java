@@ -15,8 +15,12 @@
  */
 package io.gravitee.rest.api.service;
 
+import static java.util.stream.Collectors.toList;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipMemberType;
@@ -24,11 +28,13 @@ import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.rest.api.model.MemberEntity;
 import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.impl.MembershipServiceImpl;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
@@ -158,4 +164,52 @@ public class MembershipService_GetMembersTest {
             .findByReferencesAndRoleId(MembershipReferenceType.API, Collections.singletonList(API_ID), null);
         verify(userService, times(1)).findByIds(memberIds, false);
     }
+
+    @Test
+    public void shouldGetPageOfMembersSortedByDisplayName() throws Exception {
+        when(membershipRepository.findByReferencesAndRoleId(MembershipReferenceType.API, Collections.singletonList(API_ID), null))
+            .thenReturn(new HashSet<>(Arrays.asList(membership("user1"), membership("user2"), membership("user3"), membership("user4"))));
+        when(roleService.findById("API_USER")).thenReturn(mock(RoleEntity.class));
+        when(userService.findByIds(anyList(), eq(false)))
+            .thenReturn(
+                new HashSet<>(Arrays.asList(user("user1", "Zoe"), user("user2", "Adam"), user("user3", "Bob"), user("user4", "Adam")))
+            );
+
+        Page<MemberEntity> firstPage = membershipService.getMembersByReferenceAndRole(
+            io.gravitee.rest.api.model.MembershipReferenceType.API,
+            API_ID,
+            null,
+            new PageableImpl(1, 2)
+        );
+        Page<MemberEntity> secondPage = membershipService.getMembersByReferenceAndRole(
+            io.gravitee.rest.api.model.MembershipReferenceType.API,
+            API_ID,
+            null,
+            new PageableImpl(2, 2)
+        );
+
+        Assert.assertEquals(4, firstPage.getTotalElements());
+        Assert.assertEquals(Arrays.asList("user2", "user4"), firstPage.getContent().stream().map(MemberEntity::getId).collect(toList()));
+        Assert.assertEquals(Arrays.asList("user3", "user1"), secondPage.getContent().stream().map(MemberEntity::getId).collect(toList()));
+        // All the memberships share the same role
+        verify(roleService, times(2)).findById("API_USER");
+    }
+
+    private Membership membership(String userId) {
+        Membership membership = new Membership();
+        membership.setReferenceId(API_ID);
+        membership.setReferenceType(MembershipReferenceType.API);
+        membership.setRoleId("API_USER");
+        membership.setMemberId(userId);
+        membership.setMemberType(MembershipMemberType.USER);
+        return membership;
+    }
+
+    private UserEntity user(String id, String firstname) {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setId(id);
+        userEntity.setFirstname(firstname);
+        userEntity.setLastname("Doe");
+        return userEntity;
+    }
 }
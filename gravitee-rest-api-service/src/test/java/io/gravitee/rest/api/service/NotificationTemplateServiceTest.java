@@ -31,16 +31,20 @@ import io.gravitee.rest.api.service.exceptions.NotificationTemplateNotFoundExcep
 import io.gravitee.rest.api.service.impl.NotificationTemplateServiceImpl;
 import io.gravitee.rest.api.service.notification.HookScope;
 import io.gravitee.rest.api.service.notification.NotificationTemplateService;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.internal.util.collections.Sets;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Florent CHAMFROY (florent.chamfroy at graviteesource.com)
@@ -76,10 +80,17 @@ public class NotificationTemplateServiceTest {
     @Mock
     private EventManager eventManager;
 
+    @Rule
+    public TemporaryFolder templatesFolder = new TemporaryFolder();
+
     NotificationTemplate notificationTemplate;
 
     @Before
-    public void init() {
+    public void init() throws Exception {
+        ReflectionTestUtils.setField(notificationTemplateService, "templatesPath", templatesFolder.getRoot().getAbsolutePath());
+        ReflectionTestUtils.setField(notificationTemplateService, "templatesCacheMaxSize", 10L);
+        ((NotificationTemplateServiceImpl) notificationTemplateService).afterPropertiesSet();
+
         notificationTemplate = new NotificationTemplate();
         notificationTemplate.setId(NOTIFICATION_TEMPLATE_ID);
         notificationTemplate.setHook(NOTIFICATION_TEMPLATE_HOOK);
@@ -204,4 +215,40 @@ public class NotificationTemplateServiceTest {
                 eq(notificationTemplate)
             );
     }
+
+    @Test
+    public void shouldCompileInlineTemplateOnce() {
+        final NotificationTemplateServiceImpl service = (NotificationTemplateServiceImpl) notificationTemplateService;
+
+        assertEquals(
+            "Hello John",
+            service.resolveInlineTemplateWithParam("page", "Hello ${name}", Collections.singletonMap("name", "John"))
+        );
+        assertEquals(
+            "Hello Jane",
+            service.resolveInlineTemplateWithParam("page", "Hello ${name}", Collections.singletonMap("name", "Jane"))
+        );
+        assertEquals(1, service.getCompileCount());
+        assertEquals(2, service.getRenderCount());
+
+        service.resolveInlineTemplateWithParam("page", "Bye ${name}", Collections.singletonMap("name", "Jane"));
+        assertEquals(2, service.getCompileCount());
+    }
+
+    @Test
+    public void shouldInvalidateInlineTemplatesOnTemplateUpdate() throws TechnicalException {
+        final NotificationTemplateServiceImpl service = (NotificationTemplateServiceImpl) notificationTemplateService;
+        service.resolveInlineTemplateWithParam("page", "Hello ${name}", Collections.singletonMap("name", "John"));
+
+        NotificationTemplateEntity newNotificationTemplateEntity = new NotificationTemplateEntity();
+        newNotificationTemplateEntity.setName(NOTIFICATION_TEMPLATE_NAME);
+        newNotificationTemplateEntity.setType(
+            io.gravitee.rest.api.model.notification.NotificationTemplateType.valueOf(NOTIFICATION_TEMPLATE_TYPE.name())
+        );
+        when(notificationTemplateRepository.create(any())).thenReturn(notificationTemplate);
+        notificationTemplateService.create(newNotificationTemplateEntity);
+
+        service.resolveInlineTemplateWithParam("page", "Hello ${name}", Collections.singletonMap("name", "John"));
+        assertEquals(2, service.getCompileCount());
+    }
 }
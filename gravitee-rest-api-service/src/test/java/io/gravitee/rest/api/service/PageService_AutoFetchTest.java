@@ -28,6 +28,7 @@ import io.gravitee.repository.management.model.PageReferenceType;
 import io.gravitee.repository.management.model.PageSource;
 import io.gravitee.rest.api.fetcher.FetcherConfigurationFactory;
 import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.GraviteeDescriptorServiceImpl;
 import io.gravitee.rest.api.service.impl.PageServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
@@ -62,6 +63,9 @@ public class PageService_AutoFetchTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Mock
     private PlanService planService;
 
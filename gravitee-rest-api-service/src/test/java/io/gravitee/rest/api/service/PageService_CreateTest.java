@@ -33,6 +33,7 @@ import io.gravitee.repository.management.model.Page;
 import io.gravitee.repository.management.model.PageReferenceType;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.PageServiceImpl;
 import io.gravitee.rest.api.service.notification.NotificationTemplateService;
 import io.gravitee.rest.api.service.search.SearchEngineService;
@@ -78,6 +79,9 @@ public class PageService_CreateTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Mock
     private SearchEngineService searchEngineService;
 
@@ -90,6 +94,9 @@ public class PageService_CreateTest {
     @Mock
     private NotificationTemplateService notificationTemplateService;
 
+    @Mock
+    private SwaggerService swaggerService;
+
     private PageEntity getPage(String resource, String contentType) throws IOException {
         URL url = Resources.getResource(resource);
         String descriptor = Resources.toString(url, Charsets.UTF_8);
@@ -34,6 +34,7 @@ import io.gravitee.rest.api.model.PlanStatus;
 import io.gravitee.rest.api.service.exceptions.PageActionException;
 import io.gravitee.rest.api.service.exceptions.PageUsedAsGeneralConditionsException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.PageServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import java.util.Arrays;
@@ -74,6 +75,9 @@ public class PageService_DeleteTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Mock
     private SearchEngineService searchEngineService;
 
@@ -33,6 +33,7 @@ import io.gravitee.rest.api.model.PageEntity;
 import io.gravitee.rest.api.model.PageSourceEntity;
 import io.gravitee.rest.api.model.Visibility;
 import io.gravitee.rest.api.service.common.RandomString;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.GraviteeDescriptorServiceImpl;
 import io.gravitee.rest.api.service.impl.PageServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
@@ -64,6 +65,9 @@ public class PageService_ImportDescriptorTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Mock
     private SearchEngineService searchEngineService;
 
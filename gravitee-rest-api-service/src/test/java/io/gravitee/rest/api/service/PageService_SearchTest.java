@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.PageRepository;
+import io.gravitee.repository.management.model.Page;
+import io.gravitee.repository.management.model.PageReferenceType;
+import io.gravitee.rest.api.model.PageConfigurationKeys;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.model.Visibility;
+import io.gravitee.rest.api.model.documentation.PageQuery;
+import io.gravitee.rest.api.service.impl.PageServiceImpl;
+import java.util.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_SearchTest {
+
+    private static final String API_ID = "my-api";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Test
+    public void shouldResolveTranslationsAndParentsInMemory() throws TechnicalException {
+        final Page folder = page("folder", PageType.FOLDER, null);
+        final Page markdown = page("markdown", PageType.MARKDOWN, "folder");
+        final Page fr = translation("fr", "markdown", "FR");
+        final Page en = translation("en", "markdown", "EN");
+
+        // Searched pages, then all the pages of the API
+        when(pageRepository.search(any())).thenReturn(Arrays.asList(folder, markdown)).thenReturn(Arrays.asList(folder, markdown, fr, en));
+
+        final List<PageEntity> pages = pageService.search(new PageQuery.Builder().api(API_ID).published(true).build());
+
+        assertEquals(2, pages.size());
+        final PageEntity page = pages.get(1);
+        assertEquals("/folder", page.getParentPath());
+        assertEquals(2, page.getTranslations().size());
+        assertEquals("en", page.getTranslations().get(0).getId());
+        assertEquals("fr", page.getTranslations().get(1).getId());
+
+        verify(pageRepository, times(2)).search(any());
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldTranslatePages() throws TechnicalException {
+        final Page markdown = page("markdown", PageType.MARKDOWN, null);
+        final Page fr = translation("fr", "markdown", "FR");
+        fr.setName("Bonjour");
+
+        when(pageRepository.search(any())).thenReturn(Arrays.asList(markdown, fr));
+
+        final List<PageEntity> pages = pageService.search(new PageQuery.Builder().api(API_ID).build(), "fr");
+
+        assertEquals(1, pages.size());
+        assertEquals("Bonjour", pages.get(0).getName());
+        verify(pageRepository, times(2)).search(any());
+    }
+
+    @Test
+    public void shouldFilterChildrenOfUnpublishedFolders() throws TechnicalException {
+        final Page folder = page("folder", PageType.FOLDER, null);
+        folder.setPublished(false);
+        final Page markdown = page("markdown", PageType.MARKDOWN, "folder");
+
+        when(pageRepository.search(any())).thenReturn(Collections.singletonList(markdown)).thenReturn(Arrays.asList(folder, markdown));
+
+        final List<PageEntity> pages = pageService.search(new PageQuery.Builder().api(API_ID).published(true).build());
+
+        assertTrue(pages.isEmpty());
+    }
+
+    private Page page(String id, PageType type, String parentId) {
+        final Page page = new Page();
+        page.setId(id);
+        page.setName(id);
+        page.setType(type.name());
+        page.setParentId(parentId);
+        page.setReferenceId(API_ID);
+        page.setReferenceType(PageReferenceType.API);
+        page.setVisibility(Visibility.PUBLIC.name());
+        page.setPublished(true);
+        return page;
+    }
+
+    private Page translation(String id, String parentId, String lang) {
+        final Page translation = page(id, PageType.TRANSLATION, parentId);
+        translation.setConfiguration(Collections.singletonMap(PageConfigurationKeys.TRANSLATION_LANG, lang));
+        return translation;
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.PortalNotificationRepository;
+import io.gravitee.repository.management.model.PortalNotification;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.notification.PortalNotificationEntity;
+import io.gravitee.rest.api.service.impl.PortalNotificationServiceImpl;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PortalNotificationServiceTest {
+
+    private static final String USER = "user";
+
+    @InjectMocks
+    private PortalNotificationServiceImpl portalNotificationService = new PortalNotificationServiceImpl();
+
+    @Mock
+    private PortalNotificationRepository portalNotificationRepository;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(portalNotificationService, "countCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(portalNotificationService, "countCacheTtl", 60L);
+        portalNotificationService.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldFindPageOfMostRecentNotifications() throws TechnicalException {
+        when(portalNotificationRepository.findByUser(USER))
+            .thenReturn(Arrays.asList(notification("1", 1), notification("2", 3), notification("3", 2), notification("4", 4)));
+
+        final Page<PortalNotificationEntity> page = portalNotificationService.findByUser(USER, new PageableImpl(2, 3));
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        assertEquals("4", page.getContent().get(0).getId());
+
+        final Page<PortalNotificationEntity> firstPage = portalNotificationService.findByUser(USER, new PageableImpl(1, 3));
+        assertEquals("1", firstPage.getContent().get(0).getId());
+        assertEquals("3", firstPage.getContent().get(1).getId());
+        assertEquals("2", firstPage.getContent().get(2).getId());
+    }
+
+    @Test
+    public void shouldCacheCountUntilDeletion() throws TechnicalException {
+        when(portalNotificationRepository.findByUser(USER))
+            .thenReturn(Arrays.asList(notification("1", 1), notification("2", 2)))
+            .thenReturn(Arrays.asList(notification("2", 2)));
+        when(portalNotificationRepository.findById("1")).thenReturn(Optional.of(notification("1", 1)));
+
+        assertEquals(2, portalNotificationService.countByUser(USER));
+        assertEquals(2, portalNotificationService.countByUser(USER));
+        verify(portalNotificationRepository, times(1)).findByUser(USER);
+
+        portalNotificationService.delete("1");
+
+        assertEquals(1, portalNotificationService.countByUser(USER));
+        verify(portalNotificationRepository, times(2)).findByUser(USER);
+    }
+
+    @Test
+    public void shouldPurgeOldNotificationsAndNotificationsAboveCap() throws TechnicalException {
+        when(portalNotificationRepository.findByUser(USER))
+            .thenReturn(
+                Arrays.asList(
+                    notification("1", 0),
+                    notification("2", 1),
+                    notification("3", 2),
+                    notification("4", 30),
+                    notification("5", 40)
+                )
+            );
+
+        final int purged = portalNotificationService.purge(USER, Date.from(Instant.now().minus(10, ChronoUnit.DAYS)), 2);
+
+        assertEquals(3, purged);
+        verify(portalNotificationRepository).delete("3");
+        verify(portalNotificationRepository).delete("4");
+        verify(portalNotificationRepository).delete("5");
+        verify(portalNotificationRepository, never()).delete("1");
+        verify(portalNotificationRepository, never()).delete("2");
+    }
+
+    @Test
+    public void shouldNotPurgeWhenRulesAreDisabled() throws TechnicalException {
+        when(portalNotificationRepository.findByUser(USER)).thenReturn(Arrays.asList(notification("1", 0), notification("2", 100)));
+
+        assertEquals(0, portalNotificationService.purge(USER, null, 0));
+        verify(portalNotificationRepository, never()).delete(any());
+    }
+
+    private PortalNotification notification(String id, int daysAgo) {
+        PortalNotification notification = new PortalNotification();
+        notification.setId(id);
+        notification.setUser(USER);
+        notification.setCreatedAt(Date.from(Instant.now().minus(daysAgo, ChronoUnit.DAYS)));
+        return notification;
+    }
+}
@@ -19,16 +19,20 @@ import static java.util.Collections.singletonList;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.gravitee.repository.management.model.Parameter;
 import io.gravitee.rest.api.model.ApiQualityMetricsEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.parameters.ParameterReferenceType;
 import io.gravitee.rest.api.model.quality.ApiQualityRuleEntity;
 import io.gravitee.rest.api.model.quality.QualityRuleEntity;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.ApiQualityMetricsDisableException;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.QualityMetricsServiceImpl;
 import io.gravitee.rest.api.service.quality.ApiQualityMetricCategories;
 import io.gravitee.rest.api.service.quality.ApiQualityMetricLoader;
@@ -40,7 +44,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -70,8 +76,19 @@ public class QualityMetricsServiceTest {
     @Mock
     private ApiQualityRuleService apiQualityRuleService;
 
+    @Mock
+    private EventManager eventManager;
+
+    @Spy
+    private ApiQualityMetricsCache apiQualityMetricsCache = new ApiQualityMetricsCache();
+
     @Before
     public void setup() {
+        ReflectionTestUtils.setField(apiQualityMetricsCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(apiQualityMetricsCache, "ttl", 60L);
+        ReflectionTestUtils.setField(apiQualityMetricsCache, "configurationTtl", 60L);
+        ReflectionTestUtils.setField(apiQualityMetricsCache, "eventManager", eventManager);
+        apiQualityMetricsCache.afterPropertiesSet();
         when(apiQualityMetricLoader.getApiQualityMetrics()).thenReturn(Arrays.asList(apiQualityMetricLogo, apiQualityMetricCategories));
         when(apiQualityMetricLogo.getWeightKey()).thenReturn(Key.API_QUALITY_METRICS_LOGO_WEIGHT);
         when(apiQualityMetricCategories.getWeightKey()).thenReturn(Key.API_QUALITY_METRICS_CATEGORIES_WEIGHT);
@@ -220,4 +237,99 @@ public class QualityMetricsServiceTest {
         assertTrue(metrics.getMetricsPassed().get(Key.API_QUALITY_METRICS_CATEGORIES_WEIGHT.key()));
         assertFalse(metrics.getMetricsPassed().get("1"));
     }
+
+    @Test
+    public void shouldMemoizeMetricsUntilApiIsUpdated() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT)).thenReturn(Boolean.TRUE);
+        Map<String, List<Object>> map = new HashMap<>();
+        map.put(Key.API_QUALITY_METRICS_LOGO_WEIGHT.key(), singletonList(1));
+        when(parameterService.findAll(anyList(), any(Function.class), any(ParameterReferenceType.class))).thenReturn(map);
+        when(apiQualityMetricLogo.isValid(any())).thenReturn(Boolean.TRUE);
+        ApiEntity api = api("apiID", new Date(1000));
+
+        srv.getMetrics(api);
+        ApiQualityMetricsEntity metrics = srv.getMetrics(api);
+        api.setUpdatedAt(new Date(2000));
+        srv.getMetrics(api);
+
+        assertEquals(1, metrics.getScore(), 0);
+        verify(apiQualityMetricLogo, times(2)).isValid(api);
+        verify(parameterService, times(1)).findAll(anyList(), any(Function.class), any(ParameterReferenceType.class));
+    }
+
+    @Test
+    public void shouldComputeMetricsInBatch() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT)).thenReturn(Boolean.TRUE);
+        when(parameterService.findAll(anyList(), any(Function.class), any(ParameterReferenceType.class)))
+            .thenReturn(Collections.emptyMap());
+        final QualityRuleEntity qualityRule = new QualityRuleEntity();
+        qualityRule.setId("1");
+        qualityRule.setWeight(1);
+        when(qualityRuleService.findAll()).thenReturn(singletonList(qualityRule));
+        final ApiQualityRuleEntity apiQualityRule = new ApiQualityRuleEntity();
+        apiQualityRule.setApi("api-1");
+        apiQualityRule.setQualityRule("1");
+        apiQualityRule.setChecked(true);
+        when(apiQualityRuleService.findByApi("api-1")).thenReturn(singletonList(apiQualityRule));
+        when(apiQualityRuleService.findByApi("api-2")).thenReturn(Collections.emptyList());
+
+        Map<String, ApiQualityMetricsEntity> metrics = srv.getMetrics(Arrays.asList(api("api-1", new Date()), api("api-2", new Date())));
+
+        assertEquals(Arrays.asList("api-1", "api-2"), new ArrayList<>(metrics.keySet()));
+        assertEquals(1, metrics.get("api-1").getScore(), 0);
+        assertEquals(0, metrics.get("api-2").getScore(), 0);
+        verify(qualityRuleService, times(1)).findAll();
+        verify(parameterService, times(1)).findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT);
+    }
+
+    @Test
+    public void shouldRecomputeMetricsWhenEvicted() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT)).thenReturn(Boolean.TRUE);
+        Map<String, List<Object>> map = new HashMap<>();
+        map.put(Key.API_QUALITY_METRICS_LOGO_WEIGHT.key(), singletonList(1));
+        when(parameterService.findAll(anyList(), any(Function.class), any(ParameterReferenceType.class))).thenReturn(map);
+        when(apiQualityMetricLogo.isValid(any())).thenReturn(Boolean.FALSE, Boolean.TRUE);
+        ApiEntity api = api("apiID", new Date(1000));
+
+        assertEquals(0, srv.getMetrics(api).getScore(), 0);
+        apiQualityMetricsCache.evict("apiID");
+
+        assertEquals(1, srv.getMetrics(api).getScore(), 0);
+    }
+
+    private ApiEntity api(String id, Date updatedAt) {
+        ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setUpdatedAt(updatedAt);
+        return api;
+    }
+
+    @Test
+    public void shouldReloadConfigurationWhenQualityParameterUpdated() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT))
+            .thenReturn(Boolean.FALSE, Boolean.TRUE);
+        when(parameterService.findAll(anyList(), any(Function.class), any(ParameterReferenceType.class)))
+            .thenReturn(Collections.emptyMap());
+        assertFalse(srv.isApiMetricsEnabled());
+        assertFalse(srv.isApiMetricsEnabled());
+
+        Parameter parameter = new Parameter();
+        parameter.setReferenceId(GraviteeContext.getCurrentEnvironmentOrDefault());
+        parameter.setReferenceType(io.gravitee.repository.management.model.ParameterReferenceType.ENVIRONMENT);
+        apiQualityMetricsCache.onEvent(new SimpleEvent<>(Key.API_QUALITY_METRICS_ENABLED, parameter));
+
+        assertTrue(srv.isApiMetricsEnabled());
+        verify(eventManager).subscribeForEvents(apiQualityMetricsCache, Key.class);
+    }
+
+    @Test
+    public void shouldKeepConfigurationWhenOtherParameterUpdated() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT)).thenReturn(Boolean.FALSE);
+        assertFalse(srv.isApiMetricsEnabled());
+
+        apiQualityMetricsCache.onEvent(new SimpleEvent<>(Key.PORTAL_ENTRYPOINT, new Parameter()));
+        assertFalse(srv.isApiMetricsEnabled());
+
+        verify(parameterService, times(1)).findAsBoolean(Key.API_QUALITY_METRICS_ENABLED, ParameterReferenceType.ENVIRONMENT);
+    }
 }
@@ -30,6 +30,7 @@ import io.gravitee.repository.management.api.QualityRuleRepository;
 import io.gravitee.repository.management.model.QualityRule;
 import io.gravitee.rest.api.model.quality.*;
 import io.gravitee.rest.api.service.exceptions.QualityRuleNotFoundException;
+import io.gravitee.rest.api.service.impl.ApiQualityMetricsCache;
 import io.gravitee.rest.api.service.impl.QualityRuleServiceImpl;
 import java.util.Date;
 import java.util.List;
@@ -60,6 +61,9 @@ public class QualityRuleServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApiQualityMetricsCache apiQualityMetricsCache;
+
     @Test
     public void shouldFindById() throws TechnicalException {
         final QualityRule qualityRule = mock(QualityRule.class);
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.service.impl.RenderedPageCache;
+import java.util.Collections;
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RenderedPageCacheTest {
+
+    private RenderedPageCache renderedPageCache;
+
+    @Before
+    public void setUp() {
+        renderedPageCache = new RenderedPageCache();
+        ReflectionTestUtils.setField(renderedPageCache, "maxSize", 1024L);
+        ReflectionTestUtils.setField(renderedPageCache, "ttl", 60L);
+        renderedPageCache.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldGetRenderedPage() {
+        PageEntity page = page("page-1", "# ${api.name}");
+        String key = renderedPageCache.key("api-1", new Date(1000), page);
+
+        page.setContent("# My API");
+        page.setMessages(Collections.singletonList("warning"));
+        renderedPageCache.put(key, page);
+
+        RenderedPageCache.RenderedPage renderedPage = renderedPageCache.get(key);
+        assertNotNull(renderedPage);
+        assertEquals("# My API", renderedPage.getContent());
+        assertEquals(Collections.singletonList("warning"), renderedPage.getMessages());
+        assertEquals(1, renderedPageCache.stats().hitCount());
+    }
+
+    @Test
+    public void shouldNotShareKeyWhenPageOrApiChanged() {
+        PageEntity page = page("page-1", "# ${api.name}");
+        String key = renderedPageCache.key("api-1", new Date(1000), page);
+
+        assertNotEquals(key, renderedPageCache.key("api-1", new Date(2000), page));
+        assertNotEquals(key, renderedPageCache.key("api-1", new Date(1000), page("page-1", "# ${api.version}")));
+    }
+
+    @Test
+    public void shouldEvictApiPages() {
+        String apiKey = renderedPageCache.key("api-1", new Date(1000), page("page-1", "content"));
+        String otherApiKey = renderedPageCache.key("api-2", new Date(1000), page("page-2", "content"));
+        renderedPageCache.put(apiKey, page("page-1", "content"));
+        renderedPageCache.put(otherApiKey, page("page-2", "content"));
+
+        renderedPageCache.evict("api-1");
+
+        assertNull(renderedPageCache.get(apiKey));
+        assertNotNull(renderedPageCache.get(otherApiKey));
+    }
+
+    @Test
+    public void shouldBeBoundedBySize() {
+        PageEntity page = page("page-1", new String(new char[1024]));
+        renderedPageCache.put(renderedPageCache.key(null, null, page), page);
+
+        assertEquals(0, renderedPageCache.size());
+    }
+
+    private PageEntity page(String id, String content) {
+        PageEntity page = new PageEntity();
+        page.setId(id);
+        page.setContent(content);
+        page.setContentType("text/markdown");
+        return page;
+    }
+}
@@ -54,6 +54,9 @@ public class RoleService_CreateOrUpdateSystemRolesTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private CommandService commandService;
+
     @Test
     public void shouldCreateSystemRole() throws TechnicalException {
         when(mockRoleRepository.findByScopeAndNameAndReferenceIdAndReferenceType(any(), any(), any(), any())).thenReturn(empty());
@@ -54,6 +54,9 @@ public class RoleService_CreateTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private CommandService commandService;
+
     @Test
     public void shouldCreate() throws TechnicalException {
         NewRoleEntity newRoleEntityMock = mock(NewRoleEntity.class);
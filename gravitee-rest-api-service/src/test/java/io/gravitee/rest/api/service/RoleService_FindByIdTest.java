@@ -17,21 +17,22 @@ package io.gravitee.rest.api.service;
 
 import static io.gravitee.rest.api.model.permissions.EnvironmentPermission.DOCUMENTATION;
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.Role;
+import io.gravitee.repository.management.model.RoleReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
-import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.impl.RoleServiceImpl;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 import org.apache.commons.lang3.ArrayUtils;
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -51,11 +52,6 @@ public class RoleService_FindByIdTest {
     @Mock
     private RoleRepository mockRoleRepository;
 
-    @Before
-    public void init() {
-        GraviteeContext.getCurrentRoles().clear();
-    }
-
     @Test
     public void shouldFindById_C() throws TechnicalException {
         test_int_to_CRUD(3008, RolePermissionAction.CREATE);
@@ -87,6 +83,75 @@ public class RoleService_FindByIdTest {
         );
     }
 
+    @Test
+    public void shouldResolveRolesFromOrganizationRegistry() throws TechnicalException {
+        Role role = new Role();
+        role.setId("api-po");
+        role.setName(SystemRole.PRIMARY_OWNER.name());
+        role.setScope(RoleScope.API);
+        role.setReferenceId("DEFAULT");
+        role.setReferenceType(RoleReferenceType.ORGANIZATION);
+        when(mockRoleRepository.findAllByReferenceIdAndReferenceType("DEFAULT", RoleReferenceType.ORGANIZATION))
+            .thenReturn(Collections.singleton(role));
+
+        RoleEntity entity = roleService.findById("api-po");
+
+        assertEquals("api-po", entity.getId());
+        assertEquals("api-po", roleService.findById("api-po").getId());
+        assertEquals(
+            "api-po",
+            roleService.findByScopeAndName(io.gravitee.rest.api.model.permissions.RoleScope.API, "PRIMARY_OWNER").get().getId()
+        );
+        assertEquals(
+            "api-po",
+            roleService.findPrimaryOwnerRoleByOrganization("DEFAULT", io.gravitee.rest.api.model.permissions.RoleScope.API).getId()
+        );
+        verify(mockRoleRepository, times(1)).findAllByReferenceIdAndReferenceType("DEFAULT", RoleReferenceType.ORGANIZATION);
+        verify(mockRoleRepository, never()).findById(any());
+        verify(mockRoleRepository, never()).findByScopeAndNameAndReferenceIdAndReferenceType(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotShareCachedRoles() throws TechnicalException {
+        Role role = new Role();
+        role.setId("env-user");
+        role.setName("USER");
+        role.setScope(RoleScope.ENVIRONMENT);
+        role.setPermissions(new int[] { 3004 });
+        role.setReferenceId("DEFAULT");
+        role.setReferenceType(RoleReferenceType.ORGANIZATION);
+        when(mockRoleRepository.findAllByReferenceIdAndReferenceType("DEFAULT", RoleReferenceType.ORGANIZATION))
+            .thenReturn(Collections.singleton(role));
+
+        RoleEntity entity = roleService.findById("env-user");
+        entity.setName("ADMIN");
+        entity.getPermissions().get(DOCUMENTATION.getName())[0] = RolePermissionAction.DELETE.getId();
+        entity.getPermissions().put("OTHER", new char[] { RolePermissionAction.CREATE.getId() });
+
+        RoleEntity other = roleService.findById("env-user");
+        assertNotSame(entity, other);
+        assertEquals("USER", other.getName());
+        assertArrayEquals(new char[] { RolePermissionAction.READ.getId() }, other.getPermissions().get(DOCUMENTATION.getName()));
+        assertFalse(other.getPermissions().containsKey("OTHER"));
+        assertTrue(roleService.findByScopeAndName(io.gravitee.rest.api.model.permissions.RoleScope.ENVIRONMENT, "USER").isPresent());
+    }
+
+    @Test
+    public void shouldLoadRolesOfOrganization() throws TechnicalException {
+        Role role = new Role();
+        role.setId("api-po");
+        role.setName(SystemRole.PRIMARY_OWNER.name());
+        role.setScope(RoleScope.API);
+        when(mockRoleRepository.findAllByReferenceIdAndReferenceType("DEFAULT", RoleReferenceType.ORGANIZATION))
+            .thenReturn(Collections.singleton(role));
+
+        roleService.load("DEFAULT");
+        roleService.findById("api-po");
+
+        verify(mockRoleRepository, times(1)).findAllByReferenceIdAndReferenceType("DEFAULT", RoleReferenceType.ORGANIZATION);
+        verify(mockRoleRepository, never()).findById(any());
+    }
+
     private void test_int_to_CRUD(int perm, RolePermissionAction... action) throws TechnicalException {
         Role roleMock = mock(Role.class);
         when(roleMock.getScope()).thenReturn(RoleScope.ENVIRONMENT);
@@ -19,8 +19,7 @@ import static io.gravitee.rest.api.model.permissions.EnvironmentPermission.DOCUM
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
@@ -57,6 +56,9 @@ public class RoleService_UpdateTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private CommandService commandService;
+
     @Test
     public void shouldUpdate() throws TechnicalException {
         UpdateRoleEntity updateRoleEntityMock = mock(UpdateRoleEntity.class);
@@ -91,6 +93,7 @@ public class RoleService_UpdateTest {
         char[] perms = entity.getPermissions().get(DOCUMENTATION.getName());
         assertEquals("not enough permissions", 1, perms.length);
         assertEquals("not the good permission", RolePermissionAction.CREATE.getId(), perms[0]);
+        verify(commandService, times(1)).send(argThat(command -> "orga#1".equals(command.getContent())));
     }
 
     @Test(expected = RoleNotFoundException.class)
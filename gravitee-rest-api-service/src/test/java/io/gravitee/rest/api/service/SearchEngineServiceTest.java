@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.service.impl.search.SearchEngineServiceImpl;
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SearchEngineServiceTest {
+
+    @InjectMocks
+    private SearchEngineServiceImpl searchEngineService = new SearchEngineServiceImpl();
+
+    @Mock
+    private CommandService commandService;
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private UserService userService;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(searchEngineService, "transformers", Collections.emptyList());
+        ReflectionTestUtils.setField(searchEngineService, "batchWindow", 60_000L);
+        ReflectionTestUtils.setField(searchEngineService, "batchSize", 2);
+    }
+
+    @Test
+    public void shouldCoalesceCommandsBeforeSending() {
+        searchEngineService.index(api("api-1"), false);
+        searchEngineService.index(api("api-1"), false);
+        searchEngineService.delete(api("api-1"), false);
+        searchEngineService.index(api("api-2"), false);
+
+        verify(commandService, never()).send(any());
+
+        // Flush pending commands
+        searchEngineService.destroy();
+
+        ArgumentCaptor<NewCommandEntity> captor = ArgumentCaptor.forClass(NewCommandEntity.class);
+        verify(commandService, times(1)).send(captor.capture());
+        String content = captor.getValue().getContent();
+        assertTrue(content.startsWith("["));
+        assertTrue(content.contains("\"id\":\"api-1\""));
+        assertTrue(content.contains("\"action\":\"D\""));
+        assertTrue(content.contains("\"id\":\"api-2\""));
+    }
+
+    @Test
+    public void shouldSplitCommandsInBatches() {
+        searchEngineService.index(api("api-1"), false);
+        searchEngineService.index(api("api-2"), false);
+        searchEngineService.index(api("api-3"), false);
+
+        searchEngineService.destroy();
+
+        verify(commandService, times(2)).send(any());
+    }
+
+    @Test
+    public void shouldNotSendLocalCommands() {
+        searchEngineService.index(api("api-1"), true);
+
+        searchEngineService.destroy();
+
+        verify(commandService, never()).send(any());
+    }
+
+    @Test
+    public void shouldLoadDocumentsInBulk() {
+        when(apiService.search(any(ApiQuery.class))).thenReturn(Arrays.asList(api("api-1"), api("api-2")));
+        when(apiService.fetchMetadataForApi(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userService.findByIds(Collections.singletonList("user-1"), true)).thenReturn(Collections.singleton(new UserEntity()));
+
+        searchEngineService.process(
+            Arrays.asList(
+                command(ApiEntity.class, "api-1", "I"),
+                command(ApiEntity.class, "api-2", "I"),
+                command(ApiEntity.class, "api-1", "I"),
+                command(UserEntity.class, "user-1", "I")
+            )
+        );
+
+        ArgumentCaptor<ApiQuery> captor = ArgumentCaptor.forClass(ApiQuery.class);
+        verify(apiService, times(1)).search(captor.capture());
+        assertEquals(Arrays.asList("api-2", "api-1"), captor.getValue().getIds());
+        verify(apiService, never()).findById(any());
+        verify(userService, never()).findById(any());
+    }
+
+    @Test
+    public void shouldOnlyApplyLatestAction() {
+        searchEngineService.process(Arrays.asList(command(ApiEntity.class, "api-1", "I"), command(ApiEntity.class, "api-1", "D")));
+
+        verify(apiService, never()).search(any(ApiQuery.class));
+    }
+
+    private ApiEntity api(String id) {
+        ApiEntity api = new ApiEntity();
+        api.setId(id);
+        return api;
+    }
+
+    private CommandSearchIndexerEntity command(Class<?> clazz, String id, String action) {
+        CommandSearchIndexerEntity command = new CommandSearchIndexerEntity();
+        command.setClazz(clazz.getName());
+        command.setId(id);
+        command.setAction(action);
+        return command;
+    }
+}
@@ -35,6 +35,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
 import io.gravitee.rest.api.model.application.OAuthClientSettings;
+import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.impl.SubscriptionServiceImpl;
 import io.gravitee.rest.api.service.notification.ApiHook;
@@ -235,6 +236,47 @@ public class SubscriptionServiceTest {
         assertEquals(2, subscriptions.size());
     }
 
+    @Test
+    public void shouldSearchByApiKey() throws TechnicalException {
+        Subscription sub1 = new Subscription();
+        sub1.setId("subscription-1");
+        sub1.setStatus(Subscription.Status.ACCEPTED);
+
+        Subscription sub2 = new Subscription();
+        sub2.setId("subscription-2");
+        sub2.setStatus(Subscription.Status.ACCEPTED);
+
+        ApiKeyEntity apiKey = new ApiKeyEntity();
+        apiKey.setKey("my-api-key");
+        apiKey.setSubscription("subscription-2");
+
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenReturn(asList(sub1, sub2));
+        when(apiKeyService.findByKey("my-api-key")).thenReturn(apiKey);
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApiKey("my-api-key");
+        Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
+
+        assertEquals(1, subscriptions.size());
+        assertEquals("subscription-2", subscriptions.iterator().next().getId());
+        verify(apiKeyService, never()).findByEachSubscription(any());
+    }
+
+    @Test
+    public void shouldSearchByUnknownApiKey() throws TechnicalException {
+        Subscription sub1 = new Subscription();
+        sub1.setId("subscription-1");
+        sub1.setStatus(Subscription.Status.ACCEPTED);
+
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenReturn(singletonList(sub1));
+        when(apiKeyService.findByKey("unknown")).thenThrow(new ApiKeyNotFoundException());
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApiKey("unknown");
+
+        assertTrue(subscriptionService.search(query).isEmpty());
+    }
+
     @Test(expected = TechnicalManagementException.class)
     public void shouldNotFindByPlanBecauseTechnicalException() throws TechnicalException {
         when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenThrow(TechnicalException.class);
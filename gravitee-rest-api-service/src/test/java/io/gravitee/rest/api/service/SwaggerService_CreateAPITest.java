@@ -38,6 +38,7 @@ import io.gravitee.rest.api.service.impl.swagger.policy.PolicyOperationVisitor;
 import io.gravitee.rest.api.service.impl.swagger.policy.PolicyOperationVisitorManager;
 import io.gravitee.rest.api.service.impl.swagger.policy.impl.OAIPolicyOperationVisitor;
 import io.gravitee.rest.api.service.impl.swagger.visitor.v3.OAIOperationVisitor;
+import io.swagger.v3.oas.models.Operation;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -51,6 +52,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -391,6 +393,41 @@ public class SwaggerService_CreateAPITest {
         validatePolicies(api, 2, 4, asList("/pets", "/pets/:id"));
     }
 
+    @Test
+    public void shouldVisitOperationsConcurrentlyInSpecificationOrder() throws IOException {
+        OAIOperationVisitor op = mock(OAIPolicyOperationVisitor.class);
+        when(op.visit(any(), any()))
+            .thenAnswer(
+                invocation -> {
+                    Policy policy = new Policy();
+                    policy.setName(((Operation) invocation.getArgument(1)).getOperationId());
+                    return Optional.of(policy);
+                }
+            );
+        when(policyOperationVisitorManager.getOAIOperationVisitor(anyString())).thenReturn(op);
+        final String descriptor = "io/gravitee/rest/api/management/service/mock/petstore-expanded.yaml";
+        final List<String> sequentialPolicies = policyNames(prepareInline(descriptor, true));
+
+        ReflectionTestUtils.setField(swaggerService, "importThreads", 4);
+        ReflectionTestUtils.setField(swaggerService, "importQueueSize", 100);
+        swaggerService.afterPropertiesSet();
+        try {
+            assertEquals(sequentialPolicies, policyNames(prepareInline(descriptor, true)));
+        } finally {
+            swaggerService.destroy();
+        }
+    }
+
+    protected List<String> policyNames(SwaggerApiEntity api) {
+        return api
+            .getPaths()
+            .values()
+            .stream()
+            .flatMap(Collection::stream)
+            .map(rule -> rule.getPolicy().getName())
+            .collect(Collectors.toList());
+    }
+
     @Test
     public void shouldPrepareAPIFromSwaggerV3WithExample() throws IOException {
         final SwaggerApiEntity api = prepareInline("io/gravitee/rest/api/management/service/mock/uspto.yaml", true);
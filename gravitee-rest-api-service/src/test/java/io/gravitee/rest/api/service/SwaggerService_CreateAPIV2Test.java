@@ -60,6 +60,11 @@ public class SwaggerService_CreateAPIV2Test extends SwaggerService_CreateAPITest
         assertTrue(paths.containsAll(expectedPaths));
     }
 
+    @Override
+    protected List<String> policyNames(SwaggerApiEntity api) {
+        return api.getFlows().stream().flatMap(flow -> flow.getPre().stream()).map(Step::getName).collect(Collectors.toList());
+    }
+
     @Override
     protected void validateRules(
         SwaggerApiEntity api,
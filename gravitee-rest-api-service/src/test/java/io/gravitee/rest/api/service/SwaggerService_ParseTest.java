@@ -24,6 +24,7 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.PageEntity;
 import io.gravitee.rest.api.service.exceptions.SwaggerDescriptorException;
 import io.gravitee.rest.api.service.exceptions.UrlForbiddenException;
+import io.gravitee.rest.api.service.impl.SwaggerDescriptorCache;
 import io.gravitee.rest.api.service.impl.SwaggerServiceImpl;
 import io.gravitee.rest.api.service.spring.ImportConfiguration;
 import io.gravitee.rest.api.service.swagger.OAIDescriptor;
@@ -32,11 +33,13 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import java.io.IOException;
 import java.net.URL;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -51,6 +54,17 @@ public class SwaggerService_ParseTest {
     @Mock
     private ImportConfiguration importConfiguration;
 
+    private SwaggerDescriptorCache descriptorCache;
+
+    @Before
+    public void setUp() {
+        descriptorCache = new SwaggerDescriptorCache();
+        ReflectionTestUtils.setField(descriptorCache, "maxSize", 10485760L);
+        ReflectionTestUtils.setField(descriptorCache, "ttl", 60L);
+        descriptorCache.afterPropertiesSet();
+        ReflectionTestUtils.setField(swaggerService, "descriptorCache", descriptorCache);
+    }
+
     private PageEntity getPage(String resource, String contentType) throws IOException {
         URL url = Resources.getResource(resource);
         String descriptor = Resources.toString(url, Charsets.UTF_8);
@@ -60,6 +74,33 @@ public class SwaggerService_ParseTest {
         return pageEntity;
     }
 
+    @Test
+    public void shouldParseDescriptorOnlyOnce() throws IOException {
+        PageEntity pageEntity = getPage("io/gravitee/rest/api/management/service/openapi.json", MediaType.APPLICATION_JSON);
+
+        OAIDescriptor descriptor = (OAIDescriptor) swaggerService.parse(pageEntity.getContent());
+        OAIDescriptor cachedDescriptor = (OAIDescriptor) swaggerService.parse(pageEntity.getContent());
+
+        assertEquals(1, descriptorCache.getParseCount());
+        assertEquals(1, descriptorCache.stats().hitCount());
+        assertNotSame(descriptor, cachedDescriptor);
+        assertEquals(descriptor.toJson(), cachedDescriptor.toJson());
+
+        // Transformations of a descriptor must not be visible from the other copies
+        descriptor.getSpecification().getServers().get(0).setUrl("https://transformed.gravitee.io");
+        assertNotEquals(
+            "https://transformed.gravitee.io",
+            ((OAIDescriptor) swaggerService.parse(pageEntity.getContent())).getSpecification().getServers().get(0).getUrl()
+        );
+    }
+
+    @Test
+    public void shouldNotCacheDescriptorLocation() {
+        swaggerService.parse("/io/gravitee/rest/api/management/service/swagger-v1.json", false);
+
+        assertEquals(0, descriptorCache.size());
+    }
+
     @Test
     public void shouldParseSwaggerV1_json() throws IOException {
         SwaggerDescriptor descriptor = swaggerService.parse("/io/gravitee/rest/api/management/service/swagger-v1.json", false);
@@ -26,6 +26,7 @@ import io.gravitee.rest.api.model.PageConfigurationKeys;
 import io.gravitee.rest.api.model.PageEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiEntrypointEntity;
+import io.gravitee.rest.api.service.impl.SwaggerDescriptorCache;
 import io.gravitee.rest.api.service.impl.SwaggerServiceImpl;
 import io.gravitee.rest.api.service.impl.swagger.SwaggerProperties;
 import io.gravitee.rest.api.service.impl.swagger.transformer.entrypoints.EntrypointsOAITransformer;
@@ -40,6 +41,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -53,6 +55,12 @@ public class SwaggerService_TransformTest {
     @Before
     public void setUp() {
         swaggerService = new SwaggerServiceImpl();
+
+        SwaggerDescriptorCache descriptorCache = new SwaggerDescriptorCache();
+        ReflectionTestUtils.setField(descriptorCache, "maxSize", 10485760L);
+        ReflectionTestUtils.setField(descriptorCache, "ttl", 60L);
+        descriptorCache.afterPropertiesSet();
+        ReflectionTestUtils.setField(swaggerService, "descriptorCache", descriptorCache);
     }
 
     private PageEntity getPage(String resource, String contentType) throws IOException {
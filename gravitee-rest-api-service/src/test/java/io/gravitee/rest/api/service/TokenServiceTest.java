@@ -41,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
@@ -172,6 +173,19 @@ public class TokenServiceTest {
         assertEquals("2", tokens.get(1).getId());
     }
 
+    @Test
+    public void shouldCountByUsers() throws TechnicalException {
+        when(tokenRepository.findByReference(USER.name(), USER_ID)).thenReturn(Collections.singletonList(new Token()));
+        when(tokenRepository.findByReference(USER.name(), "other")).thenReturn(Collections.emptyList());
+
+        final Map<String, Long> nbTokens = tokenService.countByEachUser(asList(USER_ID, "other"));
+
+        assertEquals(2, nbTokens.size());
+        assertEquals(Long.valueOf(1), nbTokens.get(USER_ID));
+        assertEquals(Long.valueOf(0), nbTokens.get("other"));
+        verify(tokenRepository, never()).findAll();
+    }
+
     @Test
     public void shouldFindByToken() throws TechnicalException {
         when(tokenRepository.findAll()).thenReturn(newHashSet(token));
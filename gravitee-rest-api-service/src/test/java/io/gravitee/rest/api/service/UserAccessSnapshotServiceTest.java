@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.rest.api.model.MembershipEntity;
+import io.gravitee.rest.api.model.MembershipMemberType;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.repository.command.CommandHandler;
+import io.gravitee.rest.api.repository.command.CommandPoller;
+import io.gravitee.rest.api.service.impl.UserAccessSnapshotServiceImpl;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UserAccessSnapshotServiceTest {
+
+    private static final String USER_ID = "user-id";
+
+    @InjectMocks
+    private UserAccessSnapshotServiceImpl userAccessSnapshotService = new UserAccessSnapshotServiceImpl();
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private CommandService commandService;
+
+    @Mock
+    private CommandPoller commandPoller;
+
+    @Test
+    public void shouldLoadMembershipsOnce() {
+        when(membershipService.getMembershipsByMember(MembershipMemberType.USER, USER_ID))
+            .thenReturn(Collections.singleton(membership(MembershipReferenceType.API, "api-1", "API_USER")));
+        when(roleService.findById("API_USER")).thenReturn(role(RoleScope.API));
+
+        UserAccessSnapshotService.UserAccessSnapshot snapshot = userAccessSnapshotService.get(USER_ID);
+
+        assertSame(snapshot, userAccessSnapshotService.get(USER_ID));
+        assertEquals(Collections.singleton("api-1"), snapshot.getReferenceIds(MembershipReferenceType.API));
+        verify(membershipService, times(1)).getMembershipsByMember(MembershipMemberType.USER, USER_ID);
+        verify(roleService, times(1)).findById("API_USER");
+    }
+
+    @Test
+    public void shouldReloadMembershipsOnceEvicted() {
+        when(membershipService.getMembershipsByMember(MembershipMemberType.USER, USER_ID))
+            .thenReturn(Collections.emptySet(), Collections.singleton(membership(MembershipReferenceType.GROUP, "group-1", null)));
+
+        assertTrue(userAccessSnapshotService.get(USER_ID).getReferenceIds(MembershipReferenceType.GROUP).isEmpty());
+
+        userAccessSnapshotService.evict(USER_ID);
+
+        assertEquals(
+            Collections.singleton("group-1"),
+            userAccessSnapshotService.get(USER_ID).getReferenceIds(MembershipReferenceType.GROUP)
+        );
+        verify(membershipService, times(2)).getMembershipsByMember(MembershipMemberType.USER, USER_ID);
+    }
+
+    @Test
+    public void shouldFilterReferencesByRoleScope() {
+        when(membershipService.getMembershipsByMember(MembershipMemberType.USER, USER_ID))
+            .thenReturn(
+                new HashSet<>(
+                    Arrays.asList(
+                        membership(MembershipReferenceType.GROUP, "group-1", "API_USER"),
+                        membership(MembershipReferenceType.GROUP, "group-2", "APPLICATION_USER"),
+                        membership(MembershipReferenceType.GROUP, "group-3", null)
+                    )
+                )
+            );
+        when(roleService.findById("API_USER")).thenReturn(role(RoleScope.API));
+        when(roleService.findById("APPLICATION_USER")).thenReturn(role(RoleScope.APPLICATION));
+
+        UserAccessSnapshotService.UserAccessSnapshot snapshot = userAccessSnapshotService.get(USER_ID);
+
+        assertEquals(3, snapshot.getReferenceIds(MembershipReferenceType.GROUP).size());
+        assertEquals(Collections.singleton("group-1"), snapshot.getReferenceIds(MembershipReferenceType.GROUP, RoleScope.API));
+        assertEquals(Collections.singleton("group-2"), snapshot.getReferenceIds(MembershipReferenceType.GROUP, RoleScope.APPLICATION));
+        assertTrue(snapshot.getRoles(MembershipReferenceType.GROUP, "group-3").isEmpty());
+        assertTrue(snapshot.getReferenceIds(MembershipReferenceType.APPLICATION).isEmpty());
+    }
+
+    @Test
+    public void shouldSendEvictionsToOtherNodesOnNextPoll() throws Exception {
+        CommandHandler handler = registerHandler();
+
+        userAccessSnapshotService.evict(USER_ID);
+        userAccessSnapshotService.evict(USER_ID);
+        verify(commandService, never()).send(any());
+
+        handler.handle(Collections.emptyList());
+        handler.handle(Collections.emptyList());
+
+        ArgumentCaptor<NewCommandEntity> command = ArgumentCaptor.forClass(NewCommandEntity.class);
+        verify(commandService, times(1)).send(command.capture());
+        assertEquals(USER_ID, command.getValue().getContent());
+        assertEquals(Collections.singletonList(CommandTags.USER_ACCESS_EVICTED), command.getValue().getTags());
+    }
+
+    @Test
+    public void shouldEvictSnapshotsEvictedByOtherNodes() throws Exception {
+        CommandHandler handler = registerHandler();
+        when(membershipService.getMembershipsByMember(MembershipMemberType.USER, USER_ID)).thenReturn(Collections.emptySet());
+        userAccessSnapshotService.get(USER_ID);
+
+        Command command = new Command();
+        command.setContent("other-user\n" + USER_ID);
+        handler.handle(Collections.singletonList(command));
+        userAccessSnapshotService.get(USER_ID);
+
+        verify(membershipService, times(2)).getMembershipsByMember(MembershipMemberType.USER, USER_ID);
+        verify(commandService, never()).send(any());
+    }
+
+    private CommandHandler registerHandler() {
+        userAccessSnapshotService.afterPropertiesSet();
+        ArgumentCaptor<CommandHandler> handler = ArgumentCaptor.forClass(CommandHandler.class);
+        verify(commandPoller).register(eq(CommandTags.USER_ACCESS_EVICTED.name()), handler.capture());
+        return handler.getValue();
+    }
+
+    private MembershipEntity membership(MembershipReferenceType referenceType, String referenceId, String roleId) {
+        MembershipEntity membership = new MembershipEntity();
+        membership.setReferenceType(referenceType);
+        membership.setReferenceId(referenceId);
+        membership.setRoleId(roleId);
+        return membership;
+    }
+
+    private RoleEntity role(RoleScope scope) {
+        RoleEntity role = new RoleEntity();
+        role.setScope(scope);
+        return role;
+    }
+}
@@ -41,6 +41,7 @@ import io.gravitee.rest.api.model.MetadataFormat;
 import io.gravitee.rest.api.model.NewUserMetadataEntity;
 import io.gravitee.rest.api.model.UpdateUserMetadataEntity;
 import io.gravitee.rest.api.model.UserMetadataEntity;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.impl.UserMetadataServiceImpl;
 import java.util.Arrays;
 import java.util.Collections;
@@ -184,6 +185,26 @@ public class UserMetadataServiceTest {
         assertEquals(MetadataFormat.STRING, userMetadataEntities.get(0).getFormat());
     }
 
+    @Test
+    public void shouldFindByUserIds() throws TechnicalException {
+        GraviteeContext.cleanContext();
+        when(metadataRepository.findByReferenceTypeAndReferenceId(USER, "no-metadata")).thenReturn(Collections.emptyList());
+
+        final Map<String, List<UserMetadataEntity>> metadata = userMetadataService.findAllByEachUserId(
+            Arrays.asList(USER_ID, "no-metadata", USER_ID)
+        );
+
+        assertEquals(2, metadata.size());
+        assertEquals(1, metadata.get(USER_ID).size());
+        assertEquals(USER_ID, metadata.get(USER_ID).get(0).getUserId());
+        assertEquals(METADATA_VALUE, metadata.get(USER_ID).get(0).getValue());
+        assertTrue(metadata.get("no-metadata").isEmpty());
+        // Metadata are kept in the request context
+        assertEquals(metadata.get(USER_ID), userMetadataService.findAllByUserId(USER_ID));
+        verify(metadataRepository, times(1)).findByReferenceTypeAndReferenceId(USER, USER_ID);
+        verify(metadataRepository, never()).findByReferenceType(any());
+    }
+
     @Test
     public void shouldDeleteUserMetadataUsingMetaDataID() throws Exception {
         final String FIELD_KEY = "field_key";
@@ -30,6 +30,7 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import io.gravitee.common.data.domain.MetadataPage;
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.util.Maps;
 import io.gravitee.el.exceptions.ExpressionEvaluationException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -42,6 +43,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.model.audit.AuditEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.configuration.identity.GroupMappingEntity;
 import io.gravitee.rest.api.model.configuration.identity.RoleMappingEntity;
 import io.gravitee.rest.api.model.configuration.identity.SocialIdentityProviderEntity;
@@ -51,6 +53,7 @@ import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.common.JWTHelper;
 import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.impl.UserServiceImpl;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import java.io.IOException;
 import java.io.InputStream;
@@ -198,6 +201,57 @@ public class UserServiceTest {
         assertEquals(null, userEntity.getRoles());
     }
 
+    @Test
+    public void shouldSearchUsersInRankingOrderWithBulkFlags() throws TechnicalException {
+        final User user1 = new User();
+        user1.setId("user-1");
+        final User user2 = new User();
+        user2.setId("user-2");
+        final List<String> ranking = Arrays.asList("user-2", "user-1");
+        final MembershipEntity membership = new MembershipEntity();
+        membership.setMemberId("user-1");
+
+        when(searchEngineService.search(any())).thenReturn(new SearchResult(ranking, 2));
+        when(userRepository.findByIds(ranking)).thenReturn(new HashSet<>(Arrays.asList(user1, user2)));
+        when(userMetadataService.findAllByEachUserId(anyList())).thenReturn(Collections.emptyMap());
+        when(roleService.findPrimaryOwnerRoleByOrganization(ORGANIZATION, RoleScope.API)).thenReturn(mockRoleEntity(RoleScope.API, "PO"));
+        when(roleService.findPrimaryOwnerRoleByOrganization(ORGANIZATION, RoleScope.APPLICATION))
+            .thenReturn(mockRoleEntity(RoleScope.APPLICATION, "PO"));
+        when(
+            membershipService.getMembershipsByMembersAndReferenceAndRole(
+                MembershipMemberType.USER,
+                ranking,
+                MembershipReferenceType.API,
+                "API_PO"
+            )
+        )
+            .thenReturn(Collections.singleton(membership));
+        when(
+            membershipService.getMembershipsByMembersAndReferenceAndRole(
+                MembershipMemberType.USER,
+                ranking,
+                MembershipReferenceType.APPLICATION,
+                "APPLICATION_PO"
+            )
+        )
+            .thenReturn(Collections.emptySet());
+        when(tokenService.countByEachUser(ranking)).thenReturn(Collections.singletonMap("user-2", 2L));
+
+        final Page<UserEntity> users = userService.search("user", new PageableImpl(1, 10));
+
+        assertEquals(2, users.getContent().size());
+        final UserEntity first = users.getContent().get(0);
+        final UserEntity second = users.getContent().get(1);
+        assertEquals("user-2", first.getId());
+        assertFalse(first.isPrimaryOwner());
+        assertEquals(2, first.getNbActiveTokens());
+        assertEquals("user-1", second.getId());
+        assertTrue(second.isPrimaryOwner());
+        assertEquals(0, second.getNbActiveTokens());
+        verify(userMetadataService, never()).findAllByUserId(any());
+        verify(tokenService, never()).findByUser(any());
+    }
+
     @Test(expected = UserNotFoundException.class)
     public void shouldNotFindByUsernameBecauseNotExists() throws TechnicalException {
         when(userRepository.findBySource(USER_SOURCE, USER_NAME, ORGANIZATION)).thenReturn(Optional.empty());
@@ -0,0 +1,452 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.rest.api.service.notifiers.impl.WebNotifierServiceImpl;
+import io.gravitee.rest.api.service.notifiers.impl.WebhookDeliveryQueue;
+import io.vertx.core.Vertx;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * The queue is driven by hand: polls are triggered by the tests, the clock is fixed and the delivery tasks are only run
+ * when the tests ask for it.
+ *
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WebhookDeliveryQueueTest {
+
+    private static final String NODE_ID = "node-1";
+
+    private static final long START = 1_600_000_000_000L;
+
+    @InjectMocks
+    private WebhookDeliveryQueue webhookDeliveryQueue = new WebhookDeliveryQueue();
+
+    @Mock
+    private CommandRepository commandRepository;
+
+    @Mock
+    private Node node;
+
+    private final Map<String, Command> commands = new ConcurrentHashMap<>();
+
+    private final List<Map<String, String>> receivedHeaders = new CopyOnWriteArrayList<>();
+
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+
+    private final Deque<Integer> statuses = new ArrayDeque<>();
+
+    private final QueuedExecutorService deliveryWorkers = new QueuedExecutorService();
+
+    private long now = START;
+
+    private HttpServer server;
+
+    private Vertx vertx;
+
+    private String url;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+            "/webhook",
+            exchange -> {
+                Map<String, String> headers = new HashMap<>();
+                exchange.getRequestHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), values.get(0)));
+                receivedHeaders.add(headers);
+                receivedBodies.add(IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8));
+
+                int status = nextStatus();
+                if (status == 204) {
+                    exchange.sendResponseHeaders(status, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, response.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(response);
+                }
+            }
+        );
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/webhook";
+
+        vertx = Vertx.vertx();
+        WebNotifierServiceImpl webNotifierService = new WebNotifierServiceImpl();
+        ReflectionTestUtils.setField(webNotifierService, "vertx", vertx);
+        ReflectionTestUtils.setField(webNotifierService, "httpClientTimeout", 5000);
+
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "webNotifierService", webNotifierService);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "deliveryWorkers", deliveryWorkers);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "backoff", 50L);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "maxConcurrentRequestsPerTarget", 1);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "ratePerTarget", 0);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "leaseTimeout", 1000L);
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "retention", 60L);
+        setClock(START);
+
+        // In-memory command repository
+        lenient().when(node.id()).thenReturn(NODE_ID);
+        lenient().when(commandRepository.create(any(Command.class))).thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient().when(commandRepository.update(any(Command.class))).thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient()
+            .when(commandRepository.findById(any()))
+            .thenAnswer(invocation -> Optional.ofNullable(commands.get(invocation.<String>getArgument(0))).map(this::copy));
+        lenient()
+            .when(commandRepository.search(any(CommandCriteria.class)))
+            .thenAnswer(
+                invocation -> {
+                    CommandCriteria criteria = invocation.getArgument(0);
+                    List<String> tags = Arrays.asList(criteria.getTags());
+                    return commands
+                        .values()
+                        .stream()
+                        .filter(command -> criteria.getTo() == null || criteria.getTo().equals(command.getTo()))
+                        .filter(command -> command.getTags().stream().anyMatch(tags::contains))
+                        .map(this::copy)
+                        .collect(Collectors.toList());
+                }
+            );
+        lenient().doAnswer(invocation -> commands.remove(invocation.<String>getArgument(0))).when(commandRepository).delete(any());
+    }
+
+    @After
+    public void tearDown() {
+        webhookDeliveryQueue.destroy();
+        server.stop(0);
+        vertx.close();
+    }
+
+    @Test
+    public void shouldDeliverQueuedWebhook() {
+        webhookDeliveryQueue.enqueue(url, Collections.singletonMap("X-Gravitee-Event", "SUBSCRIPTION_NEW"), "{\"event\":\"test\"}", false);
+
+        pollAndDeliver();
+
+        assertTrue(commands.isEmpty());
+        assertEquals(1, receivedBodies.size());
+        assertEquals("{\"event\":\"test\"}", receivedBodies.get(0));
+        assertEquals("SUBSCRIPTION_NEW", receivedHeaders.get(0).get("x-gravitee-event"));
+        assertNotNull(receivedHeaders.get(0).get("x-gravitee-delivery-id"));
+        assertEquals(1, webhookDeliveryQueue.getDeliveredCount());
+    }
+
+    @Test
+    public void shouldDeliverWebhookAcceptedWithAnyStatus2xx() {
+        statuses.addAll(Arrays.asList(201, 202, 204));
+
+        for (int i = 0; i < 3; i++) {
+            webhookDeliveryQueue.enqueue(url, Collections.emptyMap(), "{}", false);
+            pollAndDeliver();
+        }
+
+        assertTrue(commands.isEmpty());
+        assertEquals(3, receivedBodies.size());
+        assertEquals(3, webhookDeliveryQueue.getDeliveredCount());
+        assertEquals(0, webhookDeliveryQueue.getFailedAttemptCount());
+    }
+
+    @Test
+    public void shouldRetryFailedDeliveryAfterBackoff() {
+        statuses.add(500);
+        webhookDeliveryQueue.enqueue(url, Collections.emptyMap(), "{}", false);
+
+        pollAndDeliver();
+        assertEquals(1, webhookDeliveryQueue.getFailedAttemptCount());
+
+        // Not retried before the backoff delay
+        pollAndDeliver();
+        assertEquals(1, receivedBodies.size());
+
+        setClock(START + 50);
+        pollAndDeliver();
+
+        assertEquals(1, webhookDeliveryQueue.getDeliveredCount());
+        assertEquals(2, receivedBodies.size());
+        assertEquals(receivedHeaders.get(0).get("x-gravitee-delivery-id"), receivedHeaders.get(1).get("x-gravitee-delivery-id"));
+    }
+
+    @Test
+    public void shouldMoveDeliveryToDeadLetters() throws Exception {
+        statuses.addAll(Arrays.asList(500, 500, 500, 500));
+        webhookDeliveryQueue.enqueue(url, Collections.emptyMap(), "{}", false);
+
+        for (int i = 1; i <= 4; i++) {
+            setClock(START + i * 1000);
+            pollAndDeliver();
+        }
+
+        assertEquals(1, webhookDeliveryQueue.getDeadLetterCount());
+        assertEquals(3, receivedBodies.size());
+        assertEquals(1, commands.size());
+        Command deadLetter = commands.values().iterator().next();
+        assertTrue(delivery(deadLetter).isDeadLetter());
+        assertEquals(Collections.singletonList("WEBHOOK_DEAD_LETTER"), deadLetter.getTags());
+
+        // Dead letters are not read by the polls anymore, only purged once expired
+        clearInvocations(commandRepository);
+        pollAndDeliver();
+        webhookDeliveryQueue.takeOverDeliveries();
+        verify(commandRepository, never()).update(any(Command.class));
+
+        setClock(START + TimeUnit.SECONDS.toMillis(61));
+        webhookDeliveryQueue.purgeDeadLetters();
+        assertTrue(commands.isEmpty());
+    }
+
+    @Test
+    public void shouldNotDispatchStaleDelivery() throws Exception {
+        Command command = ownCommand("delivery", 0);
+        commands.put("delivery", command);
+        // A worker has recorded a failed attempt since the search
+        Command current = ownCommand("delivery", 2);
+        WebhookDeliveryQueue.WebhookDelivery delivery = delivery(current);
+        delivery.setNextAttemptAt(START + 10000);
+        current.setContent(new ObjectMapper().writeValueAsString(delivery));
+        when(commandRepository.findById("delivery")).thenReturn(Optional.of(current));
+
+        pollAndDeliver();
+
+        assertTrue(receivedBodies.isEmpty());
+        verify(commandRepository, never()).update(any(Command.class));
+    }
+
+    @Test
+    public void shouldNotDispatchDeliveryMovedToDeadLetters() throws Exception {
+        commands.put("delivery", ownCommand("delivery", 0));
+        Command current = ownCommand("delivery", 3);
+        current.setTags(Collections.singletonList("WEBHOOK_DEAD_LETTER"));
+        when(commandRepository.findById("delivery")).thenReturn(Optional.of(current));
+
+        pollAndDeliver();
+
+        assertTrue(receivedBodies.isEmpty());
+        verify(commandRepository, never()).update(any(Command.class));
+    }
+
+    @Test
+    public void shouldTakeOverDeliveryOfStoppedNode() throws Exception {
+        commands.put("orphan", otherNodeCommand("orphan", new Date(START - 5000)));
+
+        webhookDeliveryQueue.takeOverDeliveries();
+        assertEquals(NODE_ID, commands.get("orphan").getTo());
+        assertTrue(receivedBodies.isEmpty());
+
+        pollAndDeliver();
+        assertTrue(commands.isEmpty());
+        assertEquals(1, receivedBodies.size());
+    }
+
+    @Test
+    public void shouldNotTakeOverFreshDeliveryOfAnotherNode() throws Exception {
+        commands.put("fresh", otherNodeCommand("fresh", new Date(START)));
+
+        webhookDeliveryQueue.takeOverDeliveries();
+        pollAndDeliver();
+
+        assertTrue(receivedBodies.isEmpty());
+        assertEquals("node-2", commands.get("fresh").getTo());
+        verify(commandRepository, never()).update(any(Command.class));
+    }
+
+    @Test
+    public void shouldNotTakeOverDeliveryClaimedMeanwhile() throws Exception {
+        commands.put("orphan", otherNodeCommand("orphan", new Date(START - 5000)));
+        // Another node claims the delivery between the search and the takeover
+        when(commandRepository.findById("orphan")).thenReturn(Optional.of(otherNodeCommand("orphan", new Date(START))));
+
+        webhookDeliveryQueue.takeOverDeliveries();
+
+        assertEquals("node-2", commands.get("orphan").getTo());
+        verify(commandRepository, never()).update(any(Command.class));
+    }
+
+    @Test
+    public void shouldLimitConcurrentRequestsPerTarget() {
+        for (int i = 0; i < 4; i++) {
+            webhookDeliveryQueue.enqueue(url, Collections.emptyMap(), "{}", false);
+        }
+
+        for (int i = 1; i <= 4; i++) {
+            webhookDeliveryQueue.poll();
+            // A single delivery in progress for the target
+            assertEquals(1, deliveryWorkers.pending());
+            assertEquals(1, webhookDeliveryQueue.getInFlightCount());
+            deliveryWorkers.runPending();
+            assertEquals(i, receivedBodies.size());
+        }
+
+        assertTrue(commands.isEmpty());
+        assertEquals(4, webhookDeliveryQueue.getDeliveredCount());
+    }
+
+    private void pollAndDeliver() {
+        webhookDeliveryQueue.poll();
+        deliveryWorkers.runPending();
+    }
+
+    private void setClock(long millis) {
+        now = millis;
+        ReflectionTestUtils.setField(webhookDeliveryQueue, "clock", Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+    }
+
+    private Command ownCommand(String id, int attempts) throws Exception {
+        Command command = otherNodeCommand(id, new Date(now));
+        command.setFrom(NODE_ID);
+        command.setTo(NODE_ID);
+        WebhookDeliveryQueue.WebhookDelivery delivery = delivery(command);
+        delivery.setAttempts(attempts);
+        command.setContent(new ObjectMapper().writeValueAsString(delivery));
+        return command;
+    }
+
+    private Command otherNodeCommand(String id, Date updatedAt) throws Exception {
+        WebhookDeliveryQueue.WebhookDelivery delivery = new WebhookDeliveryQueue.WebhookDelivery();
+        delivery.setUrl(url);
+        delivery.setHeaders(Collections.emptyMap());
+        delivery.setBody("{}");
+
+        Command command = new Command();
+        command.setId(id);
+        command.setFrom("node-2");
+        command.setTo("node-2");
+        command.setTags(Collections.singletonList("WEBHOOK_DELIVERY"));
+        command.setContent(new ObjectMapper().writeValueAsString(delivery));
+        command.setCreatedAt(new Date(now));
+        command.setUpdatedAt(updatedAt);
+        command.setExpiredAt(new Date(now + 60000));
+        return command;
+    }
+
+    private int nextStatus() {
+        synchronized (statuses) {
+            Integer status = statuses.poll();
+            return status == null ? 200 : status;
+        }
+    }
+
+    private Command store(Command command) {
+        Command stored = copy(command);
+        commands.put(stored.getId(), stored);
+        return stored;
+    }
+
+    private Command copy(Command command) {
+        Command copy = new Command();
+        copy.setId(command.getId());
+        copy.setEnvironmentId(command.getEnvironmentId());
+        copy.setFrom(command.getFrom());
+        copy.setTo(command.getTo());
+        copy.setTags(command.getTags());
+        copy.setContent(command.getContent());
+        copy.setCreatedAt(command.getCreatedAt());
+        copy.setUpdatedAt(command.getUpdatedAt());
+        copy.setExpiredAt(command.getExpiredAt());
+        return copy;
+    }
+
+    private WebhookDeliveryQueue.WebhookDelivery delivery(Command command) throws Exception {
+        return new ObjectMapper().readValue(command.getContent(), WebhookDeliveryQueue.WebhookDelivery.class);
+    }
+
+    /**
+     * Keeps the submitted tasks until {@link #runPending()} runs them on the calling thread.
+     */
+    private static class QueuedExecutorService extends AbstractExecutorService {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runPending() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.vertx;
+
+import static org.junit.Assert.*;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.net.ProxyOptions;
+import io.vertx.core.net.ProxyType;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class HttpClientRegistryTest {
+
+    private Vertx vertx;
+
+    private HttpClientRegistry registry;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        registry = new HttpClientRegistry(vertx);
+    }
+
+    @After
+    public void tearDown() {
+        registry.close();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldReuseClientForSameTarget() {
+        HttpClient client1 = client("https", "api.gravitee.io", 443, 2000, null);
+        HttpClient client2 = client("HTTPS", "api.gravitee.io", 443, 2000, null);
+
+        assertSame(client1, client2);
+    }
+
+    @Test
+    public void shouldNotReuseClientForAnotherTarget() {
+        HttpClient client1 = client("https", "api.gravitee.io", 443, 2000, null);
+        HttpClient client2 = client("http", "api.gravitee.io", 80, 2000, null);
+        HttpClient client3 = client("https", "gravitee.io", 443, 2000, null);
+
+        assertNotSame(client1, client2);
+        assertNotSame(client1, client3);
+    }
+
+    @Test
+    public void shouldNotReuseClientForAnotherProxy() {
+        ProxyOptions proxy = new ProxyOptions().setType(ProxyType.HTTP).setHost("localhost").setPort(3128);
+        ProxyOptions sameProxy = new ProxyOptions().setType(ProxyType.HTTP).setHost("localhost").setPort(3128);
+        ProxyOptions otherProxy = new ProxyOptions().setType(ProxyType.SOCKS5).setHost("localhost").setPort(3128);
+
+        HttpClient direct = client("https", "api.gravitee.io", 443, 2000, null);
+        HttpClient proxied = client("https", "api.gravitee.io", 443, 2000, proxy);
+
+        assertNotSame(direct, proxied);
+        assertSame(proxied, client("https", "api.gravitee.io", 443, 2000, sameProxy));
+        assertNotSame(proxied, client("https", "api.gravitee.io", 443, 2000, otherProxy));
+    }
+
+    @Test
+    public void shouldNotReuseClientWithoutHostVerification() {
+        HttpClient verified = client("https", "api.gravitee.io", 443, 2000, null);
+        HttpClient notVerified = client("https", "api.gravitee.io", 443, 2000, null, false);
+
+        assertNotSame(verified, notVerified);
+        assertSame(verified, client("https", "api.gravitee.io", 443, 2000, null, true));
+    }
+
+    @Test
+    public void shouldCloseLeastRecentlyUsedClients() throws InterruptedException {
+        ReflectionTestUtils.setField(registry, "maxClients", 2);
+
+        HttpClient client1 = client("https", "api1.gravitee.io", 443, 2000, null);
+        Thread.sleep(5);
+        HttpClient client2 = client("https", "api2.gravitee.io", 443, 2000, null);
+        Thread.sleep(5);
+        client("https", "api1.gravitee.io", 443, 2000, null);
+        Thread.sleep(5);
+        client("https", "api3.gravitee.io", 443, 2000, null);
+
+        assertEquals(2, registry.size());
+        assertSame(client1, client("https", "api1.gravitee.io", 443, 2000, null));
+        assertNotSame(client2, client("https", "api2.gravitee.io", 443, 2000, null));
+    }
+
+    @Test
+    public void shouldCloseIdleClients() throws InterruptedException {
+        ReflectionTestUtils.setField(registry, "clientIdleTimeout", 0L);
+        client("https", "api.gravitee.io", 443, 2000, null);
+        Thread.sleep(5);
+
+        registry.evictClients();
+
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void shouldRecordMetricsPerTarget() {
+        registry.execute("https", "api.gravitee.io", 443, 2000, null, (client, metrics) -> completed(metrics)).join().recordSuccess(10);
+        registry.execute("https", "api.gravitee.io", 443, 2000, null, (client, metrics) -> completed(metrics)).join().recordError(30);
+
+        HttpClientRegistry.TargetMetrics metrics = registry.getMetrics().get("https://api.gravitee.io:443");
+        assertNotNull(metrics);
+        assertEquals(2, metrics.getRequests());
+        assertEquals(1, metrics.getErrors());
+        assertEquals(30, metrics.getMaxLatency());
+        assertEquals(20, metrics.getMeanLatency(), 0);
+    }
+
+    @Test
+    public void shouldDropMetricsOfClosedClients() throws InterruptedException {
+        registry.execute("https", "api.gravitee.io", 443, 2000, null, (client, metrics) -> completed(metrics)).join().recordSuccess(10);
+        ReflectionTestUtils.setField(registry, "clientIdleTimeout", 0L);
+        Thread.sleep(5);
+
+        registry.evictClients();
+
+        assertTrue(registry.getMetrics().isEmpty());
+    }
+
+    @Test
+    public void shouldNotCloseClientsInUse() throws InterruptedException {
+        ReflectionTestUtils.setField(registry, "clientIdleTimeout", 0L);
+        CompletableFuture<Void> call = new CompletableFuture<>();
+        CompletableFuture<Void> result = registry.execute("https", "api.gravitee.io", 443, 2000, null, (client, metrics) -> call);
+        Thread.sleep(5);
+
+        registry.evictClients();
+        assertEquals(1, registry.size());
+
+        call.complete(null);
+        result.join();
+        Thread.sleep(5);
+        registry.evictClients();
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void shouldKeepClientsInUseAboveMaxSize() {
+        ReflectionTestUtils.setField(registry, "maxClients", 1);
+        CompletableFuture<Void> call = new CompletableFuture<>();
+        registry.execute("https", "api1.gravitee.io", 443, 2000, null, (client, metrics) -> call);
+        HttpClient client2 = client("https", "api2.gravitee.io", 443, 2000, null);
+
+        // The client in use is kept, the other one is closed once it has been released
+        assertEquals(1, registry.size());
+        assertNotSame(client2, client("https", "api2.gravitee.io", 443, 2000, null));
+        call.complete(null);
+    }
+
+    @Test
+    public void shouldReleaseClientWhenCallFails() throws InterruptedException {
+        ReflectionTestUtils.setField(registry, "clientIdleTimeout", 0L);
+        try {
+            registry.execute(
+                "https",
+                "api.gravitee.io",
+                443,
+                2000,
+                null,
+                (client, metrics) -> {
+                    throw new IllegalStateException("failure");
+                }
+            );
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Thread.sleep(5);
+
+        registry.evictClients();
+
+        assertEquals(0, registry.size());
+    }
+
+    private HttpClient client(String scheme, String host, int port, int connectTimeout, ProxyOptions proxyOptions) {
+        return client(scheme, host, port, connectTimeout, proxyOptions, true);
+    }
+
+    private HttpClient client(String scheme, String host, int port, int connectTimeout, ProxyOptions proxyOptions, boolean verifyHost) {
+        return registry
+            .execute(scheme, host, port, connectTimeout, proxyOptions, verifyHost, (client, metrics) -> completed(client))
+            .join();
+    }
+
+    private <T> CompletableFuture<T> completed(T value) {
+        return CompletableFuture.completedFuture(value);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.commands;
+
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.rest.api.repository.command.CommandPoller;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Periodically polls the commands sent to the management nodes: search indexation, roles and repository cache evictions.
+ *
+ * @author GraviteeSource Team
+ */
+public class ScheduledCommandsService extends AbstractService implements Runnable {
+
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ScheduledCommandsService.class);
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    @Autowired
+    private CommandPoller commandPoller;
+
+    @Value("${services.commands.enabled:true}")
+    private boolean enabled;
+
+    @Value("${services.commands.interval:5000}")
+    private long interval;
+
+    @Override
+    protected String name() {
+        return "Commands Service";
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (enabled) {
+            super.doStart();
+            logger.info("Commands service has been initialized with interval [{} ms]", interval);
+            scheduler.scheduleWithFixedDelay(this, interval);
+        } else {
+            logger.warn("Commands service has been disabled, the changes made on the other nodes will not be replicated");
+        }
+    }
+
+    @Override
+    public void run() {
+        commandPoller.poll();
+    }
+}
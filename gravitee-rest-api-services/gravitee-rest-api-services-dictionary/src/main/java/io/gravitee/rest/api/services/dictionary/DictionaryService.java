@@ -26,6 +26,7 @@ import io.gravitee.rest.api.model.configuration.dictionary.DictionaryEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryProviderEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryTriggerEntity;
 import io.gravitee.rest.api.service.event.DictionaryEvent;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
 import io.gravitee.rest.api.services.dictionary.provider.http.HttpProvider;
 import io.gravitee.rest.api.services.dictionary.provider.http.configuration.HttpProviderConfiguration;
 import io.vertx.core.Vertx;
@@ -63,6 +64,9 @@ public class DictionaryService extends AbstractService implements EventListener<
     @Autowired
     private Node node;
 
+    @Autowired
+    private HttpClientRegistry httpClientRegistry;
+
     private final Map<String, Long> timers = new HashMap<>();
 
     @Override
@@ -115,6 +119,7 @@ public class DictionaryService extends AbstractService implements EventListener<
                     HttpProvider provider = new HttpProvider(configuration);
                     provider.setVertx(vertx);
                     provider.setNode(node);
+                    provider.setHttpClientRegistry(httpClientRegistry);
 
                     refresher.setProvider(provider);
                     refresher.setDictionaryService(dictionaryService);
@@ -20,6 +20,7 @@ import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.node.api.Node;
 import io.gravitee.node.api.utils.NodeUtils;
 import io.gravitee.rest.api.service.common.RandomString;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
 import io.gravitee.rest.api.services.dictionary.model.DynamicProperty;
 import io.gravitee.rest.api.services.dictionary.provider.Provider;
 import io.gravitee.rest.api.services.dictionary.provider.http.configuration.HttpProviderConfiguration;
@@ -27,8 +28,6 @@ import io.gravitee.rest.api.services.dictionary.provider.http.mapper.JoltMapper;
 import io.gravitee.rest.api.services.dictionary.provider.http.vertx.VertxCompletableFuture;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import java.net.URI;
@@ -49,6 +48,8 @@ public class HttpProvider implements Provider {
 
     private static final String HTTPS_SCHEME = "https";
 
+    private static final int CONNECT_TIMEOUT = 2000;
+
     private final HttpProviderConfiguration configuration;
 
     private JoltMapper mapper;
@@ -57,6 +58,8 @@ public class HttpProvider implements Provider {
 
     private Node node;
 
+    private HttpClientRegistry httpClientRegistry;
+
     public HttpProvider(final HttpProviderConfiguration configuration) {
         Objects.requireNonNull(configuration, "Configuration must not be null");
         this.configuration = configuration;
@@ -65,95 +68,88 @@ public class HttpProvider implements Provider {
 
     @Override
     public CompletableFuture<Collection<DynamicProperty>> get() {
-        CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
-
         URI requestUri = URI.create(configuration.getUrl());
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme());
-
-        final HttpClientOptions options = new HttpClientOptions()
-            .setSsl(ssl)
-            .setTrustAll(true)
-            .setMaxPoolSize(1)
-            .setKeepAlive(false)
-            .setTcpKeepAlive(false)
-            .setConnectTimeout(2000);
-
-        final HttpClient httpClient = vertx.createHttpClient(options);
-
         final int port = requestUri.getPort() != -1 ? requestUri.getPort() : (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
 
-        try {
-            String relativeUri = (requestUri.getRawQuery() == null)
-                ? requestUri.getRawPath()
-                : requestUri.getRawPath() + '?' + requestUri.getRawQuery();
-            HttpClientRequest request = httpClient.request(
-                configuration.getMethod() != null ? configuration.getMethod() : HttpMethod.GET,
-                port,
+        return httpClientRegistry
+            .execute(
+                requestUri.getScheme(),
                 requestUri.getHost(),
-                relativeUri
-            );
-
-            request.putHeader(HttpHeaders.USER_AGENT, NodeUtils.userAgent(node));
-            request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
+                port,
+                CONNECT_TIMEOUT,
+                null,
+                (httpClient, metrics) -> {
+                    final CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
+                    final long start = System.currentTimeMillis();
 
-            if (configuration.getHeaders() != null) {
-                configuration.getHeaders().forEach(httpHeader -> request.putHeader(httpHeader.getName(), httpHeader.getValue()));
-            }
+                    try {
+                        String relativeUri = (requestUri.getRawQuery() == null)
+                            ? requestUri.getRawPath()
+                            : requestUri.getRawPath() + '?' + requestUri.getRawQuery();
+                        HttpClientRequest request = httpClient.request(
+                            configuration.getMethod() != null ? configuration.getMethod() : HttpMethod.GET,
+                            port,
+                            requestUri.getHost(),
+                            relativeUri
+                        );
 
-            request.handler(
-                response -> {
-                    if (response.statusCode() == HttpStatusCode.OK_200) {
-                        response.bodyHandler(
-                            buffer -> {
-                                future.complete(buffer);
+                        request.putHeader(HttpHeaders.USER_AGENT, NodeUtils.userAgent(node));
+                        request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
+
+                        if (configuration.getHeaders() != null) {
+                            configuration
+                                .getHeaders()
+                                .forEach(httpHeader -> request.putHeader(httpHeader.getName(), httpHeader.getValue()));
+                        }
+
+                        request.handler(
+                            response -> {
+                                if (response.statusCode() == HttpStatusCode.OK_200) {
+                                    response.bodyHandler(
+                                        buffer -> {
+                                            metrics.recordSuccess(System.currentTimeMillis() - start);
+                                            future.complete(buffer);
+                                        }
+                                    );
+                                } else {
+                                    // Consume the response so that the connection goes back to the pool
+                                    response.bodyHandler(
+                                        buffer -> {
+                                            metrics.recordError(System.currentTimeMillis() - start);
+                                            future.complete(null);
+                                        }
+                                    );
+                                }
+                            }
+                        );
 
-                                // Close client
-                                httpClient.close();
+                        request.exceptionHandler(
+                            event -> {
+                                metrics.recordError(System.currentTimeMillis() - start);
+                                future.completeExceptionally(event);
                             }
                         );
-                    } else {
-                        future.complete(null);
 
-                        // Close client
-                        httpClient.close();
+                        if (!StringUtils.isEmpty(configuration.getBody())) {
+                            request.end(configuration.getBody());
+                        } else {
+                            request.end();
+                        }
+                    } catch (Exception ex) {
+                        logger.error("Unable to look for dynamic properties", ex);
+                        future.completeExceptionally(ex);
                     }
+                    return future;
                 }
-            );
-
-            request.exceptionHandler(
-                event -> {
-                    try {
-                        future.completeExceptionally(event);
-
-                        // Close client
-                        httpClient.close();
-                    } catch (IllegalStateException ise) {
-                        // Do not take care about exception when closing client
+            )
+            .thenApply(
+                buffer -> {
+                    if (buffer == null) {
+                        return null;
                     }
+                    return mapper.map(buffer.toString());
                 }
             );
-
-            if (!StringUtils.isEmpty(configuration.getBody())) {
-                request.end(configuration.getBody());
-            } else {
-                request.end();
-            }
-        } catch (Exception ex) {
-            logger.error("Unable to look for dynamic properties", ex);
-            future.completeExceptionally(ex);
-
-            // Close client
-            httpClient.close();
-        }
-
-        return future.thenApply(
-            buffer -> {
-                if (buffer == null) {
-                    return null;
-                }
-                return mapper.map(buffer.toString());
-            }
-        );
     }
 
     @Override
@@ -172,4 +168,8 @@ public class HttpProvider implements Provider {
     public void setNode(Node node) {
         this.node = node;
     }
+
+    public void setHttpClientRegistry(HttpClientRegistry httpClientRegistry) {
+        this.httpClientRegistry = httpClientRegistry;
+    }
 }
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.when;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.gravitee.node.api.Node;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
 import io.gravitee.rest.api.services.dictionary.model.DynamicProperty;
 import io.gravitee.rest.api.services.dictionary.provider.http.configuration.HttpProviderConfiguration;
 import io.gravitee.rest.api.services.dictionary.provider.http.mapper.JoltMapper;
@@ -62,9 +63,12 @@ public class HttpProviderTest {
     @Mock
     private Node node;
 
+    private Vertx vertx;
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
+        vertx = Vertx.vertx();
     }
 
     @Test
@@ -75,7 +79,8 @@ public class HttpProviderTest {
 
         HttpProvider provider = new HttpProvider(configuration);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
+        provider.setHttpClientRegistry(new HttpClientRegistry(vertx));
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         Collection<DynamicProperty> dynamicProperties = future.join();
@@ -93,7 +98,8 @@ public class HttpProviderTest {
 
         HttpProvider provider = new HttpProvider(configuration);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
+        provider.setHttpClientRegistry(new HttpClientRegistry(vertx));
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         Collection<DynamicProperty> dynamicProperties = future.join();
@@ -112,7 +118,8 @@ public class HttpProviderTest {
 
         HttpProvider provider = new HttpProvider(configuration);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
+        provider.setHttpClientRegistry(new HttpClientRegistry(vertx));
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         Collection<DynamicProperty> dynamicProperties = future.join();
@@ -130,7 +137,8 @@ public class HttpProviderTest {
 
         HttpProvider provider = new HttpProvider(configuration);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
+        provider.setHttpClientRegistry(new HttpClientRegistry(vertx));
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         Collection<DynamicProperty> dynamicProperties = future.join();
@@ -148,7 +156,8 @@ public class HttpProviderTest {
 
         HttpProvider provider = new HttpProvider(configuration);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
+        provider.setHttpClientRegistry(new HttpClientRegistry(vertx));
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         future.join();
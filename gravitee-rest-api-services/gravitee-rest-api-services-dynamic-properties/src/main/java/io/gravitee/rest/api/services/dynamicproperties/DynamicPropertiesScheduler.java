@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+/**
+ * Single hashed timing wheel driving every dynamic properties poller, instead of one Vert.x timer per API.
+ *
+ * The wheel is made of <code>wheelSize</code> buckets of <code>tickDuration</code> ms each and is advanced by a single
+ * periodic Vert.x timer. A task which is due in more than one wheel revolution stays in its bucket and is only fired once
+ * its remaining rounds reach zero. Each task gets a random phase offset (bounded by <code>maxJitter</code> and kept below
+ * the period of its cron expression) added to its cron executions, so that APIs sharing the same schedule do not all
+ * poll on the same tick. The offset is constant, so the executions of a task keep the period of its cron expression.
+ *
+ * @author GraviteeSource Team
+ */
+public class DynamicPropertiesScheduler implements Handler<Long> {
+
+    private final Logger logger = LoggerFactory.getLogger(DynamicPropertiesScheduler.class);
+
+    private final Vertx vertx;
+    private final long tickDuration;
+    private final long maxJitter;
+    private final List<Set<Task>> wheel;
+
+    private final Map<String, Task> tasks = new HashMap<>();
+
+    private long timerId = -1;
+    private long tick;
+    private long startTime;
+
+    public DynamicPropertiesScheduler(Vertx vertx, long tickDuration, int wheelSize, long maxJitter) {
+        this.vertx = vertx;
+        this.tickDuration = tickDuration;
+        this.maxJitter = maxJitter;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new HashSet<>());
+        }
+    }
+
+    public synchronized void start() {
+        startTime = System.currentTimeMillis();
+        tick = 0;
+        timerId = vertx.setPeriodic(tickDuration, this);
+    }
+
+    public synchronized void stop() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+        tasks.clear();
+        wheel.forEach(Set::clear);
+    }
+
+    /**
+     * Schedule the handler according to the cron expression, replacing any task already scheduled with the same id.
+     */
+    public synchronized void schedule(String id, String cronExpression, Handler<Long> handler) {
+        cancel(id);
+
+        final CronTrigger trigger = new CronTrigger(cronExpression);
+        final long maxOffset = Math.min(maxJitter, period(trigger) - 1);
+        final long jitter = maxOffset > 0 ? ThreadLocalRandom.current().nextLong(maxOffset + 1) : 0;
+        final Task task = new Task(id, trigger, jitter, handler);
+        tasks.put(id, task);
+        reschedule(task);
+    }
+
+    public synchronized boolean cancel(String id) {
+        final Task task = tasks.remove(id);
+        if (task != null) {
+            wheel.get(task.bucket).remove(task);
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized boolean isScheduled(String id) {
+        return tasks.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return tasks.size();
+    }
+
+    @Override
+    public void handle(Long timerId) {
+        final List<Task> expired = new ArrayList<>();
+
+        synchronized (this) {
+            // Catch up with the ticks missed because the event loop was busy
+            final long currentTick = (System.currentTimeMillis() - startTime) / tickDuration;
+            while (tick < currentTick) {
+                tick++;
+                final Iterator<Task> iterator = wheel.get((int) (tick % wheel.size())).iterator();
+                while (iterator.hasNext()) {
+                    Task task = iterator.next();
+                    if (task.remainingRounds <= 0) {
+                        iterator.remove();
+                        expired.add(task);
+                    } else {
+                        task.remainingRounds--;
+                    }
+                }
+            }
+
+            expired.forEach(this::reschedule);
+        }
+
+        for (Task task : expired) {
+            try {
+                task.handler.handle(timerId);
+            } catch (Exception ex) {
+                logger.error("Unexpected error while running scheduled task {}", task.id, ex);
+            }
+        }
+    }
+
+    /**
+     * Period between the next two executions of the trigger, in milliseconds.
+     */
+    private static long period(CronTrigger trigger) {
+        final Date next = trigger.nextExecutionTime(new SimpleTriggerContext());
+        final Date afterNext = trigger.nextExecutionTime(new SimpleTriggerContext(next, next, next));
+        return afterNext.getTime() - next.getTime();
+    }
+
+    private void reschedule(Task task) {
+        final long now = System.currentTimeMillis();
+        // Next cron execution whose shifted time is still to come
+        final Date shiftedNow = new Date(now - task.jitter);
+        final Date next = task.trigger.nextExecutionTime(new SimpleTriggerContext(shiftedNow, shiftedNow, shiftedNow));
+        final long delay = Math.max(0, next.getTime() + task.jitter - now);
+
+        // Target tick is never the current one, it has already been processed. It is rounded up so that the task never
+        // runs before its time, which would schedule the same execution again.
+        final long targetTick = Math.max(tick + 1, (now + delay - startTime + tickDuration - 1) / tickDuration);
+        final long ticks = targetTick - tick;
+
+        task.bucket = (int) (targetTick % wheel.size());
+        task.remainingRounds = (ticks - 1) / wheel.size();
+        wheel.get(task.bucket).add(task);
+    }
+
+    private static class Task {
+
+        private final String id;
+        private final CronTrigger trigger;
+        private final long jitter;
+        private final Handler<Long> handler;
+
+        private int bucket;
+        private long remainingRounds;
+
+        private Task(String id, CronTrigger trigger, long jitter, Handler<Long> handler) {
+            this.id = id;
+            this.trigger = trigger;
+            this.jitter = jitter;
+            this.handler = handler;
+        }
+    }
+}
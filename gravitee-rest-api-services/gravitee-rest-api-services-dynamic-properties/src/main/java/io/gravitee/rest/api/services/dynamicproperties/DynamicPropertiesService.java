@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.services.dynamicproperties;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.common.component.Lifecycle;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventListener;
@@ -22,17 +24,27 @@ import io.gravitee.common.event.EventManager;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyProvider;
 import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyService;
+import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
 import io.gravitee.node.api.Node;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.ApiService;
+import io.gravitee.rest.api.service.common.HashHelper;
 import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
+import io.gravitee.rest.api.services.dynamicproperties.provider.http.mapper.JoltMapper;
 import io.vertx.core.Vertx;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * @author Alexandre FARIA (lusoalex on github.com)
@@ -56,7 +68,46 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     @Autowired
     private Node node;
 
-    private final Map<ApiEntity, CronHandler> handlers = new HashMap<>();
+    @Autowired
+    private HttpClientRegistry httpClientRegistry;
+
+    @Value("${services.dynamic_properties.workers:4}")
+    private int workers;
+
+    @Value("${services.dynamic_properties.queueSize:1000}")
+    private int queueSize;
+
+    @Value("${services.dynamic_properties.timeout:30000}")
+    private long timeout;
+
+    @Value("${services.dynamic_properties.eventLoop.blockedThreshold:500}")
+    private long eventLoopBlockedThreshold;
+
+    @Value("${services.dynamic_properties.scheduler.tick:500}")
+    private long schedulerTick;
+
+    @Value("${services.dynamic_properties.scheduler.wheelSize:512}")
+    private int schedulerWheelSize;
+
+    @Value("${services.dynamic_properties.scheduler.jitter:5000}")
+    private long schedulerJitter;
+
+    /**
+     * Fingerprint of the dynamic properties configuration currently scheduled, by API id.
+     */
+    private final Map<String, String> configurations = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled Jolt specifications, by specification hash. Values are weakly referenced so that a specification is
+     * released once no scheduled provider uses it anymore.
+     */
+    private final Cache<String, JoltMapper> mappers = CacheBuilder.newBuilder().weakValues().build();
+
+    private DynamicPropertiesScheduler scheduler;
+
+    private ThreadPoolExecutor executor;
+
+    private EventLoopMonitor eventLoopMonitor;
 
     @Override
     protected String name() {
@@ -67,12 +118,41 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     protected void doStart() throws Exception {
         super.doStart();
 
+        executor =
+            new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new CustomizableThreadFactory("dynamic-properties-")
+            );
+
+        eventLoopMonitor = new EventLoopMonitor(vertx, 1000, eventLoopBlockedThreshold);
+        eventLoopMonitor.start();
+
+        scheduler = new DynamicPropertiesScheduler(vertx, schedulerTick, schedulerWheelSize, schedulerJitter);
+        scheduler.start();
+
         eventManager.subscribeForEvents(this, ApiEvent.class);
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+
+        if (scheduler != null) {
+            scheduler.stop();
+            configurations.clear();
+        }
+
+        if (eventLoopMonitor != null) {
+            eventLoopMonitor.stop();
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
     }
 
     @Override
@@ -87,12 +167,22 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
                 stopDynamicProperties(api);
                 break;
             case UPDATE:
-                stopDynamicProperties(api);
-                startDynamicProperties(api);
+                updateDynamicProperties(api);
                 break;
         }
     }
 
+    private void updateDynamicProperties(ApiEntity api) {
+        final String configuration = configuration(api);
+        if (configuration != null && configuration.equals(configurations.get(api.getId()))) {
+            logger.debug("Dynamic properties configuration has not changed for API id[{}], keep the current schedule", api.getId());
+            return;
+        }
+
+        stopDynamicProperties(api);
+        startDynamicProperties(api);
+    }
+
     private void startDynamicProperties(ApiEntity api) {
         if (api.getState() == Lifecycle.State.STARTED) {
             DynamicPropertyService dynamicPropertyService = api.getServices().get(DynamicPropertyService.class);
@@ -100,19 +190,23 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
                 DynamicPropertyUpdater updater = new DynamicPropertyUpdater(api);
 
                 if (dynamicPropertyService.getProvider() == DynamicPropertyProvider.HTTP) {
-                    HttpProvider provider = new HttpProvider(dynamicPropertyService);
+                    HttpDynamicPropertyProviderConfiguration providerConfiguration = (HttpDynamicPropertyProviderConfiguration) dynamicPropertyService.getConfiguration();
+                    HttpProvider provider = new HttpProvider(dynamicPropertyService, getMapper(providerConfiguration.getSpecification()));
                     provider.setVertx(vertx);
                     provider.setNode(node);
+                    provider.setHttpClientRegistry(httpClientRegistry);
 
                     updater.setProvider(provider);
                     updater.setApiService(apiService);
+                    updater.setExecutor(executor);
+                    updater.setVertx(vertx);
+                    updater.setTimeout(timeout);
                     logger.info("Add a scheduled task to poll dynamic properties each {}", dynamicPropertyService.getSchedule());
 
                     // Force the first refresh, and then run it periodically
                     updater.handle(null);
-                    CronHandler cronHandler = new CronHandler(vertx, dynamicPropertyService.getSchedule());
-                    cronHandler.schedule(updater);
-                    handlers.put(api, cronHandler);
+                    scheduler.schedule(api.getId(), dynamicPropertyService.getSchedule(), updater);
+                    configurations.put(api.getId(), configuration(api));
                 }
             } else {
                 logger.info("Dynamic properties service is disabled for: {} [{}]", api.getName(), api.getVersion());
@@ -121,10 +215,49 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     }
 
     private void stopDynamicProperties(ApiEntity api) {
-        CronHandler handler = handlers.remove(api);
-        if (handler != null) {
+        configurations.remove(api.getId());
+        if (scheduler.cancel(api.getId())) {
             logger.info("Stop Dynamic properties service for API id[{}] name[{}]", api.getId(), api.getName());
-            handler.cancel();
         }
     }
+
+    private JoltMapper getMapper(String specification) {
+        try {
+            return mappers.get(HashHelper.sha256(specification), () -> new JoltMapper(specification));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to compile dynamic properties specification", e.getCause());
+        }
+    }
+
+    /**
+     * Build a fingerprint of everything that drives the dynamic properties poller of an API, or <code>null</code> if
+     * the poller should not run.
+     */
+    private String configuration(ApiEntity api) {
+        if (api.getState() != Lifecycle.State.STARTED || api.getServices() == null) {
+            return null;
+        }
+
+        DynamicPropertyService dynamicPropertyService = api.getServices().get(DynamicPropertyService.class);
+        if (
+            dynamicPropertyService == null ||
+            !dynamicPropertyService.isEnabled() ||
+            dynamicPropertyService.getProvider() != DynamicPropertyProvider.HTTP
+        ) {
+            return null;
+        }
+
+        HttpDynamicPropertyProviderConfiguration providerConfiguration = (HttpDynamicPropertyProviderConfiguration) dynamicPropertyService.getConfiguration();
+        StringBuilder builder = new StringBuilder();
+        builder.append(dynamicPropertyService.getSchedule()).append('\n');
+        builder.append(providerConfiguration.getMethod()).append(' ').append(providerConfiguration.getUrl()).append('\n');
+        if (providerConfiguration.getHeaders() != null) {
+            providerConfiguration
+                .getHeaders()
+                .forEach(header -> builder.append(header.getName()).append(':').append(header.getValue()).append('\n'));
+        }
+        builder.append(providerConfiguration.getBody()).append('\n');
+        builder.append(HashHelper.sha256(providerConfiguration.getSpecification()));
+        return builder.toString();
+    }
 }
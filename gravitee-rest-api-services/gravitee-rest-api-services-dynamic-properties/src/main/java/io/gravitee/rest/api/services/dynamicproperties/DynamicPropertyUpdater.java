@@ -27,7 +27,13 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +54,20 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     private ApiEntity api;
     private Provider provider;
     private ApiService apiService;
+    private Executor executor;
+    private Vertx vertx;
+
+    /**
+     * Maximum time, in milliseconds, to wait for the provider. A provider which never completes would otherwise keep
+     * the poll running and block all the next ones.
+     */
+    private long timeout;
+
+    /**
+     * Set while a poll (provider call and repository update) is in progress, so that a slow poll is not overlapped by
+     * the next scheduled one.
+     */
+    private final AtomicBoolean running = new AtomicBoolean(false);
 
     public DynamicPropertyUpdater(final ApiEntity api) {
         this.api = api;
@@ -102,25 +122,71 @@ public class DynamicPropertyUpdater implements Handler<Long> {
 
     @Override
     public void handle(Long event) {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Dynamic-properties poller for {} is still running, skip this execution", api);
+            return;
+        }
+
         logger.debug("Running dynamic-properties poller for {}", api);
-        authenticateAsAdmin();
 
-        provider
-            .get()
-            .whenComplete(
+        try {
+            CompletableFuture<Collection<DynamicProperty>> future = provider.get();
+            final long timerId = timeout > 0 ? vertx.setTimer(timeout, id -> future.completeExceptionally(new TimeoutException())) : -1;
+
+            future.whenComplete(
                 (dynamicProperties, throwable) -> {
-                    if (throwable != null) {
+                    if (timerId != -1) {
+                        vertx.cancelTimer(timerId);
+                    }
+                    if (throwable instanceof TimeoutException) {
+                        logger.warn(
+                            "[{}] No dynamic properties received from provider {} within {}ms",
+                            api.getId(),
+                            provider.name(),
+                            timeout
+                        );
+                        running.set(false);
+                    } else if (throwable != null) {
                         logger.error(
                             "[{}] Unexpected error while getting dynamic properties from provider: {}",
                             api.getId(),
                             provider.name(),
                             throwable
                         );
+                        running.set(false);
                     } else if (dynamicProperties != null) {
+                        // Repository calls are blocking, do not run them on the Vert.x event loop
+                        executeUpdate(dynamicProperties);
+                    } else {
+                        running.set(false);
+                    }
+                }
+            );
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void executeUpdate(Collection<DynamicProperty> dynamicProperties) {
+        try {
+            executor.execute(
+                () -> {
+                    try {
+                        authenticateAsAdmin();
                         update(dynamicProperties);
+                    } catch (Exception e) {
+                        logger.error("[{}] Unexpected error while updating dynamic properties", api.getId(), e);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        running.set(false);
                     }
                 }
             );
+        } catch (RejectedExecutionException ree) {
+            logger.warn("[{}] Too many dynamic properties updates in progress, skip this execution", api.getId());
+            running.set(false);
+        }
     }
 
     private void update(Collection<DynamicProperty> dynamicProperties) {
@@ -189,4 +255,16 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     public void setProvider(Provider provider) {
         this.provider = provider;
     }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public void setVertx(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
 }
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically measures how late the Vert.x event loop runs a timer. A late timer means the event loop was blocked by
+ * some handler for (at least) this delay. The measures are exposed through JMX while the monitor is started.
+ *
+ * @author GraviteeSource Team
+ */
+public class EventLoopMonitor implements Handler<Long>, EventLoopMonitorMXBean {
+
+    private final Logger logger = LoggerFactory.getLogger(EventLoopMonitor.class);
+
+    static final String OBJECT_NAME = "io.gravitee.rest.api.services.dynamicproperties:type=EventLoopMonitor";
+
+    private final Vertx vertx;
+    private final long interval;
+    private final long blockedThreshold;
+
+    private long timerId = -1;
+    private long lastTick;
+
+    private final AtomicLong lastLag = new AtomicLong();
+    private final AtomicLong maxLag = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+
+    public EventLoopMonitor(Vertx vertx, long interval, long blockedThreshold) {
+        this.vertx = vertx;
+        this.interval = interval;
+        this.blockedThreshold = blockedThreshold;
+    }
+
+    public void start() {
+        lastTick = System.currentTimeMillis();
+        timerId = vertx.setPeriodic(interval, this);
+        registerMBean();
+    }
+
+    public void stop() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+        unregisterMBean();
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (Exception e) {
+            logger.warn("Unable to expose the metrics of the event loop", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            logger.warn("Unable to remove the metrics of the event loop", e);
+        }
+    }
+
+    @Override
+    public void handle(Long timerId) {
+        final long now = System.currentTimeMillis();
+        final long lag = Math.max(0, now - lastTick - interval);
+        lastTick = now;
+
+        lastLag.set(lag);
+        maxLag.accumulateAndGet(lag, Math::max);
+
+        if (lag > blockedThreshold) {
+            blockedCount.incrementAndGet();
+            logger.warn("Vert.x event loop has been blocked for {} ms", lag);
+        }
+    }
+
+    @Override
+    public long getLastLag() {
+        return lastLag.get();
+    }
+
+    @Override
+    public long getMaxLag() {
+        return maxLag.get();
+    }
+
+    @Override
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+/**
+ * Metrics of the Vert.x event loop shared by the dynamic properties providers, exposed through JMX.
+ *
+ * @author GraviteeSource Team
+ */
+public interface EventLoopMonitorMXBean {
+    /**
+     * @return the delay of the last monitoring timer, in milliseconds.
+     */
+    long getLastLag();
+
+    /**
+     * @return the highest delay of a monitoring timer since the start, in milliseconds.
+     */
+    long getMaxLag();
+
+    /**
+     * @return the number of times the event loop has been blocked for more than the threshold.
+     */
+    long getBlockedCount();
+}
@@ -22,14 +22,13 @@ import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPro
 import io.gravitee.node.api.Node;
 import io.gravitee.node.api.utils.NodeUtils;
 import io.gravitee.rest.api.service.common.RandomString;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.mapper.JoltMapper;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.vertx.VertxCompletableFuture;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import java.net.URI;
@@ -50,6 +49,8 @@ public class HttpProvider implements Provider {
 
     private static final String HTTPS_SCHEME = "https";
 
+    private static final int CONNECT_TIMEOUT = 2000;
+
     private final HttpDynamicPropertyProviderConfiguration dpConfiguration;
 
     private JoltMapper mapper;
@@ -58,6 +59,8 @@ public class HttpProvider implements Provider {
 
     private Node node;
 
+    private HttpClientRegistry httpClientRegistry;
+
     public HttpProvider(final DynamicPropertyService dpService) {
         Objects.requireNonNull(dpService, "Service must not be null");
 
@@ -65,96 +68,96 @@ public class HttpProvider implements Provider {
         this.mapper = new JoltMapper(dpConfiguration.getSpecification());
     }
 
+    public HttpProvider(final DynamicPropertyService dpService, final JoltMapper mapper) {
+        Objects.requireNonNull(dpService, "Service must not be null");
+
+        this.dpConfiguration = (HttpDynamicPropertyProviderConfiguration) dpService.getConfiguration();
+        this.mapper = mapper;
+    }
+
     @Override
     public CompletableFuture<Collection<DynamicProperty>> get() {
-        CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
-
         URI requestUri = URI.create(dpConfiguration.getUrl());
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme());
-
-        final HttpClientOptions options = new HttpClientOptions()
-            .setSsl(ssl)
-            .setTrustAll(true)
-            .setMaxPoolSize(1)
-            .setKeepAlive(false)
-            .setTcpKeepAlive(false)
-            .setConnectTimeout(2000);
-
-        final HttpClient httpClient = vertx.createHttpClient(options);
-
         final int port = requestUri.getPort() != -1 ? requestUri.getPort() : (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
 
-        try {
-            String relativeUri = (requestUri.getRawQuery() == null)
-                ? requestUri.getRawPath()
-                : requestUri.getRawPath() + '?' + requestUri.getRawQuery();
-            HttpClientRequest request = httpClient.request(
-                HttpMethod.valueOf(dpConfiguration.getMethod().name()),
-                port,
+        return httpClientRegistry
+            .execute(
+                requestUri.getScheme(),
                 requestUri.getHost(),
-                relativeUri
-            );
-            request.putHeader(HttpHeaders.USER_AGENT, NodeUtils.userAgent(node));
-            request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
-
-            if (dpConfiguration.getHeaders() != null) {
-                dpConfiguration.getHeaders().forEach(httpHeader -> request.putHeader(httpHeader.getName(), httpHeader.getValue()));
-            }
-
-            request.handler(
-                response -> {
-                    if (response.statusCode() == HttpStatusCode.OK_200) {
-                        response.bodyHandler(
-                            buffer -> {
-                                future.complete(buffer);
-
-                                // Close client
-                                httpClient.close();
+                port,
+                CONNECT_TIMEOUT,
+                null,
+                (httpClient, metrics) -> {
+                    final CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
+                    final long start = System.currentTimeMillis();
+
+                    try {
+                        String relativeUri = (requestUri.getRawQuery() == null)
+                            ? requestUri.getRawPath()
+                            : requestUri.getRawPath() + '?' + requestUri.getRawQuery();
+                        HttpClientRequest request = httpClient.request(
+                            HttpMethod.valueOf(dpConfiguration.getMethod().name()),
+                            port,
+                            requestUri.getHost(),
+                            relativeUri
+                        );
+                        request.putHeader(HttpHeaders.USER_AGENT, NodeUtils.userAgent(node));
+                        request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
+
+                        if (dpConfiguration.getHeaders() != null) {
+                            dpConfiguration
+                                .getHeaders()
+                                .forEach(httpHeader -> request.putHeader(httpHeader.getName(), httpHeader.getValue()));
+                        }
+
+                        request.handler(
+                            response -> {
+                                if (response.statusCode() == HttpStatusCode.OK_200) {
+                                    response.bodyHandler(
+                                        buffer -> {
+                                            metrics.recordSuccess(System.currentTimeMillis() - start);
+                                            future.complete(buffer);
+                                        }
+                                    );
+                                } else {
+                                    // Consume the response so that the connection goes back to the pool
+                                    response.bodyHandler(
+                                        buffer -> {
+                                            metrics.recordError(System.currentTimeMillis() - start);
+                                            future.complete(null);
+                                        }
+                                    );
+                                }
                             }
                         );
-                    } else {
-                        future.complete(null);
 
-                        // Close client
-                        httpClient.close();
+                        request.exceptionHandler(
+                            event -> {
+                                metrics.recordError(System.currentTimeMillis() - start);
+                                future.completeExceptionally(event);
+                            }
+                        );
+
+                        if (!StringUtils.isEmpty(dpConfiguration.getBody())) {
+                            request.end(dpConfiguration.getBody());
+                        } else {
+                            request.end();
+                        }
+                    } catch (Exception ex) {
+                        logger.error("Unable to look for dynamic properties", ex);
+                        future.completeExceptionally(ex);
                     }
+                    return future;
                 }
-            );
-
-            request.exceptionHandler(
-                event -> {
-                    try {
-                        future.completeExceptionally(event);
-
-                        // Close client
-                        httpClient.close();
-                    } catch (IllegalStateException ise) {
-                        // Do not take care about exception when closing client
+            )
+            .thenApply(
+                buffer -> {
+                    if (buffer == null) {
+                        return null;
                     }
+                    return mapper.map(buffer.toString());
                 }
             );
-
-            if (!StringUtils.isEmpty(dpConfiguration.getBody())) {
-                request.end(dpConfiguration.getBody());
-            } else {
-                request.end();
-            }
-        } catch (Exception ex) {
-            logger.error("Unable to look for dynamic properties", ex);
-            future.completeExceptionally(ex);
-
-            // Close client
-            httpClient.close();
-        }
-
-        return future.thenApply(
-            buffer -> {
-                if (buffer == null) {
-                    return null;
-                }
-                return mapper.map(buffer.toString());
-            }
-        );
     }
 
     @Override
@@ -173,4 +176,8 @@ public class HttpProvider implements Provider {
     public void setNode(Node node) {
         this.node = node;
     }
+
+    public void setHttpClientRegistry(HttpClientRegistry httpClientRegistry) {
+        this.httpClientRegistry = httpClientRegistry;
+    }
 }
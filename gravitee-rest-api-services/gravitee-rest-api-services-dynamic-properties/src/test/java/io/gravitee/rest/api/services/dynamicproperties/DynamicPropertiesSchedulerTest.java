@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import static org.junit.Assert.*;
+
+import io.vertx.core.Vertx;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class DynamicPropertiesSchedulerTest {
+
+    private Vertx vertx;
+
+    private DynamicPropertiesScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        // Small wheel to go through several rounds
+        scheduler = new DynamicPropertiesScheduler(vertx, 50, 4, 0);
+        scheduler.start();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.stop();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldRunScheduledTask() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        scheduler.schedule("api-1", "* * * * * *", event -> latch.countDown());
+
+        assertTrue(scheduler.isScheduled("api-1"));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldReplaceTaskWithSameId() throws InterruptedException {
+        AtomicInteger first = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.schedule("api-1", "* * * * * *", event -> first.incrementAndGet());
+        scheduler.schedule("api-1", "* * * * * *", event -> latch.countDown());
+
+        assertEquals(1, scheduler.size());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, first.get());
+    }
+
+    @Test
+    public void shouldKeepCronPeriodWithJitterAboveIt() throws InterruptedException {
+        // The jitter is kept below the period of the cron expression and only shifts its executions
+        DynamicPropertiesScheduler jitteredScheduler = new DynamicPropertiesScheduler(vertx, 50, 4, 5000);
+        jitteredScheduler.start();
+        List<Long> executions = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        try {
+            jitteredScheduler.schedule(
+                "api-1",
+                "* * * * * *",
+                event -> {
+                    executions.add(System.currentTimeMillis());
+                    latch.countDown();
+                }
+            );
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < 3; i++) {
+                long period = executions.get(i) - executions.get(i - 1);
+                assertTrue("Unexpected period " + period, period > 700 && period < 1300);
+            }
+        } finally {
+            jitteredScheduler.stop();
+        }
+    }
+
+    @Test
+    public void shouldNotRunCancelledTask() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+
+        scheduler.schedule("api-1", "* * * * * *", event -> counter.incrementAndGet());
+        assertTrue(scheduler.cancel("api-1"));
+        assertFalse(scheduler.isScheduled("api-1"));
+        assertFalse(scheduler.cancel("api-1"));
+
+        Thread.sleep(2500);
+        assertEquals(0, counter.get());
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.component.Lifecycle;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.services.Services;
+import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyProvider;
+import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyService;
+import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.service.vertx.HttpClientRegistry;
+import io.vertx.core.Vertx;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DynamicPropertiesServiceTest {
+
+    private static final String API_ID = "api-1";
+
+    @InjectMocks
+    private DynamicPropertiesService service = new DynamicPropertiesService();
+
+    @Mock
+    private HttpClientRegistry httpClientRegistry;
+
+    @Mock
+    private DynamicPropertiesScheduler scheduler;
+
+    private Vertx vertx;
+
+    private String specification;
+
+    @Before
+    public void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        ReflectionTestUtils.setField(service, "vertx", vertx);
+        ReflectionTestUtils.setField(service, "scheduler", scheduler);
+        specification = IOUtils.toString(getClass().getResourceAsStream("/jolt/specification.json"), StandardCharsets.UTF_8);
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldKeepScheduleWhenConfigurationHasNotChanged() {
+        service.onEvent(new SimpleEvent<>(ApiEvent.DEPLOY, api("*/5 * * * * *", true)));
+        service.onEvent(new SimpleEvent<>(ApiEvent.UPDATE, api("*/5 * * * * *", true)));
+
+        verify(scheduler, times(1)).schedule(eq(API_ID), eq("*/5 * * * * *"), any());
+        verify(scheduler, never()).cancel(API_ID);
+    }
+
+    @Test
+    public void shouldRescheduleWhenConfigurationHasChanged() {
+        service.onEvent(new SimpleEvent<>(ApiEvent.DEPLOY, api("*/5 * * * * *", true)));
+        service.onEvent(new SimpleEvent<>(ApiEvent.UPDATE, api("*/10 * * * * *", true)));
+
+        verify(scheduler).cancel(API_ID);
+        verify(scheduler).schedule(eq(API_ID), eq("*/10 * * * * *"), any());
+    }
+
+    @Test
+    public void shouldStopWhenDynamicPropertiesAreDisabled() {
+        service.onEvent(new SimpleEvent<>(ApiEvent.DEPLOY, api("*/5 * * * * *", true)));
+        service.onEvent(new SimpleEvent<>(ApiEvent.UPDATE, api("*/5 * * * * *", false)));
+
+        verify(scheduler).cancel(API_ID);
+        verify(scheduler, times(1)).schedule(any(), any(), any());
+    }
+
+    private ApiEntity api(String schedule, boolean enabled) {
+        HttpDynamicPropertyProviderConfiguration configuration = mock(HttpDynamicPropertyProviderConfiguration.class);
+        lenient().when(configuration.getUrl()).thenReturn("http://localhost:8080/properties");
+        lenient().when(configuration.getMethod()).thenReturn(HttpMethod.GET);
+        lenient().when(configuration.getSpecification()).thenReturn(specification);
+
+        DynamicPropertyService dynamicPropertyService = mock(DynamicPropertyService.class);
+        lenient().when(dynamicPropertyService.isEnabled()).thenReturn(enabled);
+        lenient().when(dynamicPropertyService.getProvider()).thenReturn(DynamicPropertyProvider.HTTP);
+        lenient().when(dynamicPropertyService.getSchedule()).thenReturn(schedule);
+        lenient().when(dynamicPropertyService.getConfiguration()).thenReturn(configuration);
+
+        Services services = mock(Services.class);
+        lenient().when(services.get(DynamicPropertyService.class)).thenReturn(dynamicPropertyService);
+
+        ApiEntity api = new ApiEntity();
+        api.setId(API_ID);
+        api.setState(Lifecycle.State.STARTED);
+        api.setServices(services);
+        return api;
+    }
+}
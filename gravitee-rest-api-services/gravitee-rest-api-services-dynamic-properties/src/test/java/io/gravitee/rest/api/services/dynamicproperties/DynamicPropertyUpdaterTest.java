@@ -19,11 +19,15 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.services.dynamicproperties.DynamicPropertyUpdater;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -42,12 +46,17 @@ public class DynamicPropertyUpdaterTest {
     @Mock
     private Provider provider;
 
+    @Mock
+    private Vertx vertx;
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         poller = new DynamicPropertyUpdater(apiEntity);
         Mockito.when(provider.name()).thenReturn("mock");
         poller.setProvider(provider);
+        poller.setExecutor(Runnable::run);
+        poller.setVertx(vertx);
     }
 
     @Test
@@ -82,4 +91,57 @@ public class DynamicPropertyUpdaterTest {
 
         poller.handle(1L);
     }
+
+    @Test
+    public void shouldSkipPollWhilePreviousOneIsRunning() {
+        CompletableFuture<Collection<DynamicProperty>> pending = new CompletableFuture<>();
+        Mockito.when(provider.get()).thenReturn(pending);
+
+        poller.handle(1L);
+        poller.handle(2L);
+
+        Mockito.verify(provider, Mockito.times(1)).get();
+    }
+
+    @Test
+    public void shouldPollAgainOncePreviousOneIsDone() {
+        CompletableFuture<Collection<DynamicProperty>> pending = new CompletableFuture<>();
+        Mockito.when(provider.get()).thenReturn(pending);
+
+        poller.handle(1L);
+        pending.complete(null);
+        poller.handle(2L);
+
+        Mockito.verify(provider, Mockito.times(2)).get();
+    }
+
+    @Test
+    public void shouldPollAgainOncePreviousOneTimedOut() {
+        CompletableFuture<Collection<DynamicProperty>> pending = new CompletableFuture<>();
+        Mockito.when(provider.get()).thenReturn(pending);
+        Mockito.when(vertx.setTimer(Mockito.eq(50L), Mockito.any())).thenReturn(1L);
+        poller.setTimeout(50);
+
+        poller.handle(1L);
+        ArgumentCaptor<Handler<Long>> timeout = ArgumentCaptor.forClass(Handler.class);
+        Mockito.verify(vertx).setTimer(Mockito.eq(50L), timeout.capture());
+        timeout.getValue().handle(1L);
+        poller.handle(2L);
+
+        Assert.assertTrue(pending.isCompletedExceptionally());
+        Mockito.verify(provider, Mockito.times(2)).get();
+    }
+
+    @Test
+    public void shouldCancelTimeoutOnceProviderCompleted() {
+        CompletableFuture<Collection<DynamicProperty>> pending = new CompletableFuture<>();
+        Mockito.when(provider.get()).thenReturn(pending);
+        Mockito.when(vertx.setTimer(Mockito.eq(50L), Mockito.any())).thenReturn(1L);
+        poller.setTimeout(50);
+
+        poller.handle(1L);
+        pending.complete(null);
+
+        Mockito.verify(vertx).cancelTimer(1L);
+    }
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import static org.junit.Assert.*;
+
+import io.vertx.core.Vertx;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class EventLoopMonitorTest {
+
+    private Vertx vertx;
+
+    private EventLoopMonitor monitor;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        monitor = new EventLoopMonitor(vertx, 1000, 0);
+    }
+
+    @After
+    public void tearDown() {
+        monitor.stop();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldExposeMetricsThroughJmxWhileStarted() throws Exception {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = new ObjectName(EventLoopMonitor.OBJECT_NAME);
+
+        monitor.start();
+        monitor.handle(0L);
+
+        assertTrue(mBeanServer.isRegistered(objectName));
+        assertEquals(monitor.getBlockedCount(), mBeanServer.getAttribute(objectName, "BlockedCount"));
+        assertEquals(monitor.getMaxLag(), mBeanServer.getAttribute(objectName, "MaxLag"));
+
+        monitor.stop();
+
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.notifications;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.OrganizationRepository;
+import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.api.search.UserCriteria;
+import io.gravitee.repository.management.api.search.builder.PageableBuilder;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.Organization;
+import io.gravitee.repository.management.model.User;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.PortalNotificationService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+/**
+ * Periodically trims the portal notifications of the users, by age and by number of notifications per user, so that
+ * the notification inbox of a user never grows unbounded. Users are processed by pages of batchSize users.
+ *
+ * The service is disabled by default. When enabled, each scheduled run is performed by a single management node: the
+ * nodes race to create a lock command whose id is derived from the scheduled time of the run, and only the node which
+ * creates it purges the notifications.
+ *
+ * @author GraviteeSource Team
+ */
+public class ScheduledNotificationsRetentionService extends AbstractService implements Runnable {
+
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ScheduledNotificationsRetentionService.class);
+
+    static final String LOCK_TAG = CommandTags.NOTIFICATIONS_RETENTION_LOCK.name();
+
+    private static final long LOCK_TTL = TimeUnit.DAYS.toMillis(1);
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    @Value("${services.notifications.retention.cron:0 0 */1 * * *}")
+    private String cronTrigger;
+
+    @Value("${services.notifications.retention.enabled:false}")
+    private boolean enabled;
+
+    // In seconds, 90 days by default
+    @Value("${services.notifications.retention.maxAge:7776000}")
+    private long maxAge;
+
+    @Value("${services.notifications.retention.maxPerUser:1000}")
+    private int maxPerUser;
+
+    @Value("${services.notifications.retention.batchSize:100}")
+    private int batchSize;
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    // Scheduled time of the current run, the same on every node
+    private volatile Date scheduledAt;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PortalNotificationService portalNotificationService;
+
+    @Autowired
+    private CommandRepository commandRepository;
+
+    @Autowired
+    private Node node;
+
+    @Override
+    protected String name() {
+        return "Notifications Retention Service";
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (enabled) {
+            super.doStart();
+            logger.info("Notifications Retention service has been initialized with cron [{}]", cronTrigger);
+            final CronTrigger trigger = new CronTrigger(cronTrigger);
+            scheduler.schedule(
+                this,
+                triggerContext -> {
+                    scheduledAt = trigger.nextExecutionTime(triggerContext);
+                    return scheduledAt;
+                }
+            );
+        } else {
+            logger.warn("Notifications Retention service has been disabled");
+        }
+    }
+
+    @Override
+    public void run() {
+        if (!acquireLock(scheduledAt != null ? scheduledAt : new Date())) {
+            logger.debug("Notifications retention is performed by another node");
+            return;
+        }
+
+        logger.debug("Notifications retention #{} started at {}", counter.incrementAndGet(), Instant.now().toString());
+        final Date olderThan = maxAge > 0 ? Date.from(Instant.now().minusSeconds(maxAge)) : null;
+        long purged = 0;
+
+        try {
+            for (Organization organization : organizationRepository.findAll()) {
+                final UserCriteria criteria = new UserCriteria.Builder().organizationId(organization.getId()).build();
+                int pageNumber = 0;
+                Page<User> users;
+                do {
+                    users = userRepository.search(criteria, new PageableBuilder().pageNumber(pageNumber).pageSize(batchSize).build());
+                    for (User user : users.getContent()) {
+                        purged += purge(user.getId(), olderThan);
+                    }
+                    pageNumber++;
+                } while (users.getPageElements() > 0);
+            }
+        } catch (TechnicalException ex) {
+            logger.error("An error occurs while trying to purge notifications", ex);
+        }
+
+        logger.debug("Notifications retention #{} ended at {}, {} notifications purged", counter.get(), Instant.now().toString(), purged);
+    }
+
+    /**
+     * Whether this node performs the run scheduled at the given time. The lock commands are created with the same id by
+     * every node, so that the repository lets only one of them succeed.
+     */
+    private boolean acquireLock(Date runAt) {
+        final long now = System.currentTimeMillis();
+        final Command command = new Command();
+        command.setId(LOCK_TAG + "-" + runAt.getTime());
+        command.setEnvironmentId(GraviteeContext.getDefaultEnvironment());
+        command.setFrom(node.id());
+        command.setTo(node.id());
+        command.setTags(Collections.singletonList(LOCK_TAG));
+        command.setCreatedAt(new Date(now));
+        command.setUpdatedAt(command.getCreatedAt());
+        command.setExpiredAt(new Date(now + LOCK_TTL));
+        try {
+            if (commandRepository.findById(command.getId()).isPresent()) {
+                return false;
+            }
+            commandRepository.create(command);
+        } catch (Exception ex) {
+            // Most likely created by another node meanwhile
+            logger.debug("Unable to acquire the notifications retention lock {}", command.getId(), ex);
+            return false;
+        }
+        purgeLocks(now);
+        return true;
+    }
+
+    private void purgeLocks(long now) {
+        try {
+            final CommandCriteria criteria = new CommandCriteria.Builder().tags(LOCK_TAG).build();
+            for (Command lock : commandRepository.search(criteria)) {
+                if (lock.getExpiredAt() != null && lock.getExpiredAt().getTime() < now) {
+                    commandRepository.delete(lock.getId());
+                }
+            }
+        } catch (Exception ex) {
+            logger.warn("Unable to remove the expired notifications retention locks", ex);
+        }
+    }
+
+    private int purge(String user, Date olderThan) {
+        try {
+            return portalNotificationService.purge(user, olderThan, maxPerUser);
+        } catch (Exception ex) {
+            // Do not stop the retention for the other users
+            logger.error("An error occurs while trying to purge notifications of user {}", user, ex);
+            return 0;
+        }
+    }
+}
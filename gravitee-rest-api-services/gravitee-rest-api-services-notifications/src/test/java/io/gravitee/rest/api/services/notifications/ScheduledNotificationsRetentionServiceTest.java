@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.notifications;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.OrganizationRepository;
+import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.Organization;
+import io.gravitee.repository.management.model.User;
+import io.gravitee.rest.api.service.PortalNotificationService;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduledNotificationsRetentionServiceTest {
+
+    @InjectMocks
+    ScheduledNotificationsRetentionService service = new ScheduledNotificationsRetentionService();
+
+    @Mock
+    OrganizationRepository organizationRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PortalNotificationService portalNotificationService;
+
+    @Mock
+    CommandRepository commandRepository;
+
+    @Mock
+    Node node;
+
+    private final Date scheduledAt = new Date(1_600_000_000_000L);
+
+    private final String lockId = ScheduledNotificationsRetentionService.LOCK_TAG + "-" + scheduledAt.getTime();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(service, "maxAge", 3600L);
+        ReflectionTestUtils.setField(service, "maxPerUser", 100);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "scheduledAt", scheduledAt);
+        when(node.id()).thenReturn("node-1");
+    }
+
+    @Test
+    public void shouldPurgeNotificationsOfAllUsersByPages() throws Exception {
+        Organization organization = new Organization();
+        organization.setId("DEFAULT");
+        when(organizationRepository.findAll()).thenReturn(Collections.singleton(organization));
+
+        when(userRepository.search(any(), argThat(pageable -> pageable.pageNumber() == 0 && pageable.pageSize() == 2)))
+            .thenReturn(new Page<>(Arrays.asList(user("user-1"), user("user-2")), 0, 2, 3));
+        when(userRepository.search(any(), argThat(pageable -> pageable.pageNumber() == 1)))
+            .thenReturn(new Page<>(Collections.singletonList(user("user-3")), 1, 1, 3));
+        when(userRepository.search(any(), argThat(pageable -> pageable.pageNumber() == 2)))
+            .thenReturn(new Page<>(Collections.emptyList(), 2, 0, 3));
+        when(portalNotificationService.purge(eq("user-2"), any(), eq(100))).thenThrow(new TechnicalManagementException("error"));
+
+        service.run();
+
+        verify(portalNotificationService).purge(eq("user-1"), argThat(date -> date.before(new Date())), eq(100));
+        verify(portalNotificationService).purge(eq("user-2"), any(), eq(100));
+        verify(portalNotificationService).purge(eq("user-3"), any(), eq(100));
+        verify(userRepository, times(3)).search(any(), any());
+        verify(commandRepository)
+            .create(
+                argThat(
+                    command ->
+                        lockId.equals(command.getId()) &&
+                        "node-1".equals(command.getTo()) &&
+                        command.getTags().contains(ScheduledNotificationsRetentionService.LOCK_TAG)
+                )
+            );
+    }
+
+    @Test
+    public void shouldNotPurgeWhenAnotherNodeHoldsTheLock() throws Exception {
+        when(commandRepository.findById(lockId)).thenReturn(Optional.of(new Command()));
+
+        service.run();
+
+        verify(commandRepository, never()).create(any());
+        verifyZeroInteractions(organizationRepository, userRepository, portalNotificationService);
+    }
+
+    @Test
+    public void shouldNotPurgeWhenAnotherNodeCreatedTheLockMeanwhile() throws Exception {
+        when(commandRepository.create(any())).thenThrow(new TechnicalException("duplicate key"));
+
+        service.run();
+
+        verifyZeroInteractions(organizationRepository, userRepository, portalNotificationService);
+    }
+
+    @Test
+    public void shouldRemoveExpiredLocks() throws Exception {
+        Command expired = new Command();
+        expired.setId("expired");
+        expired.setExpiredAt(new Date(System.currentTimeMillis() - 1000));
+        Command current = new Command();
+        current.setId(lockId);
+        current.setExpiredAt(new Date(System.currentTimeMillis() + 60000));
+        when(commandRepository.search(any())).thenReturn(Arrays.asList(expired, current));
+
+        service.run();
+
+        verify(commandRepository).delete("expired");
+        verify(commandRepository, never()).delete(lockId);
+    }
+
+    private User user(String id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
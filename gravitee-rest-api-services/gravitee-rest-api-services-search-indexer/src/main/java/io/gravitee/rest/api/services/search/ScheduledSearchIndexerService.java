@@ -15,51 +15,46 @@
  */
 package io.gravitee.rest.api.services.search;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.gravitee.common.service.AbstractService;
-import io.gravitee.repository.management.model.MessageRecipient;
-import io.gravitee.rest.api.model.command.CommandEntity;
-import io.gravitee.rest.api.model.command.CommandQuery;
+import io.gravitee.repository.management.model.Command;
 import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
 import io.gravitee.rest.api.model.command.CommandTags;
-import io.gravitee.rest.api.service.CommandService;
+import io.gravitee.rest.api.repository.command.CommandPoller;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import java.io.IOException;
-import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.support.CronTrigger;
 
 /**
+ * Indexes the documents changed on the other nodes, as notified by the commands delivered by the {@link CommandPoller}.
+ *
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class ScheduledSearchIndexerService extends AbstractService implements Runnable {
+public class ScheduledSearchIndexerService extends AbstractService {
 
     /**
      * Logger.
      */
     private final Logger logger = LoggerFactory.getLogger(ScheduledSearchIndexerService.class);
 
-    @Autowired
-    private TaskScheduler scheduler;
-
-    @Value("${services.search_indexer.cron:*/5 * * * * *}")
-    private String cronTrigger;
+    private static final String COMMAND_TAG = CommandTags.DATA_TO_INDEX.name();
 
     @Value("${services.search_indexer.enabled:true}")
     private boolean enabled;
 
-    private final AtomicLong counter = new AtomicLong(0);
-
     @Autowired
-    private CommandService commandService;
+    private CommandPoller commandPoller;
 
     @Autowired
     private SearchEngineService searchEngineService;
@@ -75,37 +70,54 @@ public class ScheduledSearchIndexerService extends AbstractService implements Ru
     protected void doStart() throws Exception {
         if (enabled) {
             super.doStart();
-            logger.info("Search Indexer service has been initialized with cron [{}]", cronTrigger);
-            scheduler.schedule(this, new CronTrigger(cronTrigger));
+            logger.info("Search Indexer service has been initialized");
+            commandPoller.register(COMMAND_TAG, this::index);
         } else {
             logger.warn("Search Indexer service has been disabled");
         }
     }
 
     @Override
-    public void run() {
-        logger.debug("Search Indexer #{} started at {}", counter.incrementAndGet(), Instant.now());
-        CommandQuery query = new CommandQuery();
-        query.setTo(MessageRecipient.MANAGEMENT_APIS.name());
-        query.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
-        List<CommandEntity> messageEntities = commandService.search(query);
-        messageEntities.forEach(
-            commandEntity -> {
-                if (commandEntity.isExpired()) {
-                    commandService.delete(commandEntity.getId());
-                } else {
-                    if (!commandEntity.isProcessedInCurrentNode()) {
-                        commandService.ack(commandEntity.getId());
-                        try {
-                            searchEngineService.process(mapper.readValue(commandEntity.getContent(), CommandSearchIndexerEntity.class));
-                        } catch (IOException e) {
-                            logger.error("Search Indexer has received a bad message.", e);
-                        }
-                    }
-                }
+    protected void doStop() throws Exception {
+        commandPoller.unregister(COMMAND_TAG);
+        super.doStop();
+    }
+
+    void index(List<Command> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        final Map<String, List<CommandSearchIndexerEntity>> contentsByEnvironment = new LinkedHashMap<>();
+        for (Command command : commands) {
+            try {
+                contentsByEnvironment
+                    .computeIfAbsent(command.getEnvironmentId(), environment -> new ArrayList<>())
+                    .addAll(readContents(command.getContent()));
+            } catch (IOException e) {
+                logger.error("Search Indexer has received a bad message.", e);
             }
-        );
+        }
 
-        logger.debug("Search Indexer #{} ended at {}", counter.get(), Instant.now());
+        final String currentEnvironment = GraviteeContext.getCurrentEnvironment();
+        try {
+            contentsByEnvironment.forEach(
+                (environment, contents) -> {
+                    GraviteeContext.setCurrentEnvironment(environment);
+                    searchEngineService.process(contents);
+                }
+            );
+        } finally {
+            GraviteeContext.setCurrentEnvironment(currentEnvironment);
+        }
+        logger.debug("Search Indexer has processed {} commands", commands.size());
+    }
+
+    private List<CommandSearchIndexerEntity> readContents(String content) throws IOException {
+        // Commands are sent in batches, but older nodes may still send a single document per command
+        if (content != null && content.trim().startsWith("[")) {
+            return mapper.readValue(content, new TypeReference<List<CommandSearchIndexerEntity>>() {});
+        }
+        return Collections.singletonList(mapper.readValue(content, CommandSearchIndexerEntity.class));
     }
 }
@@ -18,12 +18,15 @@ package io.gravitee.rest.api.services.search;
 import static org.mockito.Mockito.*;
 
 import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
 import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.service.CommandService;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import io.gravitee.rest.api.services.search.ScheduledSearchIndexerService;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -53,7 +56,8 @@ public class ScheduledSearchIndexerServiceTest {
         service.run();
 
         verify(commandService, never()).ack(anyString());
-        verify(searchEngineService, never()).process(any());
+        verify(searchEngineService, never()).process(any(CommandSearchIndexerEntity.class));
+        verify(searchEngineService, never()).process(anyCollection());
     }
 
     @Test
@@ -70,7 +74,36 @@ public class ScheduledSearchIndexerServiceTest {
 
         service.run();
 
-        verify(commandService, times(2)).ack(anyString());
-        verify(searchEngineService, times(2)).process(any());
+        verify(commandService, never()).ack(anyString());
+        verify(searchEngineService, times(1)).process(argThat((Collection<CommandSearchIndexerEntity> contents) -> contents.size() == 2));
+    }
+
+    @Test
+    public void shouldProcessBatchedCommandOnlyOnce() {
+        CommandEntity batch = new CommandEntity();
+        batch.setId("batchid");
+        batch.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
+        batch.setCreatedAt(new Date());
+        batch.setContent("[{\"id\":\"1\",\"action\":\"I\"},{\"id\":\"2\",\"action\":\"D\"}]");
+        when(commandService.search(any())).thenReturn(Collections.singletonList(batch));
+
+        service.run();
+        service.run();
+
+        verify(searchEngineService, times(1)).process(argThat((Collection<CommandSearchIndexerEntity> contents) -> contents.size() == 2));
+    }
+
+    @Test
+    public void shouldDeleteExpiredCommand() {
+        CommandEntity expired = new CommandEntity();
+        expired.setId("expiredid");
+        expired.setExpired(true);
+        expired.setContent("{\"id\":\"1\"}");
+        when(commandService.search(any())).thenReturn(Collections.singletonList(expired));
+
+        service.run();
+
+        verify(commandService, times(1)).delete("expiredid");
+        verify(searchEngineService, never()).process(anyCollection());
     }
 }
@@ -16,11 +16,13 @@
 package io.gravitee.rest.api.spec.converter.wsdl;
 
 import static io.gravitee.rest.api.spec.converter.wsdl.WSDLUtils.detectSoapVersion;
+import static io.gravitee.rest.api.spec.converter.wsdl.WSDLUtils.digest;
 import static io.gravitee.rest.api.spec.converter.wsdl.WSDLUtils.formatQName;
 
 import io.gravitee.rest.api.spec.converter.wsdl.binding.SoapVersion;
 import io.gravitee.rest.api.spec.converter.wsdl.soap.SoapBodyBuilder;
 import io.gravitee.rest.api.spec.converter.wsdl.soap.SoapHeadersBuilder;
+import io.gravitee.rest.api.spec.converter.wsdl.utils.LruCache;
 import io.gravitee.rest.api.spec.converter.wsdl.utils.SampleXmlUtil;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -37,16 +39,38 @@ public class SoapMessageBuilder {
     public static final String XMLSCHEMA = "http://www.w3.org/2001/XMLSchema";
     public static final String XSD_PREFIX = "xsd";
 
+    /**
+     * Compiled schemas, keyed by the digest of their content. Compiling the XSDs of a large WSDL takes seconds, so that
+     * re-importing or previewing the same descriptor reuses the type system of the previous conversion.
+     */
+    static final LruCache<String, SchemaTypeSystem> COMPILED_SCHEMAS = new LruCache<>(20);
+
+    /**
+     * Generated SOAP envelopes, keyed by the WSDL and schemas digests, the binding, the operation and the SOAP version.
+     */
+    static final LruCache<String, String> SOAP_ENVELOPES = new LruCache<>(2000);
+
     private final Map<Object, Object> namespaceMappings;
+    private final String wsdlDigest;
     private final Map<Object, Object> prefixToNamespaces;
     private final XmlOptions options;
 
     private List<XmlObject> schemas = new ArrayList<>();
+    private String schemasDigest;
     private SchemaTypeSystem shemaTypeSystem;
-    private boolean compiled = false;
+    private volatile boolean compiled = false;
 
     public SoapMessageBuilder(Map<Object, Object> namespaceMappings) {
+        this(namespaceMappings, null);
+    }
+
+    /**
+     * @param wsdlDigest digest of the WSDL content, used to reuse the envelopes generated by a previous conversion of the
+     *                   same WSDL. Envelopes are not cached if <code>null</code>.
+     */
+    public SoapMessageBuilder(Map<Object, Object> namespaceMappings, String wsdlDigest) {
         this.namespaceMappings = namespaceMappings;
+        this.wsdlDigest = wsdlDigest;
         this.namespaceMappings.put(SampleXmlUtil.XSI_TYPE.getNamespaceURI(), SampleXmlUtil.XSI_TYPE.getPrefix());
         this.namespaceMappings.put(XMLSCHEMA, XSD_PREFIX);
         this.options = new XmlOptions();
@@ -70,13 +94,32 @@ public class SoapMessageBuilder {
         }
     }
 
-    public void compileSchemas() {
-        try {
-            shemaTypeSystem = XmlBeans.compileXsd(schemas.toArray(new XmlObject[schemas.size()]), XmlBeans.getBuiltinTypeSystem(), options);
-            this.compiled = true;
-        } catch (XmlException e) {
-            LOGGER.debug("Compilation of XSD failed, OpenAPI specification will be generated without SOAP envelop", e);
+    /**
+     * Compile the schemas added to this builder. Must be called before generating envelopes from several threads.
+     */
+    public synchronized void compileSchemas() {
+        if (compiled) {
+            return;
         }
+        schemasDigest = digest(schemas.stream().map(XmlObject::xmlText).toArray(String[]::new));
+        shemaTypeSystem =
+            COMPILED_SCHEMAS.get(
+                schemasDigest,
+                () -> {
+                    try {
+                        return XmlBeans.compileXsd(
+                            schemas.toArray(new XmlObject[schemas.size()]),
+                            XmlBeans.getBuiltinTypeSystem(),
+                            options
+                        );
+                    } catch (XmlException e) {
+                        LOGGER.debug("Compilation of XSD failed, OpenAPI specification will be generated without SOAP envelop", e);
+                        return null;
+                    }
+                }
+            );
+        // compilation is not attempted again for the same builder, even on failure
+        this.compiled = true;
     }
 
     public Optional<String> generateSoapEnvelop(Definition wsdlDef, Binding binding, BindingOperation bindingOperation) {
@@ -84,14 +127,32 @@ public class SoapMessageBuilder {
             compileSchemas();
         }
 
-        try (StringWriter writer = new StringWriter()) {
-            Optional<SoapVersion> optVersion = detectSoapVersion(binding.getExtensibilityElements());
-            if (!optVersion.isPresent()) {
-                return Optional.empty();
-            }
+        Optional<SoapVersion> optVersion = detectSoapVersion(binding.getExtensibilityElements());
+        if (!optVersion.isPresent()) {
+            return Optional.empty();
+        }
+
+        SoapVersion version = optVersion.get();
+        if (wsdlDigest == null) {
+            return buildSoapEnvelop(wsdlDef, binding, bindingOperation, version);
+        }
 
-            SoapVersion version = optVersion.get();
+        final String key = String.join(
+            "|",
+            wsdlDigest,
+            schemasDigest,
+            String.valueOf(binding.getQName()),
+            bindingOperation.getName(),
+            bindingOperation.getBindingInput() == null ? "" : String.valueOf(bindingOperation.getBindingInput().getName()),
+            version.getEnvelopeQName().getNamespaceURI()
+        );
+        return Optional.ofNullable(
+            SOAP_ENVELOPES.get(key, () -> buildSoapEnvelop(wsdlDef, binding, bindingOperation, version).orElse(null))
+        );
+    }
 
+    private Optional<String> buildSoapEnvelop(Definition wsdlDef, Binding binding, BindingOperation bindingOperation, SoapVersion version) {
+        try (StringWriter writer = new StringWriter()) {
             boolean useEncoded = version.useEncoded(bindingOperation);
 
             XmlObject soapEnvelope = XmlObject.Factory.newInstance();
@@ -31,9 +31,14 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.servers.Server;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.wsdl.*;
 import javax.wsdl.extensions.ElementExtensible;
 import javax.wsdl.extensions.schema.Schema;
@@ -53,33 +58,87 @@ public class WSDLToOpenAPIConverter implements OpenAPIConverter {
     public static final String SOAP_EXTENSION_ENVELOPE = "x-graviteeio-soap-envelope";
     public static final String SOAP_EXTENSION_ACTION = "x-graviteeio-soap-action";
 
+    private static final int DEFAULT_CONVERSION_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int DEFAULT_CONVERSION_QUEUE_SIZE = 1000;
+
+    /**
+     * Bounded pool shared by the conversions to generate the SOAP envelopes of the operations in parallel. When the queue
+     * is full, the envelopes are generated by the converting thread.
+     */
+    private static final Executor DEFAULT_EXECUTOR = defaultExecutor();
+
+    private final Executor executor;
+
     private OpenAPI openAPI;
     private Definition wsdlDefinition;
     private SoapMessageBuilder soapBuilder;
 
     private Set<String> serverCache = new HashSet<>();
 
+    public WSDLToOpenAPIConverter() {
+        this(DEFAULT_EXECUTOR);
+    }
+
+    public WSDLToOpenAPIConverter(Executor executor) {
+        this.executor = executor;
+    }
+
     @Override
     public OpenAPI toOpenAPI(String content) {
-        return toOpenAPI(new ByteArrayInputStream(content.getBytes()));
+        return toOpenAPI(content.getBytes());
     }
 
     @Override
     public OpenAPI toOpenAPI(InputStream stream) {
         Objects.requireNonNull(stream, "WSDL input source is required");
-        this.wsdlDefinition = loadWSDL(stream);
+        try (ByteArrayOutputStream content = new ByteArrayOutputStream()) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return toOpenAPI(content.toByteArray());
+        } catch (IOException e) {
+            LOGGER.info("Unable to read WSDL", e);
+            throw new WsdlDescriptorException("Unable to read WSDL");
+        }
+    }
+
+    private OpenAPI toOpenAPI(byte[] content) {
+        this.wsdlDefinition = loadWSDL(new ByteArrayInputStream(content));
         // create the SoapBuilder with namespaces declared in the Definition element
         // this allows Apache XmlBeans to load additional Namespaces if required to parse the XSDs
-        this.soapBuilder = new SoapMessageBuilder(wsdlDefinition.getNamespaces());
+        this.soapBuilder = new SoapMessageBuilder(wsdlDefinition.getNamespaces(), digest(content));
 
         this.openAPI = new OpenAPI();
         buildInfo();
         createSchemaObjects(this.wsdlDefinition);
+        // compile once, before generating the envelopes in parallel
+        this.soapBuilder.compileSchemas();
         processServices();
 
         return openAPI;
     }
 
+    private static Executor defaultExecutor() {
+        final AtomicInteger counter = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            DEFAULT_CONVERSION_THREADS,
+            DEFAULT_CONVERSION_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(DEFAULT_CONVERSION_QUEUE_SIZE),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "gio-wsdl-converter-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private Definition loadWSDL(InputStream stream) {
         try {
             WSDLReaderImpl reader = new WSDLReaderImpl();
@@ -146,6 +205,7 @@ public class WSDLToOpenAPIConverter implements OpenAPIConverter {
             createServer(openAPI, portDefinition);
 
             final Binding binding = wsdlDefinition.getBinding(portDefinition.getBinding().getQName());
+            final List<CompletableFuture<Optional<String>>> envelopes = generateSoapEnvelopes(binding);
             for (int i = 0; i < binding.getBindingOperations().size(); ++i) {
                 final BindingOperation bindingOperation = (BindingOperation) binding.getBindingOperations().get(i);
                 final Operation operation = bindingOperation.getOperation();
@@ -161,8 +221,7 @@ public class WSDLToOpenAPIConverter implements OpenAPIConverter {
                 Input input = operation.getInput();
                 if (input != null) {
                     extractSOAPAction(bindingOperation).ifPresent(action -> openApiOperation.addExtension(SOAP_EXTENSION_ACTION, action));
-                    this.soapBuilder.generateSoapEnvelop(wsdlDefinition, binding, bindingOperation)
-                        .ifPresent(envelope -> openApiOperation.addExtension(SOAP_EXTENSION_ENVELOPE, envelope));
+                    join(envelopes.get(i)).ifPresent(envelope -> openApiOperation.addExtension(SOAP_EXTENSION_ENVELOPE, envelope));
                 }
 
                 // create an empty Content definition used by each response description
@@ -220,6 +279,37 @@ public class WSDLToOpenAPIConverter implements OpenAPIConverter {
         }
     }
 
+    /**
+     * Start the generation of the SOAP envelope of each operation of the binding, in the same order as the operations.
+     */
+    private List<CompletableFuture<Optional<String>>> generateSoapEnvelopes(Binding binding) {
+        final List<BindingOperation> bindingOperations = binding.getBindingOperations();
+        final boolean parallel = bindingOperations.size() > 1;
+        final List<CompletableFuture<Optional<String>>> envelopes = new ArrayList<>(bindingOperations.size());
+        for (BindingOperation bindingOperation : bindingOperations) {
+            final Supplier<Optional<String>> envelope = () -> soapBuilder.generateSoapEnvelop(wsdlDefinition, binding, bindingOperation);
+            if (bindingOperation.getOperation().getInput() == null) {
+                envelopes.add(CompletableFuture.completedFuture(Optional.empty()));
+            } else if (parallel) {
+                envelopes.add(CompletableFuture.supplyAsync(envelope, executor));
+            } else {
+                envelopes.add(CompletableFuture.completedFuture(envelope.get()));
+            }
+        }
+        return envelopes;
+    }
+
+    private Optional<String> join(CompletableFuture<Optional<String>> envelope) {
+        try {
+            return envelope.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private HttpMethod detectHttpMethod(String operationName) {
         String name = operationName.toLowerCase();
         if (name.startsWith("get") || name.startsWith("find") || name.startsWith("search")) {
@@ -18,6 +18,9 @@ package io.gravitee.rest.api.spec.converter.wsdl;
 import io.gravitee.rest.api.spec.converter.wsdl.binding.Soap12Binding;
 import io.gravitee.rest.api.spec.converter.wsdl.binding.SoapBinding;
 import io.gravitee.rest.api.spec.converter.wsdl.binding.SoapVersion;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -77,6 +80,41 @@ public class WSDLUtils {
         }
     }
 
+    /**
+     * Compute an hexadecimal SHA-256 digest of the given contents, used as key of the conversion caches.
+     */
+    public static String digest(String... contents) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String content : contents) {
+                if (content != null) {
+                    messageDigest.update(content.getBytes(StandardCharsets.UTF_8));
+                }
+                // separate the contents to avoid collisions between ["ab", "c"] and ["a", "bc"]
+                messageDigest.update((byte) 0);
+            }
+            return toHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    public static String digest(byte[] content) {
+        try {
+            return toHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
     public static String formatQName(QName qname) {
         if (qname.getPrefix() != null) {
             return qname.getPrefix() + ":" + qname.getLocalPart();
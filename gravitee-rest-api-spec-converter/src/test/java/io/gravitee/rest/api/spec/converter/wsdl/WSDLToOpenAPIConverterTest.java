@@ -23,7 +23,9 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.servers.Server;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -102,6 +104,48 @@ public class WSDLToOpenAPIConverterTest {
         assertEquals("Not enough SoapEnvelopes", expectedSoapEnvelopes, soapEnvelopes);
     }
 
+    @Test
+    public void convertWsdlTwiceFromCache() {
+        OpenAPI openApi = converter.toOpenAPI(this.getClass().getResourceAsStream(wsdl));
+        int compiledSchemas = SoapMessageBuilder.COMPILED_SCHEMAS.size();
+        int envelopes = SoapMessageBuilder.SOAP_ENVELOPES.size();
+
+        OpenAPI cachedOpenApi = new WSDLToOpenAPIConverter().toOpenAPI(this.getClass().getResourceAsStream(wsdl));
+
+        assertEquals("Schemas should not be compiled again", compiledSchemas, SoapMessageBuilder.COMPILED_SCHEMAS.size());
+        assertEquals("Envelopes should not be generated again", envelopes, SoapMessageBuilder.SOAP_ENVELOPES.size());
+        assertEquals(envelopes(openApi), envelopes(cachedOpenApi));
+    }
+
+    @Test
+    public void convertWsdlInParallel() {
+        SoapMessageBuilder.SOAP_ENVELOPES.clear();
+        OpenAPI parallelOpenApi = converter.toOpenAPI(this.getClass().getResourceAsStream(wsdl));
+
+        SoapMessageBuilder.SOAP_ENVELOPES.clear();
+        OpenAPI sequentialOpenApi = new WSDLToOpenAPIConverter(Runnable::run).toOpenAPI(this.getClass().getResourceAsStream(wsdl));
+
+        assertEquals(new ArrayList<>(sequentialOpenApi.getPaths().keySet()), new ArrayList<>(parallelOpenApi.getPaths().keySet()));
+        assertEquals(envelopes(sequentialOpenApi), envelopes(parallelOpenApi));
+    }
+
+    private Map<String, Object> envelopes(OpenAPI openApi) {
+        Map<String, Object> envelopes = new LinkedHashMap<>();
+        openApi
+            .getPaths()
+            .forEach(
+                (path, pathItem) ->
+                    pathItem
+                        .readOperations()
+                        .stream()
+                        .filter(operation -> operation.getExtensions() != null)
+                        .forEach(
+                            operation -> envelopes.put(path, operation.getExtensions().get(WSDLToOpenAPIConverter.SOAP_EXTENSION_ENVELOPE))
+                        )
+            );
+        return envelopes;
+    }
+
     private State checkOperation(Operation operation) {
         State state = State.NO_OP;
         if (operation != null) {
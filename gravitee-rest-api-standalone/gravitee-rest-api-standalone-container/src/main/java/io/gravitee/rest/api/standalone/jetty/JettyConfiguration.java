@@ -50,6 +50,21 @@ public class JettyConfiguration {
     @Value("${jetty.pool.queueSize:6000}")
     private int poolQueueSize;
 
+    @Value("${jetty.pool.maxQueueWait:-1}")
+    private long poolMaxQueueWait;
+
+    @Value("${jetty.pool.retryAfter:5}")
+    private int poolRetryAfter;
+
+    @Value("${jetty.pool.blocking.maxRequests:0}")
+    private int blockingMaxRequests;
+
+    @Value("${jetty.pool.blocking.maxQueued:1000}")
+    private int blockingMaxQueued;
+
+    @Value("${jetty.pool.blocking.maxWait:10000}")
+    private long blockingMaxWait;
+
     @Value("${jetty.jmx:false}")
     private boolean jmxEnabled;
 
@@ -171,6 +186,46 @@ public class JettyConfiguration {
         this.poolQueueSize = poolQueueSize;
     }
 
+    public long getPoolMaxQueueWait() {
+        return poolMaxQueueWait;
+    }
+
+    public void setPoolMaxQueueWait(long poolMaxQueueWait) {
+        this.poolMaxQueueWait = poolMaxQueueWait;
+    }
+
+    public int getPoolRetryAfter() {
+        return poolRetryAfter;
+    }
+
+    public void setPoolRetryAfter(int poolRetryAfter) {
+        this.poolRetryAfter = poolRetryAfter;
+    }
+
+    public int getBlockingMaxRequests() {
+        return blockingMaxRequests;
+    }
+
+    public void setBlockingMaxRequests(int blockingMaxRequests) {
+        this.blockingMaxRequests = blockingMaxRequests;
+    }
+
+    public int getBlockingMaxQueued() {
+        return blockingMaxQueued;
+    }
+
+    public void setBlockingMaxQueued(int blockingMaxQueued) {
+        this.blockingMaxQueued = blockingMaxQueued;
+    }
+
+    public long getBlockingMaxWait() {
+        return blockingMaxWait;
+    }
+
+    public void setBlockingMaxWait(long blockingMaxWait) {
+        this.blockingMaxWait = blockingMaxWait;
+    }
+
     public boolean isAccessLogEnabled() {
         return accessLogEnabled;
     }
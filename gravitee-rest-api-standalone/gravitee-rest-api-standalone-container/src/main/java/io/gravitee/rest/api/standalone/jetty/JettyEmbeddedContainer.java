@@ -25,9 +25,11 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import javax.servlet.DispatcherType;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -103,7 +105,21 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
             throw new IllegalStateException("At least one API should be enabled");
         }
 
-        server.setHandler(new ContextHandlerCollection(contexts.toArray(new ServletContextHandler[contexts.size()])));
+        ContextHandlerCollection contextHandlers = new ContextHandlerCollection(
+            contexts.toArray(new ServletContextHandler[contexts.size()])
+        );
+
+        // Keep the wrappers (statistics, load shedding, ...) configured by the server factory in front of the contexts
+        Handler handler = server.getHandler();
+        if (handler instanceof HandlerWrapper) {
+            HandlerWrapper wrapper = (HandlerWrapper) handler;
+            while (wrapper.getHandler() instanceof HandlerWrapper) {
+                wrapper = (HandlerWrapper) wrapper.getHandler();
+            }
+            wrapper.setHandler(contextHandlers);
+        } else {
+            server.setHandler(contextHandlers);
+        }
 
         // start the server
         server.start();
@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.standalone.jetty;
 
+import io.gravitee.rest.api.standalone.jetty.handler.BlockingRequestLimitHandler;
+import io.gravitee.rest.api.standalone.jetty.handler.OverloadProtectionHandler;
 import java.lang.management.ManagementFactory;
 import java.util.concurrent.ArrayBlockingQueue;
 import org.eclipse.jetty.http.HttpVersion;
@@ -121,6 +123,25 @@ public class JettyServerFactory implements FactoryBean<Server> {
             server.addConnector(http);
         }
 
+        // Setup request queue time measurement and load shedding
+        OverloadProtectionHandler overloadProtection = new OverloadProtectionHandler(
+            jettyConfiguration.getPoolMaxQueueWait(),
+            jettyConfiguration.getPoolRetryAfter()
+        );
+        server.setHandler(overloadProtection);
+
+        // Setup the pool bounding the requests running blocking calls
+        if (jettyConfiguration.getBlockingMaxRequests() > 0) {
+            overloadProtection.setHandler(
+                new BlockingRequestLimitHandler(
+                    jettyConfiguration.getBlockingMaxRequests(),
+                    jettyConfiguration.getBlockingMaxQueued(),
+                    jettyConfiguration.getBlockingMaxWait(),
+                    jettyConfiguration.getPoolRetryAfter()
+                )
+            );
+        }
+
         // Setup Jetty statistics
         if (jettyConfiguration.isStatisticsEnabled()) {
             StatisticsHandler stats = new StatisticsHandler();
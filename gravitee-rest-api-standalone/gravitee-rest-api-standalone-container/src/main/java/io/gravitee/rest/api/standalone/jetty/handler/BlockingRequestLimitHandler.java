@@ -0,0 +1,253 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.standalone.jetty.handler;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.jetty.util.annotation.ManagedAttribute;
+import org.eclipse.jetty.util.annotation.ManagedObject;
+import org.eclipse.jetty.util.annotation.ManagedOperation;
+import org.eclipse.jetty.util.statistic.CounterStatistic;
+import org.eclipse.jetty.util.statistic.SampleStatistic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the number of requests running the blocking part of the API (repository and outgoing HTTP calls) to a pool
+ * sized independently of the Jetty worker pool.
+ *
+ * Requests exceeding the limit are suspended with the servlet async API: they wait in a bounded queue without holding a
+ * worker thread and are dispatched again, in arrival order, as soon as a running request completes. Requests that can't
+ * be queued, or waited longer than the configured maximum, are rejected with a <code>503 Service Unavailable</code>.
+ *
+ * Metrics are exposed through JMX when <code>jetty.jmx</code> is enabled.
+ *
+ * @author GraviteeSource Team
+ */
+@ManagedObject("Blocking requests limit")
+public class BlockingRequestLimitHandler extends HandlerWrapper {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(BlockingRequestLimitHandler.class);
+
+    private static final String SUSPENDED_AT = BlockingRequestLimitHandler.class.getName() + ".suspendedAt";
+    private static final String PERMIT = BlockingRequestLimitHandler.class.getName() + ".permit";
+
+    private final int maxRequests;
+    private final int maxQueued;
+    private final long maxWait;
+    private final int retryAfter;
+
+    private final Semaphore permits;
+    private final Queue<AsyncContext> waiting = new ConcurrentLinkedQueue<>();
+
+    private final SampleStatistic waitTimeStats = new SampleStatistic();
+    private final CounterStatistic activeRequestsStats = new CounterStatistic();
+    private final CounterStatistic waitingRequestsStats = new CounterStatistic();
+    private final CounterStatistic rejectedRequestsStats = new CounterStatistic();
+
+    /**
+     * @param maxRequests maximum number of requests handled concurrently.
+     * @param maxQueued maximum number of requests waiting for a slot, further requests are rejected.
+     * @param maxWait maximum time in milliseconds a request may wait for a slot. A value lower or equal to 0 lets
+     *                requests wait until a slot is available.
+     * @param retryAfter value, in seconds, of the <code>Retry-After</code> header sent with rejected requests.
+     */
+    public BlockingRequestLimitHandler(int maxRequests, int maxQueued, long maxWait, int retryAfter) {
+        this.maxRequests = maxRequests;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        this.permits = new Semaphore(maxRequests, true);
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException {
+        if (baseRequest.getHttpChannelState().isInitial()) {
+            if (permits.tryAcquire()) {
+                handleWithPermit(target, baseRequest, request, response);
+            } else {
+                suspend(baseRequest, response);
+            }
+        } else if (request.getAttribute(PERMIT) != null) {
+            // Re-dispatch of a suspended request which has been handed a permit by a completed request
+            request.removeAttribute(PERMIT);
+            Long suspendedAt = (Long) request.getAttribute(SUSPENDED_AT);
+            if (suspendedAt != null) {
+                request.removeAttribute(SUSPENDED_AT);
+                waitTimeStats.record(System.currentTimeMillis() - suspendedAt);
+            }
+            handleWithPermit(target, baseRequest, request, response);
+        } else {
+            // Async re-dispatches of requests already accepted
+            super.handle(target, baseRequest, request, response);
+        }
+    }
+
+    private void handleWithPermit(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException {
+        activeRequestsStats.increment();
+        try {
+            super.handle(target, baseRequest, request, response);
+        } finally {
+            activeRequestsStats.decrement();
+            release();
+        }
+    }
+
+    private void suspend(Request baseRequest, HttpServletResponse response) {
+        if (waitingRequestsStats.getCurrent() >= maxQueued) {
+            LOGGER.debug("Request {} rejected, {} requests are already waiting", baseRequest.getRequestURI(), maxQueued);
+            reject(response);
+            baseRequest.setHandled(true);
+            return;
+        }
+
+        baseRequest.setAttribute(SUSPENDED_AT, System.currentTimeMillis());
+        AsyncContext asyncContext = baseRequest.startAsync();
+        asyncContext.setTimeout(Math.max(maxWait, 0));
+        asyncContext.addListener(
+            new AsyncListener() {
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    if (dequeue(asyncContext)) {
+                        LOGGER.debug("Request {} rejected after waiting {}ms for a slot", baseRequest.getRequestURI(), maxWait);
+                        reject((HttpServletResponse) asyncContext.getResponse());
+                        asyncContext.complete();
+                    }
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    dequeue(asyncContext);
+                }
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    dequeue(asyncContext);
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {}
+            }
+        );
+
+        waiting.add(asyncContext);
+        waitingRequestsStats.increment();
+
+        // A permit may have been released between the failed acquisition and the enqueue
+        if (permits.tryAcquire()) {
+            release();
+        }
+    }
+
+    private boolean dequeue(AsyncContext asyncContext) {
+        if (waiting.remove(asyncContext)) {
+            waitingRequestsStats.decrement();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hands the released permit over to the oldest waiting request, or gives it back when no request is waiting.
+     */
+    private void release() {
+        AsyncContext next;
+        while ((next = waiting.poll()) != null) {
+            waitingRequestsStats.decrement();
+            try {
+                next.getRequest().setAttribute(PERMIT, Boolean.TRUE);
+                next.dispatch();
+                return;
+            } catch (IllegalStateException ise) {
+                // The request has timed out or failed in the meantime, try the next one
+                LOGGER.debug("Unable to resume a waiting request", ise);
+            }
+        }
+        permits.release();
+    }
+
+    private void reject(HttpServletResponse response) {
+        rejectedRequestsStats.increment();
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeader.RETRY_AFTER.asString(), Integer.toString(retryAfter));
+    }
+
+    @ManagedAttribute("Maximum number of requests handled concurrently")
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    @ManagedAttribute("Maximum number of requests waiting for a slot")
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    @ManagedAttribute("Maximum time a request may wait for a slot (ms)")
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    @ManagedAttribute("Number of requests currently handled")
+    public long getActiveRequests() {
+        return activeRequestsStats.getCurrent();
+    }
+
+    @ManagedAttribute("Number of requests currently waiting for a slot")
+    public long getWaitingRequests() {
+        return waitingRequestsStats.getCurrent();
+    }
+
+    @ManagedAttribute("Maximum number of requests waiting for a slot at the same time")
+    public long getWaitingRequestsMax() {
+        return waitingRequestsStats.getMax();
+    }
+
+    @ManagedAttribute("Mean time requests waited for a slot (ms)")
+    public double getWaitTimeMean() {
+        return waitTimeStats.getMean();
+    }
+
+    @ManagedAttribute("Maximum time a request waited for a slot (ms)")
+    public long getWaitTimeMax() {
+        return waitTimeStats.getMax();
+    }
+
+    @ManagedAttribute("Number of requests rejected because no slot was available in time")
+    public long getRejectedRequests() {
+        return rejectedRequestsStats.getCurrent();
+    }
+
+    @ManagedOperation(value = "Reset blocking requests limit statistics", impact = "ACTION")
+    public void statsReset() {
+        waitTimeStats.reset();
+        activeRequestsStats.reset(activeRequestsStats.getCurrent());
+        waitingRequestsStats.reset(waitingRequestsStats.getCurrent());
+        rejectedRequestsStats.reset();
+    }
+}
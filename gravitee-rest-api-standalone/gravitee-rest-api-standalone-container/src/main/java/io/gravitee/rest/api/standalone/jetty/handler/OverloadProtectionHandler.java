@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.standalone.jetty.handler;
+
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.jetty.util.annotation.ManagedAttribute;
+import org.eclipse.jetty.util.annotation.ManagedObject;
+import org.eclipse.jetty.util.annotation.ManagedOperation;
+import org.eclipse.jetty.util.statistic.CounterStatistic;
+import org.eclipse.jetty.util.statistic.SampleStatistic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the time spent by each request waiting for a worker thread (from the moment Jetty parsed the request to the
+ * moment it is dispatched to the handler chain) and rejects the request with a <code>503 Service Unavailable</code>
+ * when this wait exceeds the configured threshold.
+ *
+ * Metrics are exposed through JMX when <code>jetty.jmx</code> is enabled.
+ *
+ * @author GraviteeSource Team
+ */
+@ManagedObject("Request queue time and load shedding")
+public class OverloadProtectionHandler extends HandlerWrapper {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(OverloadProtectionHandler.class);
+
+    private final long maxQueueWait;
+    private final int retryAfter;
+
+    private final SampleStatistic queueTimeStats = new SampleStatistic();
+    private final CounterStatistic activeRequestsStats = new CounterStatistic();
+    private final CounterStatistic rejectedRequestsStats = new CounterStatistic();
+
+    /**
+     * @param maxQueueWait maximum time in milliseconds a request may wait for a worker thread. A value lower or equal to
+     *                     0 disables load shedding, queue time is still measured.
+     * @param retryAfter value, in seconds, of the <code>Retry-After</code> header sent with rejected requests.
+     */
+    public OverloadProtectionHandler(long maxQueueWait, int retryAfter) {
+        this.maxQueueWait = maxQueueWait;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException {
+        // Only consider the initial dispatch, async re-dispatches have already been accepted
+        if (baseRequest.getHttpChannelState().isInitial()) {
+            long queueTime = System.currentTimeMillis() - baseRequest.getTimeStamp();
+            queueTimeStats.record(queueTime);
+
+            if (maxQueueWait > 0 && queueTime > maxQueueWait) {
+                rejectedRequestsStats.increment();
+                LOGGER.debug("Request {} rejected after waiting {}ms for a worker thread", baseRequest.getRequestURI(), queueTime);
+                baseRequest.setHandled(true);
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader(HttpHeader.RETRY_AFTER.asString(), Integer.toString(retryAfter));
+                return;
+            }
+        }
+
+        activeRequestsStats.increment();
+        try {
+            super.handle(target, baseRequest, request, response);
+        } finally {
+            activeRequestsStats.decrement();
+        }
+    }
+
+    @ManagedAttribute("Maximum queue wait before a request is rejected (ms)")
+    public long getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    @ManagedAttribute("Mean time requests waited for a worker thread (ms)")
+    public double getQueueTimeMean() {
+        return queueTimeStats.getMean();
+    }
+
+    @ManagedAttribute("Maximum time a request waited for a worker thread (ms)")
+    public long getQueueTimeMax() {
+        return queueTimeStats.getMax();
+    }
+
+    @ManagedAttribute("Standard deviation of the time requests waited for a worker thread (ms)")
+    public double getQueueTimeStdDev() {
+        return queueTimeStats.getStdDev();
+    }
+
+    @ManagedAttribute("Number of requests currently handled by a worker thread")
+    public long getActiveRequests() {
+        return activeRequestsStats.getCurrent();
+    }
+
+    @ManagedAttribute("Maximum number of requests handled concurrently")
+    public long getActiveRequestsMax() {
+        return activeRequestsStats.getMax();
+    }
+
+    @ManagedAttribute("Number of requests rejected because they waited too long for a worker thread")
+    public long getRejectedRequests() {
+        return rejectedRequestsStats.getCurrent();
+    }
+
+    @ManagedOperation(value = "Reset queue time and load shedding statistics", impact = "ACTION")
+    public void statsReset() {
+        queueTimeStats.reset();
+        activeRequestsStats.reset(activeRequestsStats.getCurrent());
+        rejectedRequestsStats.reset();
+    }
+}